@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.benchmarks;
+
+import com.google.inject.Injector;
+import com.sportradar.unifiedodds.sdk.MessageInterest;
+import com.sportradar.unifiedodds.sdk.impl.ChannelMessageConsumer;
+import com.sportradar.unifiedodds.sdk.impl.MessageConsumer;
+import com.sportradar.unifiedodds.sdk.impl.RoutingKeyInfo;
+import com.sportradar.unifiedodds.sdk.oddsentities.MessageTimestamp;
+import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
+import com.sportradar.utils.URN;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ChannelMessageConsumer#onMessageReceived} (routing key parsing, unmarshalling and the producer
+ * checks) with recorded message payloads
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChannelMessageConsumerBenchmark {
+    @Param({"odds_change", "bet_settlement"})
+    public String message;
+
+    private ChannelMessageConsumer consumer;
+    private BlackholeMessageConsumer sink;
+    private String routingKey;
+    private byte[] body;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        Injector injector = OfflineSdk.createInjector();
+
+        body = OfflineSdk.readFeedMessage(message);
+        routingKey = "odds_change".equals(message)
+                ? "hi.-.live.odds_change.1.sr:match.9210275.-"
+                : "lo.-.live.bet_settlement.1.sr:match.9210275.-";
+
+        sink = new BlackholeMessageConsumer(blackhole);
+        consumer = injector.getInstance(ChannelMessageConsumer.class);
+        consumer.open(sink);
+    }
+
+    @Benchmark
+    public void onMessageReceived() {
+        consumer.onMessageReceived(routingKey, body, null, System.currentTimeMillis());
+    }
+
+    /**
+     * A {@link MessageConsumer} which hands the received messages to the JMH {@link Blackhole}
+     */
+    private static class BlackholeMessageConsumer implements MessageConsumer {
+        private final Blackhole blackhole;
+
+        BlackholeMessageConsumer(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void onMessageReceived(UnmarshalledMessage unmarshalledMessage, byte[] body, RoutingKeyInfo routingKeyInfo, MessageTimestamp timestamp) {
+            blackhole.consume(unmarshalledMessage);
+        }
+
+        @Override
+        public void onMessageDeserializationFailed(byte[] rawMessage, URN eventId) {
+            throw new IllegalStateException("Benchmark message could not be deserialized");
+        }
+
+        @Override
+        public String getConsumerDescription() {
+            return "benchmark";
+        }
+
+        @Override
+        public MessageInterest getMessageInterest() {
+            return MessageInterest.AllMessages;
+        }
+
+        @Override
+        public void onRawFeedMessageReceived(RoutingKeyInfo routingKey, UnmarshalledMessage feedMessage, MessageTimestamp timestamp, MessageInterest messageInterest) {
+            blackhole.consume(feedMessage);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.benchmarks;
+
+import com.sportradar.unifiedodds.sdk.impl.Deserializer;
+import com.sportradar.unifiedodds.sdk.impl.DeserializerImpl;
+import com.sportradar.unifiedodds.sdk.impl.StreamingFeedMessageDeserializer;
+import org.openjdk.jmh.annotations.*;
+
+import javax.xml.bind.JAXBContext;
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the JAXB {@link DeserializerImpl} with the {@link StreamingFeedMessageDeserializer} on recorded messages
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FeedMessageDeserializerBenchmark {
+    @Param({"jaxb", "streaming"})
+    public String deserializer;
+
+    @Param({"odds_change", "bet_stop", "alive", "bet_settlement"})
+    public String message;
+
+    private Deserializer messageDeserializer;
+    private byte[] body;
+
+    @Setup
+    public void setup() throws Exception {
+        JAXBContext context = JAXBContext.newInstance("com.sportradar.uf.datamodel");
+
+        messageDeserializer = "streaming".equals(deserializer)
+                ? new StreamingFeedMessageDeserializer(context)
+                : new DeserializerImpl(context);
+        body = OfflineSdk.readFeedMessage(message);
+    }
+
+    @Benchmark
+    public Object deserialize() throws Exception {
+        return messageDeserializer.deserialize(new ByteArrayInputStream(body));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.name.Names;
+import com.sportradar.uf.datamodel.UFOddsChange;
+import com.sportradar.unifiedodds.sdk.SportEntityFactory;
+import com.sportradar.unifiedodds.sdk.entities.SportEvent;
+import com.sportradar.unifiedodds.sdk.impl.Deserializer;
+import com.sportradar.unifiedodds.sdk.impl.FeedMessageFactory;
+import com.sportradar.unifiedodds.sdk.impl.oddsentities.MessageTimestampImpl;
+import com.sportradar.unifiedodds.sdk.oddsentities.MarketWithOdds;
+import com.sportradar.unifiedodds.sdk.oddsentities.MessageTimestamp;
+import com.sportradar.unifiedodds.sdk.oddsentities.OddsChange;
+import com.sportradar.utils.URN;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link FeedMessageFactory#buildOddsChange} with a recorded odds_change message, including the access
+ * of all the built markets which is what the user code triggers first, or the access of a single market
+ * through {@link OddsChange#getMarket(int, String)}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FeedMessageFactoryBenchmark {
+    private FeedMessageFactory messageFactory;
+    private SportEvent sportEvent;
+    private UFOddsChange message;
+    private byte[] body;
+    private MessageTimestamp timestamp;
+    private int marketId;
+    private String marketSpecifiers;
+
+    @Setup
+    public void setup() throws Exception {
+        Injector injector = OfflineSdk.createInjector();
+        Deserializer deserializer = injector.getInstance(Key.get(Deserializer.class, Names.named("MessageDeserializer")));
+        List<Locale> locales = ImmutableList.of(Locale.ENGLISH);
+
+        messageFactory = injector.getInstance(FeedMessageFactory.class);
+        sportEvent = injector.getInstance(SportEntityFactory.class).buildSportEvent(URN.parse(OfflineSdk.FIXTURE_MATCH_ID), locales, false);
+        body = OfflineSdk.readFeedMessage("odds_change");
+        message = (UFOddsChange) deserializer.deserialize(new ByteArrayInputStream(body));
+        timestamp = new MessageTimestampImpl(message.getTimestamp());
+        marketId = message.getOdds().getMarket().get(0).getId();
+        marketSpecifiers = message.getOdds().getMarket().get(0).getSpecifiers();
+    }
+
+    @Benchmark
+    public List<MarketWithOdds> buildOddsChange() {
+        OddsChange<SportEvent> oddsChange = messageFactory.buildOddsChange(sportEvent, message, body, timestamp);
+        return oddsChange.getMarkets();
+    }
+
+    @Benchmark
+    public MarketWithOdds buildOddsChangeSingleMarket() {
+        OddsChange<SportEvent> oddsChange = messageFactory.buildOddsChange(sportEvent, message, body, timestamp);
+        return oddsChange.getMarket(marketId, marketSpecifiers);
+    }
+}
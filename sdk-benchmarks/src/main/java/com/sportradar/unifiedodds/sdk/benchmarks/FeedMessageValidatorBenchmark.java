@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.benchmarks;
+
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.name.Names;
+import com.sportradar.unifiedodds.sdk.impl.*;
+import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link FeedMessageValidatorImpl#validate(UnmarshalledMessage, RoutingKeyInfo)} with recorded messages
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FeedMessageValidatorBenchmark {
+    @Param({"odds_change", "bet_settlement", "bet_stop"})
+    public String message;
+
+    private FeedMessageValidator validator;
+    private UnmarshalledMessage unmarshalledMessage;
+    private RoutingKeyInfo routingKeyInfo;
+
+    @Setup
+    public void setup() throws Exception {
+        Injector injector = OfflineSdk.createInjector();
+        Deserializer deserializer = injector.getInstance(Key.get(Deserializer.class, Names.named("MessageDeserializer")));
+
+        validator = injector.getInstance(FeedMessageValidator.class);
+        unmarshalledMessage = (UnmarshalledMessage) deserializer.deserialize(new ByteArrayInputStream(OfflineSdk.readFeedMessage(message)));
+        routingKeyInfo = injector.getInstance(RoutingKeyParser.class)
+                .getRoutingKeyInfo("hi.-.live." + message + ".1.sr:match.9210275.-");
+
+        // loads the named values (betting status, bet stop reasons, ...) used by the validation
+        validator.validate(unmarshalledMessage, routingKeyInfo);
+    }
+
+    @Benchmark
+    public ValidationResult validate() {
+        return validator.validate(unmarshalledMessage, routingKeyInfo);
+    }
+}
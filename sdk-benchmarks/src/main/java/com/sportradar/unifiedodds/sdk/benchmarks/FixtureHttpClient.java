@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.benchmarks;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteStreams;
+import org.apache.http.*;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.utils.DateUtils;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.params.BasicHttpParams;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A {@link CloseableHttpClient} which serves the Sports API requests from the fixtures on the classpath, so the
+ * benchmarked components can be set up without network access. Requests without a matching fixture get a 404 response.
+ */
+class FixtureHttpClient extends CloseableHttpClient {
+    private static final String FIXTURES_ROOT = "fixtures/rest/";
+
+    /**
+     * The whoami.xml response is generated, so the token validation never fails on an expired fixture
+     */
+    private static final String WHO_AM_I_TEMPLATE = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>" +
+            "<bookmaker_details response_code=\"OK\" expire_at=\"%s\" bookmaker_id=\"1\" virtual_host=\"/benchmark\"/>";
+
+    /**
+     * The request path patterns and the fixtures served for them, {lang} is replaced by the requested language
+     */
+    private static final Map<Pattern, String> ROUTES = ImmutableMap.<Pattern, String>builder()
+            .put(Pattern.compile(".*/descriptions/producers\\.xml"), "producers.xml")
+            .put(Pattern.compile(".*/descriptions/betting_status\\.xml"), "betting_status.xml")
+            .put(Pattern.compile(".*/descriptions/betstop_reasons\\.xml"), "betstop_reasons.xml")
+            .put(Pattern.compile(".*/descriptions/(?<lang>\\w+)/match_status\\.xml"), "match_status_descriptions.{lang}.xml")
+            .put(Pattern.compile(".*/descriptions/(?<lang>\\w+)/markets\\.xml"), "invariant_market_descriptions.{lang}.xml")
+            .put(Pattern.compile(".*/descriptions/(?<lang>\\w+)/variants\\.xml"), "variant_market_descriptions.{lang}.xml")
+            .put(Pattern.compile(".*/descriptions/(?<lang>\\w+)/markets/[^/]+/variants/[^/]+"), "variant_market_description.{lang}.xml")
+            .put(Pattern.compile(".*/sports/(?<lang>\\w+)/sports\\.xml"), "sports.{lang}.xml")
+            .put(Pattern.compile(".*/sports/(?<lang>\\w+)/tournaments\\.xml"), "tournaments.{lang}.xml")
+            .put(Pattern.compile(".*/sports/(?<lang>\\w+)/sports/[^/]+/categories\\.xml"), "sport_categories.{lang}.xml")
+            .put(Pattern.compile(".*/sports/(?<lang>\\w+)/sport_events/[^/]+/summary\\.xml"), "match_summary.xml")
+            .put(Pattern.compile(".*/sports/(?<lang>\\w+)/sport_events/[^/]+/fixture\\.xml"), "fixtures.{lang}.xml")
+            .put(Pattern.compile(".*/sports/(?<lang>\\w+)/sport_events/[^/]+/timeline\\.xml"), "match_timeline.{lang}.xml")
+            .put(Pattern.compile(".*/sports/(?<lang>\\w+)/competitors/sr:competitor:(?<id>\\d+)/profile\\.xml"), "profiles/{lang}.competitor.{id}.xml")
+            .put(Pattern.compile(".*/wns/sports/(?<lang>\\w+)/lotteries\\.xml"), "wns/lotteries.{lang}.xml")
+            .build();
+
+    private final Map<String, byte[]> fixtures = new ConcurrentHashMap<>();
+
+    private final HttpParams params = new BasicHttpParams();
+
+    @SuppressWarnings("deprecation")
+    private final ClientConnectionManager connectionManager = new NoConnectionManager();
+
+    @Override
+    protected CloseableHttpResponse doExecute(HttpHost target, HttpRequest request, HttpContext context) {
+        String path = URI.create(request.getRequestLine().getUri()).getPath();
+        if (path.endsWith("/users/whoami.xml")) {
+            String expireAt = DateTimeFormatter.ISO_INSTANT.format(Instant.now().plus(365, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS));
+            return new FixtureResponse(HttpStatus.SC_OK, String.format(WHO_AM_I_TEMPLATE, expireAt).getBytes(StandardCharsets.UTF_8));
+        }
+
+        byte[] content = null;
+        for (Map.Entry<Pattern, String> route : ROUTES.entrySet()) {
+            Matcher matcher = route.getKey().matcher(path);
+            if (matcher.matches()) {
+                content = loadFixture(resolve(route.getValue(), matcher));
+                break;
+            }
+        }
+
+        if (content == null) {
+            return new FixtureResponse(HttpStatus.SC_NOT_FOUND, loadFixture("not_found.xml"));
+        }
+        return new FixtureResponse(HttpStatus.SC_OK, content);
+    }
+
+    @Override
+    public void close() {
+        fixtures.clear();
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public HttpParams getParams() {
+        return params;
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public ClientConnectionManager getConnectionManager() {
+        return connectionManager;
+    }
+
+    private byte[] loadFixture(String name) {
+        return fixtures.computeIfAbsent(name, key -> {
+            try (InputStream stream = FixtureHttpClient.class.getClassLoader().getResourceAsStream(FIXTURES_ROOT + key)) {
+                return stream == null ? null : ByteStreams.toByteArray(stream);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read fixture " + key, e);
+            }
+        });
+    }
+
+    private static String resolve(String fixture, Matcher matcher) {
+        String resolved = fixture;
+        if (resolved.contains("{lang}")) {
+            resolved = resolved.replace("{lang}", matcher.group("lang"));
+        }
+        if (resolved.contains("{id}")) {
+            resolved = resolved.replace("{id}", matcher.group("id"));
+        }
+        return resolved;
+    }
+
+    /**
+     * The connection manager of the fixture client, which never opens connections, so there is nothing to release
+     */
+    @SuppressWarnings("deprecation")
+    private static class NoConnectionManager implements ClientConnectionManager {
+        private final SchemeRegistry schemeRegistry = SchemeRegistryFactory.createDefault();
+
+        @Override
+        public SchemeRegistry getSchemeRegistry() {
+            return schemeRegistry;
+        }
+
+        @Override
+        public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+            throw new IllegalStateException("The fixture client serves the requests without connections");
+        }
+
+        @Override
+        public void releaseConnection(ManagedClientConnection connection, long validDuration, TimeUnit timeUnit) {
+            // no connections are opened
+        }
+
+        @Override
+        public void closeIdleConnections(long idleTime, TimeUnit timeUnit) {
+            // no connections are opened
+        }
+
+        @Override
+        public void closeExpiredConnections() {
+            // no connections are opened
+        }
+
+        @Override
+        public void shutdown() {
+            // no connections are opened
+        }
+    }
+
+    private static class FixtureResponse extends BasicHttpResponse implements CloseableHttpResponse {
+        FixtureResponse(int statusCode, byte[] content) {
+            super(HttpVersion.HTTP_1_1, statusCode, null);
+            addHeader(HttpHeaders.DATE, DateUtils.formatDate(new Date()));
+            setEntity(new ByteArrayEntity(content == null ? new byte[0] : content, ContentType.create("application/xml", StandardCharsets.UTF_8)));
+        }
+
+        @Override
+        public void close() {
+            // nothing to release
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import com.google.inject.Injector;
+import com.sportradar.unifiedodds.sdk.caching.ci.markets.MarketDescriptionCI;
+import com.sportradar.unifiedodds.sdk.caching.markets.MarketDescriptionProvider;
+import com.sportradar.unifiedodds.sdk.di.InternalCachesProvider;
+import com.sportradar.unifiedodds.sdk.entities.markets.MarketDescription;
+import com.sportradar.unifiedodds.sdk.impl.markets.MarketDescriptionImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the invariant market description lookup done for each market of a feed message, comparing the shared
+ * description snapshots returned by the {@link MarketDescriptionProvider} with building a new
+ * {@link MarketDescriptionImpl} from the cache item on each lookup (run with the gc profiler to compare the allocations)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MarketDescriptionBenchmark {
+    /**
+     * The id of the benchmarked (invariant) market
+     */
+    @Param({"1", "18", "26"})
+    public int marketId;
+
+    private MarketDescriptionProvider marketDescriptionProvider;
+    private MarketDescriptionCI cachedItem;
+    private List<Locale> locales;
+
+    @Setup
+    public void setup() throws Exception {
+        Injector injector = OfflineSdk.createInjector();
+        locales = ImmutableList.of(Locale.ENGLISH);
+
+        marketDescriptionProvider = injector.getInstance(MarketDescriptionProvider.class);
+
+        // loads the invariant market descriptions into the cache
+        if (marketDescriptionProvider.getMarketDescription(marketId, null, locales, false) == null) {
+            throw new IllegalStateException("Market description could not be loaded for " + marketId);
+        }
+        cachedItem = injector.getInstance(InternalCachesProvider.class).getInvariantMarketCache().getIfPresent(String.valueOf(marketId));
+    }
+
+    @Benchmark
+    public MarketDescription sharedSnapshot() throws Exception {
+        return marketDescriptionProvider.getMarketDescription(marketId, null, locales, false);
+    }
+
+    @Benchmark
+    public MarketDescription copyPerLookup() {
+        return new MarketDescriptionImpl(cachedItem, locales);
+    }
+}
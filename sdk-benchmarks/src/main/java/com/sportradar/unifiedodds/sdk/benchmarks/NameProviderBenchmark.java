@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.benchmarks;
+
+import com.google.common.base.Splitter;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+import com.google.inject.Injector;
+import com.sportradar.unifiedodds.sdk.SportEntityFactory;
+import com.sportradar.unifiedodds.sdk.entities.SportEvent;
+import com.sportradar.unifiedodds.sdk.impl.markets.NameProvider;
+import com.sportradar.unifiedodds.sdk.impl.markets.NameProviderFactory;
+import com.sportradar.unifiedodds.sdk.impl.markets.NameProviderImpl;
+import com.sportradar.utils.URN;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link NameProviderImpl#getOutcomeNames(String, List)} and {@link NameProviderImpl#getMarketNames(List)}
+ * with warmed-up caches for plain names, names with specifier placeholders and names with competitor placeholders
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NameProviderBenchmark {
+    /**
+     * The benchmarked outcome in the marketId;specifiers;outcomeId format
+     */
+    @Param({"26;;70", "18;total=2.5;12", "1;;1"})
+    public String outcome;
+
+    private NameProvider nameProvider;
+    private String outcomeId;
+    private List<Locale> locales;
+
+    @Setup
+    public void setup() throws Exception {
+        Injector injector = OfflineSdk.createInjector();
+        List<String> parts = Splitter.on(';').splitToList(outcome);
+
+        locales = ImmutableList.of(Locale.ENGLISH);
+        outcomeId = parts.get(2);
+
+        SportEvent sportEvent = injector.getInstance(SportEntityFactory.class).buildSportEvent(URN.parse(OfflineSdk.FIXTURE_MATCH_ID), locales, false);
+        Map<String, String> specifiers = Strings.isNullOrEmpty(parts.get(1))
+                ? Collections.emptyMap()
+                : Splitter.on('|').withKeyValueSeparator('=').split(parts.get(1));
+
+        nameProvider = injector.getInstance(NameProviderFactory.class)
+                .buildNameProvider(sportEvent, Integer.parseInt(parts.get(0)), specifiers, 1);
+
+        // loads the market descriptions, the event summary and the competitor profiles into the caches
+        if (nameProvider.getOutcomeNames(outcomeId, locales).get(Locale.ENGLISH) == null) {
+            throw new IllegalStateException("Outcome name could not be built for " + outcome);
+        }
+    }
+
+    @Benchmark
+    public Map<Locale, String> getOutcomeNames() {
+        return nameProvider.getOutcomeNames(outcomeId, locales);
+    }
+
+    @Benchmark
+    public Map<Locale, String> getMarketNames() {
+        return nameProvider.getMarketNames(locales);
+    }
+}
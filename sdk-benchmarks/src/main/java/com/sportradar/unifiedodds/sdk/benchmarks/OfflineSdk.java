@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.benchmarks;
+
+import com.google.common.io.ByteStreams;
+import com.google.inject.*;
+import com.google.inject.name.Named;
+import com.google.inject.util.Modules;
+import com.sportradar.unifiedodds.sdk.*;
+import com.sportradar.unifiedodds.sdk.cfg.OddsFeedConfiguration;
+import com.sportradar.unifiedodds.sdk.di.CustomisableSDKModule;
+import com.sportradar.unifiedodds.sdk.di.MasterInjectionModule;
+import com.sportradar.unifiedodds.sdk.oddsentities.ProducerDown;
+import com.sportradar.unifiedodds.sdk.oddsentities.ProducerUp;
+import com.sportradar.utils.URN;
+import org.apache.http.impl.client.CloseableHttpClient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+
+/**
+ * Sets up the SDK components through a regular {@link OddsFeed} instance, but with all the Sports API requests
+ * served from the fixtures on the classpath, so the benchmarks run offline.
+ */
+public final class OfflineSdk {
+    /**
+     * The event used by the recorded feed messages, its summary and competitor profiles are available as fixtures
+     */
+    public static final String FIXTURE_MATCH_ID = "sr:match:9210275";
+
+    private OfflineSdk() {
+    }
+
+    /**
+     * Creates and initializes a new feed instance backed by the REST fixtures and returns its injector
+     *
+     * @return the initialized feed {@link Injector}
+     */
+    public static Injector createInjector() {
+        OddsFeedConfiguration config = OddsFeed.getOddsFeedConfigurationBuilder()
+                .setAccessToken("benchmark-token")
+                .selectIntegration()
+                .setDefaultLocale(Locale.ENGLISH)
+                .build();
+
+        OfflineOddsFeed feed = new OfflineOddsFeed(config);
+        feed.initOddsFeedInstance();
+        return feed.getInjector();
+    }
+
+    /**
+     * Reads the recorded feed message with the provided name
+     *
+     * @param name the name of the message fixture, e.g. odds_change
+     * @return the raw message payload
+     */
+    public static byte[] readFeedMessage(String name) {
+        try (InputStream stream = OfflineSdk.class.getClassLoader().getResourceAsStream("fixtures/feed/" + name + ".xml")) {
+            if (stream == null) {
+                throw new IllegalArgumentException("Unknown feed message fixture: " + name);
+            }
+            return ByteStreams.toByteArray(stream);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read feed message fixture " + name, e);
+        }
+    }
+
+    /**
+     * An {@link OddsFeed} with the http clients replaced by the {@link FixtureHttpClient}
+     */
+    private static class OfflineOddsFeed extends OddsFeed {
+        OfflineOddsFeed(OddsFeedConfiguration config) {
+            super(new NoOpGlobalEventsListener(), config);
+        }
+
+        @Override
+        protected Injector createSdkInjector(SDKGlobalEventsListener listener, CustomisableSDKModule customisableSDKModule) {
+            return Guice.createInjector(Modules
+                    .override(new MasterInjectionModule(listener, oddsFeedConfiguration, customisableSDKModule))
+                    .with(new FixtureHttpModule()));
+        }
+
+        @Override
+        protected void initOddsFeedInstance() {
+            super.initOddsFeedInstance();
+        }
+
+        Injector getInjector() {
+            return injector;
+        }
+    }
+
+    private static class FixtureHttpModule extends AbstractModule {
+        @Override
+        protected void configure() {
+            // the http clients are provided by the methods below
+        }
+
+        @Provides @Singleton
+        CloseableHttpClient provideHttpClient() {
+            return new FixtureHttpClient();
+        }
+
+        @Provides @Singleton @Named("FastHttpClient")
+        CloseableHttpClient provideFastHttpClient() {
+            return new FixtureHttpClient();
+        }
+
+        @Provides @Singleton @Named("RecoveryHttpClient")
+        CloseableHttpClient provideRecoveryHttpClient() {
+            return new FixtureHttpClient();
+        }
+    }
+
+    private static class NoOpGlobalEventsListener implements SDKGlobalEventsListener {
+        @Override
+        public void onProducerDown(ProducerDown producerDown) {
+        }
+
+        @Override
+        public void onProducerUp(ProducerUp producerUp) {
+        }
+
+        @Override
+        public void onConnectionDown() {
+        }
+
+        @Override
+        public void onEventRecoveryCompleted(URN eventId, long requestId) {
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.benchmarks;
+
+import com.sportradar.unifiedodds.sdk.impl.RegexRoutingKeyParser;
+import com.sportradar.unifiedodds.sdk.impl.RoutingKeyInfo;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link RegexRoutingKeyParser#getRoutingKeyInfo(String)} for event and system routing keys
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoutingKeyParserBenchmark {
+    @Param({
+            "hi.-.live.odds_change.1.sr:match.9210275.-",
+            "lo.pre.-.bet_settlement.5.sr:simple_tournament.11111.-",
+            "-.-.-.alive.-.-.-.-"
+    })
+    public String routingKey;
+
+    private RegexRoutingKeyParser parser;
+
+    @Setup
+    public void setup() {
+        parser = new RegexRoutingKeyParser();
+    }
+
+    @Benchmark
+    public RoutingKeyInfo getRoutingKeyInfo() {
+        return parser.getRoutingKeyInfo(routingKey);
+    }
+}
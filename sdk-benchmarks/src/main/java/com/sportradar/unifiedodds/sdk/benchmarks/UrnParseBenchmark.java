@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.benchmarks;
+
+import com.sportradar.utils.URN;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link URN#parse(String)} for the most common identifier shapes, also with a newly received (not yet
+ * hashed) string as in the feed messages, and the lookup of the parsed {@link URN} in a hash based cache
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UrnParseBenchmark {
+    @Param({"sr:match:9210275", "sr:competitor:66390", "sr:simple_tournament:11111", "vf:season:102413"})
+    public String urn;
+
+    private char[] received;
+    private Map<URN, String> cache;
+
+    @Setup
+    public void setup() {
+        received = urn.toCharArray();
+        cache = new HashMap<>();
+        cache.put(URN.parse(urn), urn);
+    }
+
+    @Benchmark
+    public URN parse() {
+        return URN.parse(urn);
+    }
+
+    @Benchmark
+    public URN parseReceived() {
+        return URN.parse(new String(received));
+    }
+
+    @Benchmark
+    public String cacheLookup() {
+        return cache.get(URN.parse(urn));
+    }
+}
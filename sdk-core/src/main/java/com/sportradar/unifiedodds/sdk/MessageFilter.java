@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import com.sportradar.utils.URN;
+
+import java.util.Set;
+
+/**
+ * A filter evaluated on the routing key of each received session message, before the message payload is
+ * deserialized. The messages which are not accepted are dropped without being deserialized or dispatched.
+ *
+ * The filter is called on the thread receiving the messages, so it should be fast and should not allocate.
+ * System messages (alive, snapshot_complete) are never filtered.
+ */
+@FunctionalInterface
+public interface MessageFilter {
+    /**
+     * Indicates if the message with the provided routing key data should be processed
+     *
+     * @param messageType the type of the message (ex. odds_change, bet_settlement)
+     * @param sportId the {@link URN} of the sport associated with the message, or <code>null</code> if not available
+     * @param eventId the {@link URN} of the sport event associated with the message, or <code>null</code> if not available
+     * @return <code>true</code> if the message should be processed; otherwise <code>false</code>
+     */
+    boolean accept(String messageType, URN sportId, URN eventId);
+
+    /**
+     * Returns the sports of the messages accepted by the filter, if the filter accepts only the messages of specific
+     * sports. The sports can be used to narrow the broker bindings of the session, so the messages of other sports
+     * are not even delivered.
+     *
+     * @return the sports of the accepted messages, or <code>null</code> if the filter is not restricted to specific sports
+     */
+    default Set<URN> getSportIds() {
+        return null;
+    }
+
+    /**
+     * Builds a filter which accepts only the messages of the provided sports
+     *
+     * @param sportIds the {@link URN}s of the accepted sports
+     * @return a filter which accepts only the messages of the provided sports
+     */
+    static MessageFilter forSports(Set<URN> sportIds) {
+        Preconditions.checkNotNull(sportIds);
+        Preconditions.checkArgument(!sportIds.isEmpty(), "sportIds can not be empty");
+
+        Set<URN> sports = ImmutableSet.copyOf(sportIds);
+        return new MessageFilter() {
+            @Override
+            public boolean accept(String messageType, URN sportId, URN eventId) {
+                return sportId != null && sports.contains(sportId);
+            }
+
+            @Override
+            public Set<URN> getSportIds() {
+                return sports;
+            }
+        };
+    }
+}
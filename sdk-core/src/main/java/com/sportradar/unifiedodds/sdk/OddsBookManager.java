@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk;
+
+import com.sportradar.unifiedodds.sdk.oddsentities.OddsBook;
+import com.sportradar.utils.URN;
+
+/**
+ * Provides the current odds of the sport events, built from the received odds_change, bet_stop and bet_settlement
+ * messages. The odds books are kept only if enabled by the uf.sdk.oddsBookEnabled configuration property.
+ */
+public interface OddsBookManager {
+    /**
+     * Returns the current odds of the sport event with the provided id, as sent by the producer which sent the last
+     * odds change of the sport event
+     *
+     * @param eventId the {@link URN} identifier of the sport event
+     * @return the current odds of the sport event, or <code>null</code> if no odds were received for the sport event
+     */
+    OddsBook getOddsBook(URN eventId);
+
+    /**
+     * Returns the current odds of the sport event with the provided id, as sent by the provided producer
+     *
+     * @param eventId the {@link URN} identifier of the sport event
+     * @param producerId the id of the producer which sent the odds
+     * @return the current odds of the sport event, or <code>null</code> if the producer sent no odds for the sport event
+     */
+    OddsBook getOddsBook(URN eventId, int producerId);
+}
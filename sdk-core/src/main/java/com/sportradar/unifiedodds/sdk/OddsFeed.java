@@ -82,6 +82,11 @@ public class OddsFeed {
      */
     private MarketDescriptionManager marketDescriptionManager;
 
+    /**
+     * The manager of the per-event odds books
+     */
+    private OddsBookManager oddsBookManager;
+
     /**
      * The CashOut probabilities manager used to access probabilities data
      */
@@ -271,6 +276,17 @@ public class OddsFeed {
         return this.marketDescriptionManager;
     }
 
+    /**
+     * Returns the {@link OddsBookManager} used to access the current odds of the sport events. The odds books are only
+     * maintained if enabled with {@link SDKInternalConfiguration#isOddsBookEnabled()}
+     *
+     * @return {@link OddsBookManager} used to access the current odds of the sport events
+     */
+    public OddsBookManager getOddsBookManager(){
+        this.initOddsFeedInstance();
+        return this.oddsBookManager;
+    }
+
     /**
      * Returns the {@link SportsInfoManager} helper that contains useful methods for specific event data retrieval
      *
@@ -383,7 +399,15 @@ public class OddsFeed {
 
                 Map<Integer, List<String>> sessionRoutingKeys =
                         OddsFeedRoutingKeyBuilder.generateKeys(createdSessionData.stream()
-                                .collect(Collectors.toMap(Object::hashCode, v -> new SimpleEntry<>(v.messageInterest, v.eventIds))), oddsFeedConfiguration);
+                                .collect(Collectors.toMap(Object::hashCode, v -> new SimpleEntry<>(v.messageInterest, v.eventIds))),
+                                createdSessionData.stream()
+                                .filter(v -> v.boundSportIds != null)
+                                .collect(Collectors.toMap(Object::hashCode, v -> v.boundSportIds)),
+                                oddsFeedConfiguration);
+
+                // load the caches before the messages start arriving
+                injector.getInstance(CacheSnapshotManager.class).open();
+                injector.getInstance(SDKWarmUp.class).run();
 
                 try {
                     boolean aliveRoutingKeySessionPresent = createdSessionData.stream()
@@ -407,7 +431,8 @@ public class OddsFeed {
                                 sessionRoutingKeys.get(sessionData.hashCode()),
                                 sessionData.messageInterest,
                                 sessionData.oddsFeedListener,
-                                oddsFeedExtListener
+                                oddsFeedExtListener,
+                                sessionData.receiverSettings
                         );
                     }
 
@@ -463,6 +488,11 @@ public class OddsFeed {
         } catch(Exception ex) {
             logger.warn("Error during close - Sessions", ex);
         }
+        try{
+            injector.getInstance(CacheSnapshotManager.class).close();
+        } catch(Exception ex) {
+            logger.warn("Error during close - CacheSnapshotManager", ex);
+        }
         try{
             DataRouterManager dataRouterManager = injector.getInstance(Key.get(DataRouterManager.class));
             dataRouterManager.close();
@@ -499,6 +529,11 @@ public class OddsFeed {
         } catch(Exception ex) {
             logger.warn("Error during close - ExecutorService", ex);
         }
+        try{
+            injector.getInstance(Key.get(ExecutorService.class, Names.named("DedicatedApiFetchExecutor"))).shutdownNow();
+        } catch(Exception ex) {
+            logger.warn("Error during close - ExecutorService", ex);
+        }
         try{
             InternalCachesProvider internalCachesProvider = injector.getInstance(Key.get(InternalCachesProvider.class));
             internalCachesProvider.close();
@@ -554,6 +589,7 @@ public class OddsFeed {
 
         this.sportsInfoManager = injector.getInstance(SportsInfoManager.class);
         this.marketDescriptionManager = injector.getInstance(MarketDescriptionManager.class);
+        this.oddsBookManager = injector.getInstance(OddsBookManager.class);
         this.producerManager = injector.getInstance(SDKProducerManager.class);
         this.recoveryRequestIssuer = injector.getInstance(EventRecoveryRequestIssuer.class);
         this.cashOutProbabilitiesManager = injector.getInstance(CashOutProbabilitiesManager.class);
@@ -569,11 +605,11 @@ public class OddsFeed {
         return Guice.createInjector(new MasterInjectionModule(listener, this.oddsFeedConfiguration, customisableSDKModule));
     }
 
-    private void createSession(OddsFeedSessionImpl session, MessageInterest oddsInterest, Set<URN> eventIds, OddsFeedListener oddsFeedListener) {
+    private void createSession(OddsFeedSessionImpl session, MessageInterest oddsInterest, Set<URN> eventIds, OddsFeedListener oddsFeedListener, MessageReceiverSettings receiverSettings, Set<URN> boundSportIds) {
         if (this.feedOpened){
             throw new IllegalStateException("Sessions can not be created once the feed has been opened");
         } else {
-            SessionData sessionData = new SessionData(session, oddsInterest, eventIds, oddsFeedListener);
+            SessionData sessionData = new SessionData(session, oddsInterest, eventIds, oddsFeedListener, receiverSettings, boundSportIds);
 
             createdSessionData.add(sessionData);
         }
@@ -598,12 +634,16 @@ public class OddsFeed {
         private final MessageInterest messageInterest;
         private final Set<URN> eventIds;
         private final OddsFeedListener oddsFeedListener;
+        private final MessageReceiverSettings receiverSettings;
+        private final Set<URN> boundSportIds;
 
-        SessionData(OddsFeedSessionImpl session, MessageInterest messageInterest, Set<URN> eventIds, OddsFeedListener oddsFeedListener) {
+        SessionData(OddsFeedSessionImpl session, MessageInterest messageInterest, Set<URN> eventIds, OddsFeedListener oddsFeedListener, MessageReceiverSettings receiverSettings, Set<URN> boundSportIds) {
             this.session = session;
             this.messageInterest = messageInterest;
             this.eventIds = eventIds;
             this.oddsFeedListener = oddsFeedListener;
+            this.receiverSettings = receiverSettings;
+            this.boundSportIds = boundSportIds;
         }
     }
 
@@ -613,6 +653,12 @@ public class OddsFeed {
         private MessageInterest msgInterestLevel;
         private HashSet<URN> eventIds;
         private HashSet<GenericOddsFeedListener> specificOddsFeedListeners;
+        private int dispatchWorkerCount;
+        private int dispatchQueueCapacity;
+        private int prefetchCount;
+        private int acknowledgementBatchSize;
+        private MessageFilter messageFilter;
+        private boolean narrowBindings;
 
         OddsFeedSessionBuilderImpl(OddsFeed oddsFeed) {
             this.oddsFeed = oddsFeed;
@@ -667,16 +713,59 @@ public class OddsFeed {
             return setSpecificEventsOnly(Collections.singleton(specificEventsOnly));
         }
 
+        @Override
+        public OddsFeedSessionBuilder setEventOrderedDispatch(int workerCount, int queueCapacity) {
+            Preconditions.checkArgument(workerCount > 0, "workerCount must be greater than 0");
+            Preconditions.checkArgument(queueCapacity > 0, "queueCapacity must be greater than 0");
+
+            this.dispatchWorkerCount = workerCount;
+            this.dispatchQueueCapacity = queueCapacity;
+
+            return this;
+        }
+
+        @Override
+        public OddsFeedSessionBuilder setManualAcknowledgement(int prefetchCount, int acknowledgementBatchSize) {
+            Preconditions.checkArgument(prefetchCount > 0, "prefetchCount must be greater than 0");
+            Preconditions.checkArgument(acknowledgementBatchSize > 0 && acknowledgementBatchSize <= prefetchCount,
+                    "acknowledgementBatchSize must be between 1 and prefetchCount");
+
+            this.prefetchCount = prefetchCount;
+            this.acknowledgementBatchSize = acknowledgementBatchSize;
+
+            return this;
+        }
+
+        @Override
+        public OddsFeedSessionBuilder setMessageFilter(MessageFilter messageFilter, boolean narrowBindings) {
+            Preconditions.checkNotNull(messageFilter, "messageFilter cannot be a null reference");
+            Preconditions.checkArgument(!narrowBindings || (messageFilter.getSportIds() != null && !messageFilter.getSportIds().isEmpty()),
+                    "the bindings can be narrowed only by a filter restricted to specific sports");
+
+            this.messageFilter = messageFilter;
+            this.narrowBindings = narrowBindings;
+
+            return this;
+        }
+
         @Override
         public OddsFeedSession build() {
             // TODO @eti: handle specific event listeners
             OddsFeedSessionImpl session = injector.getInstance(OddsFeedSessionImpl.class);
-            this.oddsFeed.createSession(session, msgInterestLevel, eventIds, mainOddsFeedListener);
+            this.oddsFeed.createSession(session, msgInterestLevel, eventIds, mainOddsFeedListener,
+                    new MessageReceiverSettings(dispatchWorkerCount, dispatchQueueCapacity, prefetchCount, acknowledgementBatchSize, messageFilter),
+                    narrowBindings ? messageFilter.getSportIds() : null);
 
             this.msgInterestLevel = null;
             this.eventIds = null;
             this.mainOddsFeedListener = null;
             this.specificOddsFeedListeners = null;
+            this.dispatchWorkerCount = 0;
+            this.dispatchQueueCapacity = 0;
+            this.prefetchCount = 0;
+            this.acknowledgementBatchSize = 0;
+            this.messageFilter = null;
+            this.narrowBindings = false;
 
             return session;
         }
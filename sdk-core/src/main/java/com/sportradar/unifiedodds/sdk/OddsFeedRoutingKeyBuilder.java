@@ -21,6 +21,11 @@ class OddsFeedRoutingKeyBuilder {
      */
     private static final String SNAPSHOT_COMPLETE_ROUTING_KEY_TEMPLATE = "-.-.-.snapshot_complete.-.-.-.%s";
 
+    /**
+     * The index of the sport id in the routing key (hi.pre.live.odds_change.{sportId}.sr:match.1234)
+     */
+    private static final int SPORT_ROUTING_KEY_PART = 4;
+
     /**
      * Private constructor, since this is a static utility class
      */
@@ -36,8 +41,26 @@ class OddsFeedRoutingKeyBuilder {
      * @return - a collection of session identifiers associated with a valid list of valid routing keys
      */
     static Map<Integer, List<String>> generateKeys(Map<Integer, Entry<MessageInterest, Set<URN>>> sessionsData, SDKInternalConfiguration oddsFeedConfiguration) {
+        return generateKeys(sessionsData, Collections.emptyMap(), oddsFeedConfiguration);
+    }
+
+    /**
+     * Builds a valid list of routing keys for the provided sessions, the routing keys of the sessions with bound
+     * sports are narrowed to the messages of the bound sports
+     * k -> session identifier
+     * v -> a {@link List} of routing keys for the associated session
+     *
+     * @param sessionsData - a {@link Map} describing the feed sessions
+     * @param sessionSportIds - a {@link Map} of the sports bound by the sessions, by the session identifier
+     * @param oddsFeedConfiguration - the associated feed SDK configuration instance
+     * @return - a collection of session identifiers associated with a valid list of valid routing keys
+     */
+    static Map<Integer, List<String>> generateKeys(Map<Integer, Entry<MessageInterest, Set<URN>>> sessionsData,
+                                                   Map<Integer, Set<URN>> sessionSportIds,
+                                                   SDKInternalConfiguration oddsFeedConfiguration) {
         Preconditions.checkNotNull(sessionsData);
         Preconditions.checkArgument(!sessionsData.isEmpty());
+        Preconditions.checkNotNull(sessionSportIds);
         Preconditions.checkNotNull(oddsFeedConfiguration);
 
         validateInterestCombination(sessionsData);
@@ -52,6 +75,10 @@ class OddsFeedRoutingKeyBuilder {
             List<String> sessionRoutingKeys = new ArrayList<>();
 
             List<String> basicRoutingKeys = getBasicRoutingKeys(v.getKey(), v.getValue());
+            Set<URN> sportIds = sessionSportIds.get(k);
+            if (sportIds != null && !sportIds.isEmpty()) {
+                basicRoutingKeys = narrowToSports(basicRoutingKeys, sportIds);
+            }
             for (String basicRoutingKey: basicRoutingKeys) {
                 if (oddsFeedConfiguration.getSdkNodeId() != null) {
                     sessionRoutingKeys.add(basicRoutingKey + "." + oddsFeedConfiguration.getSdkNodeId() + ".#");
@@ -82,6 +109,30 @@ class OddsFeedRoutingKeyBuilder {
                 eventIds.stream().map(e -> String.format("#.%s:%s.%d", e.getPrefix(), e.getType(), e.getId())).collect(Collectors.toList());
     }
 
+    /**
+     * Replaces the sport wildcard of the provided routing keys with the provided sports, the routing keys without
+     * the sport wildcard (ex. the keys of specific events) are left unchanged
+     *
+     * @param routingKeys - the routing keys of the session message interest
+     * @param sportIds - the sports to which the routing keys are narrowed
+     * @return - the narrowed routing keys
+     */
+    private static List<String> narrowToSports(List<String> routingKeys, Set<URN> sportIds) {
+        List<String> result = new ArrayList<>();
+        for (String routingKey : routingKeys) {
+            String[] parts = routingKey.split("\\.");
+            if (parts.length <= SPORT_ROUTING_KEY_PART || !parts[SPORT_ROUTING_KEY_PART].equals("*")) {
+                result.add(routingKey);
+                continue;
+            }
+            for (URN sportId : sportIds) {
+                parts[SPORT_ROUTING_KEY_PART] = String.valueOf(sportId.getId());
+                result.add(String.join(".", parts));
+            }
+        }
+        return result;
+    }
+
     private static void validateInterestCombination(Map<Integer, Entry<MessageInterest, Set<URN>>> sessionsData) {
         Preconditions.checkNotNull(sessionsData);
 
@@ -60,6 +60,65 @@ public interface OddsFeedSessionBuilder {
         return null;
     }
 
+    /**
+     * Enables the dispatching of the received messages on a dedicated pool of worker threads, so a slow processing
+     * of one sport event does not delay the messages of other sport events. The messages of the same sport event
+     * are always processed on the same worker, in the order in which they were received. Messages which are not
+     * associated with a sport event (ex. snapshot_complete) are processed after all the previously received messages.
+     * Once the queue of a worker is full, the reception of the session messages is paused until the worker catches up.
+     *
+     * By default, the messages are processed (and the listener is called) on the thread receiving the messages.
+     *
+     * @param workerCount the number of worker threads processing the session messages
+     * @param queueCapacity the max number of messages which can wait for processing per worker thread
+     * @return the current session builder
+     */
+    default OddsFeedSessionBuilder setEventOrderedDispatch(int workerCount, int queueCapacity) {
+        throw new UnsupportedOperationException("Method not implemented. Use derived type.");
+    }
+
+    /**
+     * Enables the acknowledgement of the received messages once they are processed (instead of the automatic
+     * acknowledgement on delivery) and limits the number of delivered, but not yet acknowledged session messages,
+     * so the messages wait in the broker instead of in the memory when the session processing falls behind.
+     *
+     * @param prefetchCount the max number of delivered, but not yet acknowledged session messages
+     * @param acknowledgementBatchSize the number of processed messages which are acknowledged together, between
+     *                                 1 and the prefetchCount
+     * @return the current session builder
+     */
+    default OddsFeedSessionBuilder setManualAcknowledgement(int prefetchCount, int acknowledgementBatchSize) {
+        throw new UnsupportedOperationException("Method not implemented. Use derived type.");
+    }
+
+    /**
+     * Sets a filter evaluated on the routing key of each received session message, before the message is deserialized.
+     * The messages which are not accepted are dropped (and acknowledged) without being deserialized or dispatched.
+     *
+     * @param messageFilter the filter deciding which session messages are processed
+     * @return the current session builder
+     * @see MessageFilter#forSports(Set)
+     */
+    default OddsFeedSessionBuilder setMessageFilter(MessageFilter messageFilter) {
+        return setMessageFilter(messageFilter, false);
+    }
+
+    /**
+     * Sets a filter evaluated on the routing key of each received session message, before the message is deserialized.
+     * The messages which are not accepted are dropped (and acknowledged) without being deserialized or dispatched.
+     *
+     * If the bindings should be narrowed, the session binds only the routing keys of the sports returned by
+     * {@link MessageFilter#getSportIds()}, so the messages of other sports are not delivered by the broker at all.
+     *
+     * @param messageFilter the filter deciding which session messages are processed
+     * @param narrowBindings an indication if the session bindings should be narrowed to the sports of the filter
+     * @return the current session builder
+     * @see MessageFilter#forSports(Set)
+     */
+    default OddsFeedSessionBuilder setMessageFilter(MessageFilter messageFilter, boolean narrowBindings) {
+        throw new UnsupportedOperationException("Method not implemented. Use derived type.");
+    }
+
     /**
      * This function creates the newly configured session using the supplied message interest and listeners
      *
@@ -23,6 +23,20 @@ public interface RecoveryManager {
      */
     void onMessageProcessingStarted(int uniqueMessageProcessorIdentifier, int producerId, Long requestId, long now);
 
+    /**
+     * Method invoked when the AMQP message processing started, the generation timestamp of the message is used to
+     * keep the last processed message timestamp of the producer behind the messages which are still being processed
+     *
+     * @param uniqueMessageProcessorIdentifier a unique representation of the message processor invoking the method
+     * @param producerId the source producer of the message
+     * @param requestId the recovery request id of the message (if present)
+     * @param messageGenTimestamp the generated timestamp of the message (if present)
+     * @param now the current timestamp
+     */
+    default void onMessageProcessingStarted(int uniqueMessageProcessorIdentifier, int producerId, Long requestId, Long messageGenTimestamp, long now) {
+        onMessageProcessingStarted(uniqueMessageProcessorIdentifier, producerId, requestId, now);
+    }
+
     /**
      * Method invoked when the AMQP message processing ended
      *
@@ -215,6 +215,119 @@ public abstract class SDKConfigurationReader {
                 .map(value -> value.equals("true"));
     }
 
+    public Optional<Boolean> readConcurrentMessageUnmarshalling() {
+        return Optional.ofNullable(sdkProperties.get("uf.sdk.concurrentMessageUnmarshalling"))
+                .map(value -> value.equals("true"));
+    }
+
+    public Optional<Boolean> readStreamingMessageDeserialization() {
+        return Optional.ofNullable(sdkProperties.get("uf.sdk.streamingMessageDeserialization"))
+                .map(value -> value.equals("true"));
+    }
+
+    public Optional<Boolean> readStreamingApiDeserialization() {
+        return Optional.ofNullable(sdkProperties.get("uf.sdk.streamingApiDeserialization"))
+                .map(value -> value.equals("true"));
+    }
+
+    public Optional<Integer> readApiFetchParallelism() {
+        return Optional.ofNullable(sdkProperties.get("uf.sdk.apiFetchParallelism"))
+                .map(value -> {
+                    try {
+                        return Integer.parseInt(value);
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("The provided uf.sdk.apiFetchParallelism is not a valid number, value: " + value);
+                    }
+                });
+    }
+
+    public Optional<Integer> readWarmUpParallelism() {
+        return Optional.ofNullable(sdkProperties.get("uf.sdk.warmUpParallelism"))
+                .map(value -> {
+                    try {
+                        return Integer.parseInt(value);
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("The provided uf.sdk.warmUpParallelism is not a valid number, value: " + value);
+                    }
+                });
+    }
+
+    public Optional<Integer> readWarmUpTimeout() {
+        return Optional.ofNullable(sdkProperties.get("uf.sdk.warmUpTimeout"))
+                .map(value -> {
+                    try {
+                        return Integer.parseInt(value);
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("The provided uf.sdk.warmUpTimeout is not a valid number, value: " + value);
+                    }
+                });
+    }
+
+    public Optional<String> readCacheSnapshotFile() {
+        return Optional.ofNullable(sdkProperties.get("uf.sdk.cacheSnapshotFile"));
+    }
+
+    public Optional<Integer> readCacheSnapshotInterval() {
+        return Optional.ofNullable(sdkProperties.get("uf.sdk.cacheSnapshotInterval"))
+                .map(value -> {
+                    try {
+                        return Integer.parseInt(value);
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("The provided uf.sdk.cacheSnapshotInterval is not a valid number, value: " + value);
+                    }
+                });
+    }
+
+    public Optional<Integer> readMetricsReportInterval() {
+        return Optional.ofNullable(sdkProperties.get("uf.sdk.metricsReportInterval"))
+                .map(value -> {
+                    try {
+                        return Integer.parseInt(value);
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("The provided uf.sdk.metricsReportInterval is not a valid number, value: " + value);
+                    }
+                });
+    }
+
+    public Optional<Integer> readCacheMemoryLimit(String cacheName) {
+        String key = "uf.sdk." + cacheName + "CacheMemoryLimit";
+        return Optional.ofNullable(sdkProperties.get(key))
+                .map(value -> {
+                    try {
+                        return Integer.parseInt(value);
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("The provided " + key + " is not a valid number, value: " + value);
+                    }
+                });
+    }
+
+    public Optional<Integer> readOffHeapCacheSize() {
+        return Optional.ofNullable(sdkProperties.get("uf.sdk.offHeapCacheSize"))
+                .map(value -> {
+                    try {
+                        return Integer.parseInt(value);
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("The provided uf.sdk.offHeapCacheSize is not a valid number, value: " + value);
+                    }
+                });
+    }
+
+    public Optional<Integer> readOffHeapCacheHotTierSize() {
+        return Optional.ofNullable(sdkProperties.get("uf.sdk.offHeapCacheHotTierSize"))
+                .map(value -> {
+                    try {
+                        return Integer.parseInt(value);
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("The provided uf.sdk.offHeapCacheHotTierSize is not a valid number, value: " + value);
+                    }
+                });
+    }
+
+    public Optional<Boolean> readOddsBookEnabled() {
+        return Optional.ofNullable(sdkProperties.get("uf.sdk.oddsBookEnabled"))
+                .map(value -> value.equals("true"));
+    }
+
     public Set<String> readSchedulerTasksToSkip() {
         return Optional.ofNullable(sdkProperties.get("uf.sdk.schedulerTasksToSkip"))
                 .map(locales -> Stream.of(locales.split(",")).collect(Collectors.toSet()))
@@ -16,6 +16,11 @@ import java.util.*;
  * The internal SDK configuration
  */
 public class SDKInternalConfiguration {
+    /**
+     * The names of the caches which can be limited with a memory budget
+     */
+    private static final List<String> MEMORY_LIMITED_CACHES = Arrays.asList("sportEvent", "playerProfile", "competitor", "sportEventStatus", "variantMarket");
+
     private final String accessToken;
     private final Locale defaultLocale;
     private final List<Locale> desiredLocales;
@@ -36,6 +41,19 @@ public class SDKInternalConfiguration {
     private final int recoveryHttpClientTimeout;
     private final List<Integer> disabledProducers;
     private final boolean simpleVariantCaching;
+    private final boolean concurrentMessageUnmarshalling;
+    private final boolean streamingMessageDeserialization;
+    private final boolean streamingApiDeserialization;
+    private final int apiFetchParallelism;
+    private final int warmUpParallelism;
+    private final int warmUpTimeout;
+    private final String cacheSnapshotFile;
+    private final int cacheSnapshotInterval;
+    private final int metricsReportInterval;
+    private final boolean oddsBookEnabled;
+    private final Map<String, Integer> cacheMemoryLimits;
+    private final int offHeapCacheSize;
+    private final int offHeapCacheHotTierSize;
     private final Set<String> schedulerTasksToSkip;
     private final String messagingVirtualHost;
     private String apiHost;
@@ -92,6 +110,57 @@ public class SDKInternalConfiguration {
         simpleVariantCaching = sdkConfigurationPropertiesReader.readSimpleVariantCaching()
                 .orElse(sdkConfigurationYamlReader.readSimpleVariantCaching()
                         .orElse(false));
+        concurrentMessageUnmarshalling = sdkConfigurationPropertiesReader.readConcurrentMessageUnmarshalling()
+                .orElse(sdkConfigurationYamlReader.readConcurrentMessageUnmarshalling()
+                        .orElse(false));
+        streamingMessageDeserialization = sdkConfigurationPropertiesReader.readStreamingMessageDeserialization()
+                .orElse(sdkConfigurationYamlReader.readStreamingMessageDeserialization()
+                        .orElse(false));
+        streamingApiDeserialization = sdkConfigurationPropertiesReader.readStreamingApiDeserialization()
+                .orElse(sdkConfigurationYamlReader.readStreamingApiDeserialization()
+                        .orElse(true));
+        apiFetchParallelism = sdkConfigurationPropertiesReader.readApiFetchParallelism()
+                .orElse(sdkConfigurationYamlReader.readApiFetchParallelism()
+                        .orElse(1));
+        Preconditions.checkArgument(apiFetchParallelism > 0, "uf.sdk.apiFetchParallelism must be greater than 0");
+        warmUpParallelism = sdkConfigurationPropertiesReader.readWarmUpParallelism()
+                .orElse(sdkConfigurationYamlReader.readWarmUpParallelism()
+                        .orElse(4));
+        Preconditions.checkArgument(warmUpParallelism >= 0, "uf.sdk.warmUpParallelism must not be negative");
+        warmUpTimeout = sdkConfigurationPropertiesReader.readWarmUpTimeout()
+                .orElse(sdkConfigurationYamlReader.readWarmUpTimeout()
+                        .orElse(0));
+        Preconditions.checkArgument(warmUpTimeout >= 0, "uf.sdk.warmUpTimeout must not be negative");
+        cacheSnapshotFile = sdkConfigurationPropertiesReader.readCacheSnapshotFile()
+                .orElse(sdkConfigurationYamlReader.readCacheSnapshotFile()
+                        .orElse(null));
+        cacheSnapshotInterval = sdkConfigurationPropertiesReader.readCacheSnapshotInterval()
+                .orElse(sdkConfigurationYamlReader.readCacheSnapshotInterval()
+                        .orElse(0));
+        Preconditions.checkArgument(cacheSnapshotInterval >= 0, "uf.sdk.cacheSnapshotInterval must not be negative");
+        metricsReportInterval = sdkConfigurationPropertiesReader.readMetricsReportInterval()
+                .orElse(sdkConfigurationYamlReader.readMetricsReportInterval()
+                        .orElse(0));
+        Preconditions.checkArgument(metricsReportInterval >= 0, "uf.sdk.metricsReportInterval must not be negative");
+        oddsBookEnabled = sdkConfigurationPropertiesReader.readOddsBookEnabled()
+                .orElse(sdkConfigurationYamlReader.readOddsBookEnabled()
+                        .orElse(false));
+        cacheMemoryLimits = new HashMap<>();
+        for (String cacheName : MEMORY_LIMITED_CACHES) {
+            int memoryLimit = sdkConfigurationPropertiesReader.readCacheMemoryLimit(cacheName)
+                    .orElse(sdkConfigurationYamlReader.readCacheMemoryLimit(cacheName)
+                            .orElse(0));
+            Preconditions.checkArgument(memoryLimit >= 0, "uf.sdk." + cacheName + "CacheMemoryLimit must not be negative");
+            cacheMemoryLimits.put(cacheName, memoryLimit);
+        }
+        offHeapCacheSize = sdkConfigurationPropertiesReader.readOffHeapCacheSize()
+                .orElse(sdkConfigurationYamlReader.readOffHeapCacheSize()
+                        .orElse(256));
+        Preconditions.checkArgument(offHeapCacheSize > 0, "uf.sdk.offHeapCacheSize must be positive");
+        offHeapCacheHotTierSize = sdkConfigurationPropertiesReader.readOffHeapCacheHotTierSize()
+                .orElse(sdkConfigurationYamlReader.readOffHeapCacheHotTierSize()
+                        .orElse(10000));
+        Preconditions.checkArgument(offHeapCacheHotTierSize > 0, "uf.sdk.offHeapCacheHotTierSize must be positive");
 
         schedulerTasksToSkip = new HashSet<>();
         schedulerTasksToSkip.addAll(sdkConfigurationPropertiesReader.readSchedulerTasksToSkip());
@@ -293,6 +362,141 @@ public class SDKInternalConfiguration {
         return simpleVariantCaching;
     }
 
+    /**
+     * Indicates if the feed messages should be unmarshalled by a per-thread unmarshaller instead of a single
+     * unmarshaller guarded by a lock which is shared by all the channels
+     *
+     * @return <code>true</code> if the messages can be unmarshalled concurrently; otherwise <code>false</code>
+     */
+    public boolean isConcurrentMessageUnmarshallingEnabled() {
+        return concurrentMessageUnmarshalling;
+    }
+
+    /**
+     * Indicates if the odds_change, bet_stop and alive feed messages should be decoded by the streaming pull parser
+     * (all the other messages are still unmarshalled with JAXB)
+     *
+     * @return <code>true</code> if the streaming decoder should be used; otherwise <code>false</code>
+     */
+    public boolean isStreamingMessageDeserializationEnabled() {
+        return streamingMessageDeserialization;
+    }
+
+    /**
+     * Indicates if the API responses are deserialized directly from the HTTP response stream, instead of being
+     * read into a string first
+     *
+     * @return <code>true</code> if the API responses are deserialized from the response stream; otherwise <code>false</code>
+     */
+    public boolean isStreamingApiDeserializationEnabled() {
+        return streamingApiDeserialization;
+    }
+
+    /**
+     * Returns the max number of API requests which are executed concurrently when the data of a single
+     * item is fetched in multiple locales, 1 if the locales are fetched one after another
+     *
+     * @return the max number of concurrently executed API requests of a multi-locale fetch
+     */
+    public int getApiFetchParallelism() {
+        return apiFetchParallelism;
+    }
+
+    /**
+     * Returns the max number of warm-up fetches executed concurrently when the feed is opened,
+     * 0 if the warm-up is disabled and the caches are loaded on first use
+     *
+     * @return the max number of concurrently executed warm-up fetches
+     */
+    public int getWarmUpParallelism() {
+        return warmUpParallelism;
+    }
+
+    /**
+     * Returns the max time (in seconds) the opening of the feed waits for the warm-up of the critical caches
+     * (market descriptions and named values), 0 if the feed is opened without waiting
+     *
+     * @return the max time (in seconds) the opening of the feed waits for the critical caches
+     */
+    public int getWarmUpTimeout() {
+        return warmUpTimeout;
+    }
+
+    /**
+     * Returns the path of the file in which the cache snapshot is stored, <code>null</code> if the caches are not
+     * stored between the SDK restarts
+     *
+     * @return the path of the cache snapshot file, or <code>null</code> if the cache snapshot is disabled
+     */
+    public String getCacheSnapshotFile() {
+        return cacheSnapshotFile;
+    }
+
+    /**
+     * Returns the interval (in minutes) in which the cache snapshot is periodically stored, 0 if the snapshot
+     * is only stored when the feed is closed
+     *
+     * @return the interval (in minutes) in which the cache snapshot is stored
+     */
+    public int getCacheSnapshotInterval() {
+        return cacheSnapshotInterval;
+    }
+
+    /**
+     * Returns the interval (in seconds) in which the feed metrics are passed to the
+     * {@link com.sportradar.unifiedodds.sdk.metrics.MetricsReporter}, 0 if the metrics are only exposed over JMX
+     *
+     * @return the interval (in seconds) in which the feed metrics are reported
+     */
+    public int getMetricsReportInterval() {
+        return metricsReportInterval;
+    }
+
+    /**
+     * Indicates if the SDK keeps the current odds of each sport event in an odds book
+     * (see {@link OddsBookManager}) and attaches the odds deltas to the dispatched odds changes
+     *
+     * @return <code>true</code> if the odds book is enabled; otherwise <code>false</code>
+     */
+    public boolean isOddsBookEnabled() {
+        return oddsBookEnabled;
+    }
+
+    /**
+     * Returns the memory budget (in megabytes) of the specified cache, once the estimated size of the cached items
+     * exceeds the budget the least recently used items are evicted. The supported caches are sportEvent,
+     * playerProfile, competitor, sportEventStatus and variantMarket, configured with
+     * <code>uf.sdk.&lt;cacheName&gt;CacheMemoryLimit</code>
+     *
+     * @param cacheName the name of the cache
+     * @return the memory budget (in megabytes) of the specified cache, 0 if the cache is only bounded by its expiration
+     */
+    public int getCacheMemoryLimit(String cacheName) {
+        return cacheMemoryLimits.getOrDefault(cacheName, 0);
+    }
+
+    /**
+     * Returns the size (in megabytes) of the off-heap memory used by the
+     * {@link com.sportradar.unifiedodds.sdk.di.OffHeapProfileCachesProvider} to store the player and competitor
+     * profiles, shared equally between the two caches
+     *
+     * @return the size (in megabytes) of the off-heap memory used by the profile caches
+     */
+    public int getOffHeapCacheSize() {
+        return offHeapCacheSize;
+    }
+
+    /**
+     * Returns the max number of player and competitor profiles each kept on the heap by the
+     * {@link com.sportradar.unifiedodds.sdk.di.OffHeapProfileCachesProvider}, the less recently used profiles
+     * are moved to the off-heap memory
+     *
+     * @return the max number of profiles each profile cache keeps on the heap
+     */
+    public int getOffHeapCacheHotTierSize() {
+        return offHeapCacheHotTierSize;
+    }
+
     /**
      * Returns a set of task names that should be skipped
      *
@@ -381,6 +585,19 @@ public class SDKInternalConfiguration {
                 .add("recoveryHttpClientMaxConnPerRoute=" + recoveryHttpClientMaxConnPerRoute)
                 .add("disabledProducers=" + disabledProducers)
                 .add("simpleVariantCaching=" + simpleVariantCaching)
+                .add("concurrentMessageUnmarshalling=" + concurrentMessageUnmarshalling)
+                .add("streamingMessageDeserialization=" + streamingMessageDeserialization)
+                .add("streamingApiDeserialization=" + streamingApiDeserialization)
+                .add("apiFetchParallelism=" + apiFetchParallelism)
+                .add("warmUpParallelism=" + warmUpParallelism)
+                .add("warmUpTimeout=" + warmUpTimeout)
+                .add("cacheSnapshotFile='" + cacheSnapshotFile + "'")
+                .add("cacheSnapshotInterval=" + cacheSnapshotInterval)
+                .add("metricsReportInterval=" + metricsReportInterval)
+                .add("cacheMemoryLimits=" + cacheMemoryLimits)
+                .add("offHeapCacheSize=" + offHeapCacheSize)
+                .add("offHeapCacheHotTierSize=" + offHeapCacheHotTierSize)
+                .add("oddsBookEnabled=" + oddsBookEnabled)
                 .add("schedulerTasksToSkip=" + schedulerTasksToSkip)
                 .add("messagingVirtualHost='" + messagingVirtualHost + "'")
                 .add("apiHost='" + apiHost + "'")
@@ -50,6 +50,124 @@ public interface DataRouterManager {
 
     void requestSimpleTeamEndpoint(Locale locale, URN id, CacheItem requester) throws CommunicationException;
 
+    /**
+     * Requests the summary endpoint in all the provided locales, the received data is dispatched in the order
+     * of the provided locales
+     *
+     * @param locales the locales in which the summary should be requested
+     * @param id the identifier of the requested summary
+     * @param requester the {@link CacheItem} which requested the data
+     * @throws CommunicationException if any of the requests failed, after the successfully received data was dispatched
+     */
+    default void requestSummaryEndpoint(List<Locale> locales, URN id, CacheItem requester) throws CommunicationException {
+        for (Locale locale : locales) {
+            requestSummaryEndpoint(locale, id, requester);
+        }
+    }
+
+    /**
+     * Requests the fixture endpoint in all the provided locales, the received data is dispatched in the order
+     * of the provided locales
+     *
+     * @param locales the locales in which the fixture should be requested
+     * @param id the identifier of the requested fixture
+     * @param useCachedProvider indicates if the cached fixture provider should be used
+     * @param requester the {@link CacheItem} which requested the data
+     * @throws CommunicationException if any of the requests failed, after the successfully received data was dispatched
+     */
+    default void requestFixtureEndpoint(List<Locale> locales, URN id, boolean useCachedProvider, CacheItem requester) throws CommunicationException {
+        for (Locale locale : locales) {
+            requestFixtureEndpoint(locale, id, useCachedProvider, requester);
+        }
+    }
+
+    /**
+     * Requests the player profile endpoint in all the provided locales, the received data is dispatched in the order
+     * of the provided locales
+     *
+     * @param locales the locales in which the profile should be requested
+     * @param id the identifier of the requested player
+     * @param requester the {@link CacheItem} which requested the data
+     * @throws CommunicationException if any of the requests failed, after the successfully received data was dispatched
+     */
+    default void requestPlayerProfileEndpoint(List<Locale> locales, URN id, CacheItem requester) throws CommunicationException {
+        for (Locale locale : locales) {
+            requestPlayerProfileEndpoint(locale, id, requester);
+        }
+    }
+
+    /**
+     * Requests the competitor profile endpoint in all the provided locales, the received data is dispatched in the order
+     * of the provided locales
+     *
+     * @param locales the locales in which the profile should be requested
+     * @param id the identifier of the requested competitor
+     * @param requester the {@link CacheItem} which requested the data
+     * @throws CommunicationException if any of the requests failed, after the successfully received data was dispatched
+     */
+    default void requestCompetitorEndpoint(List<Locale> locales, URN id, CacheItem requester) throws CommunicationException {
+        for (Locale locale : locales) {
+            requestCompetitorEndpoint(locale, id, requester);
+        }
+    }
+
+    /**
+     * Requests the simple team profile endpoint in all the provided locales, the received data is dispatched in the order
+     * of the provided locales
+     *
+     * @param locales the locales in which the profile should be requested
+     * @param id the identifier of the requested team
+     * @param requester the {@link CacheItem} which requested the data
+     * @throws CommunicationException if any of the requests failed, after the successfully received data was dispatched
+     */
+    default void requestSimpleTeamEndpoint(List<Locale> locales, URN id, CacheItem requester) throws CommunicationException {
+        for (Locale locale : locales) {
+            requestSimpleTeamEndpoint(locale, id, requester);
+        }
+    }
+
+    /**
+     * Requests the player profile endpoint of all the provided players in all the provided locales, the received data
+     * is only merged into the cache
+     *
+     * @param locales the locales in which the profiles should be requested
+     * @param ids the identifiers of the requested players
+     * @throws CommunicationException if any of the requests failed, after the successfully received data was dispatched
+     */
+    default void requestPlayerProfileEndpoints(List<Locale> locales, List<URN> ids) throws CommunicationException {
+        for (URN id : ids) {
+            requestPlayerProfileEndpoint(locales, id, null);
+        }
+    }
+
+    /**
+     * Requests the competitor profile endpoint of all the provided competitors in all the provided locales, the received data
+     * is only merged into the cache
+     *
+     * @param locales the locales in which the profiles should be requested
+     * @param ids the identifiers of the requested competitors
+     * @throws CommunicationException if any of the requests failed, after the successfully received data was dispatched
+     */
+    default void requestCompetitorEndpoints(List<Locale> locales, List<URN> ids) throws CommunicationException {
+        for (URN id : ids) {
+            requestCompetitorEndpoint(locales, id, null);
+        }
+    }
+
+    /**
+     * Requests the simple team profile endpoint of all the provided teams in all the provided locales, the received data
+     * is only merged into the cache
+     *
+     * @param locales the locales in which the profiles should be requested
+     * @param ids the identifiers of the requested teams
+     * @throws CommunicationException if any of the requests failed, after the successfully received data was dispatched
+     */
+    default void requestSimpleTeamEndpoints(List<Locale> locales, List<URN> ids) throws CommunicationException {
+        for (URN id : ids) {
+            requestSimpleTeamEndpoint(locales, id, null);
+        }
+    }
+
     List<URN> requestSeasonsFor(Locale locale, URN tournamentID) throws CommunicationException;
 
     SAPIMatchTimelineEndpoint requestEventTimelineEndpoint(Locale locale, URN id, CacheItem requester) throws CommunicationException;
@@ -72,5 +190,20 @@ public interface DataRouterManager {
 
     List<PeriodStatus> requestPeriodSummary(URN id, Locale locale, List<URN> competitorIds, List<Integer> periods) throws CommunicationException;
 
+    /**
+     * Fetches the sports, tournaments and lotteries lists in the provided {@link Locale}
+     *
+     * @param locale the {@link Locale} in which the lists are fetched
+     * @throws CommunicationException if the sports or tournaments list could not be fetched
+     */
+    void requestAllSportsData(Locale locale) throws CommunicationException;
+
+    /**
+     * Fetches the schedules of the prefetch days which were not fetched yet
+     *
+     * @return <code>true</code> if the schedules were fetched; otherwise <code>false</code>
+     */
+    boolean requestPrefetchSchedules();
+
     void close();
 }
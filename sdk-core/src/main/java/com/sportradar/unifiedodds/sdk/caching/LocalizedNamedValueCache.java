@@ -30,4 +30,11 @@ public interface LocalizedNamedValueCache {
      * @return - <code>true</code> if the value exists; otherwise <code>false</code>
      */
     boolean isValueDefined(int id);
+
+    /**
+     * Loads the {@link LocalizedNamedValue}s in all the default locales which were not loaded yet
+     *
+     * @return <code>true</code> if the values are loaded in all the default locales; otherwise <code>false</code>
+     */
+    boolean loadNamedValues();
 }
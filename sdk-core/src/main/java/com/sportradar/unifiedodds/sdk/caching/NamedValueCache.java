@@ -25,4 +25,11 @@ public interface NamedValueCache {
      * @return <code>true</code> if the value is defined; otherwise <code>false</code>
      */
     boolean isValueDefined(int id);
+
+    /**
+     * Loads the {@link NamedValue}s, if they were not loaded yet
+     *
+     * @return <code>true</code> if the values are loaded; otherwise <code>false</code>
+     */
+    boolean loadNamedValues();
 }
@@ -8,8 +8,10 @@ import com.sportradar.unifiedodds.sdk.exceptions.internal.CacheItemNotFoundExcep
 import com.sportradar.unifiedodds.sdk.exceptions.internal.IllegalCacheStateException;
 import com.sportradar.utils.URN;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 /**
  * Defines methods implemented by caches used to store information about player and competitor profiles
@@ -25,6 +27,23 @@ public interface ProfileCache {
      */
     PlayerProfileCI getPlayerProfile(URN id, List<Locale> locales, List<URN> possibleAssociatedCompetitorIds) throws IllegalCacheStateException, CacheItemNotFoundException;
 
+    /**
+     * Returns the {@link PlayerProfileCI}s associated with the provided {@link URN}s, the missing profiles are fetched
+     * concurrently
+     *
+     * @param ids - the unique {@link URN} identifiers of the players
+     * @param locales - a {@link List} of locales in which the data is required
+     * @param possibleAssociatedCompetitorIds - a list of possible associated competitors, used to prefetch competitor profiles
+     * @return - a {@link Map} of the {@link PlayerProfileCI}s mapped by their {@link URN}s, in the order of the provided identifiers
+     */
+    default Map<URN, PlayerProfileCI> getPlayerProfiles(List<URN> ids, List<Locale> locales, List<URN> possibleAssociatedCompetitorIds) throws IllegalCacheStateException, CacheItemNotFoundException {
+        Map<URN, PlayerProfileCI> profiles = new LinkedHashMap<>();
+        for (URN id : ids) {
+            profiles.put(id, getPlayerProfile(id, locales, possibleAssociatedCompetitorIds));
+        }
+        return profiles;
+    }
+
     /**
      * Returns a {@link CompetitorCI} associated with the provided {@link URN}
      *
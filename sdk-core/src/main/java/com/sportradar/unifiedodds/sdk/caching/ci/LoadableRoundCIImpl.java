@@ -14,7 +14,6 @@ import com.sportradar.unifiedodds.sdk.caching.DataRouterManager;
 import com.sportradar.unifiedodds.sdk.caching.exportable.ExportableLoadableRoundCI;
 import com.sportradar.unifiedodds.sdk.exceptions.ObjectNotFoundException;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
-import com.sportradar.unifiedodds.sdk.exceptions.internal.DataRouterStreamException;
 import com.sportradar.utils.SdkHelper;
 import com.sportradar.utils.URN;
 import org.slf4j.Logger;
@@ -529,14 +528,8 @@ public class LoadableRoundCIImpl implements LoadableRoundCI {
                          associatedEventId,
                          missingLocales.stream().map(Locale::getLanguage).collect(Collectors.joining(", ")));
 
-            missingLocales.forEach(l -> {
-                try {
-                    dataRouterManager.requestSummaryEndpoint(l, associatedEventId, associatedEventCI);
-                } catch (CommunicationException e) {
-                    throw new DataRouterStreamException(e.getMessage(), e);
-                }
-            });
-        } catch (DataRouterStreamException e) {
+            dataRouterManager.requestSummaryEndpoint(missingLocales, associatedEventId, associatedEventCI);
+        } catch (CommunicationException e) {
             handleException(String.format("initiateSummaryRequest(%s)", missingLocales), e);
         } finally {
             summaryRequest.unlock();
@@ -17,6 +17,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static com.sportradar.unifiedodds.sdk.impl.UnifiedFeedConstants.FREETEXT_VARIANT_VALUE;
@@ -44,6 +45,11 @@ public class MarketDescriptionCI {
     private Date lastDataReceived;
     private String sourceCache;
 
+    /**
+     * Incremented once the item is changed, so the descriptions built from the item can be reused until then
+     */
+    private final AtomicInteger version = new AtomicInteger();
+
     public MarketDescriptionCI(DescMarket market, MappingValidatorFactory mappingValidatorFactory, Locale locale, String sourceCache) {
         Preconditions.checkNotNull(market);
         Preconditions.checkNotNull(mappingValidatorFactory);
@@ -132,6 +138,7 @@ public class MarketDescriptionCI {
 
         fetchedLocales.add(locale);
         this.lastDataReceived = new Date();
+        version.incrementAndGet();
     }
 
     public int getId() {
@@ -206,6 +213,7 @@ public class MarketDescriptionCI {
                 mappings.add(newMappingElement);
             }
         }
+        version.incrementAndGet();
     }
 
     private String combineOutcomeType(String outcomeType, String includesOutcomesOfType) {
@@ -229,6 +237,16 @@ public class MarketDescriptionCI {
 
     public void setLastDataReceived(Date lastDataReceived) {
         this.lastDataReceived = lastDataReceived;
+        version.incrementAndGet();
+    }
+
+    /**
+     * Returns the version of the item, which changes once the item data is changed
+     *
+     * @return the version of the item
+     */
+    public int getVersion() {
+        return version.get();
     }
 
     public boolean canBeFetched()
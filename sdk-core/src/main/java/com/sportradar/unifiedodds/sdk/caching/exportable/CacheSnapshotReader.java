@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.caching.exportable;
+
+import com.google.common.base.Preconditions;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Reads the {@link ExportableCI} items of a cache snapshot file written by the {@link CacheSnapshotWriter}.
+ *
+ * The file is read and the items are deserialized one block at a time, so the whole snapshot is never held in memory.
+ * The file is not memory-mapped, since a mapped file stays locked on Windows until the mapping is garbage collected.
+ */
+public class CacheSnapshotReader implements Closeable {
+    private final FileChannel channel;
+    private ByteBuffer buffer = ByteBuffer.allocate(1024);
+    private final Inflater inflater = new Inflater();
+    private final String sdkVersion;
+    private final Date created;
+
+    /**
+     * Opens the provided snapshot file and reads its header
+     *
+     * @param file the path of the snapshot file
+     * @throws IOException if the file could not be opened or it is not a snapshot file of a supported format
+     */
+    public CacheSnapshotReader(Path file) throws IOException {
+        Preconditions.checkNotNull(file);
+
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            if (channel.size() < 8 || read(4).getInt() != CacheSnapshotWriter.MAGIC) {
+                throw new IOException("File " + file + " is not a cache snapshot");
+            }
+            int formatVersion = read(4).getInt();
+            if (formatVersion != CacheSnapshotWriter.FORMAT_VERSION) {
+                throw new IOException("Cache snapshot format version " + formatVersion + " is not supported");
+            }
+            int versionLength = read(2).getShort() & 0xFFFF;
+            ByteBuffer header = read(versionLength + 8);
+            byte[] version = new byte[versionLength];
+            header.get(version);
+            sdkVersion = new String(version, StandardCharsets.UTF_8);
+            created = new Date(header.getLong());
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e instanceof IOException ? (IOException) e : new IOException("Cache snapshot " + file + " is corrupted", e);
+        }
+    }
+
+    /**
+     * Returns the version of the SDK which created the snapshot
+     *
+     * @return the version of the SDK which created the snapshot
+     */
+    public String getSdkVersion() {
+        return sdkVersion;
+    }
+
+    /**
+     * Returns the time at which the snapshot was created
+     *
+     * @return the time at which the snapshot was created
+     */
+    public Date getCreated() {
+        return created;
+    }
+
+    /**
+     * Reads the items of the next block
+     *
+     * @return the items of the next block, or <code>null</code> if all the blocks were read
+     * @throws IOException if the block could not be read
+     */
+    public List<ExportableCI> readBlock() throws IOException {
+        int length = read(4).getInt();
+        if (length == 0) {
+            return null;
+        }
+        if (length < 0 || length > channel.size() - channel.position()) {
+            throw new IOException("Cache snapshot is corrupted, invalid block length: " + length);
+        }
+
+        ByteBuffer block = read(length);
+
+        inflater.reset();
+        List<ExportableCI> items = new ArrayList<>(CacheSnapshotWriter.BLOCK_SIZE);
+        try (ObjectInputStream input = new ExportableObjectInputStream(new InflaterInputStream(new ByteBufferInputStream(block), inflater))) {
+            Object item;
+            while ((item = input.readObject()) != null) {
+                items.add((ExportableCI) item);
+            }
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Cache snapshot contains an unsupported item", e);
+        }
+        return items;
+    }
+
+    /**
+     * Reads the provided number of bytes from the current position of the file into the reused heap buffer
+     *
+     * @param length the number of bytes to read
+     * @return the buffer holding the read bytes, valid until the next read
+     * @throws IOException if the bytes could not be read or the file ends before them
+     */
+    private ByteBuffer read(int length) throws IOException {
+        if (buffer.capacity() < length) {
+            buffer = ByteBuffer.allocate(Math.max(length, buffer.capacity() * 2));
+        }
+        buffer.clear();
+        buffer.limit(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Cache snapshot ended unexpectedly");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    @Override
+    public void close() throws IOException {
+        inflater.end();
+        channel.close();
+    }
+
+    /**
+     * An {@link InputStream} reading the remaining bytes of a {@link ByteBuffer}
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int read = Math.min(len, buffer.remaining());
+            buffer.get(b, off, read);
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.caching.exportable;
+
+import com.google.common.base.Preconditions;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Writes {@link ExportableCI} items to a cache snapshot file.
+ *
+ * The file starts with a header (magic number, format version, SDK version and creation time), followed by
+ * blocks of up to {@link #BLOCK_SIZE} items and an empty block marking the end. Each block is the deflated Java
+ * serialization of its items (terminated by a <code>null</code>), prefixed by the compressed length. The snapshot is
+ * written to a temporary file which replaces the target file on {@link #commit()}, so a failed write never leaves
+ * a partial snapshot behind.
+ */
+public class CacheSnapshotWriter implements Closeable {
+    /**
+     * The first bytes of each snapshot file ("UFCS")
+     */
+    static final int MAGIC = 0x55464353;
+
+    /**
+     * The version of the snapshot file format
+     */
+    static final int FORMAT_VERSION = 1;
+
+    /**
+     * The max number of items in a block
+     */
+    static final int BLOCK_SIZE = 1000;
+
+    private final Path file;
+    private final Path tempFile;
+    private final DataOutputStream output;
+    private final ByteArrayOutputStream block = new ByteArrayOutputStream(64 * 1024);
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    private ObjectOutputStream blockWriter;
+    private int blockItems;
+    private long writtenItems;
+    private boolean committed;
+
+    /**
+     * Initializes a new {@link CacheSnapshotWriter} and writes the snapshot header
+     *
+     * @param file the path of the snapshot file
+     * @param sdkVersion the version of the SDK which creates the snapshot
+     * @throws IOException if the temporary snapshot file could not be created
+     */
+    public CacheSnapshotWriter(Path file, String sdkVersion) throws IOException {
+        Preconditions.checkNotNull(file);
+        Preconditions.checkNotNull(sdkVersion);
+
+        this.file = file.toAbsolutePath();
+        this.tempFile = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+        this.output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile), 64 * 1024));
+
+        output.writeInt(MAGIC);
+        output.writeInt(FORMAT_VERSION);
+        output.writeUTF(sdkVersion);
+        output.writeLong(System.currentTimeMillis());
+    }
+
+    /**
+     * Appends the provided item to the snapshot
+     *
+     * @param item the {@link ExportableCI} to append
+     * @throws IOException if the item could not be written
+     */
+    public void write(ExportableCI item) throws IOException {
+        Preconditions.checkNotNull(item);
+        Preconditions.checkState(!committed, "The snapshot was already committed");
+
+        if (blockWriter == null) {
+            blockWriter = new ObjectOutputStream(new DeflaterOutputStream(block, deflater));
+        }
+        blockWriter.writeObject(item);
+        blockItems++;
+        writtenItems++;
+
+        if (blockItems == BLOCK_SIZE) {
+            flushBlock();
+        }
+    }
+
+    /**
+     * Completes the snapshot and replaces the target file with it
+     *
+     * @return the number of items in the snapshot
+     * @throws IOException if the snapshot could not be completed
+     */
+    public long commit() throws IOException {
+        Preconditions.checkState(!committed, "The snapshot was already committed");
+
+        flushBlock();
+        output.writeInt(0);
+        output.close();
+        try {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        committed = true;
+        return writtenItems;
+    }
+
+    /**
+     * Releases the resources of the writer, the temporary file of a snapshot which was not committed is deleted
+     *
+     * @throws IOException if the temporary file could not be deleted
+     */
+    @Override
+    public void close() throws IOException {
+        deflater.end();
+        if (!committed) {
+            output.close();
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private void flushBlock() throws IOException {
+        if (blockWriter == null) {
+            return;
+        }
+
+        // a null item marks the end of the block
+        blockWriter.writeObject(null);
+        blockWriter.close();
+        output.writeInt(block.size());
+        block.writeTo(output);
+
+        block.reset();
+        deflater.reset();
+        blockWriter = null;
+        blockItems = 0;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.caching.exportable;
+
+import com.google.common.collect.ImmutableSet;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An {@link ObjectInputStream} which deserializes only the {@link ExportableCI} items and the values they contain
+ * (strings, boxed primitives, dates, locales, the SDK enums and the <code>java.util</code> collections), any other
+ * class in the stream is rejected with an {@link InvalidClassException}, so a tampered cache snapshot can not be used
+ * to instantiate arbitrary serializable classes
+ */
+public class ExportableObjectInputStream extends ObjectInputStream {
+    private static final String EXPORTABLE_PREFIX = ExportableCI.class.getPackage().getName() + ".Exportable";
+
+    private static final String SDK_ENTITIES_PACKAGE = "com.sportradar.unifiedodds.sdk.entities";
+
+    private static final Set<String> ALLOWED_CLASSES = ImmutableSet.of(
+            "java.lang.String",
+            "java.lang.Boolean",
+            "java.lang.Byte",
+            "java.lang.Character",
+            "java.lang.Short",
+            "java.lang.Integer",
+            "java.lang.Long",
+            "java.lang.Float",
+            "java.lang.Double",
+            "java.lang.Number",
+            "java.lang.Enum",
+            "java.lang.Object",
+            "java.util.Date",
+            "java.util.Locale",
+            // the serialized form of the ConcurrentHashMap
+            "java.util.concurrent.ConcurrentHashMap$Segment",
+            "java.util.concurrent.locks.ReentrantLock",
+            "java.util.concurrent.locks.ReentrantLock$Sync",
+            "java.util.concurrent.locks.ReentrantLock$NonfairSync",
+            "java.util.concurrent.locks.AbstractQueuedSynchronizer",
+            "java.util.concurrent.locks.AbstractOwnableSynchronizer");
+
+    /**
+     * Initializes a new {@link ExportableObjectInputStream} reading from the provided stream
+     *
+     * @param input the stream from which the items are read
+     * @throws IOException if the stream header could not be read
+     */
+    public ExportableObjectInputStream(InputStream input) throws IOException {
+        super(input);
+    }
+
+    @Override
+    protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+        Class<?> type = Class.forName(desc.getName(), false, ExportableObjectInputStream.class.getClassLoader());
+
+        Class<?> componentType = type;
+        while (componentType.isArray()) {
+            componentType = componentType.getComponentType();
+        }
+        if (!componentType.isPrimitive() && !isAllowed(componentType)) {
+            throw new InvalidClassException(desc.getName(), "class is not allowed in the exported cache items");
+        }
+        return type;
+    }
+
+    private static boolean isAllowed(Class<?> type) {
+        String name = type.getName();
+        if (ALLOWED_CLASSES.contains(name) || name.startsWith(EXPORTABLE_PREFIX)) {
+            return true;
+        }
+        if (type.isEnum() && name.startsWith(SDK_ENTITIES_PACKAGE + ".")) {
+            return true;
+        }
+
+        String packageName = type.getPackage() == null ? "" : type.getPackage().getName();
+        return (packageName.equals("java.util") || packageName.equals("java.util.concurrent"))
+                && (Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type));
+    }
+}
@@ -29,6 +29,7 @@ import com.sportradar.unifiedodds.sdk.extended.OddsFeedExtListener;
 import com.sportradar.unifiedodds.sdk.impl.DataProvider;
 import com.sportradar.unifiedodds.sdk.impl.SDKProducerManager;
 import com.sportradar.unifiedodds.sdk.impl.SDKTaskScheduler;
+import com.sportradar.unifiedodds.sdk.impl.UnifiedOddsStatistics;
 import com.sportradar.unifiedodds.sdk.impl.custombetentities.AvailableSelectionsImpl;
 import com.sportradar.unifiedodds.sdk.impl.custombetentities.CalculationFilterImpl;
 import com.sportradar.unifiedodds.sdk.impl.custombetentities.CalculationImpl;
@@ -50,8 +51,15 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 /**
@@ -99,6 +107,11 @@ public class DataRouterManagerImpl implements DataRouterManager {
      */
     private final List<Date> fetchedScheduleDates;
 
+    /**
+     * The {@link Object} used to synchronize the schedule prefetch of the timer and the warm-up
+     */
+    private final Object schedulePrefetchLock = new Object();
+
     /**
      * The associated data router
      */
@@ -229,6 +242,26 @@ public class DataRouterManagerImpl implements DataRouterManager {
      */
     private final DataProvider<SAPIStagePeriodEndpoint> periodSummaryDataProvider;
 
+    /**
+     * The {@link ExecutorService} on which the requests of multi-locale fetches are executed concurrently
+     */
+    private final ExecutorService apiFetchExecutor;
+
+    /**
+     * The max number of concurrently executed requests of a multi-locale fetch, 1 if the locales are fetched sequentially
+     */
+    private final int apiFetchParallelism;
+
+    /**
+     * The requests which are currently being executed, mapped by the endpoint, identifier and locale
+     */
+    private final ConcurrentMap<String, InFlightRequest> inFlightRequests = new ConcurrentHashMap<>();
+
+    /**
+     * The {@link UnifiedOddsStatistics} used to count the coalesced requests
+     */
+    private final UnifiedOddsStatistics statistics;
+
     /**
      * The extended odds feed listener
      */
@@ -269,7 +302,9 @@ public class DataRouterManagerImpl implements DataRouterManager {
                           DataProvider<SAPIResultChangesEndpoint> resultChangesDataProvider,
                           @Named("ListSportEventsDataProvider") DataProvider<SAPIScheduleEndpoint> listSportEventsProvider,
                           DataProvider<SAPISportTournamentsEndpoint> availableSportTournamentsProvider,
-                          DataProvider<SAPIStagePeriodEndpoint> periodSummaryDataProvider) {
+                          DataProvider<SAPIStagePeriodEndpoint> periodSummaryDataProvider,
+                          @Named("DedicatedApiFetchExecutor") ExecutorService apiFetchExecutor,
+                          UnifiedOddsStatistics statistics) {
         Preconditions.checkNotNull(configuration);
         Preconditions.checkNotNull(producerManager);
         Preconditions.checkNotNull(scheduler);
@@ -299,6 +334,8 @@ public class DataRouterManagerImpl implements DataRouterManager {
         Preconditions.checkNotNull(listSportEventsProvider);
         Preconditions.checkNotNull(availableSportTournamentsProvider);
         Preconditions.checkNotNull(periodSummaryDataProvider);
+        Preconditions.checkNotNull(apiFetchExecutor);
+        Preconditions.checkNotNull(statistics);
 
         this.prefetchLocales = configuration.getDesiredLocales();
         this.isWnsActive = producerManager.getActiveProducers().values().stream().anyMatch(p -> p.getId() == 7 && p.isEnabled());
@@ -329,6 +366,9 @@ public class DataRouterManagerImpl implements DataRouterManager {
         this.listSportEventsProvider = listSportEventsProvider;
         this.availableSportTournamentsProvider = availableSportTournamentsProvider;
         this.periodSummaryDataProvider = periodSummaryDataProvider;
+        this.apiFetchExecutor = apiFetchExecutor;
+        this.apiFetchParallelism = configuration.getApiFetchParallelism();
+        this.statistics = statistics;
 
         this.tournamentListDataFetched = Collections.synchronizedList(new ArrayList<>(prefetchLocales.size()));
         this.sportsListDataFetched = Collections.synchronizedList(new ArrayList<>(prefetchLocales.size()));
@@ -354,13 +394,30 @@ public class DataRouterManagerImpl implements DataRouterManager {
         Preconditions.checkNotNull(locale);
         Preconditions.checkNotNull(id);
 
-        Object endpoint;
-        try {
-            endpoint = summaryEndpointProvider.getData(locale, id.toString());
-        } catch (DataProviderException e) {
-            throw new CommunicationException(String.format("Error executing summary request for id=%s, locale=%s", id, locale), e);
+        executeCoalesced(requestKey("summary", id, locale), requester, () -> {
+            try {
+                return summaryEndpointProvider.getData(locale, id.toString());
+            } catch (DataProviderException e) {
+                throw new CommunicationException(String.format("Error executing summary request for id=%s, locale=%s", id, locale), e);
+            }
+        }, (endpoint, item) -> dispatchSummary(locale, id, endpoint, item));
+    }
+
+    @Override
+    public void requestSummaryEndpoint(List<Locale> locales, URN id, CacheItem requester) throws CommunicationException {
+        Preconditions.checkNotNull(locales);
+        Preconditions.checkNotNull(id);
+
+        if (!isParallelFetch(locales)) {
+            DataRouterManager.super.requestSummaryEndpoint(locales, id, requester);
+            return;
         }
 
+        fetchConcurrently(locales, id, summaryEndpointProvider, "summary", requester,
+                (locale, endpoint, item) -> dispatchSummary(locale, id, endpoint, item));
+    }
+
+    private void dispatchSummary(Locale locale, URN id, Object endpoint, CacheItem requester) {
         dispatchReceivedRawApiData(summaryEndpointProvider.getFinalUrl(locale, id.toString()), endpoint);
 
         dataRouter.onSummaryFetched(id, endpoint, locale, requester);
@@ -371,28 +428,43 @@ public class DataRouterManagerImpl implements DataRouterManager {
         Preconditions.checkNotNull(locale);
         Preconditions.checkNotNull(id);
 
-        SAPIFixturesEndpoint endpoint;
-        try {
-            DataProvider<SAPIFixturesEndpoint> provider = useCachedProvider ? fixtureProvider : fixtureChangeFixtureProvider;
-            endpoint = provider.getData(locale, id.toString());
-        } catch (DataProviderException e) {
-            if(!useCachedProvider && e.getCause() != null && SdkHelper.checkCauseReason(e.getCause(), "InternalServerError")){
-                try {
-                    endpoint = fixtureProvider.getData(locale, id.toString());
+        DataProvider<SAPIFixturesEndpoint> provider = useCachedProvider ? fixtureProvider : fixtureChangeFixtureProvider;
+        executeCoalesced(requestKey(useCachedProvider ? "fixture" : "fixture change fixture", id, locale), requester, () -> {
+            try {
+                return provider.getData(locale, id.toString());
+            } catch (DataProviderException e) {
+                if(!useCachedProvider && e.getCause() != null && SdkHelper.checkCauseReason(e.getCause(), "InternalServerError")){
+                    try {
+                        return fixtureProvider.getData(locale, id.toString());
+                    }
+                    catch (DataProviderException e1){
+                        throw new CommunicationException(String.format("Error executing cached fixture request for id=%s, locale=%s", id, locale), e);
+                    }
                 }
-                catch (DataProviderException e1){
-                    throw new CommunicationException(String.format("Error executing cached fixture request for id=%s, locale=%s", id, locale), e);
+                else{
+                    throw new CommunicationException(String.format("Error executing fixture request for id=%s, locale=%s", id, locale), e);
                 }
             }
-            else{
-                throw new CommunicationException(String.format("Error executing fixture request for id=%s, locale=%s", id, locale), e);
-            }
+        }, (endpoint, item) -> dispatchFixture(locale, id, provider, endpoint, item));
+    }
+
+    @Override
+    public void requestFixtureEndpoint(List<Locale> locales, URN id, boolean useCachedProvider, CacheItem requester) throws CommunicationException {
+        Preconditions.checkNotNull(locales);
+        Preconditions.checkNotNull(id);
+
+        // the non-cached fixture requests fall back to the cached provider on failures, so they are executed one by one
+        if (!useCachedProvider || !isParallelFetch(locales)) {
+            DataRouterManager.super.requestFixtureEndpoint(locales, id, useCachedProvider, requester);
+            return;
         }
 
-        String finalUrl = useCachedProvider
-                ? fixtureProvider.getFinalUrl(locale, id.toString())
-                : fixtureChangeFixtureProvider.getFinalUrl(locale, id.toString());
-        dispatchReceivedRawApiData(finalUrl, endpoint);
+        fetchConcurrently(locales, id, fixtureProvider, "fixture", requester,
+                (locale, endpoint, item) -> dispatchFixture(locale, id, fixtureProvider, endpoint, item));
+    }
+
+    private void dispatchFixture(Locale locale, URN id, DataProvider<SAPIFixturesEndpoint> provider, SAPIFixturesEndpoint endpoint, CacheItem requester) {
+        dispatchReceivedRawApiData(provider.getFinalUrl(locale, id.toString()), endpoint);
 
         SAPIFixture fixture = endpoint.getFixture();
         URN fixtureId = URN.parse(fixture.getId());
@@ -626,13 +698,44 @@ public class DataRouterManagerImpl implements DataRouterManager {
         Preconditions.checkNotNull(locale);
         Preconditions.checkNotNull(id);
 
-        SAPIPlayerProfileEndpoint endpoint;
-        try {
-            endpoint = playerProvider.getData(locale, id.toString());
-        } catch (DataProviderException e) {
-            throw new CommunicationException(String.format("Error executing player profile request for id=%s, locale=%s", id, locale), e);
+        executeCoalesced(requestKey("player profile", id, locale), requester, () -> {
+            try {
+                return playerProvider.getData(locale, id.toString());
+            } catch (DataProviderException e) {
+                throw new CommunicationException(String.format("Error executing player profile request for id=%s, locale=%s", id, locale), e);
+            }
+        }, (endpoint, item) -> dispatchPlayerProfile(locale, id, endpoint, item));
+    }
+
+    @Override
+    public void requestPlayerProfileEndpoint(List<Locale> locales, URN id, CacheItem requester) throws CommunicationException {
+        Preconditions.checkNotNull(locales);
+        Preconditions.checkNotNull(id);
+
+        if (!isParallelFetch(locales)) {
+            DataRouterManager.super.requestPlayerProfileEndpoint(locales, id, requester);
+            return;
+        }
+
+        fetchConcurrently(locales, id, playerProvider, "player profile", requester,
+                (locale, endpoint, item) -> dispatchPlayerProfile(locale, id, endpoint, item));
+    }
+
+    @Override
+    public void requestPlayerProfileEndpoints(List<Locale> locales, List<URN> ids) throws CommunicationException {
+        Preconditions.checkNotNull(locales);
+        Preconditions.checkNotNull(ids);
+
+        if (!isParallelFetch(locales, ids)) {
+            DataRouterManager.super.requestPlayerProfileEndpoints(locales, ids);
+            return;
         }
 
+        fetchConcurrently(ids, locales, playerProvider, "player profile", null,
+                (id, locale, endpoint, item) -> dispatchPlayerProfile(locale, id, endpoint, item));
+    }
+
+    private void dispatchPlayerProfile(Locale locale, URN id, SAPIPlayerProfileEndpoint endpoint, CacheItem requester) {
         dispatchReceivedRawApiData(playerProvider.getFinalUrl(locale, id.toString()), endpoint);
 
         SAPIPlayerExtended player = endpoint.getPlayer();
@@ -645,13 +748,44 @@ public class DataRouterManagerImpl implements DataRouterManager {
         Preconditions.checkNotNull(locale);
         Preconditions.checkNotNull(id);
 
-        SAPICompetitorProfileEndpoint endpoint;
-        try {
-            endpoint = competitorProvider.getData(locale, id.toString());
-        } catch (DataProviderException e) {
-            throw new CommunicationException(String.format("Error executing competitor profile request for id=%s, locale=%s", id, locale), e);
+        executeCoalesced(requestKey("competitor profile", id, locale), requester, () -> {
+            try {
+                return competitorProvider.getData(locale, id.toString());
+            } catch (DataProviderException e) {
+                throw new CommunicationException(String.format("Error executing competitor profile request for id=%s, locale=%s", id, locale), e);
+            }
+        }, (endpoint, item) -> dispatchCompetitorProfile(locale, id, endpoint, item));
+    }
+
+    @Override
+    public void requestCompetitorEndpoint(List<Locale> locales, URN id, CacheItem requester) throws CommunicationException {
+        Preconditions.checkNotNull(locales);
+        Preconditions.checkNotNull(id);
+
+        if (!isParallelFetch(locales)) {
+            DataRouterManager.super.requestCompetitorEndpoint(locales, id, requester);
+            return;
         }
 
+        fetchConcurrently(locales, id, competitorProvider, "competitor profile", requester,
+                (locale, endpoint, item) -> dispatchCompetitorProfile(locale, id, endpoint, item));
+    }
+
+    @Override
+    public void requestCompetitorEndpoints(List<Locale> locales, List<URN> ids) throws CommunicationException {
+        Preconditions.checkNotNull(locales);
+        Preconditions.checkNotNull(ids);
+
+        if (!isParallelFetch(locales, ids)) {
+            DataRouterManager.super.requestCompetitorEndpoints(locales, ids);
+            return;
+        }
+
+        fetchConcurrently(ids, locales, competitorProvider, "competitor profile", null,
+                (id, locale, endpoint, item) -> dispatchCompetitorProfile(locale, id, endpoint, item));
+    }
+
+    private void dispatchCompetitorProfile(Locale locale, URN id, SAPICompetitorProfileEndpoint endpoint, CacheItem requester) {
         dispatchReceivedRawApiData(competitorProvider.getFinalUrl(locale, id.toString()), endpoint);
 
         SAPITeamExtended competitor = endpoint.getCompetitor();
@@ -664,13 +798,44 @@ public class DataRouterManagerImpl implements DataRouterManager {
         Preconditions.checkNotNull(locale);
         Preconditions.checkNotNull(id);
 
-        SAPISimpleTeamProfileEndpoint endpoint;
-        try {
-            endpoint = simpleTeamProvider.getData(locale, id.toString());
-        } catch (DataProviderException e) {
-            throw new CommunicationException(String.format("Error executing simpleteam profile request for id=%s, locale=%s", id, locale), e);
+        executeCoalesced(requestKey("simpleteam profile", id, locale), requester, () -> {
+            try {
+                return simpleTeamProvider.getData(locale, id.toString());
+            } catch (DataProviderException e) {
+                throw new CommunicationException(String.format("Error executing simpleteam profile request for id=%s, locale=%s", id, locale), e);
+            }
+        }, (endpoint, item) -> dispatchSimpleTeamProfile(locale, id, endpoint, item));
+    }
+
+    @Override
+    public void requestSimpleTeamEndpoint(List<Locale> locales, URN id, CacheItem requester) throws CommunicationException {
+        Preconditions.checkNotNull(locales);
+        Preconditions.checkNotNull(id);
+
+        if (!isParallelFetch(locales)) {
+            DataRouterManager.super.requestSimpleTeamEndpoint(locales, id, requester);
+            return;
         }
 
+        fetchConcurrently(locales, id, simpleTeamProvider, "simpleteam profile", requester,
+                (locale, endpoint, item) -> dispatchSimpleTeamProfile(locale, id, endpoint, item));
+    }
+
+    @Override
+    public void requestSimpleTeamEndpoints(List<Locale> locales, List<URN> ids) throws CommunicationException {
+        Preconditions.checkNotNull(locales);
+        Preconditions.checkNotNull(ids);
+
+        if (!isParallelFetch(locales, ids)) {
+            DataRouterManager.super.requestSimpleTeamEndpoints(locales, ids);
+            return;
+        }
+
+        fetchConcurrently(ids, locales, simpleTeamProvider, "simpleteam profile", null,
+                (id, locale, endpoint, item) -> dispatchSimpleTeamProfile(locale, id, endpoint, item));
+    }
+
+    private void dispatchSimpleTeamProfile(Locale locale, URN id, SAPISimpleTeamProfileEndpoint endpoint, CacheItem requester) {
         dispatchReceivedRawApiData(simpleTeamProvider.getFinalUrl(locale, id.toString()), endpoint);
 
         SAPITeam competitor = endpoint.getCompetitor();
@@ -961,6 +1126,19 @@ public class DataRouterManagerImpl implements DataRouterManager {
         return sportEvents.stream().map(se -> URN.parse(se.getId())).collect(Collectors.toList());
     }
 
+    @Override
+    public void requestAllSportsData(Locale locale) throws CommunicationException {
+        Preconditions.checkNotNull(locale);
+
+        requestAllTournamentsForAllSportsEndpoint(locale);
+        requestAllSportsEndpoint(locale);
+        try {
+            requestAllLotteriesEndpoint(locale, false);
+        } catch (CommunicationException e) {
+            logger.warn("DataRouterImpl->Lotteries endpoint request failed while refreshing tournaments/sports data", e);
+        }
+    }
+
     /**
      * Triggers a refresh of the data from the representing tournament endpoints
      */
@@ -986,36 +1164,45 @@ public class DataRouterManagerImpl implements DataRouterManager {
      * Triggers a schedule prefetch for configured days in advance
      */
     private void onDateScheduleTimerElapsed() {
-        List<Date> datesToFetch = new ArrayList<>(SCHEDULE_DAYS_PREFETCH);
-
-        Calendar cal = Calendar.getInstance();
-        cal.set(Calendar.HOUR, 0);
-        cal.set(Calendar.MINUTE, 0);
-        cal.set(Calendar.SECOND, 0);
-        cal.set(Calendar.MILLISECOND, 0);
-        for (int day = 0; day <= SCHEDULE_DAYS_PREFETCH; day++) {
-            Date prefetchDate = cal.getTime();
-            if (fetchedScheduleDates.contains(prefetchDate)) {
-                continue;
-            }
-
-            datesToFetch.add(prefetchDate);
-            cal.add(Calendar.DAY_OF_MONTH, 1);
-        }
+        requestPrefetchSchedules();
+    }
 
-        logger.info("Performing event schedule task for dates: {}", datesToFetch);
-        try {
-            prefetchLocales.forEach(loc -> datesToFetch.forEach(date -> {
-                try {
-                    requestEventsFor(loc, date);
-                } catch (CommunicationException e) {
-                    throw new DataRouterStreamException(e.getMessage(), e);
+    @Override
+    public boolean requestPrefetchSchedules() {
+        synchronized (schedulePrefetchLock) {
+            List<Date> datesToFetch = new ArrayList<>(SCHEDULE_DAYS_PREFETCH);
+
+            Calendar cal = Calendar.getInstance();
+            cal.set(Calendar.HOUR, 0);
+            cal.set(Calendar.MINUTE, 0);
+            cal.set(Calendar.SECOND, 0);
+            cal.set(Calendar.MILLISECOND, 0);
+            for (int day = 0; day <= SCHEDULE_DAYS_PREFETCH; day++) {
+                Date prefetchDate = cal.getTime();
+                if (fetchedScheduleDates.contains(prefetchDate)) {
+                    continue;
                 }
-            }));
-            fetchedScheduleDates.addAll(datesToFetch);
-        } catch (Exception e) { // so the timer does not die
-            logger.warn("onDateScheduleTimerElapsed: There was a problem providing schedule for {} dates", datesToFetch, e);
+
+                datesToFetch.add(prefetchDate);
+                cal.add(Calendar.DAY_OF_MONTH, 1);
+            }
+
+            logger.info("Performing event schedule task for dates: {}", datesToFetch);
+            try {
+                prefetchLocales.forEach(loc -> datesToFetch.forEach(date -> {
+                    try {
+                        requestEventsFor(loc, date);
+                    } catch (CommunicationException e) {
+                        throw new DataRouterStreamException(e.getMessage(), e);
+                    }
+                }));
+                fetchedScheduleDates.addAll(datesToFetch);
+            } catch (Exception e) { // so the timer does not die
+                logger.warn("requestPrefetchSchedules: There was a problem providing schedule for {} dates", datesToFetch, e);
+                return false;
+            }
         }
+        return true;
     }
 
     /**
@@ -1039,22 +1226,174 @@ public class DataRouterManagerImpl implements DataRouterManager {
         try {
             prefetchLocales.forEach(l -> {
                 try {
-                    requestAllTournamentsForAllSportsEndpoint(l);
-                    requestAllSportsEndpoint(l);
+                    requestAllSportsData(l);
                 } catch (CommunicationException e) {
                     throw new DataRouterStreamException(e.getMessage(), e);
                 }
-                try {
-                    requestAllLotteriesEndpoint(l, false);
-                } catch (CommunicationException e) {
-                    logger.warn("DataRouterImpl->Lotteries endpoint request failed while refreshing tournaments/sports data", e);
-                }
             });
         } catch (DataRouterStreamException e) {
             throw new CommunicationException("Error occurred while executing request to refresh all tournaments", e);
         }
     }
 
+    /**
+     * Executes the provided request, unless the same request is already being executed by another thread, in which
+     * case the caller waits for the in-flight request and shares its result. The received data is dispatched once
+     * (with the requester of the executing thread) and again only for a waiting caller with a different requester,
+     * which may not be the cached item the data was dispatched to.
+     *
+     * @param requestKey the key identifying the request (endpoint, identifier and locale)
+     * @param requester the {@link CacheItem} which requested the data
+     * @param request the request fetching the data
+     * @param dispatcher the consumer dispatching the received data
+     * @throws CommunicationException if the request failed
+     */
+    private <T> void executeCoalesced(String requestKey, CacheItem requester, EndpointRequest<T> request, BiConsumer<T, CacheItem> dispatcher) throws CommunicationException {
+        InFlightRequest inFlightRequest = new InFlightRequest(requester);
+        InFlightRequest existing = inFlightRequests.putIfAbsent(requestKey, inFlightRequest);
+
+        if (existing == null) {
+            try {
+                T endpoint = request.execute();
+                dispatcher.accept(endpoint, requester);
+                inFlightRequest.result.complete(endpoint);
+            } catch (CommunicationException | RuntimeException e) {
+                inFlightRequest.result.completeExceptionally(e);
+                throw e;
+            } finally {
+                completeInFlightRequest(requestKey, inFlightRequest);
+            }
+        } else if (existing.leader == Thread.currentThread()) {
+            // the request was issued while dispatching the result of the same request
+            dispatcher.accept(request.execute(), requester);
+        } else {
+            T endpoint = awaitInFlightRequest(requestKey, existing);
+            if (requester != null && requester != existing.requester) {
+                dispatcher.accept(endpoint, requester);
+            }
+        }
+    }
+
+    private boolean isParallelFetch(List<Locale> locales) {
+        return apiFetchParallelism > 1 && locales.size() > 1;
+    }
+
+    private boolean isParallelFetch(List<Locale> locales, List<URN> ids) {
+        return apiFetchParallelism > 1 && locales.size() * ids.size() > 1;
+    }
+
+    /**
+     * Executes the requests of all the provided locales concurrently, see
+     * {@link #fetchConcurrently(List, List, DataProvider, String, CacheItem, ItemDispatcher)}
+     */
+    private <T> void fetchConcurrently(List<Locale> locales, URN id, DataProvider<T> provider, String requestName, CacheItem requester, LocaleDispatcher<T> dispatcher) throws CommunicationException {
+        fetchConcurrently(Collections.singletonList(id), locales, provider, requestName, requester,
+                (itemId, locale, endpoint, item) -> dispatcher.dispatch(locale, endpoint, item));
+    }
+
+    /**
+     * Executes the requests of all the provided items and locales concurrently and dispatches the received data on
+     * the calling thread, once all the requests are completed. The data is dispatched on the calling thread since the
+     * dispatch merges the data into the cache items, which may be locked by the caller. The requests which are already
+     * being executed by other threads are not repeated, the caller waits for them after it completed its own requests.
+     *
+     * @param ids the identifiers of the requested items
+     * @param locales the locales in which the data is requested
+     * @param provider the {@link DataProvider} used to request the data
+     * @param requestName the name of the request used in the request keys and the exception messages
+     * @param requester the {@link CacheItem} which requested the data
+     * @param dispatcher the consumer dispatching the data received for an item in a locale
+     * @throws CommunicationException the failure of the first failed request, after the received data was dispatched
+     */
+    private <T> void fetchConcurrently(List<URN> ids, List<Locale> locales, DataProvider<T> provider, String requestName, CacheItem requester, ItemDispatcher<T> dispatcher) throws CommunicationException {
+        List<PendingRequest<T>> ownRequests = new ArrayList<>();
+        List<PendingRequest<T>> joinedRequests = new ArrayList<>();
+        for (URN id : new LinkedHashSet<>(ids)) {
+            for (Locale locale : new LinkedHashSet<>(locales)) {
+                InFlightRequest inFlightRequest = new InFlightRequest(requester);
+                InFlightRequest existing = inFlightRequests.putIfAbsent(requestKey(requestName, id, locale), inFlightRequest);
+                if (existing == null || existing.leader == Thread.currentThread()) {
+                    ownRequests.add(new PendingRequest<>(id, locale, existing == null ? inFlightRequest : null,
+                            provider.getDataAsync(apiFetchExecutor, locale, id.toString())));
+                } else {
+                    joinedRequests.add(new PendingRequest<>(id, locale, existing, null));
+                }
+            }
+        }
+
+        CommunicationException failure = null;
+        try {
+            // the own requests are completed first, so the threads waiting for them never wait for this thread
+            for (PendingRequest<T> ownRequest : ownRequests) {
+                try {
+                    T endpoint = ownRequest.result.join();
+                    dispatcher.dispatch(ownRequest.id, ownRequest.locale, endpoint, requester);
+                    if (ownRequest.inFlightRequest != null) {
+                        ownRequest.inFlightRequest.result.complete(endpoint);
+                    }
+                } catch (CompletionException e) {
+                    CommunicationException requestFailure = new CommunicationException(String.format("Error executing %s request for id=%s, locale=%s", requestName, ownRequest.id, ownRequest.locale), e.getCause());
+                    if (ownRequest.inFlightRequest != null) {
+                        ownRequest.inFlightRequest.result.completeExceptionally(requestFailure);
+                    }
+                    if (failure == null) {
+                        failure = requestFailure;
+                    }
+                }
+            }
+        } finally {
+            ownRequests.forEach(ownRequest -> {
+                if (ownRequest.inFlightRequest != null) {
+                    completeInFlightRequest(requestKey(requestName, ownRequest.id, ownRequest.locale), ownRequest.inFlightRequest);
+                }
+            });
+        }
+
+        for (PendingRequest<T> joinedRequest : joinedRequests) {
+            try {
+                T endpoint = awaitInFlightRequest(requestKey(requestName, joinedRequest.id, joinedRequest.locale), joinedRequest.inFlightRequest);
+                if (requester != null && requester != joinedRequest.inFlightRequest.requester) {
+                    dispatcher.dispatch(joinedRequest.id, joinedRequest.locale, endpoint, requester);
+                }
+            } catch (CommunicationException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T awaitInFlightRequest(String requestKey, InFlightRequest inFlightRequest) throws CommunicationException {
+        statistics.onApiRequestCoalesced();
+        logger.debug("Request {} is already being executed, waiting for its result", requestKey);
+
+        try {
+            return (T) inFlightRequest.result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommunicationException("Interrupted while waiting for the in-flight request " + requestKey, e);
+        } catch (ExecutionException e) {
+            throw new CommunicationException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private void completeInFlightRequest(String requestKey, InFlightRequest inFlightRequest) {
+        // a request which did not complete normally (ex. an Error was thrown) must not block the waiting threads
+        if (!inFlightRequest.result.isDone()) {
+            inFlightRequest.result.completeExceptionally(new CommunicationException("The in-flight request " + requestKey + " was aborted"));
+        }
+        inFlightRequests.remove(requestKey, inFlightRequest);
+    }
+
+    private static String requestKey(String requestName, URN id, Locale locale) {
+        return requestName + "|" + id + "|" + locale;
+    }
+
     private void dispatchReceivedRawApiData(String uri, Object restMessage) {
         if (oddsFeedExtListener == null) {
             return;
@@ -1084,4 +1423,58 @@ public class DataRouterManagerImpl implements DataRouterManager {
         }
         // continue normal processing
     }
+
+    /**
+     * A request fetching the data of an API endpoint
+     */
+    @FunctionalInterface
+    private interface EndpointRequest<T> {
+        T execute() throws CommunicationException;
+    }
+
+    /**
+     * Dispatches the data of an API endpoint received in the provided locale
+     */
+    @FunctionalInterface
+    private interface LocaleDispatcher<T> {
+        void dispatch(Locale locale, T endpoint, CacheItem requester);
+    }
+
+    /**
+     * Dispatches the data of an API endpoint received for the provided item in the provided locale
+     */
+    @FunctionalInterface
+    private interface ItemDispatcher<T> {
+        void dispatch(URN id, Locale locale, T endpoint, CacheItem requester);
+    }
+
+    /**
+     * A request of a concurrent fetch, either executed by the fetching thread or joined from another thread
+     */
+    private static final class PendingRequest<T> {
+        private final URN id;
+        private final Locale locale;
+        private final InFlightRequest inFlightRequest;
+        private final CompletableFuture<T> result;
+
+        private PendingRequest(URN id, Locale locale, InFlightRequest inFlightRequest, CompletableFuture<T> result) {
+            this.id = id;
+            this.locale = locale;
+            this.inFlightRequest = inFlightRequest;
+            this.result = result;
+        }
+    }
+
+    /**
+     * A request which is being executed, shared by all the threads issuing the same request in the meantime
+     */
+    private static final class InFlightRequest {
+        private final Thread leader = Thread.currentThread();
+        private final CacheItem requester;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        private InFlightRequest(CacheItem requester) {
+            this.requester = requester;
+        }
+    }
 }
@@ -128,6 +128,24 @@ public class LocalizedNamedValueCacheImpl implements LocalizedNamedValueCache {
         return exists;
     }
 
+    /**
+     * Loads the {@link LocalizedNamedValue}s in all the default locales which were not loaded yet
+     *
+     * @return <code>true</code> if the values are loaded in all the default locales; otherwise <code>false</code>
+     */
+    @Override
+    public boolean loadNamedValues() {
+        synchronized (lock) {
+            List<Locale> missingLocales = SdkHelper.findMissingLocales(fetchedLocales, defaultLocales);
+
+            if (!missingLocales.isEmpty()) {
+                getInternal(missingLocales);
+            }
+
+            return SdkHelper.findMissingLocales(fetchedLocales, defaultLocales).isEmpty();
+        }
+    }
+
     /**
      * Performs several calls of the {@link this#fetchAndMerge(Locale)}
      *
@@ -41,7 +41,7 @@ public class NamedValueCacheImpl implements NamedValueCache {
     /**
      * A value indicating whether the data was already fetched
      */
-    private boolean dataFetched = false;
+    private volatile boolean dataFetched = false;
 
     /**
      * Initializes a new instance of {@link NamedValueCacheImpl}
@@ -68,7 +68,7 @@ public class NamedValueCacheImpl implements NamedValueCache {
     @Override
     public NamedValue getNamedValue(int id) {
         if (!dataFetched) {
-            dataFetched = fetchAndMerge();
+            loadNamedValues();
         }
 
         String description = namedValues.get(id);
@@ -88,12 +88,26 @@ public class NamedValueCacheImpl implements NamedValueCache {
     @Override
     public boolean isValueDefined(int id) {
         if (!dataFetched) {
-            dataFetched = fetchAndMerge();
+            loadNamedValues();
         }
 
         return namedValues.containsKey(id);
     }
 
+    /**
+     * Loads the {@link NamedValue}s, if they were not loaded yet
+     *
+     * @return <code>true</code> if the values are loaded; otherwise <code>false</code>
+     */
+    @Override
+    public synchronized boolean loadNamedValues() {
+        if (!dataFetched) {
+            dataFetched = fetchAndMerge();
+        }
+
+        return dataFetched;
+    }
+
     /**
      * Fetches and merges {@link NamedValue} provided by the {@link this#dataProvider}
      *
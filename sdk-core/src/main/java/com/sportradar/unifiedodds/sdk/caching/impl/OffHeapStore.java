@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.caching.impl;
+
+import com.google.common.base.Preconditions;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.HashSet;
+
+/**
+ * A store keeping serialized entries in direct {@link ByteBuffer}s, outside of the Java heap.
+ *
+ * The memory is split into fixed size segments which are filled one after the other. Once all the segments are
+ * filled, the oldest segment is recycled and the entries still stored in it are evicted, so the store never
+ * exceeds its capacity and does not need to be compacted. The segments are allocated when first used.
+ *
+ * @param <K> the type of the entry keys
+ */
+public class OffHeapStore<K> {
+    /**
+     * The max size of a single segment
+     */
+    private static final int MAX_SEGMENT_SIZE = 16 * 1024 * 1024;
+
+    private final int segmentSize;
+    private final ByteBuffer[] segments;
+    private final List<List<K>> segmentKeys;
+    private final Map<K, Location> index = new HashMap<>();
+    private int currentSegment;
+    private int position;
+    private long evictionCount;
+
+    /**
+     * Initializes a new {@link OffHeapStore} instance
+     *
+     * @param capacity the max number of bytes held by the store
+     */
+    public OffHeapStore(long capacity) {
+        Preconditions.checkArgument(capacity > 0, "capacity must be positive");
+
+        this.segmentSize = (int) Math.min(capacity, MAX_SEGMENT_SIZE);
+        this.segments = new ByteBuffer[(int) Math.max(1, capacity / segmentSize)];
+        this.segmentKeys = new ArrayList<>(segments.length);
+        for (int i = 0; i < segments.length; i++) {
+            segmentKeys.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Stores the provided entry, replacing the previously stored entry with the same key
+     *
+     * @param key the key of the entry
+     * @param type the name of the type of the entry, kept on the heap so the entries can be counted by type
+     *             without reading them
+     * @param data the serialized entry
+     * @param writeTime the time at which the entry was originally written to the cache
+     * @return <code>true</code> if the entry was stored; <code>false</code> if it is larger than a segment
+     */
+    public synchronized boolean put(K key, String type, byte[] data, long writeTime) {
+        Preconditions.checkNotNull(key);
+        Preconditions.checkNotNull(type);
+        Preconditions.checkNotNull(data);
+
+        index.remove(key);
+        if (data.length > segmentSize) {
+            return false;
+        }
+
+        if (segments[currentSegment] == null || position + data.length > segmentSize) {
+            if (segments[currentSegment] != null) {
+                currentSegment = (currentSegment + 1) % segments.length;
+            }
+            recycleSegment(currentSegment);
+        }
+
+        ByteBuffer segment = segments[currentSegment];
+        segment.position(position);
+        segment.put(data);
+
+        index.put(key, new Location(currentSegment, position, data.length, writeTime, type));
+        segmentKeys.get(currentSegment).add(key);
+        position += data.length;
+        return true;
+    }
+
+    /**
+     * Returns the entry with the provided key
+     *
+     * @param key the key of the entry
+     * @return the entry with the provided key, or <code>null</code> if it is not stored
+     */
+    public synchronized Entry get(K key) {
+        Location location = index.get(key);
+        return location == null ? null : read(location);
+    }
+
+    /**
+     * Returns and removes the entry with the provided key
+     *
+     * @param key the key of the entry
+     * @return the removed entry, or <code>null</code> if it was not stored
+     */
+    public synchronized Entry take(K key) {
+        Location location = index.remove(key);
+        return location == null ? null : read(location);
+    }
+
+    /**
+     * Removes the entry with the provided key
+     *
+     * @param key the key of the entry
+     */
+    public synchronized void remove(K key) {
+        index.remove(key);
+    }
+
+    /**
+     * Removes all the entries and releases the allocated segments
+     */
+    public synchronized void clear() {
+        index.clear();
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = null;
+            segmentKeys.get(i).clear();
+        }
+        currentSegment = 0;
+        position = 0;
+    }
+
+    /**
+     * Returns the keys of the stored entries
+     *
+     * @return the keys of the stored entries
+     */
+    public synchronized Set<K> keys() {
+        return new HashSet<>(index.keySet());
+    }
+
+    /**
+     * Returns the number of the stored entries of each type, the entries are not read
+     *
+     * @return the number of the stored entries by the name of their type
+     */
+    public synchronized Map<String, Long> countTypes() {
+        Map<String, Long> counts = new HashMap<>();
+        for (Location location : index.values()) {
+            counts.merge(location.type, 1L, Long::sum);
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the number of stored entries
+     *
+     * @return the number of stored entries
+     */
+    public synchronized int size() {
+        return index.size();
+    }
+
+    /**
+     * Returns the number of entries evicted because their segment was recycled
+     *
+     * @return the number of evicted entries
+     */
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    private void recycleSegment(int segmentIndex) {
+        List<K> keys = segmentKeys.get(segmentIndex);
+        for (K key : keys) {
+            Location location = index.get(key);
+            if (location != null && location.segment == segmentIndex) {
+                index.remove(key);
+                evictionCount++;
+            }
+        }
+        keys.clear();
+
+        if (segments[segmentIndex] == null) {
+            segments[segmentIndex] = ByteBuffer.allocateDirect(segmentSize);
+        }
+        position = 0;
+    }
+
+    private Entry read(Location location) {
+        byte[] data = new byte[location.length];
+        ByteBuffer segment = segments[location.segment];
+        segment.position(location.offset);
+        segment.get(data);
+        return new Entry(data, location.writeTime);
+    }
+
+    /**
+     * A stored entry
+     */
+    public static final class Entry {
+        private final byte[] data;
+        private final long writeTime;
+
+        private Entry(byte[] data, long writeTime) {
+            this.data = data;
+            this.writeTime = writeTime;
+        }
+
+        /**
+         * Returns the serialized entry
+         *
+         * @return the serialized entry
+         */
+        public byte[] getData() {
+            return data;
+        }
+
+        /**
+         * Returns the time at which the entry was originally written to the cache
+         *
+         * @return the time at which the entry was originally written to the cache
+         */
+        public long getWriteTime() {
+            return writeTime;
+        }
+    }
+
+    private static final class Location {
+        private final int segment;
+        private final int offset;
+        private final int length;
+        private final long writeTime;
+        private final String type;
+
+        private Location(int segment, int offset, int length, long writeTime, String type) {
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+            this.writeTime = writeTime;
+            this.type = type;
+        }
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.caching.impl;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.AbstractCache;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
+import com.sportradar.unifiedodds.sdk.caching.exportable.ExportableCI;
+import com.sportradar.unifiedodds.sdk.caching.exportable.ExportableCacheItem;
+import com.sportradar.unifiedodds.sdk.caching.exportable.ExportableObjectInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * A {@link Cache} keeping the most recently used items on the heap and the rest in an {@link OffHeapStore}.
+ *
+ * The items evicted from the on-heap (hot) tier because of its size are exported ({@link ExportableCacheItem#export()})
+ * and stored off-heap in their serialized form. When such an item is requested again, it is removed from the store,
+ * rebuilt with the provided importer and moved back to the hot tier. The items expire the configured time after they
+ * were first written, regardless of the tier they are in. Items which are not {@link ExportableCacheItem}s are dropped
+ * when evicted from the hot tier.
+ *
+ * The map returned by {@link #asMap()} is a snapshot of both tiers, changes made to it are not reflected in the cache.
+ * Since it rebuilds every off-heap item, {@link #keys()}, {@link #countItemTypes()} and {@link #exportItems()} should
+ * be used where the items themselves are not needed.
+ *
+ * @param <K> the type of the cache keys
+ * @param <V> the type of the cached items
+ */
+public class OffHeapTieredCache<K, V> extends AbstractCache<K, V> {
+    private static final Logger logger = LoggerFactory.getLogger(OffHeapTieredCache.class);
+
+    private final String cacheName;
+    private final Cache<K, TimedItem<V>> hotTier;
+    private final OffHeapStore<K> store;
+    private final Function<ExportableCI, V> importer;
+    private final long expireAfterWriteMillis;
+    private final SimpleStatsCounter statsCounter = new SimpleStatsCounter();
+
+    /**
+     * Initializes a new {@link OffHeapTieredCache} instance
+     *
+     * @param cacheName the name of the cache used in the log messages
+     * @param hotTierSize the max number of items kept on the heap
+     * @param store the store holding the items evicted from the hot tier
+     * @param importer the function rebuilding the items from their exported form
+     * @param expireAfterWrite the time after which the items expire
+     * @param timeUnit the unit of the <code>expireAfterWrite</code>
+     */
+    public OffHeapTieredCache(String cacheName,
+                              int hotTierSize,
+                              OffHeapStore<K> store,
+                              Function<ExportableCI, V> importer,
+                              long expireAfterWrite,
+                              TimeUnit timeUnit) {
+        Preconditions.checkNotNull(cacheName);
+        Preconditions.checkArgument(hotTierSize > 0);
+        Preconditions.checkNotNull(store);
+        Preconditions.checkNotNull(importer);
+        Preconditions.checkArgument(expireAfterWrite > 0);
+        Preconditions.checkNotNull(timeUnit);
+
+        this.cacheName = cacheName;
+        this.store = store;
+        this.importer = importer;
+        this.expireAfterWriteMillis = timeUnit.toMillis(expireAfterWrite);
+        this.hotTier = CacheBuilder.newBuilder()
+                .maximumSize(hotTierSize)
+                .expireAfterWrite(expireAfterWrite, timeUnit)
+                .removalListener(this::onHotTierRemoval)
+                .build();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getIfPresent(Object key) {
+        TimedItem<V> item = hotTier.getIfPresent(key);
+        if (item != null && isExpired(item)) {
+            hotTier.invalidate(key);
+            item = null;
+        }
+        if (item == null && key != null) {
+            TimedItem<V> restored = restore((K) key, store.take((K) key));
+            if (restored != null) {
+                item = hotTier.asMap().putIfAbsent((K) key, restored);
+                item = item == null ? restored : item;
+            }
+        }
+
+        if (item == null) {
+            statsCounter.recordMisses(1);
+            return null;
+        }
+        statsCounter.recordHits(1);
+        return item.value;
+    }
+
+    @Override
+    public V get(K key, Callable<? extends V> loader) throws ExecutionException {
+        Preconditions.checkNotNull(key);
+        Preconditions.checkNotNull(loader);
+
+        V value = getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+
+        return hotTier.get(key, () -> {
+            TimedItem<V> restored = restore(key, store.take(key));
+            if (restored != null) {
+                return restored;
+            }
+
+            long loadStart = System.nanoTime();
+            try {
+                V loaded = loader.call();
+                statsCounter.recordLoadSuccess(System.nanoTime() - loadStart);
+                return new TimedItem<>(loaded, System.currentTimeMillis());
+            } catch (Exception e) {
+                statsCounter.recordLoadException(System.nanoTime() - loadStart);
+                throw e;
+            }
+        }).value;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        Preconditions.checkNotNull(key);
+        Preconditions.checkNotNull(value);
+
+        store.remove(key);
+        hotTier.put(key, new TimedItem<>(value, System.currentTimeMillis()));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void invalidate(Object key) {
+        Preconditions.checkNotNull(key);
+
+        hotTier.invalidate(key);
+        store.remove((K) key);
+    }
+
+    @Override
+    public void invalidateAll() {
+        hotTier.invalidateAll();
+        store.clear();
+    }
+
+    @Override
+    public long size() {
+        return hotTier.size() + store.size();
+    }
+
+    @Override
+    public void cleanUp() {
+        hotTier.cleanUp();
+    }
+
+    @Override
+    public CacheStats stats() {
+        return statsCounter.snapshot().plus(new CacheStats(0, 0, 0, 0, 0, store.getEvictionCount()));
+    }
+
+    /**
+     * Returns the keys of the items in both tiers, the off-heap items are not read
+     *
+     * @return the keys of the items in both tiers
+     */
+    public Set<K> keys() {
+        Set<K> keys = store.keys();
+        keys.addAll(hotTier.asMap().keySet());
+        return keys;
+    }
+
+    /**
+     * Returns the number of the items of each type in both tiers, the off-heap items are not read
+     *
+     * @return the number of the items by the simple name of their class
+     */
+    public Map<String, Long> countItemTypes() {
+        Map<String, Long> counts = new HashMap<>(store.countTypes());
+        for (TimedItem<V> item : hotTier.asMap().values()) {
+            if (!isExpired(item)) {
+                counts.merge(item.value.getClass().getSimpleName(), 1L, Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Exports the items in both tiers, the off-heap items are deserialized as they were exported, without being
+     * rebuilt with the importer
+     *
+     * @return the exported items of both tiers
+     */
+    public List<ExportableCI> exportItems() {
+        List<ExportableCI> items = new ArrayList<>();
+        Set<K> hotKeys = new HashSet<>();
+        for (Map.Entry<K, TimedItem<V>> entry : hotTier.asMap().entrySet()) {
+            TimedItem<V> item = entry.getValue();
+            if (!isExpired(item) && item.value instanceof ExportableCacheItem) {
+                items.add(((ExportableCacheItem) item.value).export());
+                hotKeys.add(entry.getKey());
+            }
+        }
+        for (K key : store.keys()) {
+            if (!hotKeys.contains(key)) {
+                ExportableCI item = read(key, store.get(key));
+                if (item != null) {
+                    items.add(item);
+                }
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Returns a snapshot of the items in both tiers, the off-heap items are rebuilt but stay in the store
+     *
+     * @return a snapshot of the items in both tiers
+     */
+    @Override
+    public ConcurrentMap<K, V> asMap() {
+        ConcurrentMap<K, V> items = new ConcurrentHashMap<>();
+        for (K key : store.keys()) {
+            TimedItem<V> restored = restore(key, store.get(key));
+            if (restored != null) {
+                items.put(key, restored.value);
+            }
+        }
+        for (Map.Entry<K, TimedItem<V>> entry : hotTier.asMap().entrySet()) {
+            if (!isExpired(entry.getValue())) {
+                items.put(entry.getKey(), entry.getValue().value);
+            }
+        }
+        return items;
+    }
+
+    private void onHotTierRemoval(RemovalNotification<K, TimedItem<V>> notification) {
+        if (notification.getCause() != RemovalCause.SIZE || notification.getKey() == null || notification.getValue() == null) {
+            return;
+        }
+
+        TimedItem<V> item = notification.getValue();
+        if (isExpired(item)) {
+            return;
+        }
+        if (!(item.value instanceof ExportableCacheItem)) {
+            statsCounter.recordEviction();
+            return;
+        }
+
+        try {
+            ByteArrayOutputStream output = new ByteArrayOutputStream(1024);
+            try (ObjectOutputStream objectOutput = new ObjectOutputStream(output)) {
+                objectOutput.writeObject(((ExportableCacheItem) item.value).export());
+            }
+            String type = item.value.getClass().getSimpleName();
+            if (!store.put(notification.getKey(), type, output.toByteArray(), item.writeTime)) {
+                statsCounter.recordEviction();
+            }
+        } catch (Exception e) {
+            logger.warn("{}: item {} could not be moved off-heap, it was evicted", cacheName, notification.getKey(), e);
+            statsCounter.recordEviction();
+        }
+    }
+
+    private TimedItem<V> restore(K key, OffHeapStore.Entry entry) {
+        ExportableCI exportable = read(key, entry);
+        if (exportable == null) {
+            return null;
+        }
+
+        try {
+            V value = importer.apply(exportable);
+            return value == null ? null : new TimedItem<>(value, entry.getWriteTime());
+        } catch (RuntimeException e) {
+            logger.warn("{}: item {} could not be restored from the off-heap store", cacheName, key, e);
+            return null;
+        }
+    }
+
+    private ExportableCI read(K key, OffHeapStore.Entry entry) {
+        if (entry == null || System.currentTimeMillis() - entry.getWriteTime() > expireAfterWriteMillis) {
+            return null;
+        }
+
+        try (ObjectInputStream input = new ExportableObjectInputStream(new ByteArrayInputStream(entry.getData()))) {
+            return (ExportableCI) input.readObject();
+        } catch (IOException | ClassNotFoundException | RuntimeException e) {
+            logger.warn("{}: item {} could not be read from the off-heap store", cacheName, key, e);
+            return null;
+        }
+    }
+
+    private boolean isExpired(TimedItem<V> item) {
+        return System.currentTimeMillis() - item.writeTime > expireAfterWriteMillis;
+    }
+
+    private static final class TimedItem<V> {
+        private final V value;
+        private final long writeTime;
+
+        private TimedItem(V value, long writeTime) {
+            this.value = value;
+            this.writeTime = writeTime;
+        }
+    }
+}
@@ -24,6 +24,8 @@ import java.time.LocalDateTime;
 import java.time.Period;
 import java.time.ZoneId;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -151,6 +153,48 @@ public class ProfileCacheImpl implements ProfileCache, DataRouterListener, Expor
         }
     }
 
+    /**
+     * Returns the {@link PlayerProfileCI}s associated with the provided {@link URN}s, the possible associated competitors
+     * and the player profiles which are still missing are fetched concurrently
+     *
+     * @param ids the unique {@link URN} identifiers of the players
+     * @param locales a {@link List} of locales in which the data is required
+     * @param possibleAssociatedCompetitorIds a list of possible associated competitors, used to prefetch competitor profiles
+     * @return a {@link Map} of the {@link PlayerProfileCI}s mapped by their {@link URN}s, in the order of the provided identifiers
+     */
+    @Override
+    public Map<URN, PlayerProfileCI> getPlayerProfiles(List<URN> ids, List<Locale> locales, List<URN> possibleAssociatedCompetitorIds) throws CacheItemNotFoundException {
+        Preconditions.checkNotNull(ids);
+        Preconditions.checkNotNull(locales);
+        Preconditions.checkArgument(!locales.isEmpty());
+
+        List<URN> missingIds = findMissingPlayerProfiles(ids, locales);
+        if (!missingIds.isEmpty() && possibleAssociatedCompetitorIds != null && !possibleAssociatedCompetitorIds.isEmpty()) {
+            logger.debug("Pre-fetching possible related competitors for {} - {}", missingIds, possibleAssociatedCompetitorIds);
+            try {
+                prefetchCompetitors(possibleAssociatedCompetitorIds, locales);
+            } catch (CommunicationException ex) {
+                logger.warn("Possible competitors pre-fetching failed for {} - {}, ex:", missingIds, possibleAssociatedCompetitorIds, ex);
+            }
+            missingIds = findMissingPlayerProfiles(missingIds, locales);
+        }
+
+        if (!missingIds.isEmpty()) {
+            logger.debug("Pre-fetching player profiles {}", missingIds);
+            try {
+                dataRouterManager.requestPlayerProfileEndpoints(locales, missingIds);
+            } catch (CommunicationException ex) {
+                logger.warn("Player profiles pre-fetching failed for {}, ex:", missingIds, ex);
+            }
+        }
+
+        Map<URN, PlayerProfileCI> profiles = new LinkedHashMap<>();
+        for (URN id : ids) {
+            profiles.put(id, getPlayerProfile(id, locales, null));
+        }
+        return profiles;
+    }
+
     /**
      * Returns a {@link CompetitorCI} associated with the provided {@link URN}
      *
@@ -199,7 +243,8 @@ public class ProfileCacheImpl implements ProfileCache, DataRouterListener, Expor
     }
 
     /**
-     * Ensures that the provided competitors are pre-fetched
+     * Ensures that the provided competitors are pre-fetched, the competitor profiles of all the locales are
+     * requested concurrently
      *
      * @param possibleAssociatedCompetitorIds a {@link List} of competitor ids
      * @param locales the {@link Locale}s which should be pre-fetched
@@ -208,16 +253,40 @@ public class ProfileCacheImpl implements ProfileCache, DataRouterListener, Expor
         Preconditions.checkNotNull(possibleAssociatedCompetitorIds);
         Preconditions.checkNotNull(locales);
 
-        for (URN competitorId : possibleAssociatedCompetitorIds) {
-            boolean isSimpleTeam = competitorId.isSimpleTeam() || competitorId.toString().startsWith(UnifiedFeedConstants.OUTCOMETEXT_VARIANT_VALUE);
-            for (Locale locale : locales) {
-                if (isSimpleTeam) {
-                    dataRouterManager.requestSimpleTeamEndpoint(locale, competitorId, null);
-                } else {
-                    dataRouterManager.requestCompetitorEndpoint(locale, competitorId, null);
-                }
+        Map<Boolean, List<URN>> competitorIds = possibleAssociatedCompetitorIds.stream()
+                .collect(Collectors.partitioningBy(id -> id.isSimpleTeam() || id.toString().startsWith(UnifiedFeedConstants.OUTCOMETEXT_VARIANT_VALUE)));
+
+        CommunicationException failure = null;
+        if (!competitorIds.get(false).isEmpty()) {
+            try {
+                dataRouterManager.requestCompetitorEndpoints(locales, competitorIds.get(false));
+            } catch (CommunicationException e) {
+                failure = e;
             }
         }
+        if (!competitorIds.get(true).isEmpty()) {
+            dataRouterManager.requestSimpleTeamEndpoints(locales, competitorIds.get(true));
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Returns the distinct identifiers of the player profiles which are not cached in all the provided locales
+     *
+     * @param ids the identifiers of the player profiles
+     * @param locales the required {@link Locale}s
+     * @return the identifiers of the player profiles which are missing
+     */
+    private List<URN> findMissingPlayerProfiles(List<URN> ids, List<Locale> locales) {
+        return ids.stream()
+                .distinct()
+                .filter(id -> {
+                    PlayerProfileCI playerProfileCI = playerCache.getIfPresent(id);
+                    return playerProfileCI == null || !SdkHelper.findMissingLocales(playerProfileCI.getCachedLocales(), locales).isEmpty();
+                })
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -377,13 +446,19 @@ public class ProfileCacheImpl implements ProfileCache, DataRouterListener, Expor
     @Override
     public List<ExportableCI> exportItems() {
         return Stream.concat(Stream.concat(
-                playerCache.asMap().values().stream().map(i1 -> (ExportableCacheItem) i1),
-                competitorCache.asMap().values().stream().map(i1 -> (ExportableCacheItem) i1)),
-                simpleTeamCache.asMap().values().stream().map(i1 -> (ExportableCacheItem) i1))
-                .map(ExportableCacheItem::export)
+                exportItems(playerCache),
+                exportItems(competitorCache)),
+                exportItems(simpleTeamCache))
                 .collect(Collectors.toList());
     }
 
+    private static Stream<ExportableCI> exportItems(Cache<URN, ?> cache) {
+        if (cache instanceof OffHeapTieredCache) {
+            return ((OffHeapTieredCache<URN, ?>) cache).exportItems().stream();
+        }
+        return cache.asMap().values().stream().map(i1 -> ((ExportableCacheItem) i1).export());
+    }
+
     /**
      * Imports provided items into the cache
      *
@@ -420,10 +495,16 @@ public class ProfileCacheImpl implements ProfileCache, DataRouterListener, Expor
      */
     @Override
     public Map<String, Long> cacheStatus() {
-        Stream<String> competitors = competitorCache.asMap().values().stream().map(c -> c.getClass().getSimpleName());
-        Stream<String> simpleTeams = simpleTeamCache.asMap().values().stream().map(c -> c.getClass().getSimpleName());
-        Stream<String> players = playerCache.asMap().values().stream().map(c -> c.getClass().getSimpleName());
-        Stream<String> all = Stream.concat(competitors, Stream.concat(simpleTeams, players));
-        return all.collect(Collectors.groupingBy(s -> s, Collectors.counting()));
+        Map<String, Long> status = new HashMap<>(countItemTypes(competitorCache));
+        countItemTypes(simpleTeamCache).forEach((type, count) -> status.merge(type, count, Long::sum));
+        countItemTypes(playerCache).forEach((type, count) -> status.merge(type, count, Long::sum));
+        return status;
+    }
+
+    private static Map<String, Long> countItemTypes(Cache<URN, ?> cache) {
+        if (cache instanceof OffHeapTieredCache) {
+            return ((OffHeapTieredCache<URN, ?>) cache).countItemTypes();
+        }
+        return cache.asMap().values().stream().collect(Collectors.groupingBy(c -> c.getClass().getSimpleName(), Collectors.counting()));
     }
 }
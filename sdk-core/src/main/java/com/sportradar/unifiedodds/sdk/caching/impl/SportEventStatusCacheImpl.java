@@ -108,14 +108,11 @@ public class SportEventStatusCacheImpl implements SportEventStatusCache, DataRou
             Date d = ignoreEventsTimelineCache.getIfPresent(id.toString());
             if (OperationManager.getIgnoreBetPalTimelineSportEventStatus() && source.contains("Timeline") && d != null)
             {
-                logger.debug(String.format("Received SES for %s from %s with EventStatus:%s (timeline ignored)",
-                                                 id,
-                                                 source,
-                                                 data.getStatus()));
+                logger.debug("Received SES for {} from {} with EventStatus:{} (timeline ignored)", id, source, data.getStatus());
                 return;
             }
 
-            logger.debug(String.format("Received SES for %s from %s with EventStatus:%s", id, source, data.getStatus()));
+            logger.debug("Received SES for {} from {} with EventStatus:{}", id, source, data.getStatus());
 
             SportEventStatusCI cacheItem = sportEventStatusCache.getIfPresent(id.toString());
             SportEventStatusDTO feedDTO = (cacheItem != null) ? cacheItem.getFeedStatusDTO() : null;
@@ -138,7 +135,7 @@ public class SportEventStatusCacheImpl implements SportEventStatusCache, DataRou
             sportEventStatusCache.put(id.toString(), cacheItem);
             return;
         }
-        logger.debug(String.format("Received SES for %s from %s with EventStatus:%s (ignored)", id, source, data.getStatus()));
+        logger.debug("Received SES for {} from {} with EventStatus:{} (ignored)", id, source, data.getStatus());
     }
 
     /**
@@ -166,8 +163,7 @@ public class SportEventStatusCacheImpl implements SportEventStatusCache, DataRou
             Date d = ignoreEventsTimelineCache.getIfPresent(eventId.toString());
             if (d == null)
             {
-                String msg = String.format("Received %s - added %s to the ignore timeline list", messageType, eventId);
-                logger.debug(msg);
+                logger.debug("Received {} - added {} to the ignore timeline list", messageType, eventId);
                 ignoreEventsTimelineCache.put(eventId.toString(), new Date());
             }
         }
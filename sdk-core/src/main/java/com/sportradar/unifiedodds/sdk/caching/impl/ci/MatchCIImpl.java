@@ -23,7 +23,6 @@ import com.sportradar.unifiedodds.sdk.caching.exportable.ExportableMatchCI;
 import com.sportradar.unifiedodds.sdk.entities.*;
 import com.sportradar.unifiedodds.sdk.exceptions.ObjectNotFoundException;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
-import com.sportradar.unifiedodds.sdk.exceptions.internal.DataRouterStreamException;
 import com.sportradar.unifiedodds.sdk.impl.dto.SportEventStatusDTO;
 import com.sportradar.unifiedodds.sdk.impl.entities.FixtureImpl;
 import com.sportradar.utils.SdkHelper;
@@ -969,14 +968,8 @@ class MatchCIImpl implements MatchCI, ExportableCacheItem {
             String localeStr = SdkHelper.localeListToString(missingLocales);
             logger.debug("Fetching fixtures for eventId='{}' for languages '{}'", id, localeStr);
 
-            missingLocales.forEach(l -> {
-                try {
-                    dataRouterManager.requestFixtureEndpoint(l, id, fixtureTimestampCache.getIfPresent(id) == null, this);
-                } catch (CommunicationException e) {
-                    throw new DataRouterStreamException(e.getMessage(), e);
-                }
-            });
-        } catch (DataRouterStreamException e) {
+            dataRouterManager.requestFixtureEndpoint(missingLocales, id, fixtureTimestampCache.getIfPresent(id) == null, this);
+        } catch (CommunicationException e) {
             handleException(String.format("requestMissingFixtureData(%s)", missingLocales), e);
         } finally {
             fixtureRequest.unlock();
@@ -1007,14 +1000,8 @@ class MatchCIImpl implements MatchCI, ExportableCacheItem {
             String localeStr = SdkHelper.localeListToString(missingLocales);
             logger.debug("Fetching summary for eventId='{}' for languages '{}'", id, localeStr);
 
-            missingLocales.forEach(l -> {
-                try {
-                    dataRouterManager.requestSummaryEndpoint(l, id, this);
-                } catch (CommunicationException e) {
-                    throw new DataRouterStreamException(e.getMessage(), e);
-                }
-            });
-        } catch (DataRouterStreamException e) {
+            dataRouterManager.requestSummaryEndpoint(missingLocales, id, this);
+        } catch (CommunicationException e) {
             handleException(String.format("requestMissingSummaryData(%s)", missingLocales), e);
         } finally {
             summaryRequest.unlock();
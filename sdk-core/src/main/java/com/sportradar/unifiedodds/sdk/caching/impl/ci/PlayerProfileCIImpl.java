@@ -17,7 +17,6 @@ import com.sportradar.unifiedodds.sdk.caching.exportable.ExportableCacheItem;
 import com.sportradar.unifiedodds.sdk.caching.exportable.ExportablePlayerProfileCI;
 import com.sportradar.unifiedodds.sdk.exceptions.ObjectNotFoundException;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
-import com.sportradar.unifiedodds.sdk.exceptions.internal.DataRouterStreamException;
 import com.sportradar.utils.SdkHelper;
 import com.sportradar.utils.URN;
 import org.slf4j.Logger;
@@ -475,14 +474,8 @@ class PlayerProfileCIImpl implements PlayerProfileCI, ExportableCacheItem {
 
             String missingLocalesStr = missingLocales.stream().map(Locale::getLanguage).collect(Collectors.joining(", "));
             logger.debug("Fetching player profile for id='{}' for languages '{}'", id, missingLocalesStr);
-            missingLocales.forEach(l -> {
-                try {
-                    dataRouterManager.requestPlayerProfileEndpoint(l, id, this);
-                } catch (CommunicationException e) {
-                    throw new DataRouterStreamException(e.getMessage(), e);
-                }
-            });
-        } catch (DataRouterStreamException e) {
+            dataRouterManager.requestPlayerProfileEndpoint(missingLocales, id, this);
+        } catch (CommunicationException e) {
             handleException(String.format("requestMissingPlayerData(%s)", missingLocales), e);
         } finally {
             fetchLock.unlock();
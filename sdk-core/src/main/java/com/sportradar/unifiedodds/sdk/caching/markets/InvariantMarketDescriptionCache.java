@@ -6,6 +6,7 @@ package com.sportradar.unifiedodds.sdk.caching.markets;
 
 import com.google.common.base.Preconditions;
 import com.google.common.cache.Cache;
+import com.google.common.collect.ImmutableList;
 import com.sportradar.uf.sportsapi.datamodel.DescMarket;
 import com.sportradar.uf.sportsapi.datamodel.MarketDescriptions;
 import com.sportradar.unifiedodds.sdk.caching.ci.markets.MarketDescriptionCI;
@@ -24,8 +25,13 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
@@ -44,7 +50,14 @@ public class InvariantMarketDescriptionCache implements MarketDescriptionCache {
     private final List<Locale> prefetchLocales;
     private final List<Locale> fetchedLocales;
     private final ReentrantLock fetchLock = new ReentrantLock();
-    private boolean hasTimerElapsedOnce;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile boolean hasTimerElapsedOnce;
+
+    /**
+     * The immutable descriptions built from the cached items, per market id and requested locales. A description
+     * is shared until the cache item it was built from is replaced, merged or otherwise changed
+     */
+    private final Map<String, Map<List<Locale>, DescriptionSnapshot>> snapshots = new ConcurrentHashMap<>();
 
     public InvariantMarketDescriptionCache(Cache<String, MarketDescriptionCI> cache,
                                            DataProvider<MarketDescriptions> dataProvider,
@@ -78,16 +91,35 @@ public class InvariantMarketDescriptionCache implements MarketDescriptionCache {
         String processingCacheId = String.valueOf(marketId);
         MarketDescriptionCI cachedItem = getMarketInternal(processingCacheId, locales);
 
-        return new MarketDescriptionImpl(cachedItem, locales);
+        return getSnapshot(processingCacheId, cachedItem, locales);
+    }
+
+    @Override
+    public boolean loadMissingMarketDescriptions() {
+        fetchLock.lock();
+        try {
+            List<Locale> missingLocales = SdkHelper.findMissingLocales(fetchedLocales, prefetchLocales);
+            if (!missingLocales.isEmpty()) {
+                logger.debug("Loading invariant market descriptions for [{}] (warm-up).",
+                        missingLocales.stream().map(Locale::getLanguage).collect(Collectors.joining(",")));
+                fetchMissingData(missingLocales);
+            }
+        } catch (Exception e) {
+            logger.warn("An error occurred while fetching market description for languages [{}]",
+                    prefetchLocales.stream().map(Locale::getLanguage).collect(Collectors.joining(",")), e);
+            return false;
+        } finally {
+            fetchLock.unlock();
+        }
+        return true;
     }
 
     @Override
     public boolean loadMarketDescriptions() {
         try{
-            fetchedLocales.clear();
             logger.debug("Loading invariant market descriptions for [{}] (user request).",
                     prefetchLocales.stream().map(Locale::getLanguage).collect(Collectors.joining(",")));
-            fetchMissingData(prefetchLocales);
+            refresh(prefetchLocales);
         }
         catch(Exception e){
             logger.warn("An error occurred while fetching market description for languages [{}]",
@@ -101,6 +133,7 @@ public class InvariantMarketDescriptionCache implements MarketDescriptionCache {
     public void deleteCacheItem(int marketId, String variant) {
         String processingCacheItemId = String.valueOf(marketId);
         cache.invalidate(processingCacheItemId);
+        snapshots.remove(processingCacheItemId);
     }
 
     @Override
@@ -118,37 +151,134 @@ public class InvariantMarketDescriptionCache implements MarketDescriptionCache {
         // ensure all locales are present & fetch them if needed
         MarketDescriptionCI cachedItem = getMarketInternal("1", locales);
 
-        return cache.asMap().values().stream()
-                .map(ci -> new MarketDescriptionImpl(ci, locales))
+        return cache.asMap().entrySet().stream()
+                .map(e -> getSnapshot(e.getKey(), e.getValue(), locales))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Returns the shared description of the provided cache item in the requested locales, the description is
+     * (re)built only if the cache item changed since the description was built
+     *
+     * @param id the id of the cache item
+     * @param cachedItem the cache item for which the description is requested
+     * @param locales the locales in which the description is requested
+     * @return the shared description of the provided cache item
+     */
+    private MarketDescriptionImpl getSnapshot(String id, MarketDescriptionCI cachedItem, List<Locale> locales) {
+        Map<List<Locale>, DescriptionSnapshot> itemSnapshots = snapshots.computeIfAbsent(id, k -> new ConcurrentHashMap<>());
+
+        DescriptionSnapshot snapshot = itemSnapshots.get(locales);
+        if (snapshot != null && snapshot.isBuiltFrom(cachedItem)) {
+            return snapshot.description;
+        }
+
+        // the version is read before the description is built, so a concurrent merge results in a rebuild on the next request
+        int version = cachedItem.getVersion();
+        snapshot = new DescriptionSnapshot(cachedItem, version, new MarketDescriptionImpl(cachedItem, locales));
+        itemSnapshots.put(ImmutableList.copyOf(locales), snapshot);
+
+        return snapshot.description;
+    }
+
     private void onTimerElapsed() {
         logger.info("Executing invariant market cache refresh");
 
-        List<Locale> locales2fetch;
-
-        if (hasTimerElapsedOnce) {
-            locales2fetch = prefetchLocales;
-        } else {
-            locales2fetch = prefetchLocales.stream()
-                    .filter(pLocale -> !fetchedLocales.contains(pLocale)).collect(Collectors.toList());
-        }
-        logger.debug("Loading invariant market descriptions for [{}] (timer).",
-                locales2fetch.stream().map(Locale::getLanguage).collect(Collectors.joining(",")));
-        fetchLock.lock();
+        List<Locale> locales2fetch = prefetchLocales;
         try {
             if (hasTimerElapsedOnce) {
-                fetchedLocales.clear();
+                logger.debug("Loading invariant market descriptions for [{}] (timer).",
+                        locales2fetch.stream().map(Locale::getLanguage).collect(Collectors.joining(",")));
+                refresh(locales2fetch);
+                return;
             }
-            if (!locales2fetch.isEmpty()) {
-                fetchMissingData(locales2fetch);
+
+            fetchLock.lock();
+            try {
+                locales2fetch = prefetchLocales.stream()
+                        .filter(pLocale -> !fetchedLocales.contains(pLocale)).collect(Collectors.toList());
+                logger.debug("Loading invariant market descriptions for [{}] (timer).",
+                        locales2fetch.stream().map(Locale::getLanguage).collect(Collectors.joining(",")));
+                if (!locales2fetch.isEmpty()) {
+                    fetchMissingData(locales2fetch);
+                }
+            } finally {
+                fetchLock.unlock();
             }
             hasTimerElapsedOnce = true;
         } catch (Exception e) { // so the timer does not die
             logger.warn("An error occurred while periodically fetching market description for languages [{}]",
                     locales2fetch.stream().map(Locale::getLanguage).collect(Collectors.joining(",")),
                     e);
+        }
+    }
+
+    /**
+     * Fetches the descriptions in the provided locales into a new set of cache items, which replaces the current
+     * items once all the locales are fetched. The readers keep using the current (unchanged) items while the refresh
+     * is in progress, and never wait for it
+     *
+     * @param locales the locales in which the descriptions are fetched
+     * @throws IllegalCacheStateException if the descriptions could not be fetched
+     */
+    private void refresh(List<Locale> locales) throws IllegalCacheStateException {
+        Preconditions.checkNotNull(locales);
+
+        refreshLock.lock();
+        try {
+            Map<String, MarketDescriptionCI> generation = new HashMap<>();
+            for (Locale locale : locales) {
+                MarketDescriptions data;
+                try {
+                    data = dataProvider.getData(locale);
+                } catch (DataProviderException e) {
+                    throw new IllegalCacheStateException("An error occurred while fetching invariant descriptors in [" + locale + "]", e);
+                }
+                if (data == null || data.getMarket().isEmpty()) {
+                    throw new IllegalCacheStateException("Received invariant descriptors in [" + locale + "] without any market");
+                }
+
+                data.getMarket().forEach(market -> {
+                    String processingCacheItemId = String.valueOf(market.getId());
+                    MarketDescriptionCI item = generation.get(processingCacheItemId);
+                    if (item == null) {
+                        generation.put(processingCacheItemId, new MarketDescriptionCI(market, mappingValidatorFactory, locale, SdkHelper.InVariantMarketListCache));
+                    } else {
+                        item.merge(market, locale);
+                    }
+                });
+            }
+            initStaticMappingsEnrichment(generation);
+
+            publish(generation, locales);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Replaces the cached items with the provided (complete) set of items, the markets which are not part of it are removed
+     *
+     * @param generation the new cache items, per market id
+     * @param locales the locales in which the new items were fetched
+     */
+    private void publish(Map<String, MarketDescriptionCI> generation, List<Locale> locales) {
+        fetchLock.lock();
+        try {
+            Set<String> removed = new HashSet<>(cache.asMap().keySet());
+            removed.removeAll(generation.keySet());
+            long added = generation.keySet().stream().filter(id -> cache.getIfPresent(id) == null).count();
+
+            cache.putAll(generation);
+            cache.invalidateAll(removed);
+            removed.forEach(snapshots::remove);
+
+            // the locales fetched on demand are not part of the new items, so they are fetched again once requested
+            fetchedLocales.clear();
+            fetchedLocales.addAll(locales);
+
+            logger.info("Refreshed {} invariant market descriptions for [{}], added: {}, removed: {}", generation.size(),
+                    locales.stream().map(Locale::getLanguage).collect(Collectors.joining(",")), added, removed.size());
         } finally {
             fetchLock.unlock();
         }
@@ -195,7 +325,7 @@ public class InvariantMarketDescriptionCache implements MarketDescriptionCache {
             for (Locale missingLocale : missingLocales) {
                 merge(missingLocale, dataProvider.getData(missingLocale));
             }
-            initStaticMappingsEnrichment();
+            initStaticMappingsEnrichment(cache.asMap());
         } catch (DataProviderException e) {
             throw new IllegalCacheStateException("An error occurred while fetching invariant descriptors in [" + missingLocales + "]", e);
         }
@@ -222,7 +352,7 @@ public class InvariantMarketDescriptionCache implements MarketDescriptionCache {
         }
     }
 
-    private void initStaticMappingsEnrichment() {
+    private void initStaticMappingsEnrichment(Map<String, MarketDescriptionCI> items) {
         try {
             MarketDescriptions data = additionalMappingsProvider.getData();
             if (data == null || data.getMarket() == null) {
@@ -232,7 +362,7 @@ public class InvariantMarketDescriptionCache implements MarketDescriptionCache {
                 return;
             }
 
-            enrichStaticMappings(data.getMarket());
+            enrichStaticMappings(items, data.getMarket());
         } catch (Exception e) {
             if (additionalMappingsProvider.logErrors()) {
                 logger.warn("An exception occurred while enriching static mappings with additional mappings, exc:", e);
@@ -240,12 +370,13 @@ public class InvariantMarketDescriptionCache implements MarketDescriptionCache {
         }
     }
 
-    private void enrichStaticMappings(List<DescMarket> markets) {
+    private void enrichStaticMappings(Map<String, MarketDescriptionCI> items, List<DescMarket> markets) {
+        Preconditions.checkNotNull(items);
         Preconditions.checkNotNull(markets);
 
         markets.forEach(m -> {
             String processingCacheItemId = String.valueOf(m.getId());
-            MarketDescriptionCI cachedItem = cache.getIfPresent(processingCacheItemId);
+            MarketDescriptionCI cachedItem = items.get(processingCacheItemId);
             if (cachedItem == null) {
                 if (additionalMappingsProvider.logErrors()) {
                     logger.warn("Handling additional mappings for unknown market: {}", m.getId());
@@ -270,6 +401,25 @@ public class InvariantMarketDescriptionCache implements MarketDescriptionCache {
         onTimerElapsed();
     }
 
+    /**
+     * An immutable description together with the cache item (and its version) from which it was built
+     */
+    private static final class DescriptionSnapshot {
+        private final MarketDescriptionCI cachedItem;
+        private final int version;
+        private final MarketDescriptionImpl description;
+
+        private DescriptionSnapshot(MarketDescriptionCI cachedItem, int version, MarketDescriptionImpl description) {
+            this.cachedItem = cachedItem;
+            this.version = version;
+            this.description = description;
+        }
+
+        private boolean isBuiltFrom(MarketDescriptionCI item) {
+            return cachedItem == item && version == item.getVersion();
+        }
+    }
+
     private List<Locale> getMissingLocales(MarketDescriptionCI item, List<Locale> requiredLocales) {
         Preconditions.checkNotNull(requiredLocales);
         Preconditions.checkArgument(!requiredLocales.isEmpty());
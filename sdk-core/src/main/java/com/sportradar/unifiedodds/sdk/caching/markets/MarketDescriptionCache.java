@@ -20,6 +20,15 @@ public interface MarketDescriptionCache {
 
     boolean loadMarketDescriptions();
 
+    /**
+     * Loads the market descriptions in the prefetch locales which were not loaded yet
+     *
+     * @return <code>true</code> if the market descriptions were loaded; otherwise <code>false</code>
+     */
+    default boolean loadMissingMarketDescriptions() {
+        return true;
+    }
+
     void deleteCacheItem(int marketId, String variant);
 
     void updateCacheItem(int marketId, String variant);
@@ -92,11 +92,13 @@ public class MarketDescriptionProviderImpl implements MarketDescriptionProvider
         try {
             VariantDescriptionCI variantDescriptionCI = variantDescriptionCache.getVariantDescription(variantValue, locales);
 
-            ((MarketDescriptionImpl) marketDescriptor).mergeOutcomes(variantDescriptionCI.getOutcomes(), locales);
-            ((MarketDescriptionImpl) marketDescriptor).setStaticMappingsData(variantDescriptionCI.getMappings());
-            ((MarketDescriptionImpl) marketDescriptor).setFetchInfo(variantDescriptionCI.getSourceCache(), variantDescriptionCI.getLastDataReceived());
+            // the invariant descriptions are shared, so the variant data is merged into a copy
+            MarketDescriptionImpl variantMarketDescriptor = new MarketDescriptionImpl((MarketDescriptionImpl) marketDescriptor);
+            variantMarketDescriptor.mergeOutcomes(variantDescriptionCI.getOutcomes(), locales);
+            variantMarketDescriptor.setStaticMappingsData(variantDescriptionCI.getMappings());
+            variantMarketDescriptor.setFetchInfo(variantDescriptionCI.getSourceCache(), variantDescriptionCI.getLastDataReceived());
 
-            return Optional.of(marketDescriptor);
+            return Optional.of(variantMarketDescriptor);
         } catch (CacheItemNotFoundException e) {
             return Optional.empty();
         } catch (IllegalCacheStateException e) {
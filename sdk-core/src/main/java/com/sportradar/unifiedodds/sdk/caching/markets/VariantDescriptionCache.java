@@ -19,4 +19,11 @@ public interface VariantDescriptionCache {
     VariantDescriptionCI getVariantDescription(String id, List<Locale> locales) throws IllegalCacheStateException, CacheItemNotFoundException;
 
     boolean loadMarketDescriptions();
+
+    /**
+     * Loads the variant descriptions in the prefetch locales which were not loaded yet
+     *
+     * @return <code>true</code> if the variant descriptions were loaded; otherwise <code>false</code>
+     */
+    boolean loadMissingMarketDescriptions();
 }
@@ -72,18 +72,15 @@ public class VariantDescriptionCacheImpl implements VariantDescriptionCache {
 
     private void onTimerElapsed() {
         logger.info("Executing variant market cache refresh");
-        List<Locale> locales2fetch;
-
-        if (hasTimerElapsedOnce) {
-            locales2fetch = prefetchLocales;
-        } else {
-            locales2fetch = prefetchLocales.stream()
-                    .filter(pLocale -> !fetchedLocales.contains(pLocale)).collect(Collectors.toList());
-        }
-        logger.debug("Loading variant market descriptions for [{}] (timer).",
-                locales2fetch.stream().map(Locale::getLanguage).collect(Collectors.joining(",")));
+        List<Locale> locales2fetch = prefetchLocales;
         fetchLock.lock();
         try {
+            if (!hasTimerElapsedOnce) {
+                locales2fetch = prefetchLocales.stream()
+                        .filter(pLocale -> !fetchedLocales.contains(pLocale)).collect(Collectors.toList());
+            }
+            logger.debug("Loading variant market descriptions for [{}] (timer).",
+                    locales2fetch.stream().map(Locale::getLanguage).collect(Collectors.joining(",")));
             if (hasTimerElapsedOnce) {
                 fetchedLocales.clear();
             }
@@ -100,6 +97,26 @@ public class VariantDescriptionCacheImpl implements VariantDescriptionCache {
         }
     }
 
+    @Override
+    public boolean loadMissingMarketDescriptions() {
+        fetchLock.lock();
+        try {
+            List<Locale> missingLocales = SdkHelper.findMissingLocales(fetchedLocales, prefetchLocales);
+            if (!missingLocales.isEmpty()) {
+                logger.debug("Loading variant market descriptions for [{}] (warm-up).",
+                        missingLocales.stream().map(Locale::getLanguage).collect(Collectors.joining(",")));
+                fetchMissingData(missingLocales);
+            }
+        } catch (Exception e) {
+            logger.warn("An error occurred while fetching variant descriptions for languages [{}]",
+                    prefetchLocales.stream().map(Locale::getLanguage).collect(Collectors.joining(",")), e);
+            return false;
+        } finally {
+            fetchLock.unlock();
+        }
+        return true;
+    }
+
     @Override
     public boolean loadMarketDescriptions() {
         try{
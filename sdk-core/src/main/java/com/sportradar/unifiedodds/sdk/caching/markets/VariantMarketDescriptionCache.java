@@ -7,6 +7,8 @@ package com.sportradar.unifiedodds.sdk.caching.markets;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.Striped;
 import com.sportradar.uf.sportsapi.datamodel.DescMarket;
 import com.sportradar.uf.sportsapi.datamodel.MarketDescriptions;
 import com.sportradar.unifiedodds.sdk.caching.ci.markets.MarketDescriptionCI;
@@ -22,22 +24,36 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 
 /**
  * Single variant market description cache
+ *
+ * The fetches of the missing locales are serialized per variant (using a striped lock), so fetching one variant
+ * never blocks the readers of another one.
  */
 public class VariantMarketDescriptionCache implements MarketDescriptionCache {
     private static final Logger logger = LoggerFactory.getLogger(VariantMarketDescriptionCache.class);
+    /**
+     * The number of lock stripes, the locks are created lazily so only the stripes of the fetched variants are allocated
+     */
+    private static final int LOCK_STRIPES = 1024;
+
+    /**
+     * The period (in seconds) in which the same variant locale is not fetched again
+     */
+    private static final int FETCH_THROTTLE_PERIOD = 30;
+
     private final Cache<String, MarketDescriptionCI> cache;
     private final DataProvider<MarketDescriptions> dataProvider;
     private final MappingValidatorFactory mappingValidatorFactory;
-    private final ReentrantLock lock = new ReentrantLock();
+    private final Striped<Lock> locks = Striped.lazyWeakLock(LOCK_STRIPES);
     private final boolean simpleVariantCaching;
-    private Map<String,Date> fetchedVariants = new ConcurrentHashMap<>();
-    private Date lastTimeFetchedVariantsWereCleared;
+    private final Cache<String, Date> fetchedVariants = CacheBuilder.newBuilder()
+            .expireAfterWrite(FETCH_THROTTLE_PERIOD, TimeUnit.SECONDS)
+            .build();
 
     public VariantMarketDescriptionCache(Cache<String, MarketDescriptionCI> cache,
                                          DataProvider<MarketDescriptions> dataProvider,
@@ -51,7 +67,6 @@ public class VariantMarketDescriptionCache implements MarketDescriptionCache {
         this.dataProvider = dataProvider;
         this.mappingValidatorFactory = mappingValidatorFactory;
         this.simpleVariantCaching = simpleVariantCaching;
-        this.lastTimeFetchedVariantsWereCleared = new Date();
     }
 
     @Override
@@ -61,31 +76,20 @@ public class VariantMarketDescriptionCache implements MarketDescriptionCache {
         Preconditions.checkNotNull(locales);
         Preconditions.checkArgument(!locales.isEmpty());
 
+        String cacheKey = getCacheKey(marketId, variant);
         MarketDescriptionCI marketCI;
         try {
-            marketCI = cache.get(getCacheKey(marketId, variant), () -> loadMarketDescriptorData(null, marketId, variant, locales));
+            marketCI = cache.get(cacheKey, () -> loadMarketDescriptorData(null, marketId, variant, locales));
         } catch (ExecutionException e) {
             throw new CacheItemNotFoundException("The requested market descriptor could not be found", e);
         }
 
-        List<Locale> missingLocales;
-        try {
+        if (!getMissingLocales(marketCI, locales).isEmpty()) {
+            Lock lock = locks.get(cacheKey);
             lock.lock();
-            missingLocales = getMissingLocales(marketCI, locales);
-        } finally {
-            lock.unlock();
-        }
-
-        if (!missingLocales.isEmpty()) {
             try {
-                lock.lock();
-                if(!isFetchingAllowed(marketId, variant, missingLocales))
-                {
-                    return new MarketDescriptionImpl(marketCI, locales);
-                }
-                missingLocales = getMissingLocales(marketCI, locales);
-                if (!missingLocales.isEmpty()) {
-
+                List<Locale> missingLocales = getMissingLocales(marketCI, locales);
+                if (!missingLocales.isEmpty() && isFetchingAllowed(marketId, variant, missingLocales)) {
                     loadMarketDescriptorData(marketCI, marketId, variant, missingLocales);
 
                     for (Locale l : missingLocales) {
@@ -169,36 +173,13 @@ public class VariantMarketDescriptionCache implements MarketDescriptionCache {
         return SdkHelper.findMissingLocales(item.getCachedLocales(), requiredLocales);
     }
 
-    private boolean isFetchingAllowed(int marketId, String variant, List<Locale> locales)
-    {
+    private boolean isFetchingAllowed(int marketId, String variant, List<Locale> locales) {
         for (Locale l : locales) {
-        if(isFetchingAllowed(marketId, variant, l))
-        {
-            return true;
-        }
-    }
-        return false;
-    }
-
-    private boolean isFetchingAllowed(int marketId, String variant, Locale locale)
-    {
-        if(fetchedVariants.size() > 1000)
-        {
-            clearFetchedVariants();
-        }
-
-        String cacheKey = getFetchedVariantsKey(marketId, variant, locale);
-        if (!fetchedVariants.containsKey(cacheKey))
-        {
-            return true;
-        }
-        Date date = fetchedVariants.get(cacheKey);
-        if (SdkHelper.getTimeDifferenceInSeconds(new Date(), date) > 30)
-        {
-            return true;
+            // the entries expire after the throttle period, so a missing entry means the locale may be fetched again
+            if (fetchedVariants.getIfPresent(getFetchedVariantsKey(marketId, variant, l)) == null) {
+                return true;
+            }
         }
-        clearFetchedVariants();
-
         return false;
     }
 
@@ -206,23 +187,4 @@ public class VariantMarketDescriptionCache implements MarketDescriptionCache {
     {
         return getCacheKey(marketId, variant) + "_" + locale;
     }
-
-    /**
-     * clear records from fetchedVariants once a min
-     */
-    private void clearFetchedVariants()
-    {
-        if (SdkHelper.getTimeDifferenceInSeconds(new Date(), lastTimeFetchedVariantsWereCleared) > 60)
-        {
-            Set<String> keys = fetchedVariants.keySet();
-
-            for (String key : keys) {
-                Date currDate = fetchedVariants.get(key);
-                if (SdkHelper.getTimeDifferenceInSeconds(new Date(), currDate) > 30) {
-                    fetchedVariants.remove(key);
-                }
-            }
-            lastTimeFetchedVariantsWereCleared = new Date();
-        }
-    }
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.di;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Weigher;
+import com.sportradar.unifiedodds.sdk.caching.*;
+import com.sportradar.unifiedodds.sdk.caching.ci.markets.MarketDescriptionCI;
+
+/**
+ * A {@link Weigher} estimating the retained size (in bytes) of the cache items.
+ *
+ * The weight of an item is only computed when the item is stored, while the cache items are filled with the other
+ * locales later, so the estimate assumes that each item will eventually hold the data of all the desired locales.
+ * The per-type sizes are averages of typical items, they are meant for sizing the caches, not for exact accounting.
+ */
+final class CacheItemWeigher implements Weigher<Object, Object> {
+    private static final int MATCH_SIZE = 2048;
+    private static final int MATCH_LOCALE_SIZE = 768;
+    private static final int STAGE_SIZE = 3072;
+    private static final int STAGE_LOCALE_SIZE = 1536;
+    private static final int TOURNAMENT_SIZE = 4096;
+    private static final int TOURNAMENT_LOCALE_SIZE = 2048;
+    private static final int SPORT_EVENT_SIZE = 1024;
+    private static final int SPORT_EVENT_LOCALE_SIZE = 512;
+    private static final int COMPETITOR_SIZE = 1536;
+    private static final int COMPETITOR_LOCALE_SIZE = 768;
+    private static final int PLAYER_PROFILE_SIZE = 512;
+    private static final int PLAYER_PROFILE_LOCALE_SIZE = 192;
+    private static final int SPORT_EVENT_STATUS_SIZE = 1536;
+    private static final int MARKET_DESCRIPTION_SIZE = 1024;
+    private static final int MARKET_OUTCOME_SIZE = 256;
+    private static final int DEFAULT_SIZE = 512;
+
+    private final int localeCount;
+
+    /**
+     * Initializes a new {@link CacheItemWeigher} instance
+     *
+     * @param localeCount the number of locales of which the data is cached
+     */
+    CacheItemWeigher(int localeCount) {
+        Preconditions.checkArgument(localeCount > 0);
+
+        this.localeCount = localeCount;
+    }
+
+    @Override
+    public int weigh(Object key, Object value) {
+        if (value instanceof MatchCI) {
+            return MATCH_SIZE + localeCount * MATCH_LOCALE_SIZE;
+        }
+        if (value instanceof StageCI) {
+            return STAGE_SIZE + localeCount * STAGE_LOCALE_SIZE;
+        }
+        if (value instanceof TournamentCI) {
+            return TOURNAMENT_SIZE + localeCount * TOURNAMENT_LOCALE_SIZE;
+        }
+        if (value instanceof SportEventCI) {
+            return SPORT_EVENT_SIZE + localeCount * SPORT_EVENT_LOCALE_SIZE;
+        }
+        if (value instanceof CompetitorCI) {
+            return COMPETITOR_SIZE + localeCount * COMPETITOR_LOCALE_SIZE;
+        }
+        if (value instanceof PlayerProfileCI) {
+            return PLAYER_PROFILE_SIZE + localeCount * PLAYER_PROFILE_LOCALE_SIZE;
+        }
+        if (value instanceof SportEventStatusCI) {
+            return SPORT_EVENT_STATUS_SIZE;
+        }
+        if (value instanceof MarketDescriptionCI) {
+            MarketDescriptionCI description = (MarketDescriptionCI) value;
+            int outcomes = description.getOutcomes() == null ? 0 : description.getOutcomes().size();
+            return MARKET_DESCRIPTION_SIZE + outcomes * MARKET_OUTCOME_SIZE * localeCount;
+        }
+        return DEFAULT_SIZE;
+    }
+}
@@ -4,11 +4,9 @@
 
 package com.sportradar.unifiedodds.sdk.di;
 
-import com.google.common.base.Preconditions;
 import com.google.common.cache.Cache;
 import com.google.inject.*;
 import com.google.inject.name.Named;
-import com.google.inject.name.Names;
 import com.sportradar.uf.sportsapi.datamodel.MarketDescriptions;
 import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
 import com.sportradar.unifiedodds.sdk.SportEntityFactory;
@@ -30,16 +28,6 @@ import java.util.Date;
  */
 public class CachingModule extends AbstractModule {
 
-    private final InternalCachesProvider internalCachesProvider;
-
-    CachingModule(InternalCachesProvider internalCachesProvider) {
-        super();
-
-        Preconditions.checkNotNull(internalCachesProvider, "Internal caches provider can't be null");
-
-        this.internalCachesProvider = internalCachesProvider;
-    }
-
     @Override
     protected void configure() {
         bind(SportEventCache.class).to(SportEventCacheImpl.class).in(Singleton.class);
@@ -51,31 +39,36 @@ public class CachingModule extends AbstractModule {
 
         bind(NamedValuesProvider.class).to(NamedValuesProviderImpl.class);
         bind(MarketDescriptionProvider.class).to(MarketDescriptionProviderImpl.class);
-        bind(new TypeLiteral<Cache<String, String>>(){}).annotatedWith(Names.named("DispatchedFixturesChangesCache")).toInstance(internalCachesProvider.getDispatchedFixtureChanges());
+    }
+
+    @Provides @Singleton @Named("DispatchedFixturesChangesCache")
+    protected Cache<String, String> provideDispatchedFixturesChangesCache(InternalCachesProvider internalCachesProvider) {
+        return internalCachesProvider.getDispatchedFixtureChanges();
     }
 
     @Provides @Singleton
-    protected Cache<URN, SportEventCI> provideSportEventCICache() {
+    protected Cache<URN, SportEventCI> provideSportEventCICache(InternalCachesProvider internalCachesProvider) {
         return internalCachesProvider.getSportEventCache();
     }
 
     @Provides @Singleton
-    protected Cache<URN, SportCI> provideSportDataCICache() {
+    protected Cache<URN, SportCI> provideSportDataCICache(InternalCachesProvider internalCachesProvider) {
         return internalCachesProvider.getSportDataCache();
     }
 
     @Provides @Singleton
-    protected Cache<URN, CategoryCI> provideCategoryCICache() {
+    protected Cache<URN, CategoryCI> provideCategoryCICache(InternalCachesProvider internalCachesProvider) {
         return internalCachesProvider.getCategoryDataCache();
     }
 
     @Provides @Singleton
-    protected Cache<URN, Date> provideFixtureTimestampCache() {
+    protected Cache<URN, Date> provideFixtureTimestampCache(InternalCachesProvider internalCachesProvider) {
         return internalCachesProvider.getFixtureTimestampCache();
     }
 
     @Provides @Singleton
-    protected SportEventStatusCache providesSportEventStatusCache(SportEventCache sportEventCache) {
+    protected SportEventStatusCache providesSportEventStatusCache(InternalCachesProvider internalCachesProvider,
+                                                                  SportEventCache sportEventCache) {
         return new SportEventStatusCacheImpl(
                 internalCachesProvider.getSportEventStatusCache(),
                 sportEventCache,
@@ -84,7 +77,8 @@ public class CachingModule extends AbstractModule {
     }
 
     @Provides @Singleton
-    protected ProfileCache provideProfileCache(CacheItemFactory cacheItemFactory,
+    protected ProfileCache provideProfileCache(InternalCachesProvider internalCachesProvider,
+                                               CacheItemFactory cacheItemFactory,
                                                DataRouterManager dataRouterManager) {
         return new ProfileCacheImpl(
                 cacheItemFactory,
@@ -134,6 +128,7 @@ public class CachingModule extends AbstractModule {
 
     @Provides @Singleton @Named("InvariantMarketCache")
     protected InvariantMarketDescriptionCache provideInvariantMarketDescriptionCache(
+            InternalCachesProvider internalCachesProvider,
             SDKInternalConfiguration cfg,
             @Named("AdditionalMarketMappingsProvider") ObservableDataProvider<MarketDescriptions> additionalMappingsProvider,
             MappingValidatorFactory mappingFactory,
@@ -179,7 +174,8 @@ public class CachingModule extends AbstractModule {
 
 
     @Provides @Singleton @Named("VariantMarketCache")
-    protected MarketDescriptionCache provideVariantMarketDescriptionCache(SDKInternalConfiguration cfg,
+    protected MarketDescriptionCache provideVariantMarketDescriptionCache(InternalCachesProvider internalCachesProvider,
+                                                                          SDKInternalConfiguration cfg,
                                                                           LogFastHttpDataFetcher httpDataFetcher,
                                                                           @Named("SportsApiJaxbDeserializer") Deserializer deserializer,
                                                                           MappingValidatorFactory mappingFactory) {
@@ -192,7 +188,8 @@ public class CachingModule extends AbstractModule {
     }
 
     @Provides @Singleton
-    protected VariantDescriptionCache provideVariantDescriptionCache(SDKInternalConfiguration cfg,
+    protected VariantDescriptionCache provideVariantDescriptionCache(InternalCachesProvider internalCachesProvider,
+                                                                         SDKInternalConfiguration cfg,
                                                                          LogHttpDataFetcher httpDataFetcher,
                                                                          @Named("SportsApiJaxbDeserializer") Deserializer deserializer,
                                                                          MappingValidatorFactory mappingFactory,
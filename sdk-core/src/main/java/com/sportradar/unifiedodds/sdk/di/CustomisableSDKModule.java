@@ -12,6 +12,7 @@ import com.google.inject.name.Names;
 import com.sportradar.uf.sportsapi.datamodel.MarketDescriptions;
 import com.sportradar.unifiedodds.sdk.SnapshotRequestManager;
 import com.sportradar.unifiedodds.sdk.impl.*;
+import com.sportradar.unifiedodds.sdk.metrics.MetricsReporter;
 
 /**
  * An injection module which is used to customise some of the SDK internal components
@@ -25,6 +26,8 @@ public class CustomisableSDKModule extends AbstractModule {
 
         bind(ChannelMessageConsumer.class).to(provideMessageConsumerImplementationClass());
         bind(SnapshotRequestManager.class).to(provideSnapshotRequestSchedulerImplementationClass()).in(Singleton.class);
+        bind(MetricsReporter.class).to(provideMetricsReporterImplementationClass()).in(Singleton.class);
+        bind(InternalCachesProvider.class).to(provideInternalCachesProviderImplementationClass()).in(Singleton.class);
 
         bind(new TypeLiteral<ObservableDataProvider<MarketDescriptions>>() { })
                 .annotatedWith(Names.named("AdditionalMarketMappingsProvider"))
@@ -46,6 +49,21 @@ public class CustomisableSDKModule extends AbstractModule {
         return DefaultSnapshotRequestManager.class;
     }
 
+    /**
+     * Binds the reporter which periodically receives the feed metrics
+     */
+    protected Class<? extends MetricsReporter> provideMetricsReporterImplementationClass() {
+        return LoggingMetricsReporter.class;
+    }
+
+    /**
+     * Binds the provider of the SDK internal caches, the {@link OffHeapProfileCachesProvider} can be used to keep
+     * the less recently used player and competitor profiles in off-heap memory
+     */
+    protected Class<? extends InternalCachesProvider> provideInternalCachesProviderImplementationClass() {
+        return InternalCachesProviderImpl.class;
+    }
+
     /**
      * Binds the optional additional market mappings provider
      */
@@ -20,9 +20,11 @@ import com.sportradar.unifiedodds.sdk.impl.apireaders.WhoAmIReader;
 import com.sportradar.unifiedodds.sdk.impl.markets.MappingValidatorFactory;
 import com.sportradar.unifiedodds.sdk.impl.markets.MarketManagerImpl;
 import com.sportradar.unifiedodds.sdk.impl.markets.mappings.MappingValidatorFactoryImpl;
+import com.sportradar.unifiedodds.sdk.impl.oddsbook.OddsBookManagerImpl;
 import com.sportradar.unifiedodds.sdk.impl.oddsentities.FeedMessageFactoryImpl;
 import com.sportradar.unifiedodds.sdk.impl.recovery.RecoveryManagerImpl;
 import com.sportradar.unifiedodds.sdk.impl.util.MdcScheduledExecutorService;
+import com.sportradar.unifiedodds.sdk.metrics.MetricsReporter;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -134,12 +136,15 @@ public class GeneralModule implements Module {
         binder.bind(ProducerDataProvider.class).to(ProducerDataProviderImpl.class).in(Singleton.class);
         binder.bind(SDKProducerManager.class).to(ProducerManagerImpl.class).in(Singleton.class);
         binder.bind(SportsInfoManager.class).to(SportsInfoManagerImpl.class).in(Singleton.class);
+        binder.bind(CacheSnapshotManager.class).in(Singleton.class);
         binder.bind(MarketDescriptionManager.class).to(MarketManagerImpl.class).in(Singleton.class);
         binder.bind(CashOutProbabilitiesManager.class).to(CashOutProbabilitiesManagerImpl.class).in(Singleton.class);
         binder.bind(MappingTypeProvider.class).to(MappingTypeProviderImpl.class).in(Singleton.class);
         binder.bind(BookingManager.class).to(BookingManagerImpl.class).in(Singleton.class);
         binder.bind(CustomBetManager.class).to(CustomBetManagerImpl.class).in(Singleton.class);
         binder.bind(EventChangeManager.class).to(EventChangeManagerImpl.class).in(Singleton.class);
+        binder.bind(OddsBookManagerImpl.class).in(Singleton.class);
+        binder.bind(OddsBookManager.class).to(OddsBookManagerImpl.class);
 
         // session
         binder.bind(OddsFeedSessionImpl.class);
@@ -221,19 +226,34 @@ public class GeneralModule implements Module {
         return new DeserializerImpl(messagesJaxbContext);
     }
 
+    /**
+     * Provides the {@link Deserializer} used by the channel consumers to deserialize received feed messages
+     *
+     * @return The {@link Deserializer} instance to be registered with the DI container
+     */
+    @Provides @Named("FeedMessageDeserializer")
+    private Deserializer provideFeedMessageDeserializer() {
+        if (configuration.isStreamingMessageDeserializationEnabled()) {
+            return new StreamingFeedMessageDeserializer(messagesJaxbContext);
+        }
+        return new DeserializerImpl(messagesJaxbContext);
+    }
+
     /**
      * Returns the statistics collection object used by the sdk
      *
+     * @param internalCachesProvider the provider of the caches of which the statistics are exposed
      * @return the statistics collection object used by the sdk
      */
     @Provides @Singleton
-    private UnifiedOddsStatistics provideUnifiedOddsStatistics(){
+    private UnifiedOddsStatistics provideUnifiedOddsStatistics(InternalCachesProvider internalCachesProvider){
         UnifiedOddsStatistics statsBean = null;
 
         MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
         try {
             ObjectName name = new ObjectName("com.sportradar.unifiedodds.sdk.impl:type=UnifiedOdds");
             statsBean = new UnifiedOddsStatistics();
+            statsBean.setMonitoredCaches(internalCachesProvider.getMonitoredCaches());
             if (!mbeanServer.isRegistered(name)) {
                 mbeanServer.registerMBean(statsBean, name);
             }
@@ -244,6 +264,30 @@ public class GeneralModule implements Module {
         return statsBean;
     }
 
+    /**
+     * Provides the {@link FeedMetrics} and registers its JMX view
+     *
+     * @param reporter the {@link MetricsReporter} which periodically receives the metrics
+     * @param taskScheduler the {@link SDKTaskScheduler} used to schedule the reporting
+     * @return the {@link FeedMetrics} used by the SDK
+     */
+    @Provides @Singleton
+    private FeedMetrics provideFeedMetrics(MetricsReporter reporter, SDKTaskScheduler taskScheduler) {
+        FeedMetrics feedMetrics = new FeedMetrics(reporter, taskScheduler, configuration.getMetricsReportInterval());
+
+        MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName("com.sportradar.unifiedodds.sdk.impl:type=FeedMetrics");
+            if (!mbeanServer.isRegistered(name)) {
+                mbeanServer.registerMBean(feedMetrics, name);
+            }
+        } catch (MalformedObjectNameException | NotCompliantMBeanException | MBeanRegistrationException | InstanceAlreadyExistsException e) {
+            logger.warn("FeedMetrics registration failed w/ ex.:", e);
+        }
+
+        return feedMetrics;
+    }
+
     /**
      * Provides the http client used to fetch data from the API
      */
@@ -347,4 +391,23 @@ public class GeneralModule implements Module {
         // current max channels is 4(Prematch + Live + Virtuals + System), so max 4 concurrent consumptions
         return Executors.newFixedThreadPool(5, namedThreadFactory);
     }
+
+    /**
+     * Provides an {@link ExecutorService} on which the API requests of multi-locale fetches are executed concurrently
+     *
+     * @return the {@link ExecutorService} used by the {@link com.sportradar.unifiedodds.sdk.caching.DataRouterManager}
+     */
+    @Provides @Singleton @Named("DedicatedApiFetchExecutor")
+    private ExecutorService providesDedicatedApiFetchExecutor(SDKInternalConfiguration configuration, WhoAmIReader whoAmIReader) {
+        Preconditions.checkNotNull(configuration);
+        Preconditions.checkNotNull(whoAmIReader);
+
+        ThreadFactory namedThreadFactory =
+                new ThreadFactoryBuilder()
+                        .setNameFormat(whoAmIReader.getSdkContextDescription() + "-api-t-%d")
+                        .setDaemon(true)
+                        .build();
+
+        return Executors.newFixedThreadPool(Math.max(1, configuration.getApiFetchParallelism()), namedThreadFactory);
+    }
 }
@@ -8,6 +8,7 @@ import com.sportradar.utils.URN;
 
 import java.io.Closeable;
 import java.util.Date;
+import java.util.Map;
 
 /**
  * Created on 2019-03-29
@@ -40,4 +41,6 @@ public interface InternalCachesProvider extends Closeable {
     Cache<URN, Date> getFixtureTimestampCache();
 
     Cache<String, Date> getIgnoreEventsTimelineCache();
+
+    Map<String, Cache<?, ?>> getMonitoredCaches();
 }
@@ -2,7 +2,10 @@ package com.sportradar.unifiedodds.sdk.di;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableMap;
+import com.google.inject.Inject;
 import com.sportradar.unifiedodds.sdk.OperationManager;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
 import com.sportradar.unifiedodds.sdk.caching.*;
 import com.sportradar.unifiedodds.sdk.caching.ci.markets.MarketDescriptionCI;
 import com.sportradar.unifiedodds.sdk.caching.ci.markets.VariantDescriptionCI;
@@ -10,6 +13,7 @@ import com.sportradar.utils.URN;
 
 import java.io.IOException;
 import java.util.Date;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -18,6 +22,8 @@ import java.util.concurrent.TimeUnit;
  * @author e.roznik
  */
 class InternalCachesProviderImpl implements InternalCachesProvider {
+    private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+
     private final Cache<URN, SportCI> sportDataCache;
     private final Cache<URN, CategoryCI> categoryDataCache;
     private final Cache<URN, SportEventCI> sportEventCache;
@@ -36,8 +42,26 @@ class InternalCachesProviderImpl implements InternalCachesProvider {
     private final SDKCacheRemovalListener removalListenerCompetitorProfileCache;
     private final SDKCacheRemovalListener removalListenerSimpleTeamCompetitorCache;
     private final SDKCacheRemovalListener removalListenerSportEventStatusCache;
+    private final SDKInternalConfiguration configuration;
+    private final CacheItemWeigher cacheItemWeigher;
+    private final Map<String, Cache<?, ?>> monitoredCaches;
+
+    @Inject
+    InternalCachesProviderImpl(SDKInternalConfiguration configuration) {
+        this(configuration, true);
+    }
+
+    /**
+     * Initializes a new {@link InternalCachesProviderImpl} instance
+     *
+     * @param configuration the {@link SDKInternalConfiguration} used to configure the caches
+     * @param withProfileCaches <code>false</code> if the player profile and competitor caches are provided by another
+     *                          {@link InternalCachesProvider}, they are then neither built nor monitored
+     */
+    InternalCachesProviderImpl(SDKInternalConfiguration configuration, boolean withProfileCaches) {
+        this.configuration = configuration;
+        this.cacheItemWeigher = new CacheItemWeigher(Math.max(1, configuration.getDesiredLocales().size()));
 
-    InternalCachesProviderImpl() {
         removalListenerSportEventCache = new SDKCacheRemovalListener<>("SportEventCache");
         removalListenerPlayerProfileCache = new SDKCacheRemovalListener<>("PlayerProfileCache");
         removalListenerCompetitorProfileCache = new SDKCacheRemovalListener<>("CompetitorProfileCache");
@@ -47,36 +71,68 @@ class InternalCachesProviderImpl implements InternalCachesProvider {
         sportDataCache = CacheBuilder.newBuilder().build();
         categoryDataCache = CacheBuilder.newBuilder().build();
 
-        sportEventCache = CacheBuilder.newBuilder()
+        sportEventCache = newMonitoredCacheBuilder("sportEvent")
                 .expireAfterWrite(12, TimeUnit.HOURS)
                 .removalListener(removalListenerSportEventCache)
                 .build();
 
-        playerProfileCache = CacheBuilder.newBuilder()
-                .expireAfterWrite(OperationManager.getProfileCacheTimeout().toHours(), TimeUnit.HOURS)
-                .removalListener(removalListenerPlayerProfileCache)
-                .build();
-        competitorCache = CacheBuilder.newBuilder()
-                .expireAfterWrite(OperationManager.getProfileCacheTimeout().toHours(), TimeUnit.HOURS)
-                .removalListener(removalListenerCompetitorProfileCache)
-                .build();
+        if (withProfileCaches) {
+            playerProfileCache = newMonitoredCacheBuilder("playerProfile")
+                    .expireAfterWrite(OperationManager.getProfileCacheTimeout().toHours(), TimeUnit.HOURS)
+                    .removalListener(removalListenerPlayerProfileCache)
+                    .build();
+            competitorCache = newMonitoredCacheBuilder("competitor")
+                    .expireAfterWrite(OperationManager.getProfileCacheTimeout().toHours(), TimeUnit.HOURS)
+                    .removalListener(removalListenerCompetitorProfileCache)
+                    .build();
+        } else {
+            playerProfileCache = null;
+            competitorCache = null;
+        }
         simpleTeamCompetitorCache = CacheBuilder.newBuilder()
                 .expireAfterWrite(24, TimeUnit.HOURS)
                 .removalListener(removalListenerSimpleTeamCompetitorCache)
                 .build();
 
-        sportEventStatusCache = CacheBuilder.newBuilder()
+        sportEventStatusCache = newMonitoredCacheBuilder("sportEventStatus")
                 .expireAfterWrite(OperationManager.getSportEventStatusCacheTimeout().toMinutes(), TimeUnit.MINUTES)
                 .removalListener(removalListenerSportEventStatusCache)
                 .build();
 
         invariantMarketCache = CacheBuilder.newBuilder().build(); // timer cleanup & refresh
         variantDescriptionCache = CacheBuilder.newBuilder().build(); // timer cleanup & refresh
-        variantMarketCache = CacheBuilder.newBuilder().expireAfterAccess(OperationManager.getVariantMarketDescriptionCacheTimeout().toHours(), TimeUnit.HOURS).build();
+        variantMarketCache = newMonitoredCacheBuilder("variantMarket").expireAfterAccess(OperationManager.getVariantMarketDescriptionCacheTimeout().toHours(), TimeUnit.HOURS).build();
         fixtureTimestampCache = CacheBuilder.newBuilder().expireAfterWrite(2, TimeUnit.MINUTES).build();
         ignoreEventsTimelineCache = CacheBuilder.newBuilder().expireAfterAccess(OperationManager.getIgnoreBetPalTimelineSportEventStatusCacheTimeout().toHours(), TimeUnit.HOURS).build();
 
         dispatchedFixtureChanges = CacheBuilder.newBuilder().expireAfterWrite(1, TimeUnit.HOURS).build();
+
+        ImmutableMap.Builder<String, Cache<?, ?>> caches = ImmutableMap.builder();
+        caches.put("SportEventCache", sportEventCache);
+        if (withProfileCaches) {
+            caches.put("PlayerProfileCache", playerProfileCache);
+            caches.put("CompetitorCache", competitorCache);
+        }
+        caches.put("SportEventStatusCache", sportEventStatusCache);
+        caches.put("VariantMarketCache", variantMarketCache);
+        monitoredCaches = caches.build();
+    }
+
+    /**
+     * Returns a builder of a cache which records its statistics and, if a memory budget is configured for it,
+     * evicts the least recently used items once the estimated size of its items exceeds the budget
+     *
+     * @param cacheName the name of the cache used for the {@link SDKInternalConfiguration#getCacheMemoryLimit(String)}
+     * @return the builder of the cache
+     */
+    private CacheBuilder<Object, Object> newMonitoredCacheBuilder(String cacheName) {
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().recordStats();
+
+        int memoryLimit = configuration.getCacheMemoryLimit(cacheName);
+        if (memoryLimit > 0) {
+            builder = builder.maximumWeight(memoryLimit * BYTES_PER_MEGABYTE).weigher(cacheItemWeigher);
+        }
+        return builder;
     }
 
     @Override
@@ -140,6 +196,9 @@ class InternalCachesProviderImpl implements InternalCachesProvider {
     @Override
     public Cache<String, Date> getIgnoreEventsTimelineCache() { return ignoreEventsTimelineCache; }
 
+    @Override
+    public Map<String, Cache<?, ?>> getMonitoredCaches() { return monitoredCaches; }
+
     /**
      * Closes this stream and releases any system resources associated
      * with it. If the stream is already closed then invoking this
@@ -163,8 +222,10 @@ class InternalCachesProviderImpl implements InternalCachesProvider {
         sportDataCache.invalidateAll();
         categoryDataCache.invalidateAll();
         sportEventCache.invalidateAll();
-        playerProfileCache.invalidateAll();
-        competitorCache.invalidateAll();
+        if (playerProfileCache != null) {
+            playerProfileCache.invalidateAll();
+            competitorCache.invalidateAll();
+        }
         simpleTeamCompetitorCache.invalidateAll();
         sportEventStatusCache.invalidateAll();
         invariantMarketCache.invalidateAll();
@@ -37,13 +37,10 @@ public class MasterInjectionModule extends AbstractModule {
 
         bind(SDKInternalConfiguration.class).toInstance(config);
 
-        InternalCachesProvider internalCachesProvider = new InternalCachesProviderImpl();
-        bind(InternalCachesProvider.class).toInstance(internalCachesProvider);
-
         install(new GeneralModule(sdkListener, config, new HttpClientFactory()));
         install(new ReadersModule());
         install(new DataProvidersModule());
-        install(new CachingModule(internalCachesProvider));
+        install(new CachingModule());
         install(new CustomBetModule());
         install(new MessageProcessorPipeline());
         install(new MarketsModule());
@@ -9,14 +9,20 @@ import com.google.inject.AbstractModule;
 import com.google.inject.Provides;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
 import com.sportradar.unifiedodds.sdk.caching.SportEventCache;
 import com.sportradar.unifiedodds.sdk.caching.SportEventStatusCache;
 import com.sportradar.unifiedodds.sdk.impl.FeedMessageProcessor;
+import com.sportradar.unifiedodds.sdk.impl.FeedMetrics;
+import com.sportradar.unifiedodds.sdk.impl.oddsbook.OddsBookManagerImpl;
 import com.sportradar.unifiedodds.sdk.impl.processing.pipeline.CacheMessageProcessor;
 import com.sportradar.unifiedodds.sdk.impl.processing.pipeline.CompositeMessageProcessor;
 import com.sportradar.unifiedodds.sdk.impl.processing.pipeline.NoOpProcessedFixtureChangesTracker;
+import com.sportradar.unifiedodds.sdk.impl.processing.pipeline.OddsBookMessageProcessor;
 import com.sportradar.unifiedodds.sdk.impl.processing.pipeline.ProcessedFixtureChangesTracker;
 
+import java.util.List;
+
 /**
  * A derived injection module managing SDK message processing pipeline
  */
@@ -30,14 +36,21 @@ public class MessageProcessorPipeline extends AbstractModule {
     protected FeedMessageProcessor providesCacheMessageProcessor(
             SportEventStatusCache sportEventStatusCache,
             SportEventCache sportEventCache,
-            ProcessedFixtureChangesTracker processedFixtureChangesTracker) {
-        return new CacheMessageProcessor(sportEventStatusCache, sportEventCache, processedFixtureChangesTracker);
+            ProcessedFixtureChangesTracker processedFixtureChangesTracker,
+            FeedMetrics feedMetrics) {
+        return new CacheMessageProcessor(sportEventStatusCache, sportEventCache, processedFixtureChangesTracker, feedMetrics);
     }
 
     @Provides
-    protected CompositeMessageProcessor providesCompositeMessageProcessor(@Named("CacheMessageProcessor") FeedMessageProcessor cacheMessageProcessor) {
-        return new CompositeMessageProcessor(Lists.newArrayList(
+    protected CompositeMessageProcessor providesCompositeMessageProcessor(@Named("CacheMessageProcessor") FeedMessageProcessor cacheMessageProcessor,
+                                                                          SDKInternalConfiguration configuration,
+                                                                          OddsBookManagerImpl oddsBookManager) {
+        List<FeedMessageProcessor> processors = Lists.newArrayList(
                 cacheMessageProcessor
-        ));
+        );
+        if (configuration.isOddsBookEnabled()) {
+            processors.add(new OddsBookMessageProcessor(oddsBookManager));
+        }
+        return new CompositeMessageProcessor(processors);
     }
 }
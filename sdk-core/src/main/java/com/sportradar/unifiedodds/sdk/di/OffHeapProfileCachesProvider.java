@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.di;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.collect.ImmutableMap;
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.sportradar.unifiedodds.sdk.OperationManager;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.caching.*;
+import com.sportradar.unifiedodds.sdk.caching.ci.markets.MarketDescriptionCI;
+import com.sportradar.unifiedodds.sdk.caching.ci.markets.VariantDescriptionCI;
+import com.sportradar.unifiedodds.sdk.caching.exportable.ExportableCompetitorCI;
+import com.sportradar.unifiedodds.sdk.caching.exportable.ExportablePlayerProfileCI;
+import com.sportradar.unifiedodds.sdk.caching.impl.OffHeapStore;
+import com.sportradar.unifiedodds.sdk.caching.impl.OffHeapTieredCache;
+import com.sportradar.unifiedodds.sdk.caching.impl.ci.CacheItemFactory;
+import com.sportradar.utils.URN;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An {@link InternalCachesProvider} which keeps only the most recently used player and competitor profiles on the
+ * heap and stores the rest in off-heap memory ({@link SDKInternalConfiguration#getOffHeapCacheSize()}), so large
+ * profile caches do not add to the garbage collection pauses. The other caches are the same as the ones of the
+ * default provider.
+ *
+ * The <code>asMap()</code> of the profile caches deserializes and rebuilds every off-heap profile on each call, so it
+ * costs as much as reading the whole store. The cache status and the cache export of the SDK use the cheaper
+ * {@link OffHeapTieredCache#countItemTypes()} and {@link OffHeapTieredCache#exportItems()} instead.
+ *
+ * The provider is enabled by overriding
+ * {@link CustomisableSDKModule#provideInternalCachesProviderImplementationClass()}
+ */
+public class OffHeapProfileCachesProvider implements InternalCachesProvider {
+    private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    private final InternalCachesProvider delegate;
+    private final Cache<URN, PlayerProfileCI> playerProfileCache;
+    private final Cache<URN, CompetitorCI> competitorCache;
+    private final Map<String, Cache<?, ?>> monitoredCaches;
+
+    /**
+     * Initializes a new {@link OffHeapProfileCachesProvider} instance
+     *
+     * @param configuration the {@link SDKInternalConfiguration} used to configure the caches
+     * @param cacheItemFactory the provider of the factory used to rebuild the profiles stored off-heap, a
+     *                         {@link Provider} since the factory itself depends on the provided caches
+     */
+    @Inject
+    public OffHeapProfileCachesProvider(SDKInternalConfiguration configuration, Provider<CacheItemFactory> cacheItemFactory) {
+        Preconditions.checkNotNull(configuration);
+        Preconditions.checkNotNull(cacheItemFactory);
+
+        this.delegate = new InternalCachesProviderImpl(configuration, false);
+
+        long storeCapacity = configuration.getOffHeapCacheSize() * BYTES_PER_MEGABYTE / 2;
+        long profileTimeout = OperationManager.getProfileCacheTimeout().toHours();
+        this.playerProfileCache = new OffHeapTieredCache<>(
+                "PlayerProfileCache",
+                configuration.getOffHeapCacheHotTierSize(),
+                new OffHeapStore<>(storeCapacity),
+                exportable -> cacheItemFactory.get().buildPlayerProfileCI((ExportablePlayerProfileCI) exportable),
+                profileTimeout,
+                TimeUnit.HOURS);
+        this.competitorCache = new OffHeapTieredCache<>(
+                "CompetitorCache",
+                configuration.getOffHeapCacheHotTierSize(),
+                new OffHeapStore<>(storeCapacity),
+                exportable -> cacheItemFactory.get().buildCompetitorProfileCI((ExportableCompetitorCI) exportable),
+                profileTimeout,
+                TimeUnit.HOURS);
+
+        Map<String, Cache<?, ?>> caches = new HashMap<>(delegate.getMonitoredCaches());
+        caches.put("PlayerProfileCache", playerProfileCache);
+        caches.put("CompetitorCache", competitorCache);
+        this.monitoredCaches = ImmutableMap.copyOf(caches);
+    }
+
+    @Override
+    public Cache<URN, SportCI> getSportDataCache() {
+        return delegate.getSportDataCache();
+    }
+
+    @Override
+    public Cache<URN, CategoryCI> getCategoryDataCache() {
+        return delegate.getCategoryDataCache();
+    }
+
+    @Override
+    public Cache<URN, SportEventCI> getSportEventCache() {
+        return delegate.getSportEventCache();
+    }
+
+    @Override
+    public Cache<URN, PlayerProfileCI> getPlayerProfileCache() {
+        return playerProfileCache;
+    }
+
+    @Override
+    public Cache<URN, CompetitorCI> getCompetitorCache() {
+        return competitorCache;
+    }
+
+    @Override
+    public Cache<URN, CompetitorCI> getSimpleTeamCompetitorCache() {
+        return delegate.getSimpleTeamCompetitorCache();
+    }
+
+    @Override
+    public Cache<String, SportEventStatusCI> getSportEventStatusCache() {
+        return delegate.getSportEventStatusCache();
+    }
+
+    @Override
+    public Cache<String, MarketDescriptionCI> getInvariantMarketCache() {
+        return delegate.getInvariantMarketCache();
+    }
+
+    @Override
+    public Cache<String, MarketDescriptionCI> getVariantMarketCache() {
+        return delegate.getVariantMarketCache();
+    }
+
+    @Override
+    public Cache<String, String> getDispatchedFixtureChanges() {
+        return delegate.getDispatchedFixtureChanges();
+    }
+
+    @Override
+    public Cache<String, VariantDescriptionCI> getVariantDescriptionCache() {
+        return delegate.getVariantDescriptionCache();
+    }
+
+    @Override
+    public Cache<URN, Date> getFixtureTimestampCache() {
+        return delegate.getFixtureTimestampCache();
+    }
+
+    @Override
+    public Cache<String, Date> getIgnoreEventsTimelineCache() {
+        return delegate.getIgnoreEventsTimelineCache();
+    }
+
+    @Override
+    public Map<String, Cache<?, ?>> getMonitoredCaches() {
+        return monitoredCaches;
+    }
+
+    /**
+     * Clears all the caches and releases the off-heap memory
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+        playerProfileCache.invalidateAll();
+        competitorCache.invalidateAll();
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Stopwatch;
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.SportsInfoManager;
+import com.sportradar.unifiedodds.sdk.caching.exportable.CacheSnapshotReader;
+import com.sportradar.unifiedodds.sdk.caching.exportable.CacheSnapshotWriter;
+import com.sportradar.unifiedodds.sdk.caching.exportable.CacheType;
+import com.sportradar.unifiedodds.sdk.caching.exportable.ExportableCI;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stores the sport data, sport event and profile caches to the configured snapshot file
+ * ({@link SDKInternalConfiguration#getCacheSnapshotFile()}) and loads them back when the SDK is restarted,
+ * so a restarted SDK does not need to fetch all the cached items from the API again
+ */
+public class CacheSnapshotManager {
+    private static final Logger logger = LoggerFactory.getLogger(CacheSnapshotManager.class);
+
+    private final Path snapshotFile;
+    private final SportsInfoManager sportsInfoManager;
+    private final SDKTaskScheduler scheduler;
+    private final String sdkVersion;
+    private volatile boolean opened;
+
+    @Inject
+    public CacheSnapshotManager(SDKInternalConfiguration configuration,
+                                SportsInfoManager sportsInfoManager,
+                                SDKTaskScheduler scheduler,
+                                @Named("version") String sdkVersion) {
+        Preconditions.checkNotNull(configuration);
+        Preconditions.checkNotNull(sportsInfoManager);
+        Preconditions.checkNotNull(scheduler);
+        Preconditions.checkNotNull(sdkVersion);
+
+        this.snapshotFile = configuration.getCacheSnapshotFile() == null ? null : Paths.get(configuration.getCacheSnapshotFile());
+        this.sportsInfoManager = sportsInfoManager;
+        this.scheduler = scheduler;
+        this.sdkVersion = sdkVersion;
+
+        int interval = configuration.getCacheSnapshotInterval();
+        if (snapshotFile != null && interval > 0) {
+            scheduler.scheduleAtFixedRate("CacheSnapshotTask", this::onTimerElapsed, interval, interval, TimeUnit.MINUTES);
+        }
+    }
+
+    /**
+     * Starts the import of the stored snapshot in the background, the items fetched from the API in the mean time
+     * are merged with the imported ones
+     */
+    public void open() {
+        if (snapshotFile == null) {
+            return;
+        }
+
+        opened = true;
+        if (Files.exists(snapshotFile)) {
+            scheduler.startOneTimeTask("CacheSnapshotImportTask", this::importSnapshot);
+        }
+    }
+
+    /**
+     * Stores the snapshot of the caches, if the instance was opened
+     */
+    public void close() {
+        if (opened) {
+            exportSnapshot();
+        }
+    }
+
+    /**
+     * Imports the items of the stored snapshot into the caches
+     *
+     * @return the number of imported items, -1 if the snapshot could not be imported
+     */
+    public synchronized long importSnapshot() {
+        Preconditions.checkState(snapshotFile != null, "The cache snapshot file is not configured");
+
+        Stopwatch timer = Stopwatch.createStarted();
+        long imported = 0;
+        try (CacheSnapshotReader reader = new CacheSnapshotReader(snapshotFile)) {
+            if (!sdkVersion.equals(reader.getSdkVersion())) {
+                logger.info("Cache snapshot {} was created by the SDK version {}, it is not imported", snapshotFile, reader.getSdkVersion());
+                return -1;
+            }
+
+            List<ExportableCI> block;
+            while ((block = reader.readBlock()) != null) {
+                sportsInfoManager.cacheImport(block);
+                imported += block.size();
+            }
+            logger.info("Imported {} cache items from the snapshot {} created at {}, execution time: {}", imported, snapshotFile, reader.getCreated(), timer.stop());
+            return imported;
+        } catch (Exception e) {
+            logger.warn("Cache snapshot {} could not be imported, {} items were imported", snapshotFile, imported, e);
+            return -1;
+        }
+    }
+
+    /**
+     * Stores the current items of the sport data, sport event and profile caches to the snapshot file
+     *
+     * @return the number of stored items, -1 if the snapshot could not be stored
+     */
+    public synchronized long exportSnapshot() {
+        Preconditions.checkState(snapshotFile != null, "The cache snapshot file is not configured");
+
+        Stopwatch timer = Stopwatch.createStarted();
+        try (CacheSnapshotWriter writer = new CacheSnapshotWriter(snapshotFile, sdkVersion)) {
+            // the caches are exported one by one, so only the items of a single cache are held in memory
+            for (CacheType cacheType : CacheType.All) {
+                for (ExportableCI item : sportsInfoManager.cacheExport(EnumSet.of(cacheType))) {
+                    writer.write(item);
+                }
+            }
+            long exported = writer.commit();
+            logger.info("Stored {} cache items to the snapshot {}, execution time: {}", exported, snapshotFile, timer.stop());
+            return exported;
+        } catch (Exception e) {
+            logger.warn("Cache snapshot {} could not be stored", snapshotFile, e);
+            return -1;
+        }
+    }
+
+    private void onTimerElapsed() {
+        exportSnapshot();
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.rabbitmq.client.Channel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Acknowledges the messages delivered on a {@link Channel} once they are processed. The messages can be processed
+ * out of order (ex. by different dispatch workers), so only the longest run of processed delivery tags is acknowledged,
+ * with a single <code>multiple=true</code> acknowledgement once it grows by the configured batch size. A smaller run
+ * is acknowledged once its oldest message waits longer than the configured max delay, the delay is checked on each
+ * processed message and by {@link #flushExpired()}, which should be invoked periodically so the run is acknowledged
+ * even when no further messages arrive.
+ */
+class ChannelDeliveryAcknowledger {
+    private static final Logger logger = LoggerFactory.getLogger(ChannelDeliveryAcknowledger.class);
+
+    /**
+     * The {@link Channel} on which the messages were delivered, the delivery tags are scoped to it
+     */
+    private final Channel channel;
+
+    /**
+     * The number of processed messages which are acknowledged together
+     */
+    private final int batchSize;
+
+    /**
+     * The max time (in nanoseconds) a processed message waits for the acknowledgement
+     */
+    private final long maxDelayNanos;
+
+    /**
+     * The delivery tags of the processed messages which can not be acknowledged yet, because some message
+     * delivered before them is still being processed
+     */
+    private final SortedSet<Long> processedAhead = new TreeSet<>();
+
+    /**
+     * The highest delivery tag up to which all the delivered messages were processed
+     */
+    private long lastProcessed;
+
+    /**
+     * The highest acknowledged delivery tag
+     */
+    private long lastAcknowledged;
+
+    /**
+     * The time (from {@link System#nanoTime()}) at which the oldest processed but unacknowledged message was processed
+     */
+    private long pendingSince;
+
+    /**
+     * Initializes a new instance of the {@link ChannelDeliveryAcknowledger}
+     *
+     * @param channel the {@link Channel} on which the messages are delivered
+     * @param batchSize the number of processed messages which are acknowledged together
+     * @param maxDelay the max time (in milliseconds) a processed message waits for the acknowledgement
+     */
+    ChannelDeliveryAcknowledger(Channel channel, int batchSize, long maxDelay) {
+        Preconditions.checkNotNull(channel);
+        Preconditions.checkArgument(batchSize > 0, "batchSize must be greater than 0");
+        Preconditions.checkArgument(maxDelay >= 0, "maxDelay must not be negative");
+
+        this.channel = channel;
+        this.batchSize = batchSize;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelay);
+    }
+
+    /**
+     * Records the message with the provided delivery tag as processed and acknowledges the processed messages
+     * once the batch size or the max delay is reached
+     *
+     * @param deliveryTag the delivery tag of the processed message
+     */
+    synchronized void onProcessed(long deliveryTag) {
+        if (deliveryTag != lastProcessed + 1) {
+            processedAhead.add(deliveryTag);
+            return;
+        }
+
+        lastProcessed = deliveryTag;
+        while (!processedAhead.isEmpty() && processedAhead.first() == lastProcessed + 1) {
+            lastProcessed = processedAhead.first();
+            processedAhead.remove(lastProcessed);
+        }
+
+        if (pendingSince == 0) {
+            pendingSince = System.nanoTime();
+        }
+
+        if (lastProcessed - lastAcknowledged >= batchSize || isDelayExpired()) {
+            acknowledgeProcessed();
+        }
+    }
+
+    /**
+     * Acknowledges the processed messages if the oldest of them waits longer than the max delay
+     */
+    synchronized void flushExpired() {
+        if (lastProcessed > lastAcknowledged && isDelayExpired()) {
+            acknowledgeProcessed();
+        }
+    }
+
+    /**
+     * Acknowledges all the processed messages, regardless of the batch size and the max delay
+     */
+    synchronized void flush() {
+        if (lastProcessed > lastAcknowledged) {
+            acknowledgeProcessed();
+        }
+    }
+
+    private boolean isDelayExpired() {
+        return System.nanoTime() - pendingSince >= maxDelayNanos;
+    }
+
+    private void acknowledgeProcessed() {
+        boolean multiple = lastProcessed - lastAcknowledged > 1;
+        try {
+            channel.basicAck(lastProcessed, multiple);
+        } catch (Exception e) {
+            // the channel was closed in the meantime, the unacknowledged deliveries are discarded with it
+            logger.debug("Acknowledgement of delivery {} on channel {} failed: {}", lastProcessed, channel.getChannelNumber(), e.getMessage());
+        }
+        lastAcknowledged = lastProcessed;
+        pendingSince = 0;
+    }
+}
@@ -29,4 +29,36 @@ public interface ChannelMessageConsumer {
      * @param receivedAt - the time when message was received (in milliseconds since EPOCH UTC)
      */
     void onMessageReceived(String routingKey, byte[] body, AMQP.BasicProperties properties, long receivedAt);
+
+    /**
+     * Consumes the provided message payload and runs the provided callback once the message is processed
+     *
+     * @param routingKey - the source routing key of the payload
+     * @param body - the message payload
+     * @param properties - the BasicProperties associated to the message
+     * @param receivedAt - the time when message was received (in milliseconds since EPOCH UTC)
+     * @param onProcessed - the callback which is run once the message is processed (also if the processing failed)
+     */
+    default void onMessageReceived(String routingKey, byte[] body, AMQP.BasicProperties properties, long receivedAt, Runnable onProcessed) {
+        try {
+            onMessageReceived(routingKey, body, properties, receivedAt);
+        } finally {
+            onProcessed.run();
+        }
+    }
+
+    /**
+     * Consumes the provided message payload whose routing key was already parsed and runs the provided callback once
+     * the message is processed. The consumers which use the routing key data override it, so the routing key is
+     * parsed only once on its way through the wrapping consumers.
+     *
+     * @param routingKeyInfo - the parsed source routing key of the payload
+     * @param body - the message payload
+     * @param properties - the BasicProperties associated to the message
+     * @param receivedAt - the time when message was received (in milliseconds since EPOCH UTC)
+     * @param onProcessed - the callback which is run once the message is processed (also if the processing failed)
+     */
+    default void onMessageReceived(RoutingKeyInfo routingKeyInfo, byte[] body, AMQP.BasicProperties properties, long receivedAt, Runnable onProcessed) {
+        onMessageReceived(routingKeyInfo.getFullRoutingKey(), body, properties, receivedAt, onProcessed);
+    }
 }
@@ -11,8 +11,10 @@ import com.rabbitmq.client.AMQP;
 import com.sportradar.unifiedodds.sdk.LoggerDefinitions;
 import com.sportradar.unifiedodds.sdk.ProducerManager;
 import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.DeserializationException;
 import com.sportradar.unifiedodds.sdk.impl.oddsentities.MessageTimestampImpl;
 import com.sportradar.unifiedodds.sdk.impl.util.FeedMessageHelper;
+import com.sportradar.unifiedodds.sdk.metrics.PipelineStage;
 import com.sportradar.unifiedodds.sdk.oddsentities.MessageTimestamp;
 import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
 import com.sportradar.utils.URN;
@@ -55,6 +57,17 @@ public class ChannelMessageConsumerImpl implements ChannelMessageConsumer {
      */
     private final Unmarshaller unmarshaller;
 
+    /**
+     * The thread-confined {@link Deserializer}, used when concurrent unmarshalling or streaming deserialization is enabled
+     */
+    private final Deserializer messageDeserializer;
+
+    /**
+     * An indication if the payloads should be deserialized with the {@link #messageDeserializer} instead of the
+     * lock guarded {@link #unmarshaller}
+     */
+    private final boolean concurrentUnmarshalling;
+
     /**
      * A {@link RoutingKeyParser} used to parse the rabbit's routing key
      */
@@ -87,31 +100,48 @@ public class ChannelMessageConsumerImpl implements ChannelMessageConsumer {
 
     private final int consumerName;
 
+    /**
+     * The {@link FeedMetrics} used to record the deserialization times
+     */
+    private final FeedMetrics feedMetrics;
+
     /**
      * @param unmarshaller an {@link Unmarshaller} instance used to deserialize the payloads
      * @param routingKeyParser a {@link RoutingKeyParser} used to parse the rabbit's routing key
      * @param configuration the associated feed configuration
      * @param producerManager the producer manager
      * @param jabxReentrantLock lock for jabx unmarshaller
+     * @param messageDeserializer a {@link Deserializer} used to deserialize the payloads when concurrent unmarshalling
+     *                            or streaming deserialization is enabled
+     * @param feedMetrics the {@link FeedMetrics} used to record the deserialization times
      */
     @Inject
     public ChannelMessageConsumerImpl(@Named("MessageUnmarshaller") Unmarshaller unmarshaller,
                                       RoutingKeyParser routingKeyParser,
                                       SDKInternalConfiguration configuration,
                                       SDKProducerManager producerManager,
-                                      ReentrantLock jabxReentrantLock) {
+                                      ReentrantLock jabxReentrantLock,
+                                      @Named("FeedMessageDeserializer") Deserializer messageDeserializer,
+                                      FeedMetrics feedMetrics) {
 
         Preconditions.checkNotNull(unmarshaller);
         Preconditions.checkNotNull(routingKeyParser);
         Preconditions.checkNotNull(configuration);
         Preconditions.checkNotNull(producerManager);
         Preconditions.checkNotNull(jabxReentrantLock);
+        Preconditions.checkNotNull(messageDeserializer);
+        Preconditions.checkNotNull(feedMetrics);
 
         this.unmarshaller = unmarshaller;
         this.routingKeyParser = routingKeyParser;
         this.configuration = configuration;
         this.producerManager = producerManager;
         this.jabxLock = jabxReentrantLock;
+        this.messageDeserializer = messageDeserializer;
+        this.feedMetrics = feedMetrics;
+        // the streaming deserializer keeps its parsers per-thread, so it never needs the shared lock either
+        this.concurrentUnmarshalling = configuration.isConcurrentMessageUnmarshallingEnabled()
+                || configuration.isStreamingMessageDeserializationEnabled();
         this.consumerName = UUID.randomUUID().hashCode();
     }
 
@@ -137,6 +167,29 @@ public class ChannelMessageConsumerImpl implements ChannelMessageConsumer {
      */
     @Override
     public void onMessageReceived(String routingKey, byte[] body, AMQP.BasicProperties properties, long receivedAt) {
+        consumeMessage(routingKeyParser.getRoutingKeyInfo(routingKey), body, properties, receivedAt);
+    }
+
+    /**
+     * Consumes the provided message payload whose routing key was already parsed and runs the provided callback once
+     * the message is processed
+     *
+     * @param routingKeyInfo - the parsed source routing key of the payload
+     * @param body - the message payload
+     * @param properties - the BasicProperties associated to the message
+     * @param receivedAt - the time when message was received (in milliseconds since EPOCH UTC)
+     * @param onProcessed - the callback which is run once the message is processed (also if the processing failed)
+     */
+    @Override
+    public void onMessageReceived(RoutingKeyInfo routingKeyInfo, byte[] body, AMQP.BasicProperties properties, long receivedAt, Runnable onProcessed) {
+        try {
+            consumeMessage(routingKeyInfo, body, properties, receivedAt);
+        } finally {
+            onProcessed.run();
+        }
+    }
+
+    private void consumeMessage(RoutingKeyInfo routingKeyInfo, byte[] body, AMQP.BasicProperties properties, long receivedAt) {
         if (!isOpened || messageConsumer == null) {
             throw new IllegalStateException("Received message on an un-opened message consumer");
         }
@@ -157,7 +210,7 @@ public class ChannelMessageConsumerImpl implements ChannelMessageConsumer {
 
         MessageTimestamp timestamp = new MessageTimestampImpl(createAt, sentAt, receivedAt, 0);
 
-        RoutingKeyInfo routingKeyInfo = routingKeyParser.getRoutingKeyInfo(routingKey);
+        String routingKey = routingKeyInfo.getFullRoutingKey();
 
         if (body == null) {
             loggerTrafficFailure.warn("{} {} {} {} {}", messageConsumer.getConsumerDescription(), trafficLogDelimiter, routingKey, trafficLogDelimiter, "Message payload is a null reference");
@@ -168,9 +221,9 @@ public class ChannelMessageConsumerImpl implements ChannelMessageConsumer {
         UnmarshalledMessage unmarshalledMessage;
         int producerId;
         try {
-            jabxLock.lock();
-            unmarshalledMessage = (UnmarshalledMessage) unmarshaller.unmarshal(new ByteArrayInputStream(body));
-            jabxLock.unlock();
+            long deserializationStart = System.nanoTime();
+            unmarshalledMessage = unmarshal(body);
+            feedMetrics.record(unmarshalledMessage, PipelineStage.Deserialization, System.nanoTime() - deserializationStart);
             producerId = FeedMessageHelper.provideProducerIdFromMessage(unmarshalledMessage);
 
             if(producerManager.isProducerEnabled(producerId))
@@ -184,10 +237,7 @@ public class ChannelMessageConsumerImpl implements ChannelMessageConsumer {
                     loggerTraffic.debug("{} {} {} {} {}", messageConsumer.getConsumerDescription(), trafficLogDelimiter, routingKey, trafficLogDelimiter, producerId);
                 }
             }
-        } catch (JAXBException jaxbException) {
-            if(jabxLock.isLocked()){
-                jabxLock.unlock();
-            }
+        } catch (JAXBException | DeserializationException jaxbException) {
             loggerTrafficFailure.warn("{} {} {} {} {}", messageConsumer.getConsumerDescription(), trafficLogDelimiter, routingKey, trafficLogDelimiter, provideCleanMsgForLog(body));
             dispatchUnparsableMessage(
                             String.format("Problem deserializing received message. RoutingKey:%s, Message:%s, ex: %s",
@@ -199,9 +249,6 @@ public class ChannelMessageConsumerImpl implements ChannelMessageConsumer {
                             timestamp);
             return;
         } catch (Exception e){
-            if(jabxLock.isLocked()){
-                jabxLock.unlock();
-            }
             loggerTrafficFailure.warn("{} {} {} {} {}", messageConsumer.getConsumerDescription(), trafficLogDelimiter, routingKey, trafficLogDelimiter, provideCleanMsgForLog(body));
             dispatchUnparsableMessage(
                     String.format("Problem consuming received message. RoutingKey:%s, Message:%s, ex: %s",
@@ -231,6 +278,25 @@ public class ChannelMessageConsumerImpl implements ChannelMessageConsumer {
         messageConsumer.onMessageReceived(unmarshalledMessage, body, routingKeyInfo, timestamp);
     }
 
+    /**
+     * Unmarshals the provided payload, either with the per-thread deserializer or with the shared lock guarded unmarshaller
+     *
+     * @param body the message payload
+     * @return the unmarshalled message
+     */
+    private UnmarshalledMessage unmarshal(byte[] body) throws JAXBException, DeserializationException {
+        if (concurrentUnmarshalling) {
+            return (UnmarshalledMessage) messageDeserializer.deserialize(new ByteArrayInputStream(body));
+        }
+
+        jabxLock.lock();
+        try {
+            return (UnmarshalledMessage) unmarshaller.unmarshal(new ByteArrayInputStream(body));
+        } finally {
+            jabxLock.unlock();
+        }
+    }
+
     private void dispatchUnparsableMessage(String msg, byte[] body, URN eventId, MessageTimestamp timestamp) {
         logger.warn(msg);
         messageConsumer.onMessageDeserializationFailed(body, eventId);
@@ -19,6 +19,9 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * The generic class used to get various data from the Unified API endpoints
@@ -34,6 +37,11 @@ public class DataProvider<TOut> {
     private final boolean useApiSsl;
     private final Locale defaultLocale;
 
+    /**
+     * An indication if the responses are deserialized directly from the HTTP response stream
+     */
+    private final boolean streamingDeserialization;
+
     public DataProvider(String uriFormat,
                         SDKInternalConfiguration config,
                         LogHttpDataFetcher logHttpDataFetcher,
@@ -50,6 +58,7 @@ public class DataProvider<TOut> {
         useApiSsl = config.getUseApiSsl();
         apiHost = config.getAPIHost();
         defaultLocale = config.getDefaultLocale();
+        streamingDeserialization = config.isStreamingApiDeserializationEnabled();
     }
 
     public DataProvider(String uriFormat,
@@ -70,6 +79,7 @@ public class DataProvider<TOut> {
         this.apiHost = apiHost;
         this.useApiSsl = useApiSsl;
         this.defaultLocale = defaultLocale;
+        this.streamingDeserialization = true;
     }
 
     /**
@@ -96,12 +106,49 @@ public class DataProvider<TOut> {
      * @param args   that are used with the supplied URI format
      * @return the requested API endpoint object
      */
+    @SuppressWarnings("unchecked")
     public TOut getData(Locale locale, String... args) throws DataProviderException {
+        if (streamingDeserialization) {
+            try {
+                return (TOut) logHttpDataFetcher.getDeserialized(getFinalUrl(locale, args), deserializer);
+            } catch (CommunicationException e) {
+                throw new DataProviderException("The requested data was not accessible on the provided URL", e);
+            }
+        }
+
         HttpData fetchedContent = fetchData(null, locale, args);
 
         return deserializeData(fetchedContent);
     }
 
+    /**
+     * Requests the API endpoint object on the provided {@link Executor}, so the requests of multiple locales (or items)
+     * can be executed concurrently
+     *
+     * @param executor the {@link Executor} on which the request is executed
+     * @param locale the locale that is used with the supplied URI format
+     * @param args   that are used with the supplied URI format
+     * @return a {@link CompletableFuture} which completes with the requested API endpoint object, or exceptionally
+     *         with the {@link DataProviderException} if the request failed
+     */
+    public CompletableFuture<TOut> getDataAsync(Executor executor, Locale locale, String... args) {
+        Preconditions.checkNotNull(executor);
+
+        CompletableFuture<TOut> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    result.complete(getData(locale, args));
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(new DataProviderException("The request could not be scheduled", e));
+        }
+        return result;
+    }
+
     /**
      * If successful returns the requested API endpoint object
      *
@@ -0,0 +1,317 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.rabbitmq.client.AMQP;
+import com.sportradar.utils.URN;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link ChannelMessageConsumer} which hands the received payloads to a pool of worker threads, so the processing
+ * of the messages (and the user callbacks) does not block the AMQP connection thread.
+ * <p>
+ * The messages are assigned to the workers by the sport event id from the routing key, so all the messages of
+ * a sport event are processed in the order in which they were received. Messages which are not associated with
+ * a sport event (alive, snapshot_complete, ...) are processed only after all the previously received messages
+ * were processed. Each worker has a bounded queue, once it is full the AMQP connection thread is blocked until
+ * the worker catches up.
+ */
+public class EventOrderedChannelMessageConsumer implements ChannelMessageConsumer {
+    private static final Logger logger = LoggerFactory.getLogger(EventOrderedChannelMessageConsumer.class);
+
+    /**
+     * The interval in which the idle workers check if the consumer was closed
+     */
+    private static final long IDLE_POLL_INTERVAL_MS = 500;
+
+    /**
+     * The max time the closing thread waits for each worker to process the already queued messages, the workers
+     * which are still running afterwards are interrupted
+     */
+    private static final long CLOSE_TIMEOUT_MS = 10000;
+
+    /**
+     * The {@link ChannelMessageConsumer} which processes the payloads on the worker threads
+     */
+    private final ChannelMessageConsumer channelMessageConsumer;
+
+    /**
+     * A {@link RoutingKeyParser} used to extract the sport event id from the routing key
+     */
+    private final RoutingKeyParser routingKeyParser;
+
+    /**
+     * The statistics object where the dispatch queue metrics are reported
+     */
+    private final UnifiedOddsStatistics statistics;
+
+    /**
+     * The SDK MDC context map which is set on the worker threads
+     */
+    private final Map<String, String> sdkMdcContextDescription;
+
+    /**
+     * The name used as a prefix of the worker thread names
+     */
+    private final String name;
+
+    /**
+     * The worker queues, the index of the queue matches the index of the worker thread
+     */
+    private final List<BlockingQueue<DispatchTask>> queues;
+
+    private final Thread[] workers;
+
+    private volatile boolean isOpened;
+
+    /**
+     * Initializes a new instance of the {@link EventOrderedChannelMessageConsumer}
+     *
+     * @param channelMessageConsumer the {@link ChannelMessageConsumer} which processes the payloads on the worker threads
+     * @param routingKeyParser a {@link RoutingKeyParser} used to extract the sport event id from the routing key
+     * @param statistics the statistics object where the dispatch queue metrics are reported
+     * @param sdkMdcContextDescription the SDK MDC context map which is set on the worker threads
+     * @param name the name used as a prefix of the worker thread names
+     * @param workerCount the number of worker threads
+     * @param queueCapacity the max number of messages which can wait for processing per worker thread
+     */
+    public EventOrderedChannelMessageConsumer(ChannelMessageConsumer channelMessageConsumer,
+                                              RoutingKeyParser routingKeyParser,
+                                              UnifiedOddsStatistics statistics,
+                                              Map<String, String> sdkMdcContextDescription,
+                                              String name,
+                                              int workerCount,
+                                              int queueCapacity) {
+        Preconditions.checkNotNull(channelMessageConsumer);
+        Preconditions.checkNotNull(routingKeyParser);
+        Preconditions.checkNotNull(statistics);
+        Preconditions.checkNotNull(name);
+        Preconditions.checkArgument(workerCount > 0, "workerCount must be greater than 0");
+        Preconditions.checkArgument(queueCapacity > 0, "queueCapacity must be greater than 0");
+
+        this.channelMessageConsumer = channelMessageConsumer;
+        this.routingKeyParser = routingKeyParser;
+        this.statistics = statistics;
+        this.sdkMdcContextDescription = sdkMdcContextDescription;
+        this.name = name;
+        this.queues = new ArrayList<>(workerCount);
+        this.workers = new Thread[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            queues.add(new ArrayBlockingQueue<>(queueCapacity));
+        }
+    }
+
+    /**
+     * Opens the wrapped channel message consumer and starts the worker threads
+     *
+     * @param messageConsumer the parsed/prepared messages
+     */
+    @Override
+    public synchronized void open(MessageConsumer messageConsumer) {
+        channelMessageConsumer.open(messageConsumer);
+
+        if (isOpened) {
+            return;
+        }
+
+        isOpened = true;
+        for (int i = 0; i < workers.length; i++) {
+            if (workers[i] != null && workers[i].isAlive()) {
+                // the worker was not stopped by the close (closed from the worker itself), it keeps draining its queue
+                continue;
+            }
+            BlockingQueue<DispatchTask> queue = queues.get(i);
+            Thread worker = new Thread(() -> processQueue(queue));
+            worker.setName(name + "-t-" + i);
+            worker.setDaemon(true);
+            worker.setUncaughtExceptionHandler((thread, throwable) -> logger.error("Uncaught exception on dispatch worker {}", thread.getName(), throwable));
+            workers[i] = worker;
+            worker.start();
+        }
+    }
+
+    /**
+     * Queues the provided message payload to the worker assigned to the associated sport event. The calling
+     * thread is blocked while the worker queue is full.
+     *
+     * @param routingKey - the source routing key of the payload
+     * @param body       - the message payload
+     * @param properties - the BasicProperties associated to the message
+     * @param receivedAt - the time when message was received (in milliseconds since EPOCH UTC)
+     */
+    @Override
+    public void onMessageReceived(String routingKey, byte[] body, AMQP.BasicProperties properties, long receivedAt) {
+        onMessageReceived(routingKey, body, properties, receivedAt, () -> { });
+    }
+
+    /**
+     * Queues the provided message payload to the worker assigned to the associated sport event. The calling
+     * thread is blocked while the worker queue is full.
+     *
+     * @param routingKey - the source routing key of the payload
+     * @param body - the message payload
+     * @param properties - the BasicProperties associated to the message
+     * @param receivedAt - the time when message was received (in milliseconds since EPOCH UTC)
+     * @param onProcessed - the callback which is run on the worker thread once the message is processed
+     */
+    @Override
+    public void onMessageReceived(String routingKey, byte[] body, AMQP.BasicProperties properties, long receivedAt, Runnable onProcessed) {
+        onMessageReceived(routingKeyParser.getRoutingKeyInfo(routingKey), body, properties, receivedAt, onProcessed);
+    }
+
+    /**
+     * Queues the provided message payload and its parsed routing key to the worker assigned to the associated sport
+     * event. The calling thread is blocked while the worker queue is full.
+     *
+     * @param routingKeyInfo - the parsed source routing key of the payload
+     * @param body - the message payload
+     * @param properties - the BasicProperties associated to the message
+     * @param receivedAt - the time when message was received (in milliseconds since EPOCH UTC)
+     * @param onProcessed - the callback which is run on the worker thread once the message is processed
+     */
+    @Override
+    public void onMessageReceived(RoutingKeyInfo routingKeyInfo, byte[] body, AMQP.BasicProperties properties, long receivedAt, Runnable onProcessed) {
+        if (!isOpened) {
+            // the delivery is acknowledged, so a message received while the consumer is closing does not stay unacknowledged
+            logger.warn("Received the message with routing key {} on an un-opened message consumer, the message will not be processed", routingKeyInfo.getFullRoutingKey());
+            onProcessed.run();
+            return;
+        }
+
+        Runnable processing = () -> channelMessageConsumer.onMessageReceived(routingKeyInfo, body, properties, receivedAt, onProcessed);
+
+        URN eventId = routingKeyInfo.getEventId();
+        try {
+            if (eventId != null || queues.size() == 1) {
+                enqueue(queues.get(eventId == null ? 0 : Math.floorMod(eventId.hashCode(), queues.size())), processing);
+            } else {
+                enqueueAfterAllQueued(processing);
+            }
+        } catch (InterruptedException e) {
+            logger.warn("Interrupted while queuing the message with routing key {}, the message will not be processed", routingKeyInfo.getFullRoutingKey());
+            onProcessed.run();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stops the worker threads once the already queued messages are processed. The workers which do not finish
+     * within {@link #CLOSE_TIMEOUT_MS} are interrupted, so no worker of this instance is running once the method
+     * returns and a re-opened consumer never has two workers draining the same queue.
+     */
+    public synchronized void close() {
+        isOpened = false;
+
+        for (int i = 0; i < workers.length; i++) {
+            Thread worker = workers[i];
+            if (worker == null || worker == Thread.currentThread()) {
+                continue;
+            }
+            try {
+                worker.join(CLOSE_TIMEOUT_MS);
+                if (worker.isAlive()) {
+                    logger.warn("Dispatch worker {} did not process the queued messages in time, interrupting it", worker.getName());
+                    worker.interrupt();
+                    worker.join(CLOSE_TIMEOUT_MS);
+                }
+                if (!worker.isAlive()) {
+                    workers[i] = null;
+                }
+            } catch (InterruptedException e) {
+                logger.warn("Interrupted while waiting for the dispatch worker {} to stop", worker.getName());
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of messages waiting for processing
+     *
+     * @return the number of messages waiting for processing
+     */
+    public int getQueueDepth() {
+        int depth = 0;
+        for (BlockingQueue<DispatchTask> queue : queues) {
+            depth += queue.size();
+        }
+        return depth;
+    }
+
+    /**
+     * Queues the provided task to the first worker, which executes it once all the other workers processed the
+     * messages which were queued before it
+     *
+     * @param processing the task which should be executed
+     */
+    private void enqueueAfterAllQueued(Runnable processing) throws InterruptedException {
+        CountDownLatch othersReached = new CountDownLatch(queues.size() - 1);
+        for (int i = 1; i < queues.size(); i++) {
+            enqueue(queues.get(i), othersReached::countDown);
+        }
+        enqueue(queues.get(0), () -> {
+            try {
+                othersReached.await();
+            } catch (InterruptedException e) {
+                logger.warn("Interrupted while waiting for the previously received messages to be processed");
+                Thread.currentThread().interrupt();
+            }
+            processing.run();
+        });
+    }
+
+    private void enqueue(BlockingQueue<DispatchTask> queue, Runnable runnable) throws InterruptedException {
+        queue.put(new DispatchTask(runnable, System.nanoTime()));
+        statistics.onDispatchQueued();
+    }
+
+    private void processQueue(BlockingQueue<DispatchTask> queue) {
+        if (sdkMdcContextDescription != null) {
+            MDC.setContextMap(sdkMdcContextDescription);
+        }
+
+        try {
+            while (isOpened || !queue.isEmpty()) {
+                DispatchTask task = queue.poll(IDLE_POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (task == null) {
+                    continue;
+                }
+
+                statistics.onDispatchDequeued(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - task.queuedAt));
+                try {
+                    task.runnable.run();
+                } catch (Exception e) {
+                    logger.error("An exception occurred while processing a dispatched message on {}", Thread.currentThread().getName(), e);
+                }
+            }
+        } catch (InterruptedException e) {
+            logger.warn("Dispatch worker {} interrupted", Thread.currentThread().getName());
+            Thread.currentThread().interrupt();
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    private static class DispatchTask {
+        private final Runnable runnable;
+        private final long queuedAt;
+
+        DispatchTask(Runnable runnable, long queuedAt) {
+            this.runnable = runnable;
+            this.queuedAt = queuedAt;
+        }
+    }
+}
@@ -0,0 +1,460 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A minimal forward-only pull parser over an UTF-8 encoded feed message payload. It only supports the XML subset
+ * used by the feed messages (elements with attributes, no text content, no namespaces) and throws an
+ * {@link UnsupportedContentException} on anything else, so the caller can fall back to a complete XML parser.
+ * <p>
+ * Attribute names are matched on the raw bytes and numeric attribute values are parsed directly from the payload,
+ * which avoids the allocation of intermediate strings for most of the attributes.
+ */
+final class FeedMessagePullParser {
+    static final int START_ELEMENT = 1;
+    static final int END_ELEMENT = 2;
+    static final int END_DOCUMENT = 8;
+
+    private static final int MAX_DEPTH = 16;
+
+    private final byte[] buf;
+    private final int end;
+    private int pos;
+
+    private int nameStart;
+    private int nameLength;
+    private boolean selfClosing;
+
+    private final int[] openNameStart = new int[MAX_DEPTH];
+    private final int[] openNameLength = new int[MAX_DEPTH];
+    private int depth;
+    private boolean rootRead;
+
+    private int elementStart;
+
+    private int attributeCount;
+    private int[] attributeNameStart = new int[16];
+    private int[] attributeNameLength = new int[16];
+    private int[] attributeValueStart = new int[16];
+    private int[] attributeValueLength = new int[16];
+
+    FeedMessagePullParser(byte[] buf) {
+        this.buf = buf;
+        this.end = buf.length;
+        this.pos = skipByteOrderMark(buf);
+    }
+
+    /**
+     * Moves the parser to the next start or end element, skipping the prolog, comments and whitespace
+     *
+     * @return {@link #START_ELEMENT}, {@link #END_ELEMENT} or {@link #END_DOCUMENT}
+     */
+    int next() {
+        if (selfClosing) {
+            selfClosing = false;
+            depth--;
+            return END_ELEMENT;
+        }
+
+        while (true) {
+            skipWhitespace();
+            if (pos >= end) {
+                if (depth != 0) {
+                    throw new UnsupportedContentException("unexpected end of the document");
+                }
+                return END_DOCUMENT;
+            }
+            if (buf[pos] != '<') {
+                throw new UnsupportedContentException("text content at " + pos);
+            }
+            if (startsWith("<?")) {
+                skipProcessingInstruction();
+            } else if (startsWith("<!--")) {
+                skipPast("-->");
+            } else if (startsWith("<!")) {
+                throw new UnsupportedContentException("DTD or CDATA section at " + pos);
+            } else if (startsWith("</")) {
+                readEndElement();
+                return END_ELEMENT;
+            } else {
+                if (depth == 0 && rootRead) {
+                    throw new UnsupportedContentException("multiple root elements");
+                }
+                rootRead = true;
+                readStartElement();
+                return START_ELEMENT;
+            }
+        }
+    }
+
+    /**
+     * Skips the whole sub-tree of the current start element, leaving the parser on its end element
+     */
+    void skipElement() {
+        int targetDepth = depth - 1;
+        while (depth > targetDepth) {
+            if (next() == END_DOCUMENT) {
+                throw new UnsupportedContentException("unexpected end of the document");
+            }
+        }
+    }
+
+    /**
+     * Returns the offset of the last start element in the payload
+     */
+    int getElementStart() {
+        return elementStart;
+    }
+
+    /**
+     * Returns the offset just past the last read tag in the payload
+     */
+    int getPosition() {
+        return pos;
+    }
+
+    boolean isElement(byte[] name) {
+        return regionEquals(nameStart, nameLength, name);
+    }
+
+    String getElementName() {
+        return new String(buf, nameStart, nameLength, StandardCharsets.UTF_8);
+    }
+
+    int getAttributeCount() {
+        return attributeCount;
+    }
+
+    boolean isAttribute(int index, byte[] name) {
+        return regionEquals(attributeNameStart[index], attributeNameLength[index], name);
+    }
+
+    String getAttributeString(int index) {
+        int start = attributeValueStart[index];
+        int length = attributeValueLength[index];
+        for (int i = start; i < start + length; i++) {
+            byte b = buf[i];
+            if (b == '&' || b == '\t' || b == '\n' || b == '\r') {
+                return normalizeAttributeValue(new String(buf, start, length, StandardCharsets.UTF_8));
+            }
+        }
+        return new String(buf, start, length, StandardCharsets.UTF_8);
+    }
+
+    int getAttributeInt(int index) {
+        long value = getAttributeLong(index);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("int value out of range");
+        }
+        return (int) value;
+    }
+
+    long getAttributeLong(int index) {
+        int i = attributeValueStart[index];
+        int limit = i + attributeValueLength[index];
+        while (i < limit && isWhitespace(buf[i])) {
+            i++;
+        }
+        while (limit > i && isWhitespace(buf[limit - 1])) {
+            limit--;
+        }
+
+        boolean negative = false;
+        if (i < limit && (buf[i] == '-' || buf[i] == '+')) {
+            negative = buf[i] == '-';
+            i++;
+        }
+        if (i >= limit || limit - i > 18) {
+            throw new NumberFormatException("unsupported integer value");
+        }
+
+        long value = 0;
+        for (; i < limit; i++) {
+            int digit = buf[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("invalid integer value");
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    double getAttributeDouble(int index) {
+        int start = attributeValueStart[index];
+        int length = attributeValueLength[index];
+        for (int i = start; i < start + length; i++) {
+            byte b = buf[i];
+            if (!((b >= '0' && b <= '9') || b == '.' || b == '-' || b == '+' || b == 'e' || b == 'E' || isWhitespace(b))) {
+                // special values (NaN, INF) are left to the fallback parser
+                throw new NumberFormatException("unsupported double value");
+            }
+        }
+        return Double.parseDouble(new String(buf, start, length, StandardCharsets.ISO_8859_1));
+    }
+
+    private void readStartElement() {
+        elementStart = pos;
+        pos++;
+        nameStart = pos;
+        nameLength = readName();
+        if (depth == MAX_DEPTH) {
+            throw new UnsupportedContentException("document too deep");
+        }
+        openNameStart[depth] = nameStart;
+        openNameLength[depth] = nameLength;
+        depth++;
+
+        attributeCount = 0;
+        while (true) {
+            boolean separated = skipWhitespace();
+            if (pos >= end) {
+                throw new UnsupportedContentException("unterminated start element");
+            }
+            byte b = buf[pos];
+            if (b == '>') {
+                pos++;
+                return;
+            }
+            if (b == '/') {
+                if (pos + 1 >= end || buf[pos + 1] != '>') {
+                    throw new UnsupportedContentException("malformed empty element");
+                }
+                pos += 2;
+                selfClosing = true;
+                return;
+            }
+            if (!separated) {
+                throw new UnsupportedContentException("missing whitespace before attribute");
+            }
+            readAttribute();
+        }
+    }
+
+    private void readAttribute() {
+        if (attributeCount == attributeNameStart.length) {
+            int newLength = attributeCount * 2;
+            attributeNameStart = Arrays.copyOf(attributeNameStart, newLength);
+            attributeNameLength = Arrays.copyOf(attributeNameLength, newLength);
+            attributeValueStart = Arrays.copyOf(attributeValueStart, newLength);
+            attributeValueLength = Arrays.copyOf(attributeValueLength, newLength);
+        }
+
+        int start = pos;
+        int length = readName();
+        if (length == 5 && startsWith(start, "xmlns")) {
+            throw new UnsupportedContentException("namespace declaration");
+        }
+        skipWhitespace();
+        if (pos >= end || buf[pos] != '=') {
+            throw new UnsupportedContentException("malformed attribute");
+        }
+        pos++;
+        skipWhitespace();
+        if (pos >= end || (buf[pos] != '"' && buf[pos] != '\'')) {
+            throw new UnsupportedContentException("malformed attribute value");
+        }
+        byte quote = buf[pos++];
+        int valueStart = pos;
+        while (pos < end && buf[pos] != quote) {
+            if (buf[pos] == '<') {
+                throw new UnsupportedContentException("malformed attribute value");
+            }
+            pos++;
+        }
+        if (pos >= end) {
+            throw new UnsupportedContentException("unterminated attribute value");
+        }
+
+        attributeNameStart[attributeCount] = start;
+        attributeNameLength[attributeCount] = length;
+        attributeValueStart[attributeCount] = valueStart;
+        attributeValueLength[attributeCount] = pos - valueStart;
+        attributeCount++;
+        pos++;
+    }
+
+    private void readEndElement() {
+        pos += 2;
+        int start = pos;
+        int length = readName();
+        skipWhitespace();
+        if (pos >= end || buf[pos] != '>') {
+            throw new UnsupportedContentException("malformed end element");
+        }
+        pos++;
+        if (depth == 0 || !regionEquals(start, length, openNameStart[depth - 1], openNameLength[depth - 1])) {
+            throw new UnsupportedContentException("mismatched end element");
+        }
+        depth--;
+        nameStart = start;
+        nameLength = length;
+        attributeCount = 0;
+    }
+
+    private int readName() {
+        int start = pos;
+        while (pos < end) {
+            byte b = buf[pos];
+            if (isWhitespace(b) || b == '>' || b == '/' || b == '=') {
+                break;
+            }
+            if (b == ':' || b == '<' || b == '"' || b == '\'') {
+                throw new UnsupportedContentException("unsupported name at " + pos);
+            }
+            pos++;
+        }
+        if (pos == start) {
+            throw new UnsupportedContentException("missing name at " + pos);
+        }
+        return pos - start;
+    }
+
+    private void skipProcessingInstruction() {
+        int start = pos;
+        skipPast("?>");
+        if (startsWith(start, "<?xml") && isWhitespace(buf[start + 5])) {
+            // the declaration may only announce the UTF-8 encoding, anything else is left to the fallback parser
+            String declaration = new String(buf, start, pos - start, StandardCharsets.ISO_8859_1);
+            int encoding = declaration.indexOf("encoding");
+            if (encoding >= 0) {
+                String value = declaration.substring(encoding + "encoding".length()).replaceAll("[\\s=\"']", " ").trim();
+                if (!value.regionMatches(true, 0, "UTF-8", 0, 5)) {
+                    throw new UnsupportedContentException("unsupported encoding");
+                }
+            }
+        }
+    }
+
+    private void skipPast(String terminator) {
+        while (pos < end) {
+            if (startsWith(terminator)) {
+                pos += terminator.length();
+                return;
+            }
+            pos++;
+        }
+        throw new UnsupportedContentException("unterminated markup");
+    }
+
+    private boolean skipWhitespace() {
+        int start = pos;
+        while (pos < end && isWhitespace(buf[pos])) {
+            pos++;
+        }
+        return pos > start;
+    }
+
+    private boolean startsWith(String prefix) {
+        return startsWith(pos, prefix);
+    }
+
+    private boolean startsWith(int offset, String prefix) {
+        if (offset + prefix.length() > end) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (buf[offset + i] != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean regionEquals(int start, int length, byte[] name) {
+        if (length != name.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buf[start + i] != name[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean regionEquals(int start, int length, int otherStart, int otherLength) {
+        if (length != otherLength) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buf[start + i] != buf[otherStart + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    private static int skipByteOrderMark(byte[] buf) {
+        if (buf.length >= 3 && (buf[0] & 0xFF) == 0xEF && (buf[1] & 0xFF) == 0xBB && (buf[2] & 0xFF) == 0xBF) {
+            return 3;
+        }
+        return 0;
+    }
+
+    /**
+     * Applies the XML attribute value normalization (whitespace characters become spaces, entity and character
+     * references are replaced)
+     */
+    private static String normalizeAttributeValue(String raw) {
+        StringBuilder sb = new StringBuilder(raw.length());
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (c == '\t' || c == '\n' || c == '\r') {
+                sb.append(' ');
+            } else if (c == '&') {
+                int semicolon = raw.indexOf(';', i);
+                if (semicolon < 0) {
+                    throw new UnsupportedContentException("unterminated reference");
+                }
+                sb.append(resolveReference(raw.substring(i + 1, semicolon)));
+                i = semicolon;
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String resolveReference(String reference) {
+        switch (reference) {
+            case "amp":
+                return "&";
+            case "lt":
+                return "<";
+            case "gt":
+                return ">";
+            case "quot":
+                return "\"";
+            case "apos":
+                return "'";
+            default:
+                if (reference.startsWith("#x")) {
+                    return new String(Character.toChars(Integer.parseInt(reference.substring(2), 16)));
+                }
+                if (reference.startsWith("#")) {
+                    return new String(Character.toChars(Integer.parseInt(reference.substring(1))));
+                }
+                throw new UnsupportedContentException("unsupported entity reference " + reference);
+        }
+    }
+
+    /**
+     * Thrown when the payload contains content which is not supported by the parser
+     */
+    static class UnsupportedContentException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedContentException(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
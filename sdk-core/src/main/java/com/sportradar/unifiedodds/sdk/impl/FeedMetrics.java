@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.sportradar.unifiedodds.sdk.impl.util.FeedMessageHelper;
+import com.sportradar.unifiedodds.sdk.metrics.LatencySnapshot;
+import com.sportradar.unifiedodds.sdk.metrics.MessageMetrics;
+import com.sportradar.unifiedodds.sdk.metrics.MetricsReporter;
+import com.sportradar.unifiedodds.sdk.metrics.PipelineStage;
+import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.xml.bind.annotation.XmlRootElement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the number of processed feed messages and the latencies of their processing stages per message type and
+ * producer. The metrics are exposed over JMX ({@link FeedMetricsMXBean}) and periodically passed to the
+ * {@link MetricsReporter}, if {@link com.sportradar.unifiedodds.sdk.SDKInternalConfiguration#getMetricsReportInterval()}
+ * is set.
+ *
+ * The recording is lock-free, so it can be called from all the channel and dispatch threads.
+ */
+public class FeedMetrics implements FeedMetricsMXBean {
+    private static final Logger logger = LoggerFactory.getLogger(FeedMetrics.class);
+
+    /**
+     * The message type names (ex. odds_change) by the message class
+     */
+    private static final ClassValue<String> MESSAGE_TYPES = new ClassValue<String>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            XmlRootElement rootElement = type.getAnnotation(XmlRootElement.class);
+            return rootElement == null ? type.getSimpleName() : rootElement.name();
+        }
+    };
+
+    private final ConcurrentMap<String, ConcurrentMap<Integer, Metrics>> metrics = new ConcurrentHashMap<>();
+    private final MetricsReporter reporter;
+
+    public FeedMetrics(MetricsReporter reporter, SDKTaskScheduler scheduler, int reportInterval) {
+        Preconditions.checkNotNull(reporter);
+        Preconditions.checkNotNull(scheduler);
+        Preconditions.checkArgument(reportInterval >= 0);
+
+        this.reporter = reporter;
+
+        if (reportInterval > 0) {
+            scheduler.scheduleAtFixedRate("MetricsReportTask", this::onTimerElapsed, reportInterval, reportInterval, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Records the duration of a processing stage of the provided message
+     *
+     * @param message the processed message
+     * @param stage the processing stage
+     * @param durationNanos the duration of the stage in nanoseconds
+     */
+    public void record(UnmarshalledMessage message, PipelineStage stage, long durationNanos) {
+        getMetrics(message).latencies[stage.ordinal()].record(durationNanos);
+    }
+
+    /**
+     * Records the dispatch of the provided message to the user, the message is counted and its
+     * {@link PipelineStage#EndToEnd} latency is recorded
+     *
+     * @param message the dispatched message
+     * @param sentAt the time at which the message was sent by the feed (in milliseconds since EPOCH UTC),
+     *               0 if not known
+     */
+    public void onMessageDispatched(UnmarshalledMessage message, long sentAt) {
+        Metrics messageMetrics = getMetrics(message);
+        messageMetrics.count.increment();
+        if (sentAt > 0) {
+            long latency = Math.max(0, System.currentTimeMillis() - sentAt);
+            messageMetrics.latencies[PipelineStage.EndToEnd.ordinal()].record(TimeUnit.MILLISECONDS.toNanos(latency));
+        }
+    }
+
+    @Override
+    public List<MessageMetrics> getMessageMetrics() {
+        List<MessageMetrics> result = new ArrayList<>();
+        for (ConcurrentMap<Integer, Metrics> producerMetrics : metrics.values()) {
+            for (Metrics messageMetrics : producerMetrics.values()) {
+                result.add(messageMetrics.snapshot());
+            }
+        }
+        result.sort(Comparator.comparing(MessageMetrics::getMessageType).thenComparingInt(MessageMetrics::getProducerId));
+        return result;
+    }
+
+    @Override
+    public void reset() {
+        metrics.values().forEach(producerMetrics -> producerMetrics.values().forEach(Metrics::reset));
+    }
+
+    private Metrics getMetrics(UnmarshalledMessage message) {
+        Preconditions.checkNotNull(message);
+
+        String messageType = MESSAGE_TYPES.get(message.getClass());
+        ConcurrentMap<Integer, Metrics> producerMetrics = metrics.get(messageType);
+        if (producerMetrics == null) {
+            producerMetrics = metrics.computeIfAbsent(messageType, k -> new ConcurrentHashMap<>());
+        }
+
+        int producerId = FeedMessageHelper.provideProducerIdFromMessage(message);
+        Metrics messageMetrics = producerMetrics.get(producerId);
+        if (messageMetrics == null) {
+            messageMetrics = producerMetrics.computeIfAbsent(producerId, id -> new Metrics(messageType, id));
+        }
+        return messageMetrics;
+    }
+
+    private void onTimerElapsed() {
+        try {
+            reporter.report(getMessageMetrics());
+        } catch (Exception e) {
+            logger.warn("An exception occurred while reporting the feed metrics", e);
+        }
+    }
+
+    /**
+     * The metrics of the messages of a single type received from a single producer
+     */
+    private static final class Metrics {
+        private final String messageType;
+        private final int producerId;
+        private final LongAdder count = new LongAdder();
+        private final LatencyHistogram[] latencies = new LatencyHistogram[PipelineStage.values().length];
+
+        private Metrics(String messageType, int producerId) {
+            this.messageType = messageType;
+            this.producerId = producerId;
+            for (int i = 0; i < latencies.length; i++) {
+                latencies[i] = new LatencyHistogram();
+            }
+        }
+
+        private MessageMetrics snapshot() {
+            Map<PipelineStage, LatencySnapshot> stageLatencies = new EnumMap<>(PipelineStage.class);
+            for (PipelineStage stage : PipelineStage.values()) {
+                LatencyHistogram histogram = latencies[stage.ordinal()];
+                if (histogram.getCount() > 0) {
+                    stageLatencies.put(stage, histogram.snapshot());
+                }
+            }
+            return new MessageMetrics(messageType, producerId, count.sum(), stageLatencies);
+        }
+
+        private void reset() {
+            count.reset();
+            for (LatencyHistogram histogram : latencies) {
+                histogram.reset();
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.unifiedodds.sdk.metrics.MessageMetrics;
+
+import java.util.List;
+
+/**
+ * The JMX view of the {@link FeedMetrics}
+ */
+public interface FeedMetricsMXBean {
+    /**
+     * Returns the metrics per message type and producer
+     *
+     * @return the metrics per message type and producer
+     */
+    List<MessageMetrics> getMessageMetrics();
+
+    /**
+     * Clears all the collected metrics
+     */
+    void reset();
+}
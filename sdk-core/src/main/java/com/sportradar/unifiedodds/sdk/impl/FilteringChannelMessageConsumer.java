@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.rabbitmq.client.AMQP;
+import com.sportradar.unifiedodds.sdk.MessageFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link ChannelMessageConsumer} which evaluates the session {@link MessageFilter} on the routing key of the
+ * received payloads and forwards only the accepted ones, so the dropped payloads are never deserialized.
+ */
+public class FilteringChannelMessageConsumer implements ChannelMessageConsumer {
+    private static final Logger logger = LoggerFactory.getLogger(FilteringChannelMessageConsumer.class);
+
+    /**
+     * The {@link ChannelMessageConsumer} which receives the accepted payloads
+     */
+    private final ChannelMessageConsumer channelMessageConsumer;
+
+    /**
+     * A {@link RoutingKeyParser} used to parse the routing keys evaluated by the filter
+     */
+    private final RoutingKeyParser routingKeyParser;
+
+    /**
+     * The filter deciding which payloads are forwarded
+     */
+    private final MessageFilter messageFilter;
+
+    /**
+     * The number of dropped payloads
+     */
+    private final LongAdder droppedMessages = new LongAdder();
+
+    /**
+     * Initializes a new instance of the {@link FilteringChannelMessageConsumer}
+     *
+     * @param channelMessageConsumer the {@link ChannelMessageConsumer} which receives the accepted payloads
+     * @param routingKeyParser a {@link RoutingKeyParser} used to parse the routing keys evaluated by the filter
+     * @param messageFilter the filter deciding which payloads are forwarded
+     */
+    public FilteringChannelMessageConsumer(ChannelMessageConsumer channelMessageConsumer,
+                                           RoutingKeyParser routingKeyParser,
+                                           MessageFilter messageFilter) {
+        Preconditions.checkNotNull(channelMessageConsumer);
+        Preconditions.checkNotNull(routingKeyParser);
+        Preconditions.checkNotNull(messageFilter);
+
+        this.channelMessageConsumer = channelMessageConsumer;
+        this.routingKeyParser = routingKeyParser;
+        this.messageFilter = messageFilter;
+    }
+
+    /**
+     * Opens the wrapped channel message consumer
+     *
+     * @param messageConsumer the parsed/prepared messages
+     */
+    @Override
+    public void open(MessageConsumer messageConsumer) {
+        channelMessageConsumer.open(messageConsumer);
+    }
+
+    /**
+     * Forwards the provided message payload to the wrapped consumer, if it is accepted by the filter
+     *
+     * @param routingKey - the source routing key of the payload
+     * @param body - the message payload
+     * @param properties - the BasicProperties associated to the message
+     * @param receivedAt - the time when message was received (in milliseconds since EPOCH UTC)
+     */
+    @Override
+    public void onMessageReceived(String routingKey, byte[] body, AMQP.BasicProperties properties, long receivedAt) {
+        onMessageReceived(routingKeyParser.getRoutingKeyInfo(routingKey), body, properties, receivedAt, () -> { });
+    }
+
+    /**
+     * Forwards the provided message payload to the wrapped consumer, if it is accepted by the filter. The callback
+     * of a dropped payload is run immediately.
+     *
+     * @param routingKey - the source routing key of the payload
+     * @param body - the message payload
+     * @param properties - the BasicProperties associated to the message
+     * @param receivedAt - the time when message was received (in milliseconds since EPOCH UTC)
+     * @param onProcessed - the callback which is run once the message is processed
+     */
+    @Override
+    public void onMessageReceived(String routingKey, byte[] body, AMQP.BasicProperties properties, long receivedAt, Runnable onProcessed) {
+        onMessageReceived(routingKeyParser.getRoutingKeyInfo(routingKey), body, properties, receivedAt, onProcessed);
+    }
+
+    /**
+     * Forwards the provided message payload together with its parsed routing key to the wrapped consumer, if it is
+     * accepted by the filter. The callback of a dropped payload is run immediately.
+     *
+     * @param routingKeyInfo - the parsed source routing key of the payload
+     * @param body - the message payload
+     * @param properties - the BasicProperties associated to the message
+     * @param receivedAt - the time when message was received (in milliseconds since EPOCH UTC)
+     * @param onProcessed - the callback which is run once the message is processed
+     */
+    @Override
+    public void onMessageReceived(RoutingKeyInfo routingKeyInfo, byte[] body, AMQP.BasicProperties properties, long receivedAt, Runnable onProcessed) {
+        if (isAccepted(routingKeyInfo)) {
+            channelMessageConsumer.onMessageReceived(routingKeyInfo, body, properties, receivedAt, onProcessed);
+        } else {
+            onProcessed.run();
+        }
+    }
+
+    /**
+     * Returns the number of payloads dropped by the filter
+     *
+     * @return the number of payloads dropped by the filter
+     */
+    public long getDroppedMessageCount() {
+        return droppedMessages.sum();
+    }
+
+    private boolean isAccepted(RoutingKeyInfo routingKeyInfo) {
+        if (routingKeyInfo.isSystemRoutingKey()) {
+            return true;
+        }
+
+        boolean accepted;
+        try {
+            accepted = messageFilter.accept(routingKeyInfo.getMessageType(), routingKeyInfo.getSportId(), routingKeyInfo.getEventId());
+        } catch (Exception e) {
+            logger.warn("Message filter failed on the routing key {}, the message will be processed", routingKeyInfo.getFullRoutingKey(), e);
+            return true;
+        }
+
+        if (!accepted) {
+            droppedMessages.increment();
+        }
+        return accepted;
+    }
+}
@@ -6,8 +6,10 @@ package com.sportradar.unifiedodds.sdk.impl;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import com.google.common.io.ByteStreams;
 import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.DeserializationException;
 import com.sportradar.unifiedodds.sdk.impl.apireaders.HttpHelper;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpStatus;
@@ -20,7 +22,10 @@ import org.apache.http.util.EntityUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 
 /**
@@ -69,6 +74,18 @@ class HttpDataFetcher {
         return send(httpPost);
     }
 
+    /**
+     * Gets the content on the given path trough a GET request and deserializes it directly from the response stream,
+     * without reading the whole response into a string
+     *
+     * @param path a valid HTTP GET request path
+     * @param deserializer the {@link Deserializer} used to deserialize the response
+     * @return the deserialized content of the request
+     */
+    public Object getDeserialized(String path, Deserializer deserializer) throws CommunicationException {
+        return sendDeserialized(new HttpGet(path), deserializer);
+    }
+
     /**
      * Gets the content on the given HTTP request
      *
@@ -76,15 +93,88 @@ class HttpDataFetcher {
      * @return the content of the request
      */
     protected HttpData send(HttpRequestBase request) throws CommunicationException {
+        if (statsBean != null) {
+            statsBean.onStreamingHttpGet(request.getURI().toString());
+        }
+
+        return execute(request, resp -> {
+            String respString = EntityUtils.toString(resp.getEntity(), StandardCharsets.UTF_8);
+            return Strings.isNullOrEmpty(respString) ? null : new HttpData(respString, resp.getAllHeaders());
+        });
+    }
+
+    /**
+     * Gets the content on the given HTTP request, deserialized directly from the response stream
+     *
+     * @param request a valid HTTP request
+     * @param deserializer the {@link Deserializer} used to deserialize the response
+     * @return the deserialized content of the request
+     */
+    protected Object sendDeserialized(HttpRequestBase request, Deserializer deserializer) throws CommunicationException {
+        return sendDeserialized(request, deserializer, null);
+    }
+
+    /**
+     * Gets the content on the given HTTP request, deserialized directly from the response stream
+     *
+     * @param request a valid HTTP request
+     * @param deserializer the {@link Deserializer} used to deserialize the response
+     * @param copy an {@link OutputStream} which receives a copy of the response content or a null reference
+     * @return the deserialized content of the request
+     */
+    protected Object sendDeserialized(HttpRequestBase request, Deserializer deserializer, OutputStream copy) throws CommunicationException {
+        if (statsBean != null) {
+            statsBean.onJaxbHttpGet(request.getURI().toString());
+        }
+
+        return execute(request, resp -> deserialize(resp.getEntity(), deserializer, copy));
+    }
+
+    /**
+     * Deserializes the provided response entity, the entity content is decompressed by the http client if the
+     * response is compressed
+     *
+     * @param entity the response {@link HttpEntity}
+     * @param deserializer the {@link Deserializer} used to deserialize the response
+     * @param copy an {@link OutputStream} which receives a copy of the response content or a null reference
+     * @return the deserialized response
+     */
+    private static Object deserialize(HttpEntity entity, Deserializer deserializer, OutputStream copy) throws IOException, CommunicationException {
+        if (entity == null) {
+            return null;
+        }
+
+        InputStream content = entity.getContent();
+        if (copy != null) {
+            content = new CopyingInputStream(content, copy);
+        }
+
+        try {
+            Object result = deserializer.deserialize(content);
+            // the remainder (if any) must be read, so the connection can be reused
+            ByteStreams.exhaust(content);
+            return result;
+        } catch (DeserializationException e) {
+            throw new CommunicationException("The response deserialization failed", e);
+        } finally {
+            content.close();
+        }
+    }
+
+    /**
+     * Executes the given HTTP request and reads the response with the provided reader if the request was successful
+     *
+     * @param request a valid HTTP request
+     * @param reader the {@link ResponseReader} used to read the successful responses
+     * @return the content of the request
+     */
+    private <T> T execute(HttpRequestBase request, ResponseReader<T> reader) throws CommunicationException {
         String path = request.getURI().toString();
         try {
-            if (statsBean != null) {
-                statsBean.onStreamingHttpGet(path);
-            }
             request.addHeader("x-access-token", config.getAccessToken());
 
             CloseableHttpResponse resp = null;
-            String respString = null;
+            T result = null;
             String errorMessage = null;
             int statusCode;
             try {
@@ -96,9 +186,11 @@ class HttpDataFetcher {
 
                 if (statusCode == HttpStatus.SC_OK || statusCode == HttpStatus.SC_ACCEPTED ||
                         (isWhoAmI && statusCode == HttpStatus.SC_FORBIDDEN)) {
-                    respString = EntityUtils.toString(resp.getEntity(), StandardCharsets.UTF_8);
+                    result = reader.read(resp);
                 } else {
-                    errorMessage = HttpHelper.tryDeserializeResponseMessage(apiDeserializer, resp.getEntity().getContent());
+                    errorMessage = resp.getEntity() == null
+                            ? null
+                            : HttpHelper.tryDeserializeResponseMessage(apiDeserializer, resp.getEntity().getContent());
                     logger.warn("Bad API response: " + resp.getStatusLine() + " " + statusCode + ", message: '" + errorMessage + "' " + path);
                 }
             } finally {
@@ -107,8 +199,8 @@ class HttpDataFetcher {
                 }
             }
 
-            if (!Strings.isNullOrEmpty(respString)) {
-                return new HttpData(respString, resp.getAllHeaders());
+            if (result != null) {
+                return result;
             } else {
                 if (Strings.isNullOrEmpty(errorMessage)) {
                     errorMessage = "no message";
@@ -121,4 +213,63 @@ class HttpDataFetcher {
             request.releaseConnection();
         }
     }
+
+    /**
+     * Reads the content of a successful HTTP response
+     *
+     * @param <T> the type of the read content
+     */
+    @FunctionalInterface
+    private interface ResponseReader<T> {
+        /**
+         * Reads the content of the provided response
+         *
+         * @param response the successful HTTP response
+         * @return the read content, or a null reference if the response has no content
+         */
+        T read(CloseableHttpResponse response) throws IOException, CommunicationException;
+    }
+
+    /**
+     * An {@link InputStream} which copies the read content to the provided {@link OutputStream}
+     */
+    private static final class CopyingInputStream extends FilterInputStream {
+        private final OutputStream copy;
+
+        CopyingInputStream(InputStream in, OutputStream copy) {
+            super(in);
+            this.copy = copy;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                copy.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                copy.write(b, off, read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // the skipped content is read, so it is copied as well
+            byte[] buffer = new byte[(int) Math.min(n, 8192)];
+            int read = read(buffer, 0, buffer.length);
+            return Math.max(read, 0);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
 }
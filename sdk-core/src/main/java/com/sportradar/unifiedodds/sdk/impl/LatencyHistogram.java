@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.unifiedodds.sdk.metrics.LatencySnapshot;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free latency histogram with log-linear buckets (in the way of HdrHistogram): each power of two range of
+ * microseconds is split into {@value #SUB_BUCKET_COUNT} linear buckets, so the percentiles have a relative error
+ * of up to 1/{@value #SUB_BUCKET_COUNT}. The values above ~19 hours are recorded in the last bucket.
+ */
+class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_VALUE_BITS = 36;
+    private static final long MAX_VALUE = (1L << MAX_VALUE_BITS) - 1;
+    private static final int BUCKET_COUNT = (MAX_VALUE_BITS - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records the provided duration
+     *
+     * @param durationNanos the duration in nanoseconds
+     */
+    void record(long durationNanos) {
+        long micros = Math.min(MAX_VALUE, Math.max(0, TimeUnit.NANOSECONDS.toMicros(durationNanos)));
+
+        counts.incrementAndGet(indexOf(micros));
+        count.increment();
+        sum.add(micros);
+        max.accumulate(micros);
+    }
+
+    /**
+     * Returns the number of recorded durations
+     *
+     * @return the number of recorded durations
+     */
+    long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns a snapshot of the recorded durations. The snapshot is not atomic, durations recorded while it is
+     * being built may be only partially included
+     *
+     * @return a snapshot of the recorded durations
+     */
+    LatencySnapshot snapshot() {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+
+        long recorded = count.sum();
+        long maxMicros = max.get();
+        return new LatencySnapshot(
+                total,
+                recorded == 0 ? 0 : sum.sum() / recorded,
+                maxMicros,
+                percentile(snapshot, total, 0.5, maxMicros),
+                percentile(snapshot, total, 0.9, maxMicros),
+                percentile(snapshot, total, 0.99, maxMicros),
+                percentile(snapshot, total, 0.999, maxMicros));
+    }
+
+    /**
+     * Clears all the recorded durations
+     */
+    void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+
+    private static long percentile(long[] counts, long total, double percentile, long maxMicros) {
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(total * percentile));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), maxMicros);
+            }
+        }
+        return maxMicros;
+    }
+
+    static int indexOf(long value) {
+        int bucket = Math.max(0, 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+        return bucket * SUB_BUCKET_COUNT + (int) (value >>> bucket);
+    }
+
+    static long highestValueOf(int index) {
+        int bucket = Math.max(0, index / SUB_BUCKET_COUNT - 1);
+        long lowest = (long) (index - bucket * SUB_BUCKET_COUNT) << bucket;
+        return lowest + (1L << bucket) - 1;
+    }
+}
@@ -15,6 +15,8 @@ import org.apache.http.impl.client.CloseableHttpClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -53,4 +55,29 @@ public class LogHttpDataFetcher extends HttpDataFetcher {
 
         return result;
     }
+
+    @Override
+    protected Object sendDeserialized(HttpRequestBase request, Deserializer deserializer) throws CommunicationException {
+        String path = request.getURI().toString();
+        logger.info("Fetching data from: " + path);
+
+        Stopwatch timer = Stopwatch.createStarted();
+
+        // the response is copied only if it is written to the traffic log
+        ByteArrayOutputStream response = trafficLogger.isInfoEnabled() ? new ByteArrayOutputStream() : null;
+        Object result;
+        try {
+            result = super.sendDeserialized(request, deserializer, response);
+        } catch (CommunicationException e) {
+            trafficLogger.info("Request[DataFetcher]: {}, response - FAILED({} ms), ex:", path, timer.stop().elapsed(TimeUnit.MILLISECONDS), e);
+            throw new CommunicationException("HTTP request failed(" + path + ")", e);
+        }
+
+        if (response != null) {
+            String cleanResponse = new String(response.toByteArray(), StandardCharsets.UTF_8).replace("\n", "");
+            trafficLogger.info("Request[DataFetcher]: {}, response - OK({} ms): {}", path, timer.stop().elapsed(TimeUnit.MILLISECONDS), cleanResponse);
+        }
+
+        return result;
+    }
 }
@@ -0,0 +1,26 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.unifiedodds.sdk.metrics.MessageMetrics;
+import com.sportradar.unifiedodds.sdk.metrics.MetricsReporter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * The default {@link MetricsReporter}, which logs the metrics of each message type and producer
+ */
+public class LoggingMetricsReporter implements MetricsReporter {
+    private static final Logger logger = LoggerFactory.getLogger(LoggingMetricsReporter.class);
+
+    @Override
+    public void report(List<MessageMetrics> metrics) {
+        for (MessageMetrics messageMetrics : metrics) {
+            logger.info("Feed metrics: {}", messageMetrics);
+        }
+    }
+}
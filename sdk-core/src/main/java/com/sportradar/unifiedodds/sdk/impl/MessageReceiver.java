@@ -18,7 +18,19 @@ public interface MessageReceiver {
      * @param messageConsumer - a {@link MessageConsumer} instance which will receive messages
      * @throws IOException if the channel failed to open
      */
-    void open(List<String> routingKeys, MessageConsumer messageConsumer) throws IOException;
+    default void open(List<String> routingKeys, MessageConsumer messageConsumer) throws IOException {
+        open(routingKeys, messageConsumer, MessageReceiverSettings.DEFAULT);
+    }
+
+    /**
+     * Opens the current instance so it starts receiving messages
+     *
+     * @param routingKeys - a {@link List} of requested routing keys
+     * @param messageConsumer - a {@link MessageConsumer} instance which will receive messages
+     * @param settings - the {@link MessageReceiverSettings} specifying how the messages are received and dispatched
+     * @throws IOException if the channel failed to open
+     */
+    void open(List<String> routingKeys, MessageConsumer messageConsumer, MessageReceiverSettings settings) throws IOException;
 
     /**
      * Closes the current instance so it will no longer receive messages
@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.sportradar.unifiedodds.sdk.MessageFilter;
+
+import java.util.StringJoiner;
+
+/**
+ * The session specific settings used by a {@link MessageReceiver} to receive and dispatch messages
+ */
+public class MessageReceiverSettings {
+    /**
+     * The default settings, the received messages are acknowledged automatically and processed on the AMQP connection thread
+     */
+    public static final MessageReceiverSettings DEFAULT = new MessageReceiverSettings(0, 0, 0, 0);
+
+    /**
+     * The number of worker threads used to dispatch the received messages, 0 if the messages are
+     * processed on the AMQP connection thread
+     */
+    private final int dispatchWorkerCount;
+
+    /**
+     * The max number of messages which can wait for processing per worker thread
+     */
+    private final int dispatchQueueCapacity;
+
+    /**
+     * The max number of unacknowledged messages the broker delivers to the channel, 0 if the messages are
+     * acknowledged automatically by the broker
+     */
+    private final int prefetchCount;
+
+    /**
+     * The number of processed messages which are acknowledged together
+     */
+    private final int acknowledgementBatchSize;
+
+    /**
+     * The filter evaluated on the routing keys of the received messages, <code>null</code> if all the messages are processed
+     */
+    private final MessageFilter messageFilter;
+
+    /**
+     * Initializes a new instance of the {@link MessageReceiverSettings}
+     *
+     * @param dispatchWorkerCount the number of worker threads used to dispatch the received messages, 0 if the
+     *                            messages should be processed on the AMQP connection thread
+     * @param dispatchQueueCapacity the max number of messages which can wait for processing per worker thread
+     * @param prefetchCount the max number of unacknowledged messages the broker delivers to the channel, 0 if the
+     *                      messages should be acknowledged automatically by the broker
+     * @param acknowledgementBatchSize the number of processed messages which are acknowledged together
+     */
+    public MessageReceiverSettings(int dispatchWorkerCount, int dispatchQueueCapacity, int prefetchCount, int acknowledgementBatchSize) {
+        this(dispatchWorkerCount, dispatchQueueCapacity, prefetchCount, acknowledgementBatchSize, null);
+    }
+
+    /**
+     * Initializes a new instance of the {@link MessageReceiverSettings}
+     *
+     * @param dispatchWorkerCount the number of worker threads used to dispatch the received messages, 0 if the
+     *                            messages should be processed on the AMQP connection thread
+     * @param dispatchQueueCapacity the max number of messages which can wait for processing per worker thread
+     * @param prefetchCount the max number of unacknowledged messages the broker delivers to the channel, 0 if the
+     *                      messages should be acknowledged automatically by the broker
+     * @param acknowledgementBatchSize the number of processed messages which are acknowledged together
+     * @param messageFilter the filter evaluated on the routing keys of the received messages, <code>null</code> if
+     *                      all the messages should be processed
+     */
+    public MessageReceiverSettings(int dispatchWorkerCount, int dispatchQueueCapacity, int prefetchCount, int acknowledgementBatchSize, MessageFilter messageFilter) {
+        Preconditions.checkArgument(dispatchWorkerCount >= 0, "dispatchWorkerCount can not be negative");
+        Preconditions.checkArgument(dispatchWorkerCount == 0 || dispatchQueueCapacity > 0, "dispatchQueueCapacity must be greater than 0");
+        Preconditions.checkArgument(prefetchCount >= 0, "prefetchCount can not be negative");
+        Preconditions.checkArgument(prefetchCount == 0 || (acknowledgementBatchSize > 0 && acknowledgementBatchSize <= prefetchCount),
+                "acknowledgementBatchSize must be between 1 and prefetchCount");
+
+        this.dispatchWorkerCount = dispatchWorkerCount;
+        this.dispatchQueueCapacity = dispatchQueueCapacity;
+        this.prefetchCount = prefetchCount;
+        this.acknowledgementBatchSize = acknowledgementBatchSize;
+        this.messageFilter = messageFilter;
+    }
+
+    /**
+     * Indicates if the received messages are dispatched on a dedicated pool of worker threads
+     *
+     * @return <code>true</code> if the messages are dispatched on worker threads; otherwise <code>false</code>
+     */
+    public boolean isEventOrderedDispatchEnabled() {
+        return dispatchWorkerCount > 0;
+    }
+
+    /**
+     * Returns the number of worker threads used to dispatch the received messages
+     *
+     * @return the number of worker threads used to dispatch the received messages
+     */
+    public int getDispatchWorkerCount() {
+        return dispatchWorkerCount;
+    }
+
+    /**
+     * Returns the max number of messages which can wait for processing per worker thread
+     *
+     * @return the max number of messages which can wait for processing per worker thread
+     */
+    public int getDispatchQueueCapacity() {
+        return dispatchQueueCapacity;
+    }
+
+    /**
+     * Indicates if the received messages are acknowledged once they are processed, instead of being acknowledged
+     * automatically by the broker on delivery
+     *
+     * @return <code>true</code> if the messages are acknowledged once processed; otherwise <code>false</code>
+     */
+    public boolean isManualAcknowledgementEnabled() {
+        return prefetchCount > 0;
+    }
+
+    /**
+     * Returns the max number of unacknowledged messages the broker delivers to the channel
+     *
+     * @return the max number of unacknowledged messages the broker delivers to the channel
+     */
+    public int getPrefetchCount() {
+        return prefetchCount;
+    }
+
+    /**
+     * Returns the number of processed messages which are acknowledged together
+     *
+     * @return the number of processed messages which are acknowledged together
+     */
+    public int getAcknowledgementBatchSize() {
+        return acknowledgementBatchSize;
+    }
+
+    /**
+     * Returns the filter evaluated on the routing keys of the received messages
+     *
+     * @return the filter evaluated on the routing keys of the received messages, <code>null</code> if all the
+     * messages are processed
+     */
+    public MessageFilter getMessageFilter() {
+        return messageFilter;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", "MessageReceiverSettings{", "}")
+                .add("dispatchWorkerCount=" + dispatchWorkerCount)
+                .add("dispatchQueueCapacity=" + dispatchQueueCapacity)
+                .add("prefetchCount=" + prefetchCount)
+                .add("acknowledgementBatchSize=" + acknowledgementBatchSize)
+                .add("messageFilter=" + (messageFilter != null))
+                .toString();
+    }
+}
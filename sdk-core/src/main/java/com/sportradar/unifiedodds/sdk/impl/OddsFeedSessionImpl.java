@@ -17,6 +17,7 @@ import com.sportradar.unifiedodds.sdk.extended.OddsFeedExtListener;
 import com.sportradar.unifiedodds.sdk.impl.oddsentities.MessageTimestampImpl;
 import com.sportradar.unifiedodds.sdk.impl.processing.pipeline.CompositeMessageProcessor;
 import com.sportradar.unifiedodds.sdk.impl.util.FeedMessageHelper;
+import com.sportradar.unifiedodds.sdk.metrics.PipelineStage;
 import com.sportradar.unifiedodds.sdk.oddsentities.*;
 import com.sportradar.utils.URN;
 import org.slf4j.Logger;
@@ -41,6 +42,7 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
     private final RecoveryManager recoveryManager;
     private final CompositeMessageProcessor messageProcessor;
     private final UnifiedOddsStatistics statisticsMBean;
+    private final FeedMetrics feedMetrics;
     private final SportEntityFactory sportEntityFactory;
     private final String processorId;
     private final FeedMessageFactory messageFactory;
@@ -62,11 +64,13 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
                                FeedMessageFactory messageFactory,
                                FeedMessageValidator feedMessageValidator,
                                UnifiedOddsStatistics ufStats,
+                               FeedMetrics feedMetrics,
                                @Named("DispatchedFixturesChangesCache") Cache<String, String> dispatchedFixtureChangesCache) {
         checkNotNull(messageReceiver, "messageReceiver cannot be a null reference");
         checkNotNull(recoveryManager, "recoveryManager cannot be a null reference");
         checkNotNull(messageProcessor, "messageProcessor cannot be a null reference");
         checkNotNull(ufStats, "ufStats cannot be a null reference");
+        checkNotNull(feedMetrics, "feedMetrics cannot be a null reference");
         checkNotNull(config, "config cannot be a null reference");
         checkNotNull(producerManager, "producerManager cannot be a null reference");
         checkNotNull(sportsInfoManager, "sportsInfoManager cannot be a null reference");
@@ -82,6 +86,7 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
         this.messageReceiver = messageReceiver;
         this.recoveryManager = recoveryManager;
         this.statisticsMBean = ufStats;
+        this.feedMetrics = feedMetrics;
         this.sportEntityFactory = sportEntityFactory;
         this.messageFactory = messageFactory;
         this.feedMessageValidator = feedMessageValidator;
@@ -91,19 +96,24 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
     }
 
     public void open(List<String> routingKeys, MessageInterest messageInterest, OddsFeedListener oddsFeedListener, OddsFeedExtListener oddsFeedExtListener) throws IOException {
+        open(routingKeys, messageInterest, oddsFeedListener, oddsFeedExtListener, MessageReceiverSettings.DEFAULT);
+    }
+
+    public void open(List<String> routingKeys, MessageInterest messageInterest, OddsFeedListener oddsFeedListener, OddsFeedExtListener oddsFeedExtListener, MessageReceiverSettings receiverSettings) throws IOException {
         checkNotNull(routingKeys, "Session routing keys can not be a null reference");
         checkNotNull(messageInterest, "oddsInterest cannot be a null reference");
         checkNotNull(oddsFeedListener, "listener cannot be a null reference");
         checkArgument(!routingKeys.isEmpty(), "session routing keys can not be empty");
+        checkNotNull(receiverSettings, "receiverSettings cannot be a null reference");
 
         this.oddsFeedListener = oddsFeedListener;
         this.messageInterest = messageInterest;
         this.oddsFeedExtListener = oddsFeedExtListener;
 
         messageProcessor.init(this);
-        messageReceiver.open(routingKeys, this);
+        messageReceiver.open(routingKeys, this, receiverSettings);
 
-        logger.info("OddsFeedSession opened(Message interest: {})", messageInterest);
+        logger.info("OddsFeedSession opened(Message interest: {}, {})", messageInterest, receiverSettings);
     }
 
     public void close(){
@@ -133,7 +143,9 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
         }
 
         long now = System.currentTimeMillis();
+        long validationStart = System.nanoTime();
         ValidationResult validationResult = feedMessageValidator.validate(unmarshalledMessage, routingKeyInfo);
+        feedMetrics.record(unmarshalledMessage, PipelineStage.Validation, System.nanoTime() - validationStart);
         String eventId = FeedMessageHelper.provideEventIdFromMessage(unmarshalledMessage);
         switch (validationResult) {
             case Success:
@@ -164,9 +176,10 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
 
         int producerId = FeedMessageHelper.provideProducerIdFromMessage(unmarshalledMessage);
 
-        recoveryManager.onMessageProcessingStarted(this.hashCode(), producerId, FeedMessageHelper.provideRequestIdFromMessage(unmarshalledMessage), now);
+        Long messageGenTimestamp = FeedMessageHelper.provideMessageGenTimestampFromMessage(unmarshalledMessage);
+        recoveryManager.onMessageProcessingStarted(this.hashCode(), producerId, FeedMessageHelper.provideRequestIdFromMessage(unmarshalledMessage), messageGenTimestamp, now);
         messageProcessor.processMessage(unmarshalledMessage, body, routingKeyInfo, timestamp);
-        recoveryManager.onMessageProcessingEnded(this.hashCode(), producerId, FeedMessageHelper.provideMessageGenTimestampFromMessage(unmarshalledMessage), eventId);
+        recoveryManager.onMessageProcessingEnded(this.hashCode(), producerId, messageGenTimestamp, eventId);
 
         clientInteractionLog.info("Message -> ({}|{}|{}|{}) processing finished on {}, duration: {} ms",
                 producerId,
@@ -177,6 +190,7 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
                 timer.stop().elapsed(TimeUnit.MILLISECONDS));
 
         statisticsMBean.onMessageReceived(now, System.currentTimeMillis(), unmarshalledMessage);
+        feedMetrics.onMessageDispatched(unmarshalledMessage, timestamp.getSent());
     }
 
     /**
@@ -216,54 +230,54 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
      * @param timestamp - all message timestamps
      */
     public void processMessage(UnmarshalledMessage o, byte[] body, RoutingKeyInfo routingKeyInfo, MessageTimestamp timestamp) {
-//        long now = System.currentTimeMillis();
+        long processingStart = System.nanoTime();
         try {
             if (o instanceof UFOddsChange) {
                 UFOddsChange message = (UFOddsChange) o;
                 timestamp = new MessageTimestampImpl(message.getTimestamp(), timestamp.getSent(), timestamp.getReceived(), new TimeUtilsImpl().now());
                 SportEvent se = getSportEventFor(message.getEventId(), routingKeyInfo.getSportId());
                 OddsChange<SportEvent> oc = messageFactory.buildOddsChange(se, message, body, timestamp);
-                checkUserException(() -> oddsFeedListener.onOddsChange(this, oc));
+                checkUserException(o, processingStart, () -> oddsFeedListener.onOddsChange(this, oc));
             } else if (o instanceof UFBetStop) {
                 UFBetStop message = (UFBetStop) o;
                 timestamp = new MessageTimestampImpl(message.getTimestamp(), timestamp.getSent(), timestamp.getReceived(), new TimeUtilsImpl().now());
                 SportEvent se = getSportEventFor(message.getEventId(), routingKeyInfo.getSportId());
                 BetStop<SportEvent> sdkBetStop = messageFactory.buildBetStop(se, message, body, timestamp);
-                checkUserException(() -> oddsFeedListener.onBetStop(this, sdkBetStop));
+                checkUserException(o, processingStart, () -> oddsFeedListener.onBetStop(this, sdkBetStop));
             } else if (o instanceof UFBetSettlement) {
                 UFBetSettlement message = (UFBetSettlement) o;
                 timestamp = new MessageTimestampImpl(message.getTimestamp(), timestamp.getSent(), timestamp.getReceived(), new TimeUtilsImpl().now());
                 SportEvent se = getSportEventFor(message.getEventId(), routingKeyInfo.getSportId());
                 BetSettlement<SportEvent> bs = messageFactory.buildBetSettlement(se, message, body, timestamp);
                 logger.trace("Bet Settlement");
-                checkUserException(() -> oddsFeedListener.onBetSettlement(this, bs));
+                checkUserException(o, processingStart, () -> oddsFeedListener.onBetSettlement(this, bs));
             } else if (o instanceof UFRollbackBetSettlement) {
                 UFRollbackBetSettlement message = (UFRollbackBetSettlement) o;
                 timestamp = new MessageTimestampImpl(message.getTimestamp(), timestamp.getSent(), timestamp.getReceived(), new TimeUtilsImpl().now());
                 SportEvent se = getSportEventFor(message.getEventId(), routingKeyInfo.getSportId());
                 RollbackBetSettlement<SportEvent> rbs = messageFactory.buildRollbackBetSettlement(se, message, body, timestamp);
-                checkUserException(() -> oddsFeedListener.onRollbackBetSettlement(this, rbs));
+                checkUserException(o, processingStart, () -> oddsFeedListener.onRollbackBetSettlement(this, rbs));
             } else if (o instanceof UFBetCancel) {
                 UFBetCancel message = (UFBetCancel) o;
                 timestamp = new MessageTimestampImpl(message.getTimestamp(), timestamp.getSent(), timestamp.getReceived(), new TimeUtilsImpl().now());
                 SportEvent se = getSportEventFor(message.getEventId(), routingKeyInfo.getSportId());
                 BetCancel<SportEvent> cb = messageFactory.buildBetCancel(se, message, body, timestamp);
                 logger.trace("Bet Cancel");
-                checkUserException(() -> oddsFeedListener.onBetCancel(this, cb));
+                checkUserException(o, processingStart, () -> oddsFeedListener.onBetCancel(this, cb));
             } else if (o instanceof UFFixtureChange) {
                 UFFixtureChange message = (UFFixtureChange) o;
                 timestamp = new MessageTimestampImpl(message.getTimestamp(), timestamp.getSent(), timestamp.getReceived(), new TimeUtilsImpl().now());
                 SportEvent se = getSportEventFor(message.getEventId(), routingKeyInfo.getSportId());
                 FixtureChange<SportEvent> fc = messageFactory.buildFixtureChange(se, message, body, timestamp);
                 logger.trace("Fixture Change");
-                checkUserException(() -> oddsFeedListener.onFixtureChange(this, fc));
+                checkUserException(o, processingStart, () -> oddsFeedListener.onFixtureChange(this, fc));
             } else if (o instanceof UFRollbackBetCancel) {
                 UFRollbackBetCancel message = (UFRollbackBetCancel) o;
                 timestamp = new MessageTimestampImpl(message.getTimestamp(), timestamp.getSent(), timestamp.getReceived(), new TimeUtilsImpl().now());
                 SportEvent se = getSportEventFor(message.getEventId(), routingKeyInfo.getSportId());
                 RollbackBetCancel<SportEvent> rbc = messageFactory.buildRollbackBetCancel(se, message, body, timestamp);
                 logger.trace("Rollback Bet Cancel");
-                checkUserException(() -> oddsFeedListener.onRollbackBetCancel(this, rbc));
+                checkUserException(o, processingStart, () -> oddsFeedListener.onRollbackBetCancel(this, rbc));
             } else if (o instanceof UFSnapshotComplete) {
                 UFSnapshotComplete sc = (UFSnapshotComplete) o;
                 timestamp = new MessageTimestampImpl(sc.getTimestamp(), timestamp.getSent(), timestamp.getReceived(), new TimeUtilsImpl().now());
@@ -428,12 +442,23 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
         return false;
     }
 
-    private void checkUserException(Runnable runnable) {
+    /**
+     * Invokes the user callback and records the time spent building the dispatched entity and the time spent
+     * in the callback
+     *
+     * @param message the dispatched message
+     * @param processingStart the {@link System#nanoTime()} at which the building of the entity started
+     * @param runnable the user callback
+     */
+    private void checkUserException(UnmarshalledMessage message, long processingStart, Runnable runnable) {
+        long callbackStart = System.nanoTime();
+        feedMetrics.record(message, PipelineStage.EntityBuild, callbackStart - processingStart);
         try {
             runnable.run();
         } catch (Exception ex) {
             dispatchUserUnhandledException(ex);
         }
+        feedMetrics.record(message, PipelineStage.UserCallback, System.nanoTime() - callbackStart);
     }
 
     @Override
@@ -16,6 +16,7 @@ import org.slf4j.LoggerFactory;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -44,7 +45,7 @@ public class ProducerData {
     private long lastMessageTimestamp = 0;
     private boolean enabled;
     private boolean flaggedDown = true;
-    private long lastProcessedMessageGenTimestamp;
+    private final AtomicLong lastProcessedMessageGenTimestamp = new AtomicLong();
     private long lastAliveReceivedGenTimestamp = 0;
     private long lastRecoveryMessageTimestamp = 0;
     private long lastRecoveryAttemptTimestamp;
@@ -122,7 +123,7 @@ public class ProducerData {
     }
 
     public long getLastProcessedMessageGenTimestamp() {
-        return lastProcessedMessageGenTimestamp;
+        return lastProcessedMessageGenTimestamp.get();
     }
 
     public long getLastRecoveryMessageTimestamp() { return lastRecoveryMessageTimestamp; }
@@ -159,10 +160,11 @@ public class ProducerData {
         return producerScopes;
     }
 
+    // the timestamp only moves forward, the messages can be processed concurrently on several threads
     public void setLastProcessedMessageGenTimestamp(long lastProcessedMessageGenTimestamp) {
         Preconditions.checkArgument(lastProcessedMessageGenTimestamp > 0);
 
-        this.lastProcessedMessageGenTimestamp = lastProcessedMessageGenTimestamp;
+        this.lastProcessedMessageGenTimestamp.accumulateAndGet(lastProcessedMessageGenTimestamp, Math::max);
     }
 
     public void setLastRecoveryMessageReceivedTimestamp(long lastRecoveryMessageTimestamp) { this.lastRecoveryMessageTimestamp = lastRecoveryMessageTimestamp; }
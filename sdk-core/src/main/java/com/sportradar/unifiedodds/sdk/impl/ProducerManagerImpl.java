@@ -13,10 +13,9 @@ import com.sportradar.unifiedodds.sdk.oddsentities.RecoveryInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -28,9 +27,15 @@ public class ProducerManagerImpl implements SDKProducerManager {
     private static final Logger logger = LoggerFactory.getLogger(ProducerManagerImpl.class);
     private final SDKInternalConfiguration configuration;
     private final Map<Integer, ProducerData> producers;
-    private Set<Integer> unknownProducersWarning = new HashSet<>();
+    private final Map<Integer, Producer> unknownProducers = new ConcurrentHashMap<>();
     private boolean feedOpened;
 
+    /**
+     * The producer data indexed by the producer id, used on the message processing path. The table is replaced
+     * (never modified) once the enabled state or the recovery info of some producer changes
+     */
+    private volatile ProducerTable producerTable;
+
     @Inject
     public ProducerManagerImpl(SDKInternalConfiguration configuration, ProducerDataProvider producerDataProvider) {
         Preconditions.checkNotNull(configuration);
@@ -51,6 +56,7 @@ public class ProducerManagerImpl implements SDKProducerManager {
                                 v -> v
                         )
                 );
+        this.producerTable = new ProducerTable(producers);
 
         logger.info("Automatically disabling producers: {}", configuration.getDisabledProducers());
         configuration.getDisabledProducers().forEach(this::disableProducer);
@@ -58,39 +64,39 @@ public class ProducerManagerImpl implements SDKProducerManager {
 
     @Override
     public Map<Integer, Producer> getAvailableProducers() {
-        return producers.entrySet().stream()
+        ProducerTable table = producerTable;
+        return producers.keySet().stream()
                 .collect(
                         ImmutableMap.toImmutableMap(
-                                Map.Entry::getKey,
-                                v -> new ProducerImpl(v.getValue())
+                                k -> k,
+                                table::getProducer
                         ));
     }
 
     @Override
     public Map<Integer, Producer> getActiveProducers() {
+        ProducerTable table = producerTable;
         return producers.entrySet().stream()
                 .filter(p -> p.getValue().isActive())
                 .collect(
                         ImmutableMap.toImmutableMap(
                                 Map.Entry::getKey,
-                                v -> new ProducerImpl(v.getValue())
+                                v -> table.getProducer(v.getKey())
                         ));
     }
 
     @Override
     public Producer getProducer(int id) {
-        if (producers.containsKey(id)) {
-            return new ProducerImpl(producers.get(id));
+        Producer producer = producerTable.getProducer(id);
+        if (producer != null) {
+            return producer;
         } else {
-            return generateUnknownProducer(id);
+            return unknownProducers.computeIfAbsent(id, this::generateUnknownProducer);
         }
     }
 
     private Producer generateUnknownProducer(int id) {
-        if (!unknownProducersWarning.contains(id)) {
-            logger.warn("Generating Unknown producer: " + id);
-            unknownProducersWarning.add(id);
-        }
+        logger.warn("Generating Unknown producer: " + id);
 
         return ProducerImpl.buildUnknownProducer(id, configuration);
     }
@@ -104,6 +110,7 @@ public class ProducerManagerImpl implements SDKProducerManager {
         if (producers.containsKey(producerId)) {
             ProducerData producerData = producers.get(producerId);
             producerData.setEnabled(true);
+            refreshProducerTable();
         }
     }
 
@@ -116,6 +123,7 @@ public class ProducerManagerImpl implements SDKProducerManager {
         if (producers.containsKey(producerId)) {
             ProducerData producerData = producers.get(producerId);
             producerData.setEnabled(false);
+            refreshProducerTable();
         }
     }
 
@@ -148,20 +156,13 @@ public class ProducerManagerImpl implements SDKProducerManager {
 
     @Override
     public boolean isProducerEnabled(int producerId) {
-        return producers.values().stream()
-                .filter(p -> p.getId() == producerId)
-                .findFirst()
-                .map(ProducerData::isEnabled)
-                .orElse(false);
+        return producerTable.isEnabled(producerId);
     }
 
     @Override
     public boolean isProducerDown(int producerId) {
-        return producers.values().stream()
-                .filter(p -> p.getId() == producerId)
-                .findFirst()
-                .map(ProducerData::isFlaggedDown)
-                .orElse(false);
+        ProducerData producerData = producerTable.getData(producerId);
+        return producerData != null && producerData.isFlaggedDown();
     }
 
     @Override
@@ -223,6 +224,7 @@ public class ProducerManagerImpl implements SDKProducerManager {
                 ProducerData producer = producers.get(producerId);
                 if (producer != null && recoveryInfo != null) {
                     producer.setRecoveryInfo(recoveryInfo);
+                    refreshProducerTable();
                 }
             }
             else{
@@ -259,4 +261,49 @@ public class ProducerManagerImpl implements SDKProducerManager {
         }
         return 0;
     }
+
+    /**
+     * Replaces the producer table, so the changed enabled states and recovery infos are visible
+     * on the message processing path
+     */
+    private synchronized void refreshProducerTable() {
+        producerTable = new ProducerTable(producers);
+    }
+
+    /**
+     * An immutable snapshot of the producers indexed by the producer id, with the precomputed enabled flags
+     * and the {@link Producer} views which are handed out until the next snapshot is built
+     */
+    private static final class ProducerTable {
+        private final ProducerData[] data;
+        private final boolean[] enabled;
+        private final Producer[] views;
+
+        private ProducerTable(Map<Integer, ProducerData> producers) {
+            int size = producers.keySet().stream().mapToInt(Integer::intValue).max().orElse(-1) + 1;
+            data = new ProducerData[size];
+            enabled = new boolean[size];
+            views = new Producer[size];
+
+            producers.forEach((id, producerData) -> {
+                if (id >= 0) {
+                    data[id] = producerData;
+                    enabled[id] = producerData.isEnabled();
+                    views[id] = new ProducerImpl(producerData);
+                }
+            });
+        }
+
+        private ProducerData getData(int id) {
+            return id >= 0 && id < data.length ? data[id] : null;
+        }
+
+        private boolean isEnabled(int id) {
+            return id >= 0 && id < enabled.length && enabled[id];
+        }
+
+        private Producer getProducer(int id) {
+            return id >= 0 && id < views.length ? views[id] : null;
+        }
+    }
 }
@@ -21,6 +21,20 @@ public interface RabbitMqChannel {
      */
     void open(List<String> routingKeys, ChannelMessageConsumer channelMessageConsumer, String messageInterest) throws IOException;
 
+    /**
+     * Opens the current channel and binds the created queue to the provided routing keys
+     *
+     * @param routingKeys - a {@link List} of routing keys which should be binded
+     * @param channelMessageConsumer - a {@link ChannelMessageConsumer} which consumes the received payloads
+     * @param messageInterest message interest this channel is linked to
+     * @param settings - the {@link MessageReceiverSettings} specifying how the messages are acknowledged, ignored by
+     *                 channels which do not support acknowledgements
+     * @throws IOException if the routing keys bind failed
+     */
+    default void open(List<String> routingKeys, ChannelMessageConsumer channelMessageConsumer, String messageInterest, MessageReceiverSettings settings) throws IOException {
+        open(routingKeys, channelMessageConsumer, messageInterest);
+    }
+
     /**
      * Terminates the current channel
      *
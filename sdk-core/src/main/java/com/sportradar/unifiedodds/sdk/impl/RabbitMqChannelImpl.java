@@ -5,6 +5,7 @@
 package com.sportradar.unifiedodds.sdk.impl;
 
 import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
 import com.rabbitmq.client.*;
@@ -23,6 +24,10 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 /**
@@ -36,6 +41,12 @@ public class RabbitMqChannelImpl implements RabbitMqChannel {
      */
     private static final String UF_EXCHANGE = System.getProperty("sportradar.receiving.exchange", "unifiedfeed");
 
+    /**
+     * The max time (in milliseconds) a processed message waits for the acknowledgement, so the messages processed
+     * during quiet periods do not stay unacknowledged until the batch is filled
+     */
+    private static final long MAX_ACKNOWLEDGEMENT_DELAY_MS = 1000;
+
     /**
      * A {@link RabbitMqSystemListener} instance used to dispatch system events
      */
@@ -72,12 +83,30 @@ public class RabbitMqChannelImpl implements RabbitMqChannel {
 
     private String messageInterest;
 
+    /**
+     * The settings specifying how the received messages are acknowledged
+     */
+    private MessageReceiverSettings settings = MessageReceiverSettings.DEFAULT;
+
     private String sdkVersion;
 
     private long channelStarted;
 
     private TimeUtils timeUtils;
 
+    /**
+     * The acknowledger of the messages delivered on the current channel, <code>null</code> if the messages are
+     * acknowledged automatically
+     */
+    private ChannelDeliveryAcknowledger acknowledger;
+
+    /**
+     * The executor periodically acknowledging the processed messages of the current channel
+     */
+    private ScheduledExecutorService acknowledgementFlushExecutor;
+
+    private ScheduledFuture<?> acknowledgementFlushTask;
+
     /**
      * Initializes a new instance of the {@link RabbitMqChannelImpl}
      *
@@ -109,10 +138,25 @@ public class RabbitMqChannelImpl implements RabbitMqChannel {
      * @throws IOException if the routing keys bind failed
      */
     @Override
-    public synchronized void open(List<String> routingKeys, ChannelMessageConsumer channelMessageConsumer, String messageInterest) throws IOException {
+    public void open(List<String> routingKeys, ChannelMessageConsumer channelMessageConsumer, String messageInterest) throws IOException {
+        open(routingKeys, channelMessageConsumer, messageInterest, MessageReceiverSettings.DEFAULT);
+    }
+
+    /**
+     * Opens the current channel and binds the created queue to the provided routing keys
+     *
+     * @param routingKeys - a {@link List} of routing keys which should be binded
+     * @param channelMessageConsumer - a {@link ChannelMessageConsumer} which consumes the received payloads
+     * @param messageInterest message interest this channel is linked to
+     * @param settings - the {@link MessageReceiverSettings} specifying how the messages are acknowledged
+     * @throws IOException if the routing keys bind failed
+     */
+    @Override
+    public synchronized void open(List<String> routingKeys, ChannelMessageConsumer channelMessageConsumer, String messageInterest, MessageReceiverSettings settings) throws IOException {
         Preconditions.checkNotNull(routingKeys);
         Preconditions.checkArgument(!routingKeys.isEmpty());
         Preconditions.checkNotNull(channelMessageConsumer);
+        Preconditions.checkNotNull(settings);
 
         if (shouldBeOpened) {
             return;
@@ -122,6 +166,7 @@ public class RabbitMqChannelImpl implements RabbitMqChannel {
         this.routingKeys = routingKeys;
         this.channelMessageConsumer = channelMessageConsumer;
         this.messageInterest = messageInterest;
+        this.settings = settings;
         this.timeUtils = new TimeUtilsImpl();
 
 //        new Thread(this::checkChannelStatus).start();
@@ -185,13 +230,27 @@ public class RabbitMqChannelImpl implements RabbitMqChannel {
             channel.queueBind(qName, UF_EXCHANGE, routingKey);
         }
 
+        // the delivery tags are scoped to the channel, so each (re)created channel gets its own acknowledger
+        boolean autoAck = !settings.isManualAcknowledgementEnabled();
+        ChannelDeliveryAcknowledger acknowledger = autoAck ? null : new ChannelDeliveryAcknowledger(channel, settings.getAcknowledgementBatchSize(), MAX_ACKNOWLEDGEMENT_DELAY_MS);
+        if (!autoAck) {
+            channel.basicQos(settings.getPrefetchCount());
+            scheduleAcknowledgementFlush(acknowledger);
+        }
+
         DefaultConsumer consumer = new DefaultConsumer(channel) {
             @Override
             public synchronized void handleDelivery(String tag, Envelope envelope, AMQP.BasicProperties properties, byte[] body) {
                 MDC.setContextMap(sdkMdcContextDescription);
                 try {
                     channelLastMessage = LocalDateTime.now();
-                    channelMessageConsumer.onMessageReceived(envelope.getRoutingKey(), body, properties, new TimeUtilsImpl().now());
+                    if (acknowledger == null) {
+                        channelMessageConsumer.onMessageReceived(envelope.getRoutingKey(), body, properties, new TimeUtilsImpl().now());
+                    } else {
+                        long deliveryTag = envelope.getDeliveryTag();
+                        channelMessageConsumer.onMessageReceived(envelope.getRoutingKey(), body, properties, new TimeUtilsImpl().now(),
+                                () -> acknowledger.onProcessed(deliveryTag));
+                    }
                 } catch (Exception e) {
                     logger.error(String.format("An exception occurred while processing AMQP message. Routing key: '%s', body: '%s'",
                             envelope.getRoutingKey(),
@@ -211,8 +270,8 @@ public class RabbitMqChannelImpl implements RabbitMqChannel {
                                            channel.getChannelNumber(),
                                            new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()),
                                            SdkHelper.getUuid(8));
-        channel.basicConsume(qName, true, consumerTag, consumer);
-        logger.info("BasicConsume for channel={}, queue={} and consumer tag {} executed.", channel.getChannelNumber(), qName, consumerTag);
+        channel.basicConsume(qName, autoAck, consumerTag, consumer);
+        logger.info("BasicConsume for channel={}, queue={}, consumer tag {} and prefetch count {} executed.", channel.getChannelNumber(), qName, consumerTag, autoAck ? "unlimited" : settings.getPrefetchCount());
         channelStarted = timeUtils.now();
         channelLastMessage = LocalDateTime.MIN;
     }
@@ -234,6 +293,11 @@ public class RabbitMqChannelImpl implements RabbitMqChannel {
         shouldBeOpened = false;
         channelLastMessage = LocalDateTime.MIN;
         channelClosePure();
+
+        if (acknowledgementFlushExecutor != null) {
+            acknowledgementFlushExecutor.shutdownNow();
+            acknowledgementFlushExecutor = null;
+        }
     }
 
     /**
@@ -348,7 +412,30 @@ public class RabbitMqChannelImpl implements RabbitMqChannel {
         }
     }
 
+    private void scheduleAcknowledgementFlush(ChannelDeliveryAcknowledger channelAcknowledger) {
+        if (acknowledgementFlushExecutor == null) {
+            acknowledgementFlushExecutor = Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder()
+                            .setNameFormat("MqChannelAck-" + messageInterest + "-" + hashCode())
+                            .setDaemon(true)
+                            .build());
+        }
+        acknowledger = channelAcknowledger;
+        acknowledgementFlushTask = acknowledgementFlushExecutor.scheduleWithFixedDelay(
+                channelAcknowledger::flushExpired, MAX_ACKNOWLEDGEMENT_DELAY_MS, MAX_ACKNOWLEDGEMENT_DELAY_MS, TimeUnit.MILLISECONDS);
+    }
+
     private void channelClosePure(){
+        if (acknowledgementFlushTask != null) {
+            acknowledgementFlushTask.cancel(false);
+            acknowledgementFlushTask = null;
+        }
+        if (acknowledger != null) {
+            // the processed messages are acknowledged before the channel is closed, so they are not redelivered
+            acknowledger.flush();
+            acknowledger = null;
+        }
+
         try {
             if (channel != null && channel.isOpen()) {
                 ((Recoverable) channel).removeRecoveryListener(rabbitMqSystemListener);
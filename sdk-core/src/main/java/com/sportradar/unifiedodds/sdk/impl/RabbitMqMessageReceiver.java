@@ -6,6 +6,7 @@ package com.sportradar.unifiedodds.sdk.impl;
 
 import com.google.common.base.Preconditions;
 import com.google.inject.Inject;
+import com.sportradar.unifiedodds.sdk.impl.apireaders.WhoAmIReader;
 
 import java.io.IOException;
 import java.util.List;
@@ -24,18 +25,51 @@ public class RabbitMqMessageReceiver implements MessageReceiver {
      */
     private final ChannelMessageConsumer channelMessageConsumer;
 
+    /**
+     * A {@link RoutingKeyParser} used by the event ordered dispatch to assign the messages to workers and by the
+     * message filter
+     */
+    private final RoutingKeyParser routingKeyParser;
+
+    /**
+     * The statistics object where the dispatch metrics are reported
+     */
+    private final UnifiedOddsStatistics statistics;
+
+    /**
+     * A {@link WhoAmIReader} used to access current SDK instance context information
+     */
+    private final WhoAmIReader whoAmIReader;
+
+    /**
+     * The consumer dispatching the messages on worker threads, if the event ordered dispatch is enabled
+     */
+    private EventOrderedChannelMessageConsumer dispatchingConsumer;
+
     /**
      * Initializes a new instance of {@link RabbitMqMessageReceiver}
      *
      * @param rabbitMqChannel a {@link RabbitMqChannel} instance which will provide the message payloads
      * @param channelMessageConsumer the raw message consumer
+     * @param routingKeyParser a {@link RoutingKeyParser} used to assign the messages to dispatch workers and to filter them
+     * @param statistics the statistics object where the dispatch metrics are reported
+     * @param whoAmIReader a {@link WhoAmIReader} used to access current SDK instance context information
      */
     @Inject
-    RabbitMqMessageReceiver(RabbitMqChannel rabbitMqChannel, ChannelMessageConsumer channelMessageConsumer) {
+    RabbitMqMessageReceiver(RabbitMqChannel rabbitMqChannel,
+                            ChannelMessageConsumer channelMessageConsumer,
+                            RoutingKeyParser routingKeyParser,
+                            UnifiedOddsStatistics statistics,
+                            WhoAmIReader whoAmIReader) {
         Preconditions.checkNotNull(rabbitMqChannel);
+        Preconditions.checkNotNull(routingKeyParser);
+        Preconditions.checkNotNull(whoAmIReader);
 
         this.rabbitMqChannel = rabbitMqChannel;
         this.channelMessageConsumer = channelMessageConsumer;
+        this.routingKeyParser = routingKeyParser;
+        this.statistics = statistics;
+        this.whoAmIReader = whoAmIReader;
     }
 
     /**
@@ -43,13 +77,33 @@ public class RabbitMqMessageReceiver implements MessageReceiver {
      *
      * @param routingKeys a {@link List} of requested routing keys
      * @param messageConsumer a {@link MessageConsumer} instance which will receive messages
+     * @param settings the {@link MessageReceiverSettings} specifying how the messages are received and dispatched
      * @throws IOException if the RabbitMq channel failed to open
      */
     @Override
-    public void open(List<String> routingKeys, MessageConsumer messageConsumer) throws IOException {
-        channelMessageConsumer.open(messageConsumer);
+    public void open(List<String> routingKeys, MessageConsumer messageConsumer, MessageReceiverSettings settings) throws IOException {
+        Preconditions.checkNotNull(settings);
 
-        rabbitMqChannel.open(routingKeys, channelMessageConsumer, messageConsumer.getMessageInterest().toShortString());
+        ChannelMessageConsumer consumer = channelMessageConsumer;
+        if (settings.isEventOrderedDispatchEnabled()) {
+            dispatchingConsumer = new EventOrderedChannelMessageConsumer(
+                    consumer,
+                    routingKeyParser,
+                    statistics,
+                    whoAmIReader.getAssociatedSdkMdcContextMap(),
+                    whoAmIReader.getSdkContextDescription() + "-dispatch-" + messageConsumer.getMessageInterest().toShortString(),
+                    settings.getDispatchWorkerCount(),
+                    settings.getDispatchQueueCapacity());
+            consumer = dispatchingConsumer;
+        }
+        // the filter is evaluated on the receiving thread, so the dropped messages are not even queued
+        if (settings.getMessageFilter() != null) {
+            consumer = new FilteringChannelMessageConsumer(consumer, routingKeyParser, settings.getMessageFilter());
+        }
+
+        consumer.open(messageConsumer);
+
+        rabbitMqChannel.open(routingKeys, consumer, messageConsumer.getMessageInterest().toShortString(), settings);
     }
 
     /**
@@ -60,6 +114,10 @@ public class RabbitMqMessageReceiver implements MessageReceiver {
     @Override
     public void close() throws IOException {
         rabbitMqChannel.close();
+
+        if (dispatchingConsumer != null) {
+            dispatchingConsumer.close();
+        }
     }
 
     /**
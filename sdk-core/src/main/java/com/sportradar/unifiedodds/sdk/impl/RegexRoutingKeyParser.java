@@ -15,6 +15,11 @@ import java.util.regex.Pattern;
  * A {@link RoutingKeyParser} implementation that uses regex for key parsing
  */
 public class RegexRoutingKeyParser implements RoutingKeyParser {
+    /**
+     * The group name used by the {@link #REGEX_PATTERN} to store the message type
+     */
+    private static final String MESSAGE_TYPE_GROUP_NAME = "messageType";
+
     /**
      * The group name used by the {@link #REGEX_PATTERN} to store the sport id
      */
@@ -42,7 +47,7 @@ public class RegexRoutingKeyParser implements RoutingKeyParser {
             "\\A([^.]+)" + // hi-lo
             "\\.([^.]+)" + // -
             "\\.([^.]+)" + // live/prematch
-            "\\.([^.]+)" + // message type (alive, odds change,...)
+            "\\.(?<" + MESSAGE_TYPE_GROUP_NAME + ">[^.]+)" + // message type (alive, odds change,...)
             "\\.(?<" + SPORT_GROUP_NAME + ">((\\d+)|(-)))" +
             "\\.(?<" + EVENT_TYPE_GROUP_NAME + ">((([a-z]+):([a-zA-Z_2]+))|(-)))" +
             "\\.(?<" + EVENT_ID_GROUP_NAME + ">((\\d+)|(-)))" +
@@ -72,8 +77,13 @@ public class RegexRoutingKeyParser implements RoutingKeyParser {
 
         Matcher matcher = REGEX_PATTERN.matcher(routingKey);
 
-        if (!matcher.find() || (matcher.group(SPORT_GROUP_NAME).equals("-") && matcher.group(EVENT_ID_GROUP_NAME).equals("-"))) {
-            return new RoutingKeyInfo(routingKey, true);
+        if (!matcher.find()) {
+            return new RoutingKeyInfo(routingKey, null, true);
+        }
+
+        String messageType = matcher.group(MESSAGE_TYPE_GROUP_NAME);
+        if (matcher.group(SPORT_GROUP_NAME).equals("-") && matcher.group(EVENT_ID_GROUP_NAME).equals("-")) {
+            return new RoutingKeyInfo(routingKey, messageType, true);
         }
 
         URN sportId;
@@ -95,6 +105,6 @@ public class RegexRoutingKeyParser implements RoutingKeyParser {
             }
         }
 
-        return new RoutingKeyInfo(routingKey, sportId, eventId);
+        return new RoutingKeyInfo(routingKey, messageType, sportId, eventId);
     }
 }
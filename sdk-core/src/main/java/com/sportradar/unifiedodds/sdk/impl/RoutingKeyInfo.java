@@ -15,6 +15,11 @@ public class RoutingKeyInfo {
      */
     private final String fullRoutingKey;
 
+    /**
+     * The type of the message (odds_change, alive,...)
+     */
+    private final String messageType;
+
     /**
      * The relating sport identifier
      */
@@ -36,11 +41,13 @@ public class RoutingKeyInfo {
      * Initializes a new {@link RoutingKeyInfo} instance
      *
      * @param fullRoutingKey - the complete broker routing key
+     * @param messageType - the type of the message
      * @param sportId - the relating sport identifier
      * @param eventId - the relating event identifier
      */
-    RoutingKeyInfo(String fullRoutingKey, URN sportId, URN eventId) {
+    RoutingKeyInfo(String fullRoutingKey, String messageType, URN sportId, URN eventId) {
         this.fullRoutingKey = fullRoutingKey;
+        this.messageType = messageType;
         this.sportId = sportId;
         this.eventId = eventId;
         this.systemRoutingKey = false;
@@ -50,11 +57,13 @@ public class RoutingKeyInfo {
      * Initializes a new {@link RoutingKeyInfo} instance
      *
      * @param fullRoutingKey - the full broker routing key
+     * @param messageType - the type of the message, if the routing key could be parsed
      * @param systemRoutingKey - indication if the current routing key is a system routing key
      */
-    RoutingKeyInfo(String fullRoutingKey, boolean systemRoutingKey) {
+    RoutingKeyInfo(String fullRoutingKey, String messageType, boolean systemRoutingKey) {
         this.systemRoutingKey = systemRoutingKey;
         this.fullRoutingKey = fullRoutingKey;
+        this.messageType = messageType;
         this.sportId = null;
         this.eventId = null;
     }
@@ -69,6 +78,15 @@ public class RoutingKeyInfo {
         return fullRoutingKey;
     }
 
+    /**
+     * Returns the type of the message (odds_change, alive,...)
+     *
+     * @return - the type of the message if available; otherwise null
+     */
+    public String getMessageType() {
+        return messageType;
+    }
+
     /**
      * Returns the relating sport {@link URN} identifier
      *
@@ -100,6 +118,7 @@ public class RoutingKeyInfo {
     public String toString() {
         return "RoutingKeyInfo{" +
                 "fullRoutingKey='" + fullRoutingKey + '\'' +
+                ", messageType='" + messageType + '\'' +
                 ", sportId=" + sportId +
                 ", eventId=" + eventId +
                 '}';
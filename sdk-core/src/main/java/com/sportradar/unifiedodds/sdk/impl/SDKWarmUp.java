@@ -0,0 +1,230 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.caching.DataRouterManager;
+import com.sportradar.unifiedodds.sdk.caching.LocalizedNamedValueCache;
+import com.sportradar.unifiedodds.sdk.caching.NamedValueCache;
+import com.sportradar.unifiedodds.sdk.caching.markets.MarketDescriptionCache;
+import com.sportradar.unifiedodds.sdk.caching.markets.VariantDescriptionCache;
+import com.sportradar.unifiedodds.sdk.impl.apireaders.WhoAmIReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Loads the caches used by the message processing when the feed is opened, so the first messages do not wait
+ * for the API. The fetches are executed concurrently on at most {@link SDKInternalConfiguration#getWarmUpParallelism()}
+ * threads and the opening of the feed waits up to {@link SDKInternalConfiguration#getWarmUpTimeout()} seconds
+ * for the critical caches (market descriptions and named values)
+ */
+@Singleton
+public class SDKWarmUp {
+    private static final Logger logger = LoggerFactory.getLogger(SDKWarmUp.class);
+
+    /**
+     * The max number of concurrently executed warm-up steps, 0 if the warm-up is disabled
+     */
+    private final int parallelism;
+
+    /**
+     * The max time (in seconds) the {@link #run()} waits for the critical steps
+     */
+    private final int timeout;
+
+    /**
+     * The description of the SDK context, used to name the warm-up threads
+     */
+    private final String sdkContextDescription;
+
+    /**
+     * The warm-up steps, in the order in which they are started
+     */
+    private final List<WarmUpStep> steps;
+
+    /**
+     * The durations (in milliseconds) of the completed steps
+     */
+    private final Map<String, Long> stepTimings = new LinkedHashMap<>();
+
+    /**
+     * The statistics object where the step timings are published
+     */
+    private final UnifiedOddsStatistics statistics;
+
+    @Inject
+    public SDKWarmUp(SDKInternalConfiguration configuration,
+                     WhoAmIReader whoAmIReader,
+                     DataRouterManager dataRouterManager,
+                     @Named("InvariantMarketCache") MarketDescriptionCache invariantMarketCache,
+                     VariantDescriptionCache variantDescriptionCache,
+                     @Named("MatchStatusCache") LocalizedNamedValueCache matchStatusCache,
+                     @Named("VoidReasonsCache") NamedValueCache voidReasonsCache,
+                     @Named("BetStopReasonCache") NamedValueCache betStopReasonCache,
+                     @Named("BettingStatusCache") NamedValueCache bettingStatusCache,
+                     UnifiedOddsStatistics statistics) {
+        Preconditions.checkNotNull(configuration);
+        Preconditions.checkNotNull(whoAmIReader);
+        Preconditions.checkNotNull(dataRouterManager);
+        Preconditions.checkNotNull(invariantMarketCache);
+        Preconditions.checkNotNull(variantDescriptionCache);
+        Preconditions.checkNotNull(matchStatusCache);
+        Preconditions.checkNotNull(voidReasonsCache);
+        Preconditions.checkNotNull(betStopReasonCache);
+        Preconditions.checkNotNull(bettingStatusCache);
+        Preconditions.checkNotNull(statistics);
+
+        this.parallelism = configuration.getWarmUpParallelism();
+        this.timeout = configuration.getWarmUpTimeout();
+        this.sdkContextDescription = whoAmIReader.getSdkContextDescription();
+        this.statistics = statistics;
+
+        steps = new ArrayList<>();
+        steps.add(new WarmUpStep("InvariantMarkets", true, invariantMarketCache::loadMissingMarketDescriptions));
+        steps.add(new WarmUpStep("VariantDescriptions", true, variantDescriptionCache::loadMissingMarketDescriptions));
+        steps.add(new WarmUpStep("MatchStatuses", true, matchStatusCache::loadNamedValues));
+        steps.add(new WarmUpStep("VoidReasons", true, voidReasonsCache::loadNamedValues));
+        steps.add(new WarmUpStep("BetStopReasons", true, betStopReasonCache::loadNamedValues));
+        steps.add(new WarmUpStep("BettingStatuses", true, bettingStatusCache::loadNamedValues));
+        for (Locale locale : configuration.getDesiredLocales()) {
+            steps.add(new WarmUpStep("SportsData[" + locale.getLanguage() + "]", false, () -> {
+                dataRouterManager.requestAllSportsData(locale);
+                return true;
+            }));
+        }
+        steps.add(new WarmUpStep("Schedules", false, dataRouterManager::requestPrefetchSchedules));
+    }
+
+    /**
+     * Starts the warm-up steps and waits (up to the configured timeout) for the critical ones
+     *
+     * @return <code>true</code> if the critical caches were loaded before this method returned; otherwise <code>false</code>
+     */
+    public boolean run() {
+        if (parallelism == 0) {
+            logger.info("SDK warm-up is disabled, the caches will be loaded on first use");
+            return false;
+        }
+
+        synchronized (stepTimings) {
+            stepTimings.clear();
+        }
+
+        ThreadFactory namedThreadFactory =
+                new ThreadFactoryBuilder()
+                        .setNameFormat(sdkContextDescription + "-wu-t-%d")
+                        .setDaemon(true)
+                        .build();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, steps.size()), namedThreadFactory);
+
+        long start = System.nanoTime();
+        List<CompletableFuture<Boolean>> all = new ArrayList<>(steps.size());
+        List<CompletableFuture<Boolean>> critical = new ArrayList<>();
+        for (WarmUpStep step : steps) {
+            CompletableFuture<Boolean> result = CompletableFuture.supplyAsync(() -> execute(step), executor);
+            all.add(result);
+            if (step.critical) {
+                critical.add(result);
+            }
+        }
+        executor.shutdown();
+
+        allOf(all).whenComplete((r, t) ->
+                logger.info("SDK warm-up completed in {} ms, step timings (ms): {}",
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), getStepTimings()));
+
+        if (timeout == 0) {
+            return false;
+        }
+
+        try {
+            allOf(critical).get(timeout, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            logger.warn("SDK warm-up of the critical caches failed", e);
+            return false;
+        } catch (TimeoutException e) {
+            logger.warn("SDK warm-up of the critical caches did not complete in {}s, the feed is opened without waiting for them", timeout);
+            return false;
+        }
+
+        boolean loaded = critical.stream().allMatch(CompletableFuture::join);
+        logger.info("SDK warm-up of the critical caches completed in {} ms, all loaded: {}",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), loaded);
+        return loaded;
+    }
+
+    /**
+     * Returns the durations (in milliseconds) of the warm-up steps completed by the last {@link #run()}, the
+     * timings are also exposed over JMX by the {@link UnifiedOddsStatistics}
+     *
+     * @return the durations (in milliseconds) of the completed warm-up steps, mapped by the step names
+     */
+    public Map<String, Long> getStepTimings() {
+        synchronized (stepTimings) {
+            return ImmutableMap.copyOf(stepTimings);
+        }
+    }
+
+    private boolean execute(WarmUpStep step) {
+        long start = System.nanoTime();
+        boolean loaded;
+        try {
+            loaded = step.task.load();
+        } catch (Exception e) {
+            logger.warn("SDK warm-up step {} failed", step.name, e);
+            loaded = false;
+        }
+
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        synchronized (stepTimings) {
+            stepTimings.put(step.name, elapsed);
+        }
+        statistics.onWarmUpStepCompleted(step.name, elapsed);
+        logger.info("SDK warm-up step {} {} in {} ms", step.name, loaded ? "completed" : "failed", elapsed);
+        return loaded;
+    }
+
+    private static CompletableFuture<Void> allOf(List<CompletableFuture<Boolean>> futures) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+    }
+
+    private interface WarmUpTask {
+        boolean load() throws Exception;
+    }
+
+    private static class WarmUpStep {
+        private final String name;
+        private final boolean critical;
+        private final WarmUpTask task;
+
+        WarmUpStep(String name, boolean critical, WarmUpTask task) {
+            this.name = name;
+            this.critical = critical;
+            this.task = task;
+        }
+    }
+}
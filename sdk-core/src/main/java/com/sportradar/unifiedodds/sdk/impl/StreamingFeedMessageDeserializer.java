@@ -0,0 +1,345 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.google.common.io.ByteStreams;
+import com.sportradar.uf.datamodel.*;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.DeserializationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.transform.stream.StreamSource;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link Deserializer} implementation which decodes the most frequent feed messages (odds_change, bet_stop and alive)
+ * with the streaming {@link FeedMessagePullParser} and falls back to JAXB for all the other messages or for any content
+ * the pull parser does not recognise. The produced instances are the same JAXB generated message classes.
+ */
+public class StreamingFeedMessageDeserializer implements Deserializer {
+    private static final Logger logger = LoggerFactory.getLogger(StreamingFeedMessageDeserializer.class);
+
+    private static final byte[] ODDS_CHANGE = bytes("odds_change");
+    private static final byte[] BET_STOP = bytes("bet_stop");
+    private static final byte[] ALIVE = bytes("alive");
+    private static final byte[] SPORT_EVENT_STATUS = bytes("sport_event_status");
+    private static final byte[] ODDS_GENERATION_PROPERTIES = bytes("odds_generation_properties");
+    private static final byte[] ODDS = bytes("odds");
+    private static final byte[] MARKET = bytes("market");
+    private static final byte[] MARKET_METADATA = bytes("market_metadata");
+    private static final byte[] OUTCOME = bytes("outcome");
+
+    private static final byte[] PRODUCT = bytes("product");
+    private static final byte[] EVENT_ID = bytes("event_id");
+    private static final byte[] TIMESTAMP = bytes("timestamp");
+    private static final byte[] REQUEST_ID = bytes("request_id");
+    private static final byte[] ODDS_CHANGE_REASON = bytes("odds_change_reason");
+    private static final byte[] EXPECTED_TOTALS = bytes("expected_totals");
+    private static final byte[] EXPECTED_SUPREMACY = bytes("expected_supremacy");
+    private static final byte[] BETTING_STATUS = bytes("betting_status");
+    private static final byte[] BETSTOP_REASON = bytes("betstop_reason");
+    private static final byte[] ID = bytes("id");
+    private static final byte[] SPECIFIERS = bytes("specifiers");
+    private static final byte[] EXTENDED_SPECIFIERS = bytes("extended_specifiers");
+    private static final byte[] FAVOURITE = bytes("favourite");
+    private static final byte[] STATUS = bytes("status");
+    private static final byte[] CASHOUT_STATUS = bytes("cashout_status");
+    private static final byte[] NEXT_BETSTOP = bytes("next_betstop");
+    private static final byte[] START_TIME = bytes("start_time");
+    private static final byte[] END_TIME = bytes("end_time");
+    private static final byte[] AAMS_ID = bytes("aams_id");
+    private static final byte[] ODDS_ATTRIBUTE = bytes("odds");
+    private static final byte[] PROBABILITIES = bytes("probabilities");
+    private static final byte[] WIN_PROBABILITIES = bytes("win_probabilities");
+    private static final byte[] LOSE_PROBABILITIES = bytes("lose_probabilities");
+    private static final byte[] REFUND_PROBABILITIES = bytes("refund_probabilities");
+    private static final byte[] HALF_WIN_PROBABILITIES = bytes("half_win_probabilities");
+    private static final byte[] HALF_LOSE_PROBABILITIES = bytes("half_lose_probabilities");
+    private static final byte[] ACTIVE = bytes("active");
+    private static final byte[] TEAM = bytes("team");
+    private static final byte[] GROUPS = bytes("groups");
+    private static final byte[] MARKET_STATUS = bytes("market_status");
+    private static final byte[] SUBSCRIBED = bytes("subscribed");
+
+    /**
+     * The {@link Deserializer} used for messages which are not handled by the pull parser
+     */
+    private final Deserializer fallbackDeserializer;
+
+    /**
+     * The per-thread {@link Unmarshaller} used to unmarshal the sport_event_status sub-tree of the odds_change message
+     */
+    private final ThreadLocal<Unmarshaller> unmarshaller;
+
+    public StreamingFeedMessageDeserializer(JAXBContext context) {
+        Preconditions.checkNotNull(context);
+
+        this.fallbackDeserializer = new DeserializerImpl(context);
+        this.unmarshaller = ThreadLocal.withInitial(() -> {
+            try {
+                return context.createUnmarshaller();
+            } catch (JAXBException e) {
+                throw new IllegalStateException("Failed to create unmarshaller", e);
+            }
+        });
+    }
+
+    @Override
+    public Object deserialize(InputStream inStr) throws DeserializationException {
+        Preconditions.checkNotNull(inStr);
+
+        byte[] data;
+        try {
+            data = ByteStreams.toByteArray(inStr);
+        } catch (IOException e) {
+            throw new DeserializationException("The provided message stream could not be read", e);
+        }
+
+        try {
+            Object decoded = decode(new FeedMessagePullParser(data), data);
+            if (decoded != null) {
+                return decoded;
+            }
+        } catch (FeedMessagePullParser.UnsupportedContentException e) {
+            logger.trace("Message content not supported by the pull parser, falling back to JAXB: {}", e.getMessage());
+        } catch (JAXBException | RuntimeException e) {
+            logger.debug("Pull parser failed to decode the message, falling back to JAXB", e);
+        }
+
+        return fallbackDeserializer.deserialize(new ByteArrayInputStream(data));
+    }
+
+    @Override
+    public String serialize(Object inObj) throws DeserializationException {
+        return fallbackDeserializer.serialize(inObj);
+    }
+
+    @Override
+    public void unload() {
+        fallbackDeserializer.unload();
+        unmarshaller.remove();
+    }
+
+    private Object decode(FeedMessagePullParser parser, byte[] data) throws JAXBException {
+        if (parser.next() != FeedMessagePullParser.START_ELEMENT) {
+            throw new FeedMessagePullParser.UnsupportedContentException("missing root element");
+        }
+
+        Object decoded;
+        if (parser.isElement(ODDS_CHANGE)) {
+            decoded = readOddsChange(parser, data);
+        } else if (parser.isElement(BET_STOP)) {
+            decoded = readBetStop(parser);
+        } else if (parser.isElement(ALIVE)) {
+            decoded = readAlive(parser);
+        } else {
+            return null;
+        }
+
+        if (parser.next() != FeedMessagePullParser.END_DOCUMENT) {
+            throw new FeedMessagePullParser.UnsupportedContentException("content after the root element");
+        }
+        return decoded;
+    }
+
+    private UFOddsChange readOddsChange(FeedMessagePullParser parser, byte[] data) throws JAXBException {
+        UFOddsChange oddsChange = new UFOddsChange();
+        for (int i = 0; i < parser.getAttributeCount(); i++) {
+            if (parser.isAttribute(i, PRODUCT)) {
+                oddsChange.setProduct(parser.getAttributeInt(i));
+            } else if (parser.isAttribute(i, EVENT_ID)) {
+                oddsChange.setEventId(parser.getAttributeString(i));
+            } else if (parser.isAttribute(i, TIMESTAMP)) {
+                oddsChange.setTimestamp(parser.getAttributeLong(i));
+            } else if (parser.isAttribute(i, REQUEST_ID)) {
+                oddsChange.setRequestId(parser.getAttributeLong(i));
+            } else if (parser.isAttribute(i, ODDS_CHANGE_REASON)) {
+                oddsChange.setOddsChangeReason(UFOddsChangeReason.fromValue(parser.getAttributeInt(i)));
+            }
+        }
+
+        while (parser.next() == FeedMessagePullParser.START_ELEMENT) {
+            if (parser.isElement(SPORT_EVENT_STATUS)) {
+                // the status is not frequent enough to justify a hand-written decoder, so its sub-tree is handed
+                // to the JAXB unmarshaller as is
+                int start = parser.getElementStart();
+                parser.skipElement();
+                StreamSource source = new StreamSource(new ByteArrayInputStream(data, start, parser.getPosition() - start));
+                oddsChange.setSportEventStatus(unmarshaller.get().unmarshal(source, UFSportEventStatus.class).getValue());
+            } else if (parser.isElement(ODDS_GENERATION_PROPERTIES)) {
+                oddsChange.setOddsGenerationProperties(readOddsGenerationProperties(parser));
+            } else if (parser.isElement(ODDS)) {
+                oddsChange.setOdds(readOdds(parser));
+            } else {
+                throw new FeedMessagePullParser.UnsupportedContentException("odds_change element " + parser.getElementName());
+            }
+        }
+        return oddsChange;
+    }
+
+    private static UFOddsGenerationProperties readOddsGenerationProperties(FeedMessagePullParser parser) {
+        UFOddsGenerationProperties properties = new UFOddsGenerationProperties();
+        for (int i = 0; i < parser.getAttributeCount(); i++) {
+            if (parser.isAttribute(i, EXPECTED_TOTALS)) {
+                properties.setExpectedTotals(parser.getAttributeDouble(i));
+            } else if (parser.isAttribute(i, EXPECTED_SUPREMACY)) {
+                properties.setExpectedSupremacy(parser.getAttributeDouble(i));
+            }
+        }
+        requireEndElement(parser);
+        return properties;
+    }
+
+    private static UFOddsChange.UFOdds readOdds(FeedMessagePullParser parser) {
+        UFOddsChange.UFOdds odds = new UFOddsChange.UFOdds();
+        for (int i = 0; i < parser.getAttributeCount(); i++) {
+            if (parser.isAttribute(i, BETTING_STATUS)) {
+                odds.setBettingStatus(parser.getAttributeInt(i));
+            } else if (parser.isAttribute(i, BETSTOP_REASON)) {
+                odds.setBetstopReason(parser.getAttributeInt(i));
+            }
+        }
+
+        while (parser.next() == FeedMessagePullParser.START_ELEMENT) {
+            if (!parser.isElement(MARKET)) {
+                throw new FeedMessagePullParser.UnsupportedContentException("odds element " + parser.getElementName());
+            }
+            odds.getMarket().add(readMarket(parser));
+        }
+        return odds;
+    }
+
+    private static UFOddsChangeMarket readMarket(FeedMessagePullParser parser) {
+        UFOddsChangeMarket market = new UFOddsChangeMarket();
+        for (int i = 0; i < parser.getAttributeCount(); i++) {
+            if (parser.isAttribute(i, ID)) {
+                market.setId(parser.getAttributeInt(i));
+            } else if (parser.isAttribute(i, SPECIFIERS)) {
+                market.setSpecifiers(parser.getAttributeString(i));
+            } else if (parser.isAttribute(i, EXTENDED_SPECIFIERS)) {
+                market.setExtendedSpecifiers(parser.getAttributeString(i));
+            } else if (parser.isAttribute(i, FAVOURITE)) {
+                market.setFavourite(UFFavourite.fromValue(parser.getAttributeInt(i)));
+            } else if (parser.isAttribute(i, STATUS)) {
+                market.setStatus(UFMarketStatus.fromValue(parser.getAttributeInt(i)));
+            } else if (parser.isAttribute(i, CASHOUT_STATUS)) {
+                market.setCashoutStatus(parser.getAttributeInt(i));
+            }
+        }
+
+        while (parser.next() == FeedMessagePullParser.START_ELEMENT) {
+            if (parser.isElement(OUTCOME)) {
+                market.getOutcome().add(readOutcome(parser));
+            } else if (parser.isElement(MARKET_METADATA)) {
+                market.setMarketMetadata(readMarketMetadata(parser));
+            } else {
+                throw new FeedMessagePullParser.UnsupportedContentException("market element " + parser.getElementName());
+            }
+        }
+        return market;
+    }
+
+    private static UFMarketMetadata readMarketMetadata(FeedMessagePullParser parser) {
+        UFMarketMetadata metadata = new UFMarketMetadata();
+        for (int i = 0; i < parser.getAttributeCount(); i++) {
+            if (parser.isAttribute(i, NEXT_BETSTOP)) {
+                metadata.setNextBetstop(parser.getAttributeLong(i));
+            } else if (parser.isAttribute(i, START_TIME)) {
+                metadata.setStartTime(parser.getAttributeLong(i));
+            } else if (parser.isAttribute(i, END_TIME)) {
+                metadata.setEndTime(parser.getAttributeLong(i));
+            } else if (parser.isAttribute(i, AAMS_ID)) {
+                metadata.setAamsId(parser.getAttributeLong(i));
+            }
+        }
+        requireEndElement(parser);
+        return metadata;
+    }
+
+    private static UFOddsChangeMarket.UFOutcome readOutcome(FeedMessagePullParser parser) {
+        UFOddsChangeMarket.UFOutcome outcome = new UFOddsChangeMarket.UFOutcome();
+        for (int i = 0; i < parser.getAttributeCount(); i++) {
+            if (parser.isAttribute(i, ID)) {
+                outcome.setId(parser.getAttributeString(i));
+            } else if (parser.isAttribute(i, ODDS_ATTRIBUTE)) {
+                outcome.setOdds(parser.getAttributeDouble(i));
+            } else if (parser.isAttribute(i, ACTIVE)) {
+                outcome.setActive(UFOutcomeActive.fromValue(parser.getAttributeInt(i)));
+            } else if (parser.isAttribute(i, PROBABILITIES)) {
+                outcome.setProbabilities(parser.getAttributeDouble(i));
+            } else if (parser.isAttribute(i, WIN_PROBABILITIES)) {
+                outcome.setWinProbabilities(parser.getAttributeDouble(i));
+            } else if (parser.isAttribute(i, LOSE_PROBABILITIES)) {
+                outcome.setLoseProbabilities(parser.getAttributeDouble(i));
+            } else if (parser.isAttribute(i, REFUND_PROBABILITIES)) {
+                outcome.setRefundProbabilities(parser.getAttributeDouble(i));
+            } else if (parser.isAttribute(i, HALF_WIN_PROBABILITIES)) {
+                outcome.setHalfWinProbabilities(parser.getAttributeDouble(i));
+            } else if (parser.isAttribute(i, HALF_LOSE_PROBABILITIES)) {
+                outcome.setHalfLoseProbabilities(parser.getAttributeDouble(i));
+            } else if (parser.isAttribute(i, TEAM)) {
+                outcome.setTeam(parser.getAttributeInt(i));
+            }
+        }
+        requireEndElement(parser);
+        return outcome;
+    }
+
+    private static UFBetStop readBetStop(FeedMessagePullParser parser) {
+        UFBetStop betStop = new UFBetStop();
+        for (int i = 0; i < parser.getAttributeCount(); i++) {
+            if (parser.isAttribute(i, PRODUCT)) {
+                betStop.setProduct(parser.getAttributeInt(i));
+            } else if (parser.isAttribute(i, EVENT_ID)) {
+                betStop.setEventId(parser.getAttributeString(i));
+            } else if (parser.isAttribute(i, TIMESTAMP)) {
+                betStop.setTimestamp(parser.getAttributeLong(i));
+            } else if (parser.isAttribute(i, REQUEST_ID)) {
+                betStop.setRequestId(parser.getAttributeLong(i));
+            } else if (parser.isAttribute(i, GROUPS)) {
+                betStop.setGroups(parser.getAttributeString(i));
+            } else if (parser.isAttribute(i, MARKET_STATUS)) {
+                betStop.setMarketStatus(UFMarketStatus.fromValue(parser.getAttributeInt(i)));
+            }
+        }
+        requireEndElement(parser);
+        return betStop;
+    }
+
+    private static UFAlive readAlive(FeedMessagePullParser parser) {
+        UFAlive alive = new UFAlive();
+        for (int i = 0; i < parser.getAttributeCount(); i++) {
+            if (parser.isAttribute(i, PRODUCT)) {
+                alive.setProduct(parser.getAttributeInt(i));
+            } else if (parser.isAttribute(i, TIMESTAMP)) {
+                alive.setTimestamp(parser.getAttributeLong(i));
+            } else if (parser.isAttribute(i, SUBSCRIBED)) {
+                alive.setSubscribed(parser.getAttributeInt(i));
+            }
+        }
+        requireEndElement(parser);
+        return alive;
+    }
+
+    /**
+     * Ensures that the element on which the parser is positioned has no child elements and moves to its end element
+     */
+    private static void requireEndElement(FeedMessagePullParser parser) {
+        if (parser.next() != FeedMessagePullParser.END_ELEMENT) {
+            throw new FeedMessagePullParser.UnsupportedContentException("unexpected child element " + parser.getElementName());
+        }
+    }
+
+    private static byte[] bytes(String name) {
+        return name.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -4,51 +4,70 @@
 
 package com.sportradar.unifiedodds.sdk.impl;
 
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheStats;
 import com.sportradar.uf.datamodel.*;
+import com.sportradar.unifiedodds.sdk.impl.util.FeedMessageHelper;
+import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counters exposed over JMX ({@link UnifiedOddsStatisticsMBean}), the counters are updated from all the channel and
+ * dispatch threads, so they are kept in {@link LongAdder}s. The per-stage latencies of the messages are collected by
+ * the {@link FeedMetrics}.
+ */
 public class UnifiedOddsStatistics implements UnifiedOddsStatisticsMBean {
     private static final int LONG_PROCESSING_TIME_THRESHOLD = 50; // ms
     private static final long start = System.currentTimeMillis();
 
-    private int messages;
-    private long lastMessageReceived;
-    private int betSettlements;
-    private int betCancels;
-    private int betSettlementRollbacks;
-    private int oddsChanges;
-    private int streamingHttpGet;
-    private int jaxbHttpGet;
-    private int recoveryMessages;
-    private int fixtureChanges;
-    private int betCancelRollbacks;
-    private String lastUrl;
-    private int purgesDone;
-    private long totalPurgeTime;
+    private final LongAdder messages = new LongAdder();
+    private volatile long lastMessageReceived;
+    private final LongAdder betSettlements = new LongAdder();
+    private final LongAdder betCancels = new LongAdder();
+    private final LongAdder betSettlementRollbacks = new LongAdder();
+    private final LongAdder oddsChanges = new LongAdder();
+    private final LongAdder streamingHttpGet = new LongAdder();
+    private final LongAdder jaxbHttpGet = new LongAdder();
+    private final LongAdder recoveryMessages = new LongAdder();
+    private final LongAdder fixtureChanges = new LongAdder();
+    private final LongAdder betCancelRollbacks = new LongAdder();
+    private volatile String lastUrl;
+    private final LongAdder purgesDone = new LongAdder();
+    private final LongAdder totalPurgeTime = new LongAdder();
     private final static Logger logger = LoggerFactory.getLogger(UnifiedOddsStatistics.class);
-    private long totalXmlDeserTime;
-    private long totalLongProcTime;
-    private int longProcessing;
-    private int liveMessages;
-    private int prematchMessages;
-    private long totalMsgSizeReceived;
-
-    private final ThreadLocal<byte[]> tmpBuf = new ThreadLocal<byte[]>() {
-        @Override
-        public byte[] initialValue() {
-            return new byte[200];
-        }
-    };
+    private final LongAdder totalXmlDeserTime = new LongAdder();
+    private final LongAdder totalLongProcTime = new LongAdder();
+    private final LongAdder longProcessing = new LongAdder();
+    private final LongAdder liveMessages = new LongAdder();
+    private final LongAdder prematchMessages = new LongAdder();
+    private final LongAdder totalMsgSizeReceived = new LongAdder();
+    private final AtomicInteger dispatchQueueDepth = new AtomicInteger();
+    private final AtomicLong dispatchedMessages = new AtomicLong();
+    private final AtomicLong totalDispatchQueueWaitTime = new AtomicLong();
+    private final AtomicLong maxDispatchQueueWaitTime = new AtomicLong();
+    private final AtomicLong coalescedApiRequests = new AtomicLong();
+    private volatile Map<String, Cache<?, ?>> monitoredCaches = Collections.emptyMap();
+    private final Map<String, Long> warmUpStepTimings = Collections.synchronizedMap(new LinkedHashMap<>());
 
     @Override
     public int getNumberOfMessagesReceived() {
-        return messages;
+        return messages.intValue();
     }
 
     @Override
     public int getNumberOfRecoveryMessagesReceived() {
-        return recoveryMessages;
+        return recoveryMessages.intValue();
     }
 
     @Override
@@ -58,80 +77,109 @@ public class UnifiedOddsStatistics implements UnifiedOddsStatisticsMBean {
 
     @Override
     public int getNumberOfOddsChangesReceived() {
-        return oddsChanges;
+        return oddsChanges.intValue();
     }
 
     @Override
     public int getNumberOfBetSettlementsReceived() {
-        return betSettlements;
+        return betSettlements.intValue();
     }
 
     @Override
     public int getNumberOfRollbackBetSettlementsReceived() {
-        return betSettlementRollbacks;
+        return betSettlementRollbacks.intValue();
     }
 
     public void onMessageReceived(long now, long finished, Object o) {
         lastMessageReceived = now;
-        messages++;
-        //totalXmlDeserTime += xmlDeserTimeNs;
+        messages.increment();
         if ((finished - now) > LONG_PROCESSING_TIME_THRESHOLD) {
-            longProcessing++;
-            totalLongProcTime += (finished - now);
+            longProcessing.increment();
+            totalLongProcTime.add(finished - now);
         }
-        //totalMsgSizeReceived += body.length;
         if (o instanceof UFOddsChange)
-            oddsChanges++;
+            oddsChanges.increment();
         else if (o instanceof UFBetSettlement)
-            betSettlements++;
+            betSettlements.increment();
         else if (o instanceof UFBetCancel)
-            betCancels++;
+            betCancels.increment();
         else if (o instanceof UFRollbackBetCancel)
-            betCancelRollbacks++;
+            betCancelRollbacks.increment();
         else if (o instanceof UFRollbackBetSettlement)
-            betSettlementRollbacks++;
+            betSettlementRollbacks.increment();
         else if (o instanceof UFFixtureChange)
-            fixtureChanges++;
-        String msgExcerpt = new String(tmpBuf.get());
-        if (msgExcerpt.contains("request_id"))
-            recoveryMessages++;
-        int pid = msgExcerpt.indexOf("product=\"");
-        if (pid != -1) {
-            int p = msgExcerpt.charAt(pid + 9) - '0';
-            if (p == 1)
-                liveMessages++;
-            else
-                prematchMessages++;
+            fixtureChanges.increment();
+        if (!(o instanceof UnmarshalledMessage)) {
+            return;
         }
+        UnmarshalledMessage message = (UnmarshalledMessage) o;
+        if (FeedMessageHelper.provideRequestIdFromMessage(message) != null)
+            recoveryMessages.increment();
+        if (FeedMessageHelper.provideProducerIdFromMessage(message) == 1)
+            liveMessages.increment();
+        else
+            prematchMessages.increment();
+    }
+
+    public void onDispatchQueued() {
+        dispatchQueueDepth.incrementAndGet();
+    }
+
+    public void onDispatchDequeued(long queueWaitTime) {
+        dispatchQueueDepth.decrementAndGet();
+        dispatchedMessages.incrementAndGet();
+        totalDispatchQueueWaitTime.addAndGet(queueWaitTime);
+        maxDispatchQueueWaitTime.accumulateAndGet(queueWaitTime, Math::max);
+    }
+
+    /**
+     * Sets the caches of which the statistics are exposed, the caches must record their statistics
+     *
+     * @param monitoredCaches the caches of which the statistics are exposed, by the cache name
+     */
+    public void setMonitoredCaches(Map<String, Cache<?, ?>> monitoredCaches) {
+        Preconditions.checkNotNull(monitoredCaches);
+
+        this.monitoredCaches = monitoredCaches;
+    }
+
+    /**
+     * Records the duration of a completed SDK warm-up step
+     *
+     * @param stepName the name of the warm-up step
+     * @param elapsedMs the duration (in milliseconds) of the step
+     */
+    public void onWarmUpStepCompleted(String stepName, long elapsedMs) {
+        warmUpStepTimings.put(stepName, elapsedMs);
     }
 
-    public void unload() {
-        tmpBuf.remove();
+    public void onApiRequestCoalesced() {
+        coalescedApiRequests.incrementAndGet();
     }
 
     public void onStreamingHttpGet(String path) {
-        streamingHttpGet++;
+        streamingHttpGet.increment();
         lastUrl = path;
     }
 
     public void onJaxbHttpGet(String path) {
-        jaxbHttpGet++;
+        jaxbHttpGet.increment();
         lastUrl = path;
     }
 
     @Override
     public int getNumberOfBetCancelsReceived() {
-        return betCancels;
+        return betCancels.intValue();
     }
 
     @Override
     public int getNumberOfRollbackBetCancelsReceived() {
-        return betCancelRollbacks;
+        return betCancelRollbacks.intValue();
     }
 
     @Override
     public int getNumberOfFixtureChangesReceived() {
-        return fixtureChanges;
+        return fixtureChanges.intValue();
     }
 
     @Override
@@ -141,12 +189,12 @@ public class UnifiedOddsStatistics implements UnifiedOddsStatisticsMBean {
 
     @Override
     public int getNumberOfHttpGetStreaming() {
-        return streamingHttpGet;
+        return streamingHttpGet.intValue();
     }
 
     @Override
     public int getNumberOfHttpGetJaxb() {
-        return jaxbHttpGet;
+        return jaxbHttpGet.intValue();
     }
 
     @Override
@@ -156,47 +204,124 @@ public class UnifiedOddsStatistics implements UnifiedOddsStatisticsMBean {
 
     @Override
     public int getNumberOfCachePurgesDone() {
-        return purgesDone;
+        return purgesDone.intValue();
     }
 
     @Override
     public long getTimeSpentPurgingCaches() {
-        return totalPurgeTime;
+        return totalPurgeTime.sum();
     }
 
     public void cachePurgeRun(long purgeTime) {
         logger.debug("Trimmed all caches. Took " + purgeTime + "ms");
-        purgesDone++;
-        totalPurgeTime += purgeTime;
+        purgesDone.increment();
+        totalPurgeTime.add(purgeTime);
     }
 
     @Override
     public int getNumberOfLongProcessingTimes() {
-        return longProcessing;
+        return longProcessing.intValue();
     }
 
     @Override
     public long getLongMessageProcessingTimeInMs() {
-        return totalLongProcTime;
+        return totalLongProcTime.sum();
     }
 
     @Override
     public long getXmlDeserilizationTimeInMs() {
-        return totalXmlDeserTime / 1000 / 1000;
+        return totalXmlDeserTime.sum() / 1000 / 1000;
     }
 
     @Override
     public int getNumberOfLiveMessages() {
-        return liveMessages;
+        return liveMessages.intValue();
     }
 
     @Override
     public int getNumberOfPrematchMessages() {
-        return prematchMessages;
+        return prematchMessages.intValue();
     }
 
     @Override
     public long getBytesReceived() {
-        return totalMsgSizeReceived;
+        return totalMsgSizeReceived.sum();
+    }
+
+    @Override
+    public int getDispatchQueueDepth() {
+        return dispatchQueueDepth.get();
+    }
+
+    @Override
+    public long getNumberOfDispatchedMessages() {
+        return dispatchedMessages.get();
+    }
+
+    @Override
+    public long getDispatchQueueWaitTimeInMs() {
+        return totalDispatchQueueWaitTime.get();
+    }
+
+    @Override
+    public long getMaxDispatchQueueWaitTimeInMs() {
+        return maxDispatchQueueWaitTime.get();
+    }
+
+    @Override
+    public long getNumberOfCoalescedApiRequests() {
+        return coalescedApiRequests.get();
+    }
+
+    @Override
+    public long getCacheHitCount() {
+        return totalCacheStats().hitCount();
+    }
+
+    @Override
+    public long getCacheMissCount() {
+        return totalCacheStats().missCount();
+    }
+
+    @Override
+    public long getCacheEvictionCount() {
+        return totalCacheStats().evictionCount();
+    }
+
+    @Override
+    public long getCacheLoadTimeInMs() {
+        return TimeUnit.NANOSECONDS.toMillis(totalCacheStats().totalLoadTime());
+    }
+
+    @Override
+    public String[] getCacheStatistics() {
+        return monitoredCaches.entrySet().stream()
+                .map(e -> {
+                    CacheStats stats = e.getValue().stats();
+                    return String.format(Locale.ROOT, "%s: size=%d, hits=%d, misses=%d, hitRate=%.3f, evictions=%d, loadTime=%dms",
+                            e.getKey(),
+                            e.getValue().size(),
+                            stats.hitCount(),
+                            stats.missCount(),
+                            stats.hitRate(),
+                            stats.evictionCount(),
+                            TimeUnit.NANOSECONDS.toMillis(stats.totalLoadTime()));
+                })
+                .toArray(String[]::new);
+    }
+
+    private CacheStats totalCacheStats() {
+        return monitoredCaches.values().stream()
+                .map(Cache::stats)
+                .reduce(new CacheStats(0, 0, 0, 0, 0, 0), CacheStats::plus);
+    }
+
+    @Override
+    public String[] getWarmUpStepTimings() {
+        synchronized (warmUpStepTimings) {
+            return warmUpStepTimings.entrySet().stream()
+                    .map(e -> e.getKey() + ": " + e.getValue() + "ms")
+                    .toArray(String[]::new);
+        }
     }
 }
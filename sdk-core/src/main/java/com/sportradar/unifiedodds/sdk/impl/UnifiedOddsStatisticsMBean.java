@@ -48,4 +48,26 @@ public interface UnifiedOddsStatisticsMBean {
 
     public long getBytesReceived();
 
+    public int getDispatchQueueDepth();
+
+    public long getNumberOfDispatchedMessages();
+
+    public long getDispatchQueueWaitTimeInMs();
+
+    public long getMaxDispatchQueueWaitTimeInMs();
+
+    public long getNumberOfCoalescedApiRequests();
+
+    public long getCacheHitCount();
+
+    public long getCacheMissCount();
+
+    public long getCacheEvictionCount();
+
+    public long getCacheLoadTimeInMs();
+
+    public String[] getCacheStatistics();
+
+    public String[] getWarmUpStepTimings();
+
 }
@@ -62,17 +62,17 @@ public class SportEventStatusDTO {
     /**
      * A {@link SportEventStatisticsDTO} instance describing the associated event statistics
      */
-    private final SportEventStatisticsDTO sportEventStatisticsDTO;
+    private SportEventStatisticsDTO sportEventStatisticsDTO;
 
     /**
      * A {@link List} of event results
      */
-    private final List<EventResult> eventResults;
+    private List<EventResult> eventResults;
 
     /**
      * An {@link EventClock} instance describing the timings in the current event
      */
-    private final EventClock eventClock;
+    private EventClock eventClock;
 
     /**
      * A {@link Map} which contains all the additional sport event status properties
@@ -105,6 +105,17 @@ public class SportEventStatusDTO {
      */
     private Integer periodOfLadder;
 
+    /**
+     * The fingerprint of the feed message status element from which the instance was built, 0 if not available
+     */
+    private final long feedFingerprint;
+
+    /**
+     * The feed status of which the properties, clock, period scores, results and statistics were not yet decoded,
+     * <code>null</code> once they are decoded
+     */
+    private volatile UFSportEventStatus undecodedFeedStatus;
+
     /**
      * Initializes a new instance of the {@link SportEventStatusDTO} from the provided
      * {@link SAPIStageSportEventStatus} which is fetched from the API
@@ -137,6 +148,7 @@ public class SportEventStatusDTO {
         decidedByFed = null;
 
         this.periodOfLadder = sportEventStatus.getPeriodOfLeader();
+        this.feedFingerprint = 0;
 
         cleanupProperties();
     }
@@ -217,6 +229,7 @@ public class SportEventStatusDTO {
         decidedByFed = sportEventStatus.isDecidedByFed();
 
         periodOfLadder = null;
+        feedFingerprint = 0;
 
         cleanupProperties();
     }
@@ -228,6 +241,18 @@ public class SportEventStatusDTO {
      * @param seStatus - a {@link UFSportEventStatus} used to build the instance
      */
     public SportEventStatusDTO(UFSportEventStatus seStatus) {
+        this(seStatus, 0);
+    }
+
+    /**
+     * Initializes a new instance of the {@link SportEventStatusDTO} from the provided
+     * {@link UFSportEventStatus} which is received as a part of messages. Only the status and the scores are read
+     * immediately, the rest of the status is decoded when first accessed.
+     *
+     * @param seStatus - a {@link UFSportEventStatus} used to build the instance
+     * @param feedFingerprint - the fingerprint of the message status element, or 0 if not available
+     */
+    public SportEventStatusDTO(UFSportEventStatus seStatus, long feedFingerprint) {
         Preconditions.checkNotNull(seStatus);
 
         this.status = EventStatus.valueOfMessageStatus(seStatus.getStatus());
@@ -236,97 +261,14 @@ public class SportEventStatusDTO {
         this.homeScore = seStatus.getHomeScore();
         this.awayScore = seStatus.getAwayScore();
 
-        properties.put("Throw", seStatus.getThrow());
-        properties.put("Try", seStatus.getTry());
-        properties.put("AwayBatter", seStatus.getAwayBatter());
-        properties.put("AwayDismissals", seStatus.getAwayDismissals());
-        properties.put("AwayGameScore", seStatus.getAwayGamescore());
-        properties.put("AwayLegScore", seStatus.getAwayLegscore());
-        properties.put("AwayPenaltyRuns", seStatus.getAwayPenaltyRuns());
-        properties.put("AwayRemainingBowls", seStatus.getAwayRemainingBowls());
-        properties.put("AwaySuspend", seStatus.getAwaySuspend());
-        properties.put("Balls", seStatus.getBalls());
-        properties.put("Bases", seStatus.getBases());
-        properties.put("CurrentCtTeam", seStatus.getCurrentCtTeam());
-        properties.put("CurrentEnd", seStatus.getCurrentEnd());
-        properties.put("CurrentServer", seStatus.getCurrentServer());
-        properties.put("Delivery", seStatus.getDelivery());
-        properties.put("ExpeditedMode", seStatus.isExpediteMode());
-        properties.put("HomeBatter", seStatus.getHomeBatter());
-        properties.put("HomeDismissals", seStatus.getHomeDismissals());
-        properties.put("HomeGameScore", seStatus.getHomeGamescore());
-        properties.put("HomeLegScore", seStatus.getHomeLegscore());
-        properties.put("HomePenaltyRuns", seStatus.getHomePenaltyRuns());
-        properties.put("HomeRemainingBowls", seStatus.getHomeRemainingBowls());
-        properties.put("HomeSuspend", seStatus.getHomeSuspend());
-        properties.put("Innings", seStatus.getInnings());
-        properties.put("Outs", seStatus.getOuts());
-        properties.put("Over", seStatus.getOver());
-        properties.put("Position", seStatus.getPosition());
-        properties.put("Possession", seStatus.getPossession());
-        properties.put("RemainingReds", seStatus.getRemainingReds());
-        properties.put("Strikes", seStatus.getStrikes());
-        properties.put("Tiebreak", seStatus.isTiebreak());
-        properties.put("Visit", seStatus.getVisit());
-        properties.put("Yards", seStatus.getYards());
-        properties.put("HomePenaltyScore", seStatus.getHomePenaltyScore());
-        properties.put("AwayPenaltyScore", seStatus.getAwayPenaltyScore());
-        properties.put("PeriodOfLeader", seStatus.getPeriodOfLeader());
-        properties.put("Pitcher", seStatus.getPitcher());
-        properties.put("Batter", seStatus.getBatter());
-        properties.put("PitchCount", seStatus.getPitchCount());
-        properties.put("PitchesSeen", seStatus.getPitchesSeen());
-        properties.put("TotalHits", seStatus.getTotalHits());
-        properties.put("TotalPitches", seStatus.getTotalPitches());
-        properties.put("HomeDriveCount", seStatus.getHomeDriveCount());
-        properties.put("HomePlayCount", seStatus.getHomePlayCount());
-        properties.put("AwayDriveCount", seStatus.getAwayDriveCount());
-        properties.put("AwayPlayCount", seStatus.getAwayPlayCount());
-
-        eventClock = seStatus.getClock() == null ? null :
-                new EventClockImpl(
-                        seStatus.getClock().getMatchTime(),
-                        seStatus.getClock().getStoppageTime(),
-                        seStatus.getClock().getStoppageTimeAnnounced(),
-                        seStatus.getClock().getRemainingTime(),
-                        seStatus.getClock().getRemainingTimeInPeriod(),
-                        seStatus.getClock().isStopped());
-
-        if (seStatus.getPeriodScores() != null) {
-            seStatus.getPeriodScores().getPeriodScore().forEach(this::addPeriodScore);
-        }
-
-        eventResults = seStatus.getResults() == null
-                ? null
-                : seStatus.getResults().getResult().stream().map(EventResultImpl::new).collect(Collectors.toList());
-
-        sportEventStatisticsDTO = seStatus.getStatistics() == null ? null : new SportEventStatisticsDTO(seStatus.getStatistics());
-
         winnerId = null;
 
-        homePenaltyScore = seStatus.getHomePenaltyScore();
-        awayPenaltyScore = seStatus.getAwayPenaltyScore();
-
-        // load home and away penalty score from the penalty period score
-        if(homePenaltyScore == null && awayPenaltyScore == null && periodScores != null && !periodScores.isEmpty()){
-            try {
-                for (PeriodScoreDTO ps : periodScores) {
-                    if (ps.getPeriodType().equalsIgnoreCase("penalties")) {
-                        homePenaltyScore = ps.getHomeScore().intValue();
-                        awayPenaltyScore = ps.getAwayScore().intValue();
-                    }
-                }
-            }
-            catch (Exception e){
-                //ignored
-            }
-        }
-
         decidedByFed = null;
 
         periodOfLadder = seStatus.getPeriodOfLeader();
 
-        cleanupProperties();
+        this.feedFingerprint = feedFingerprint;
+        this.undecodedFeedStatus = seStatus;
     }
 
     /**
@@ -348,6 +290,7 @@ public class SportEventStatusDTO {
         this.awayPenaltyScore = null;
         this.decidedByFed = null;
         this.periodOfLadder = null;
+        this.feedFingerprint = 0;
     }
 
     /**
@@ -417,6 +360,7 @@ public class SportEventStatusDTO {
      * @return - a {@link List} of period scores
      */
     public List<PeriodScoreDTO> getPeriodScores() {
+        ensureFeedStatusDecoded();
         return periodScores == null ? null : ImmutableList.copyOf(periodScores);
     }
 
@@ -426,6 +370,7 @@ public class SportEventStatusDTO {
      * @return - an {@link EventClock} instance describing the timings in the current event
      */
     public EventClock getEventClock() {
+        ensureFeedStatusDecoded();
         return eventClock;
     }
 
@@ -435,6 +380,7 @@ public class SportEventStatusDTO {
      * @return - a {@link List} of event results
      */
     public List<EventResult> getEventResults() {
+        ensureFeedStatusDecoded();
         return eventResults == null ? null : ImmutableList.copyOf(eventResults);
     }
 
@@ -444,6 +390,7 @@ public class SportEventStatusDTO {
      * @return an object describing the associated event statistics if available; otherwise null
      */
     public SportEventStatisticsDTO getSportEventStatisticsDTO() {
+        ensureFeedStatusDecoded();
         return sportEventStatisticsDTO;
     }
 
@@ -455,6 +402,7 @@ public class SportEventStatusDTO {
      * which aren't specifically exposed
      */
     public Map<String, Object> getProperties() {
+        ensureFeedStatusDecoded();
         return ImmutableMap.copyOf(properties);
     }
 
@@ -473,6 +421,16 @@ public class SportEventStatusDTO {
      */
     public Integer getPeriodOfLadder() { return periodOfLadder; }
 
+    /**
+     * Returns the fingerprint of the feed message status element from which the instance was built
+     *
+     * @return the fingerprint of the feed message status element, or 0 if the instance was not built from a
+     *         message or the fingerprint was not available
+     */
+    public long getFeedFingerprint() {
+        return feedFingerprint;
+    }
+
     /**
      * Adds a period entry to the {@link #periodScores} collection
      *
@@ -501,6 +459,7 @@ public class SportEventStatusDTO {
      * Get the penalty score of the home competitor competing on the associated sport event (for Ice Hockey)
      */
     public final Integer getHomePenaltyScore() {
+        ensureFeedStatusDecoded();
         return homePenaltyScore;
     }
 
@@ -508,9 +467,114 @@ public class SportEventStatusDTO {
      * Get the penalty score of the away competitor competing on the associated sport event (for Ice Hockey)
      */
     public final Integer getAwayPenaltyScore() {
+        ensureFeedStatusDecoded();
         return awayPenaltyScore;
     }
 
+    /**
+     * Decodes the properties, clock, period scores, results and statistics of the feed status, if not yet decoded
+     */
+    private void ensureFeedStatusDecoded() {
+        if (undecodedFeedStatus == null) {
+            return;
+        }
+
+        synchronized (this) {
+            UFSportEventStatus seStatus = undecodedFeedStatus;
+            if (seStatus == null) {
+                return;
+            }
+
+            properties.put("Throw", seStatus.getThrow());
+            properties.put("Try", seStatus.getTry());
+            properties.put("AwayBatter", seStatus.getAwayBatter());
+            properties.put("AwayDismissals", seStatus.getAwayDismissals());
+            properties.put("AwayGameScore", seStatus.getAwayGamescore());
+            properties.put("AwayLegScore", seStatus.getAwayLegscore());
+            properties.put("AwayPenaltyRuns", seStatus.getAwayPenaltyRuns());
+            properties.put("AwayRemainingBowls", seStatus.getAwayRemainingBowls());
+            properties.put("AwaySuspend", seStatus.getAwaySuspend());
+            properties.put("Balls", seStatus.getBalls());
+            properties.put("Bases", seStatus.getBases());
+            properties.put("CurrentCtTeam", seStatus.getCurrentCtTeam());
+            properties.put("CurrentEnd", seStatus.getCurrentEnd());
+            properties.put("CurrentServer", seStatus.getCurrentServer());
+            properties.put("Delivery", seStatus.getDelivery());
+            properties.put("ExpeditedMode", seStatus.isExpediteMode());
+            properties.put("HomeBatter", seStatus.getHomeBatter());
+            properties.put("HomeDismissals", seStatus.getHomeDismissals());
+            properties.put("HomeGameScore", seStatus.getHomeGamescore());
+            properties.put("HomeLegScore", seStatus.getHomeLegscore());
+            properties.put("HomePenaltyRuns", seStatus.getHomePenaltyRuns());
+            properties.put("HomeRemainingBowls", seStatus.getHomeRemainingBowls());
+            properties.put("HomeSuspend", seStatus.getHomeSuspend());
+            properties.put("Innings", seStatus.getInnings());
+            properties.put("Outs", seStatus.getOuts());
+            properties.put("Over", seStatus.getOver());
+            properties.put("Position", seStatus.getPosition());
+            properties.put("Possession", seStatus.getPossession());
+            properties.put("RemainingReds", seStatus.getRemainingReds());
+            properties.put("Strikes", seStatus.getStrikes());
+            properties.put("Tiebreak", seStatus.isTiebreak());
+            properties.put("Visit", seStatus.getVisit());
+            properties.put("Yards", seStatus.getYards());
+            properties.put("HomePenaltyScore", seStatus.getHomePenaltyScore());
+            properties.put("AwayPenaltyScore", seStatus.getAwayPenaltyScore());
+            properties.put("PeriodOfLeader", seStatus.getPeriodOfLeader());
+            properties.put("Pitcher", seStatus.getPitcher());
+            properties.put("Batter", seStatus.getBatter());
+            properties.put("PitchCount", seStatus.getPitchCount());
+            properties.put("PitchesSeen", seStatus.getPitchesSeen());
+            properties.put("TotalHits", seStatus.getTotalHits());
+            properties.put("TotalPitches", seStatus.getTotalPitches());
+            properties.put("HomeDriveCount", seStatus.getHomeDriveCount());
+            properties.put("HomePlayCount", seStatus.getHomePlayCount());
+            properties.put("AwayDriveCount", seStatus.getAwayDriveCount());
+            properties.put("AwayPlayCount", seStatus.getAwayPlayCount());
+
+            eventClock = seStatus.getClock() == null ? null :
+                    new EventClockImpl(
+                            seStatus.getClock().getMatchTime(),
+                            seStatus.getClock().getStoppageTime(),
+                            seStatus.getClock().getStoppageTimeAnnounced(),
+                            seStatus.getClock().getRemainingTime(),
+                            seStatus.getClock().getRemainingTimeInPeriod(),
+                            seStatus.getClock().isStopped());
+
+            if (seStatus.getPeriodScores() != null) {
+                seStatus.getPeriodScores().getPeriodScore().forEach(this::addPeriodScore);
+            }
+
+            eventResults = seStatus.getResults() == null
+                    ? null
+                    : seStatus.getResults().getResult().stream().map(EventResultImpl::new).collect(Collectors.toList());
+
+            sportEventStatisticsDTO = seStatus.getStatistics() == null ? null : new SportEventStatisticsDTO(seStatus.getStatistics());
+
+            homePenaltyScore = seStatus.getHomePenaltyScore();
+            awayPenaltyScore = seStatus.getAwayPenaltyScore();
+
+            // load home and away penalty score from the penalty period score
+            if(homePenaltyScore == null && awayPenaltyScore == null && periodScores != null && !periodScores.isEmpty()){
+                try {
+                    for (PeriodScoreDTO ps : periodScores) {
+                        if (ps.getPeriodType().equalsIgnoreCase("penalties")) {
+                            homePenaltyScore = ps.getHomeScore().intValue();
+                            awayPenaltyScore = ps.getAwayScore().intValue();
+                        }
+                    }
+                }
+                catch (Exception e){
+                    //ignored
+                }
+            }
+
+            cleanupProperties();
+
+            undecodedFeedStatus = null;
+        }
+    }
+
     /**
      * Filters out the unusable properties
      */
@@ -32,8 +32,7 @@ public class MarketDescriptionImpl implements MarketDescription {
     private final List<String> groups;
     private List<MarketMappingCI> staticMappingsData;
     private List<OutcomeDescription> outcomes;
-    private List<MarketMappingData> mappings;
-    private boolean mappingsBuilt;
+    private volatile List<MarketMappingData> mappings;
     private Date lastDataReceived;
     private String sourceCache;
 
@@ -69,6 +68,29 @@ public class MarketDescriptionImpl implements MarketDescription {
         this.lastDataReceived = cachedItem.getLastDataReceived();
     }
 
+    /**
+     * Initializes a new instance sharing the (immutable) data of the provided description, so the copy can be
+     * changed (ex. merged with variant outcomes) without affecting the shared description
+     *
+     * @param description the description which should be copied
+     */
+    public MarketDescriptionImpl(MarketDescriptionImpl description) {
+        Preconditions.checkNotNull(description);
+
+        id = description.id;
+        outcomeType = description.outcomeType;
+        groups = description.groups;
+        names = description.names;
+        descriptions = description.descriptions;
+        outcomes = description.outcomes;
+        specifiers = description.specifiers;
+        staticMappingsData = description.staticMappingsData;
+        mappings = description.mappings;
+        attributes = description.attributes;
+        sourceCache = description.sourceCache;
+        lastDataReceived = description.lastDataReceived;
+    }
+
     @Override
     public int getId() {
         return id;
@@ -101,13 +123,13 @@ public class MarketDescriptionImpl implements MarketDescription {
     @SuppressWarnings("UnstableApiUsage")
     @Override
     public List<MarketMappingData> getMappings() {
-        if (!mappingsBuilt) {
-            mappingsBuilt = true;
-            mappings = staticMappingsData == null ? null :
-                    staticMappingsData.stream()
-                            .map(MarketMappingDataImpl::new).collect(ImmutableList.toImmutableList());
+        List<MarketMappingData> result = mappings;
+        if (result == null && staticMappingsData != null) {
+            result = staticMappingsData.stream()
+                    .map(MarketMappingDataImpl::new).collect(ImmutableList.toImmutableList());
+            mappings = result;
         }
-        return mappings;
+        return result;
     }
 
     @Override
@@ -162,6 +184,7 @@ public class MarketDescriptionImpl implements MarketDescription {
 
     public void setStaticMappingsData(List<MarketMappingCI> staticMappingsData) {
         this.staticMappingsData = staticMappingsData;
+        this.mappings = null;
     }
 
     @SuppressWarnings("UnstableApiUsage")
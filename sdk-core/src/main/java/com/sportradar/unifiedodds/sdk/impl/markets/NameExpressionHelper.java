@@ -9,7 +9,6 @@ import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
 
 import java.util.AbstractMap;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -25,40 +24,6 @@ class NameExpressionHelper {
             "%"
     });
 
-    static AbstractMap.SimpleImmutableEntry<String, List<String>> parseDescriptor(String descriptor) {
-        Preconditions.checkArgument(!Strings.isNullOrEmpty(descriptor));
-
-        List<String> expressions = new ArrayList<>();
-        for (int currentIndex = 0; currentIndex < descriptor.length(); currentIndex++) {
-            int startIndex = descriptor.indexOf("{", currentIndex);
-            int endIndex = descriptor.indexOf("}", currentIndex);
-
-            if (startIndex < 0 && endIndex < 0) {
-                break;
-            }
-
-            if (startIndex < 0 || endIndex < 0 || endIndex <= startIndex) {
-                throw new IllegalArgumentException("Format of the descriptor is incorrect. Each opening '{' must be closed by corresponding '}'");
-            }
-
-            String expression = descriptor.substring(startIndex, endIndex + 1);
-
-            expressions.add(expression);
-            currentIndex = endIndex;
-        }
-
-        if (expressions.isEmpty()) {
-            return null;
-        }
-
-        String format = descriptor;
-        for (String expression : expressions) {
-            format = format.replace(expression, "%s");
-        }
-
-        return new AbstractMap.SimpleImmutableEntry<>(format, expressions);
-    }
-
     static AbstractMap.SimpleImmutableEntry<String, String> parseExpression(String expression) {
         Preconditions.checkArgument(!Strings.isNullOrEmpty(expression));
 
@@ -6,6 +6,8 @@ package com.sportradar.unifiedodds.sdk.impl.markets;
 
 import com.sportradar.unifiedodds.sdk.entities.SportEvent;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -13,5 +15,20 @@ import java.util.Map;
  * // TODO @eti: Javadoc
  */
 public interface NameProviderFactory {
-    NameProvider buildNameProvider(SportEvent sportEvent, int marketId, Map<String, String> specifiers, int producerId);
+    default NameProvider buildNameProvider(SportEvent sportEvent, int marketId, Map<String, String> specifiers, int producerId) {
+        return buildNameProvider(sportEvent, marketId, specifiers, producerId, Collections.emptyList());
+    }
+
+    /**
+     * Builds a {@link NameProvider} for the market with the provided outcomes, the player and competitor profiles
+     * referenced by the outcome identifiers are fetched together when the first profile outcome name is requested
+     *
+     * @param sportEvent the {@link SportEvent} associated with the market
+     * @param marketId the identifier of the market
+     * @param specifiers the specifiers of the market
+     * @param producerId the identifier of the producer which sent the market
+     * @param outcomeIds the identifiers of all the outcomes of the market
+     * @return the {@link NameProvider} for the market
+     */
+    NameProvider buildNameProvider(SportEvent sportEvent, int marketId, Map<String, String> specifiers, int producerId, List<String> outcomeIds);
 }
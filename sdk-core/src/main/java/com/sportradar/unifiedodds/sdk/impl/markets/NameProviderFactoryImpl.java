@@ -12,6 +12,7 @@ import com.sportradar.unifiedodds.sdk.caching.ProfileCache;
 import com.sportradar.unifiedodds.sdk.caching.markets.MarketDescriptionProvider;
 import com.sportradar.unifiedodds.sdk.entities.SportEvent;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -37,7 +38,7 @@ public class NameProviderFactoryImpl implements NameProviderFactory {
     }
 
     @Override
-    public NameProvider buildNameProvider(SportEvent sportEvent, int marketId, Map<String, String> specifiers, int producerId) {
-        return new NameProviderImpl(descriptorProvider, profileCache, expressionFactory, sportEvent, marketId, specifiers, producerId, exceptionHandlingStrategy);
+    public NameProvider buildNameProvider(SportEvent sportEvent, int marketId, Map<String, String> specifiers, int producerId, List<String> outcomeIds) {
+        return new NameProviderImpl(descriptorProvider, profileCache, expressionFactory, sportEvent, marketId, specifiers, producerId, exceptionHandlingStrategy, outcomeIds);
     }
 }
@@ -28,6 +28,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -51,6 +52,8 @@ public class NameProviderImpl implements NameProvider {
     private final int producerId;
     private final ExceptionHandlingStrategy exceptionHandlingStrategy;
     private final Supplier<List<URN>> competitorList;
+    private final List<String> marketOutcomeIds;
+    private final Set<Locale> prefetchedProfileLocales = ConcurrentHashMap.newKeySet();
 
     private Date lastReload = new Date(0);
 
@@ -61,7 +64,8 @@ public class NameProviderImpl implements NameProvider {
                     int marketId,
                     Map<String, String> marketSpecifiers,
                     int producerId,
-                    ExceptionHandlingStrategy exceptionHandlingStrategy) {
+                    ExceptionHandlingStrategy exceptionHandlingStrategy,
+                    List<String> marketOutcomeIds) {
         Preconditions.checkNotNull(descriptorProvider);
         Preconditions.checkNotNull(profileCache);
         Preconditions.checkNotNull(expressionFactory);
@@ -69,6 +73,7 @@ public class NameProviderImpl implements NameProvider {
         Preconditions.checkArgument(marketId > 0);
         Preconditions.checkArgument(producerId > 0);
         Preconditions.checkNotNull(exceptionHandlingStrategy);
+        Preconditions.checkNotNull(marketOutcomeIds);
 
         this.descriptorProvider = descriptorProvider;
         this.profileCache = profileCache;
@@ -79,6 +84,7 @@ public class NameProviderImpl implements NameProvider {
         this.producerId = producerId;
         this.exceptionHandlingStrategy = exceptionHandlingStrategy;
         this.competitorList = () -> provideSportEventCompetitorIds(sportEvent);
+        this.marketOutcomeIds = marketOutcomeIds;
     }
 
     @Override
@@ -110,30 +116,23 @@ public class NameProviderImpl implements NameProvider {
 
     private String mapMarketNames(MarketDescription marketDescriptor, Locale locale) {
         String nameDescriptor = marketDescriptor.getName(locale);
-        String nameDescriptorFormat = null;
-        List<NameExpression> expressions = null;
+        NameTemplate template;
+        List<NameExpression> expressions;
         try {
-            AbstractMap.SimpleImmutableEntry<String, List<NameExpression>> nameExpressions = getNameExpressions(nameDescriptor);
-            if (nameExpressions != null) {
-                nameDescriptorFormat = nameExpressions.getKey();
-                expressions = nameExpressions.getValue();
+            template = NameTemplate.compile(nameDescriptor);
+            if (!template.hasExpressions()) {
+                return nameDescriptor;
             }
+            expressions = template.bind(expressionFactory, sportEvent, marketSpecifiers);
         } catch (IllegalArgumentException | UnsupportedUrnFormatException ex) {
             return handleErrorCondition("The name description parsing failed",null, nameDescriptor, locale, ex);
         }
 
-        if (expressions == null) {
-            return nameDescriptor;
-        }
-
-        List<String> collect;
         try {
-            collect = expressions.stream().map(e -> e.buildName(locale)).collect(Collectors.toList());
+            return template.render(expressions, locale);
         } catch (IllegalArgumentException | IllegalStateException e) {
             return handleErrorCondition("Error occurred while evaluating the name expression", null, nameDescriptor, locale, e);
         }
-
-        return String.format(nameDescriptorFormat, collect.toArray());
     }
 
     @Override
@@ -182,26 +181,21 @@ public class NameProviderImpl implements NameProvider {
         Map<Locale, String> names = new HashMap<>();
         for (Locale locale : locales) {
             String nameDescription = outcomeDescription.getName(locale);
-            String nameDescriptionFormat = null;
-            List<NameExpression> expressions = null;
+            NameTemplate template;
+            List<NameExpression> expressions;
             try {
-                AbstractMap.SimpleImmutableEntry<String, List<NameExpression>> nameExpressions = getNameExpressions(nameDescription);
-                if (nameExpressions != null) {
-                    nameDescriptionFormat = nameExpressions.getKey();
-                    expressions = nameExpressions.getValue();
+                template = NameTemplate.compile(nameDescription);
+                if (!template.hasExpressions()) {
+                    names.put(locale, nameDescription);
+                    continue;
                 }
+                expressions = template.bind(expressionFactory, sportEvent, marketSpecifiers);
             } catch (IllegalArgumentException e) {
                 return handleErrorCondition("The name description parsing failed", outcomeId, nameDescription, locales, e);
             }
 
-            if (expressions == null || nameDescriptionFormat == null) {
-                names.put(locale, nameDescription);
-                continue;
-            }
-
             try {
-                names.put(locale, String.format(nameDescriptionFormat, expressions.stream()
-                        .map(e -> e.buildName(locale)).toArray()));
+                names.put(locale, template.render(expressions, locale));
             } catch (IllegalStateException | IllegalArgumentException | UnsupportedUrnFormatException e) {
                 return handleErrorCondition("Error occurred while evaluating the name expression",
                         outcomeId, nameDescription, locales, e);
@@ -217,16 +211,32 @@ public class NameProviderImpl implements NameProvider {
         String[] idParts = outcomeId.split(COMPOSITE_ID_SEPARATOR);
         Map<Locale, List<String>> names = locales.stream().collect(Collectors.toMap(l -> l, l -> new ArrayList<>(idParts.length)));
 
+        List<URN> profileIds = new ArrayList<>(idParts.length);
         for (String idPart : idParts) {
-            URN profileId;
             try {
-                profileId = URN.parse(idPart);
+                profileIds.add(URN.parse(idPart));
             } catch (UnsupportedUrnFormatException ex) {
                 throw new UnsupportedUrnFormatException("OutcomeId=" + idPart + " is not a valid URN", ex);
             }
+        }
+
+        prefetchMarketProfiles(locales);
+
+        List<URN> playerIds = new ArrayList<>(idParts.length);
+        for (int i = 0; i < idParts.length; i++) {
+            if (idParts[i].startsWith(PLAYER_PROFILE_MARKET_PREFIX)) {
+                playerIds.add(profileIds.get(i));
+            }
+        }
+        Map<URN, PlayerProfileCI> playerProfiles = playerIds.isEmpty()
+                ? Collections.emptyMap()
+                : profileCache.getPlayerProfiles(playerIds, locales, competitorList.get());
 
+        for (int i = 0; i < idParts.length; i++) {
+            String idPart = idParts[i];
+            URN profileId = profileIds.get(i);
             if (idPart.startsWith(PLAYER_PROFILE_MARKET_PREFIX)) {
-                PlayerProfileCI playerProfile = profileCache.getPlayerProfile(profileId, locales, competitorList.get());
+                PlayerProfileCI playerProfile = playerProfiles.get(profileId);
                 for (Locale locale : locales) {
                     names.get(locale).add(playerProfile.getNames(locales).get(locale));
                 }
@@ -242,6 +252,46 @@ public class NameProviderImpl implements NameProvider {
                 .collect(Collectors.toMap(Map.Entry::getKey, n -> String.join(COMPOSITE_ID_SEPARATOR, n.getValue())));
     }
 
+    /**
+     * Fetches the player and competitor profiles referenced by all the outcomes of the market in one batch, so the
+     * names of the profile outcomes do not trigger a separate fetch per outcome
+     *
+     * @param locales the {@link Locale}s in which the profiles are required
+     */
+    private void prefetchMarketProfiles(List<Locale> locales) {
+        if (prefetchedProfileLocales.containsAll(locales)) {
+            return;
+        }
+
+        List<URN> playerIds = new ArrayList<>();
+        List<URN> competitorIds = new ArrayList<>(competitorList.get());
+        for (String outcomeId : marketOutcomeIds) {
+            if (!outcomeId.startsWith(PLAYER_PROFILE_MARKET_PREFIX) && !outcomeId.startsWith(COMPETITOR_PROFILE_MARKET_PREFIX)) {
+                continue;
+            }
+            for (String idPart : outcomeId.split(COMPOSITE_ID_SEPARATOR)) {
+                try {
+                    if (idPart.startsWith(PLAYER_PROFILE_MARKET_PREFIX)) {
+                        playerIds.add(URN.parse(idPart));
+                    } else if (idPart.startsWith(COMPETITOR_PROFILE_MARKET_PREFIX) || idPart.startsWith(SIMPLETEAM_PROFILE_MARKET_PREFIX)) {
+                        competitorIds.add(URN.parse(idPart));
+                    }
+                } catch (UnsupportedUrnFormatException ex) {
+                    // the invalid identifier is reported when the name of its outcome is generated
+                }
+            }
+        }
+
+        if (!playerIds.isEmpty()) {
+            try {
+                profileCache.getPlayerProfiles(playerIds, locales, competitorIds.stream().distinct().collect(Collectors.toList()));
+            } catch (CacheItemNotFoundException | IllegalCacheStateException ex) {
+                logger.debug("Pre-fetching of the market[{}] outcome profiles failed, ex:", marketId, ex);
+            }
+        }
+        prefetchedProfileLocales.addAll(locales);
+    }
+
     private MarketDescription getMarketDescriptor(Locale locale) throws ObjectNotFoundException {
         Preconditions.checkNotNull(locale);
         return getMarketDescriptor(Collections.singletonList(locale));
@@ -258,30 +308,6 @@ public class NameProviderImpl implements NameProvider {
         }
     }
 
-    private AbstractMap.SimpleImmutableEntry<String, List<NameExpression>> getNameExpressions(String nameDescriptor) {
-        Preconditions.checkArgument(!Strings.isNullOrEmpty(nameDescriptor));
-
-        AbstractMap.SimpleImmutableEntry<String, List<String>> descriptorData = NameExpressionHelper.parseDescriptor(nameDescriptor);
-        if (descriptorData == null || descriptorData.getValue() == null) {
-            return null;
-        }
-
-        List<NameExpression> expressions = new ArrayList<>(descriptorData.getValue().size());
-        for (String expr : descriptorData.getValue()) {
-            AbstractMap.SimpleImmutableEntry<String, String> expressionParse = NameExpressionHelper.parseExpression(expr);
-            expressions.add(expressionFactory.buildExpression(
-                    sportEvent,
-                    marketSpecifiers,
-                    expressionParse.getValue(),
-                    expressionParse.getKey()));
-        }
-
-        return new AbstractMap.SimpleImmutableEntry<>(
-                descriptorData.getKey(),
-                expressions
-        );
-    }
-
     private String handleErrorCondition(String message, String outcomeId, String nameDescriptor, Locale locale, Exception ex) {
         return handleErrorCondition(message, outcomeId, nameDescriptor, Collections.singletonList(locale), ex).get(locale);
     }
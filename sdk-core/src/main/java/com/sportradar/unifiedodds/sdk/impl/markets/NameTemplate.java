@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.markets;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.sportradar.unifiedodds.sdk.entities.SportEvent;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A compiled market/outcome name descriptor (ex. "Total {total} {+hcp}"), split into the literal parts and the
+ * name expressions in between.
+ *
+ * The descriptors are parsed once and shared, the expressions are bound to the specifiers and the sport event of a
+ * market with {@link #bind(NameExpressionFactory, SportEvent, Map)} and the name is rendered with
+ * {@link #render(List, Locale)}.
+ */
+final class NameTemplate {
+    /**
+     * The max number of compiled descriptors kept for reuse, the descriptors are not locale dependent but each
+     * locale has its own descriptor strings
+     */
+    private static final int COMPILED_CACHE_SIZE = 20000;
+
+    /**
+     * The compiled templates by their descriptor
+     */
+    private static final Cache<String, NameTemplate> COMPILED_CACHE = CacheBuilder.newBuilder()
+            .maximumSize(COMPILED_CACHE_SIZE)
+            .build();
+
+    private final String descriptor;
+    private final String[] literals;
+    private final String[] operators;
+    private final String[] operands;
+    private final int literalsLength;
+
+    private NameTemplate(String descriptor, List<String> literals, List<AbstractMap.SimpleImmutableEntry<String, String>> expressions) {
+        this.descriptor = descriptor;
+        this.literals = literals.toArray(new String[0]);
+        this.operators = new String[expressions.size()];
+        this.operands = new String[expressions.size()];
+        for (int i = 0; i < expressions.size(); i++) {
+            operands[i] = expressions.get(i).getKey();
+            operators[i] = expressions.get(i).getValue();
+        }
+        this.literalsLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * Returns the compiled template of the provided name descriptor
+     *
+     * @param descriptor the name descriptor
+     * @return the compiled template of the provided name descriptor
+     * @throws IllegalArgumentException if the format of the descriptor or of its expressions is not correct
+     */
+    static NameTemplate compile(String descriptor) {
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(descriptor));
+
+        NameTemplate template = COMPILED_CACHE.getIfPresent(descriptor);
+        if (template == null) {
+            template = parse(descriptor);
+            COMPILED_CACHE.put(descriptor, template);
+        }
+        return template;
+    }
+
+    /**
+     * Indicates if the descriptor contains any expressions, a descriptor without expressions is the name itself
+     *
+     * @return <code>true</code> if the descriptor contains any expressions; otherwise <code>false</code>
+     */
+    boolean hasExpressions() {
+        return operands.length > 0;
+    }
+
+    /**
+     * Builds the name expressions of the template bound to the provided sport event and specifiers
+     *
+     * @param expressionFactory the factory used to build the expressions
+     * @param sportEvent the sport event associated with the market
+     * @param specifiers the specifiers of the market
+     * @return the bound expressions in the order of their occurrence in the descriptor
+     * @throws IllegalArgumentException if an expression could not be bound
+     */
+    List<NameExpression> bind(NameExpressionFactory expressionFactory, SportEvent sportEvent, Map<String, String> specifiers) {
+        Preconditions.checkNotNull(expressionFactory);
+
+        if (operands.length == 0) {
+            return Collections.emptyList();
+        }
+
+        List<NameExpression> expressions = new ArrayList<>(operands.length);
+        for (int i = 0; i < operands.length; i++) {
+            expressions.add(expressionFactory.buildExpression(sportEvent, specifiers, operators[i], operands[i]));
+        }
+        return expressions;
+    }
+
+    /**
+     * Renders the name by replacing the expressions of the descriptor with their values in the provided locale
+     *
+     * @param expressions the expressions returned by {@link #bind(NameExpressionFactory, SportEvent, Map)}
+     * @param locale the locale in which the name is rendered
+     * @return the rendered name
+     */
+    String render(List<NameExpression> expressions, Locale locale) {
+        Preconditions.checkNotNull(expressions);
+        Preconditions.checkArgument(expressions.size() == operands.length);
+
+        if (operands.length == 0) {
+            return descriptor;
+        }
+
+        StringBuilder name = new StringBuilder(literalsLength + 16 * operands.length);
+        name.append(literals[0]);
+        for (int i = 0; i < operands.length; i++) {
+            name.append(expressions.get(i).buildName(locale));
+            name.append(literals[i + 1]);
+        }
+        return name.toString();
+    }
+
+    private static NameTemplate parse(String descriptor) {
+        List<String> literals = new ArrayList<>();
+        List<AbstractMap.SimpleImmutableEntry<String, String>> expressions = new ArrayList<>();
+
+        int literalStart = 0;
+        for (int currentIndex = 0; currentIndex < descriptor.length(); currentIndex++) {
+            int startIndex = descriptor.indexOf('{', currentIndex);
+            int endIndex = descriptor.indexOf('}', currentIndex);
+
+            if (startIndex < 0 && endIndex < 0) {
+                break;
+            }
+
+            if (startIndex < 0 || endIndex < 0 || endIndex <= startIndex) {
+                throw new IllegalArgumentException("Format of the descriptor is incorrect. Each opening '{' must be closed by corresponding '}'");
+            }
+
+            literals.add(descriptor.substring(literalStart, startIndex));
+            expressions.add(NameExpressionHelper.parseExpression(descriptor.substring(startIndex, endIndex + 1)));
+            literalStart = endIndex + 1;
+            currentIndex = endIndex;
+        }
+        literals.add(descriptor.substring(literalStart));
+
+        return new NameTemplate(descriptor, literals, expressions);
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.oddsbook;
+
+import com.google.common.base.Strings;
+import com.sportradar.uf.datamodel.UFBetSettlementMarket;
+import com.sportradar.uf.datamodel.UFOddsChangeMarket;
+import com.sportradar.uf.datamodel.UFOutcomeActive;
+import com.sportradar.unifiedodds.sdk.oddsentities.MarketStatus;
+import com.sportradar.unifiedodds.sdk.oddsentities.OddsBook;
+import com.sportradar.unifiedodds.sdk.oddsentities.OddsBookMarket;
+import com.sportradar.unifiedodds.sdk.oddsentities.OddsBookOutcome;
+import com.sportradar.utils.URN;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The mutable odds state of a single sport event. The markets are kept in a table keyed by the market id and the hash
+ * of the specifiers, the outcomes of a market are kept in primitive arrays, so applying a message does not allocate
+ * anything but the delta of the changed outcomes.
+ *
+ * All the methods are synchronized, the book is read by the user threads while the messages are applied.
+ */
+final class EventOddsBook {
+    private static final int INITIAL_OUTCOME_CAPACITY = 4;
+
+    private final URN eventId;
+
+    /**
+     * The markets by the {@link #keyOf(int, String)}, the markets with colliding keys are chained
+     */
+    private final Map<Long, MarketState> markets = new HashMap<>();
+
+    /**
+     * The markets in the order in which they were first received
+     */
+    private final List<MarketState> orderedMarkets = new ArrayList<>();
+
+    EventOddsBook(URN eventId) {
+        this.eventId = eventId;
+    }
+
+    /**
+     * Applies the provided odds_change markets to the book
+     *
+     * @param messageMarkets the markets of the odds_change message
+     * @return the markets which were added or changed, each with only its added or changed outcomes
+     */
+    synchronized List<OddsBookMarket> applyOddsChange(List<UFOddsChangeMarket> messageMarkets) {
+        List<OddsBookMarket> changedMarkets = new ArrayList<>();
+        for (UFOddsChangeMarket messageMarket : messageMarkets) {
+            String specifiers = Strings.emptyToNull(messageMarket.getSpecifiers());
+            MarketState market = getMarket(messageMarket.getId(), specifiers);
+            boolean added = market == null;
+            if (added) {
+                market = addMarket(messageMarket.getId(), specifiers);
+            }
+
+            MarketStatus status = MarketStatus.fromFeedValue(messageMarket.getStatus());
+            boolean statusChanged = market.status != status;
+            market.status = status;
+
+            List<OddsBookOutcome> changedOutcomes = Collections.emptyList();
+            for (UFOddsChangeMarket.UFOutcome outcome : messageMarket.getOutcome()) {
+                int index = market.update(outcome.getId(),
+                        outcome.getOdds() == null ? Double.NaN : outcome.getOdds(),
+                        outcome.getProbabilities() == null ? Double.NaN : outcome.getProbabilities(),
+                        outcome.getActive() == null || outcome.getActive() == UFOutcomeActive.ACTIVE);
+                if (index >= 0) {
+                    if (changedOutcomes.isEmpty()) {
+                        changedOutcomes = new ArrayList<>();
+                    }
+                    changedOutcomes.add(market.outcomeAt(index));
+                }
+            }
+
+            if (added || statusChanged || !changedOutcomes.isEmpty()) {
+                changedMarkets.add(new OddsBookMarketImpl(market.id, market.specifiers, market.status, changedOutcomes));
+            }
+        }
+        return changedMarkets;
+    }
+
+    /**
+     * Returns the ids of the active markets, the markets affected by a bet_stop message
+     *
+     * @return the ids of the active markets
+     */
+    synchronized Set<Integer> getActiveMarketIds() {
+        Set<Integer> marketIds = new HashSet<>();
+        for (MarketState market : orderedMarkets) {
+            if (market.status == MarketStatus.Active) {
+                marketIds.add(market.id);
+            }
+        }
+        return marketIds;
+    }
+
+    /**
+     * Changes the status of the active markets belonging to the provided groups, as requested by a bet_stop message
+     *
+     * @param groups the groups of the affected markets, <code>null</code> if all the markets are affected
+     * @param status the new status of the affected markets
+     * @param marketGroups the groups of the markets by the market id, resolved before the call since the resolution
+     *                     may need to fetch the market descriptions
+     */
+    synchronized void applyBetStop(Collection<String> groups, MarketStatus status, Map<Integer, List<String>> marketGroups) {
+        for (MarketState market : orderedMarkets) {
+            if (market.status != MarketStatus.Active) {
+                continue;
+            }
+            if (groups == null || !Collections.disjoint(groups, marketGroups.getOrDefault(market.id, Collections.emptyList()))) {
+                market.status = status;
+            }
+        }
+    }
+
+    /**
+     * Marks the provided bet_settlement markets as settled
+     *
+     * @param messageMarkets the markets of the bet_settlement message
+     */
+    synchronized void applyBetSettlement(List<UFBetSettlementMarket> messageMarkets) {
+        for (UFBetSettlementMarket messageMarket : messageMarkets) {
+            MarketState market = getMarket(messageMarket.getId(), Strings.emptyToNull(messageMarket.getSpecifiers()));
+            if (market != null) {
+                market.status = MarketStatus.Settled;
+            }
+        }
+    }
+
+    /**
+     * Returns an immutable snapshot of the book
+     *
+     * @return an immutable snapshot of the book
+     */
+    synchronized OddsBook snapshot() {
+        List<OddsBookMarket> snapshotMarkets = new ArrayList<>(orderedMarkets.size());
+        for (MarketState market : orderedMarkets) {
+            List<OddsBookOutcome> outcomes = new ArrayList<>(market.outcomeCount);
+            for (int i = 0; i < market.outcomeCount; i++) {
+                outcomes.add(market.outcomeAt(i));
+            }
+            snapshotMarkets.add(new OddsBookMarketImpl(market.id, market.specifiers, market.status, outcomes));
+        }
+        return new OddsBookImpl(eventId, snapshotMarkets);
+    }
+
+    private MarketState getMarket(int marketId, String specifiers) {
+        MarketState market = markets.get(keyOf(marketId, specifiers));
+        while (market != null && (market.id != marketId || !Objects.equals(market.specifiers, specifiers))) {
+            market = market.next;
+        }
+        return market;
+    }
+
+    private MarketState addMarket(int marketId, String specifiers) {
+        MarketState market = new MarketState(marketId, specifiers);
+        market.next = markets.put(keyOf(marketId, specifiers), market);
+        orderedMarkets.add(market);
+        return market;
+    }
+
+    /**
+     * Builds the key of the market in the {@link #markets} table
+     *
+     * @param marketId the id of the market
+     * @param specifiers the specifiers of the market, <code>null</code> if the market has no specifiers
+     * @return the key combining the market id and the hash of the specifiers
+     */
+    static long keyOf(int marketId, String specifiers) {
+        return ((long) marketId << 32) | ((specifiers == null ? 0 : specifiers.hashCode()) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * The state of a single market
+     */
+    private static final class MarketState {
+        private final int id;
+        private final String specifiers;
+        private MarketStatus status = MarketStatus.Active;
+        private int outcomeCount;
+        private String[] outcomeIds = new String[INITIAL_OUTCOME_CAPACITY];
+        private double[] odds = new double[INITIAL_OUTCOME_CAPACITY];
+        private double[] probabilities = new double[INITIAL_OUTCOME_CAPACITY];
+        private boolean[] active = new boolean[INITIAL_OUTCOME_CAPACITY];
+
+        /**
+         * The next market with the same key in the {@link #markets} table
+         */
+        private MarketState next;
+
+        private MarketState(int id, String specifiers) {
+            this.id = id;
+            this.specifiers = specifiers;
+        }
+
+        /**
+         * Updates the provided outcome
+         *
+         * @return the index of the outcome, if it was added or changed; otherwise -1
+         */
+        private int update(String outcomeId, double newOdds, double newProbability, boolean newActive) {
+            int index = indexOf(outcomeId);
+            if (index < 0) {
+                index = addOutcome(outcomeId);
+            } else if (Double.compare(odds[index], newOdds) == 0
+                    && Double.compare(probabilities[index], newProbability) == 0
+                    && active[index] == newActive) {
+                return -1;
+            }
+
+            odds[index] = newOdds;
+            probabilities[index] = newProbability;
+            active[index] = newActive;
+            return index;
+        }
+
+        private OddsBookOutcome outcomeAt(int index) {
+            return new OddsBookOutcomeImpl(outcomeIds[index], odds[index], probabilities[index], active[index]);
+        }
+
+        private int indexOf(String outcomeId) {
+            for (int i = 0; i < outcomeCount; i++) {
+                if (outcomeIds[i].equals(outcomeId)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private int addOutcome(String outcomeId) {
+            if (outcomeCount == outcomeIds.length) {
+                int capacity = outcomeCount * 2;
+                outcomeIds = Arrays.copyOf(outcomeIds, capacity);
+                odds = Arrays.copyOf(odds, capacity);
+                probabilities = Arrays.copyOf(probabilities, capacity);
+                active = Arrays.copyOf(active, capacity);
+            }
+            outcomeIds[outcomeCount] = outcomeId;
+            return outcomeCount++;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.oddsbook;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Strings;
+import com.sportradar.unifiedodds.sdk.oddsentities.OddsBook;
+import com.sportradar.unifiedodds.sdk.oddsentities.OddsBookMarket;
+import com.sportradar.utils.URN;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An immutable {@link OddsBook} snapshot
+ */
+final class OddsBookImpl implements OddsBook {
+    private final URN eventId;
+    private final List<OddsBookMarket> markets;
+
+    OddsBookImpl(URN eventId, List<OddsBookMarket> markets) {
+        this.eventId = eventId;
+        this.markets = Collections.unmodifiableList(markets);
+    }
+
+    @Override
+    public URN getEventId() {
+        return eventId;
+    }
+
+    @Override
+    public List<OddsBookMarket> getMarkets() {
+        return markets;
+    }
+
+    @Override
+    public OddsBookMarket getMarket(int marketId, String specifiers) {
+        String requestedSpecifiers = Strings.emptyToNull(specifiers);
+        for (OddsBookMarket market : markets) {
+            if (market.getId() == marketId && Objects.equals(market.getSpecifiers(), requestedSpecifiers)) {
+                return market;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("eventId", eventId)
+                .add("markets", markets.size())
+                .toString();
+    }
+}
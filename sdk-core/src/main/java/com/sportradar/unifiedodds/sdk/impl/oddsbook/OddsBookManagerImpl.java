@@ -0,0 +1,259 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.oddsbook;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Inject;
+import com.sportradar.uf.datamodel.UFBetSettlement;
+import com.sportradar.uf.datamodel.UFBetStop;
+import com.sportradar.uf.datamodel.UFMarketStatus;
+import com.sportradar.uf.datamodel.UFOddsChange;
+import com.sportradar.unifiedodds.sdk.OddsBookManager;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.caching.markets.MarketDescriptionProvider;
+import com.sportradar.unifiedodds.sdk.entities.markets.MarketDescription;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.CacheItemNotFoundException;
+import com.sportradar.unifiedodds.sdk.impl.UnifiedFeedConstants;
+import com.sportradar.unifiedodds.sdk.oddsentities.MarketStatus;
+import com.sportradar.unifiedodds.sdk.oddsentities.OddsBook;
+import com.sportradar.unifiedodds.sdk.oddsentities.OddsBookMarket;
+import com.sportradar.unifiedodds.sdk.oddsentities.OddsChangeDelta;
+import com.sportradar.utils.URN;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the {@link EventOddsBook}s of the sport events and the {@link OddsChangeDelta}s of the odds changes which were
+ * applied, but not yet dispatched. A book is kept per session and producer, so each session gets the deltas of the
+ * messages it received and the odds of different producers (ex. live and prematch) are not mixed.
+ */
+public class OddsBookManagerImpl implements OddsBookManager {
+    private static final Logger logger = LoggerFactory.getLogger(OddsBookManagerImpl.class);
+
+    /**
+     * The time after which the book of a sport event without any new messages is removed
+     */
+    private static final long BOOK_EXPIRATION_HOURS = 12;
+
+    /**
+     * The max number of kept books, the least recently used books are removed first
+     */
+    private static final long MAX_BOOK_COUNT = 20000;
+
+    private final MarketDescriptionProvider marketDescriptionProvider;
+    private final List<Locale> locales;
+
+    /**
+     * The odds books by the session, the sport event and the producer
+     */
+    private final Cache<BookKey, EventOddsBook> books = CacheBuilder.newBuilder()
+            .maximumSize(MAX_BOOK_COUNT)
+            .expireAfterAccess(BOOK_EXPIRATION_HOURS, TimeUnit.HOURS)
+            .build();
+
+    /**
+     * The last updated books by the sport event and the producer, the books are weakly referenced, so the books removed
+     * from the {@link #books} are removed from here as well
+     */
+    private final Cache<BookKey, EventOddsBook> lastUpdatedProducerBooks = CacheBuilder.newBuilder()
+            .weakValues()
+            .build();
+
+    /**
+     * The last updated books by the sport event
+     */
+    private final Cache<URN, EventOddsBook> lastUpdatedBooks = CacheBuilder.newBuilder()
+            .weakValues()
+            .build();
+
+    /**
+     * The deltas by the odds change message, the messages are weakly referenced (and compared by identity), so the
+     * deltas of the messages which were not dispatched are removed with the messages
+     */
+    private final Cache<UFOddsChange, OddsChangeDelta> deltas = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build();
+
+    @Inject
+    public OddsBookManagerImpl(MarketDescriptionProvider marketDescriptionProvider, SDKInternalConfiguration configuration) {
+        Preconditions.checkNotNull(marketDescriptionProvider);
+        Preconditions.checkNotNull(configuration);
+
+        this.marketDescriptionProvider = marketDescriptionProvider;
+        this.locales = Collections.singletonList(configuration.getDefaultLocale());
+    }
+
+    @Override
+    public OddsBook getOddsBook(URN eventId) {
+        Preconditions.checkNotNull(eventId);
+
+        EventOddsBook book = lastUpdatedBooks.getIfPresent(eventId);
+        return book == null ? null : book.snapshot();
+    }
+
+    @Override
+    public OddsBook getOddsBook(URN eventId, int producerId) {
+        Preconditions.checkNotNull(eventId);
+
+        EventOddsBook book = lastUpdatedProducerBooks.getIfPresent(new BookKey(null, eventId, producerId));
+        return book == null ? null : book.snapshot();
+    }
+
+    /**
+     * Applies the provided odds change to the book of its sport event and producer kept for the provided session, the
+     * delta can be obtained with {@link #takeOddsChangeDelta(UFOddsChange)}
+     *
+     * @param sessionId the identifier of the session which received the message
+     * @param message the received odds change
+     */
+    public void onOddsChange(String sessionId, UFOddsChange message) {
+        Preconditions.checkNotNull(sessionId);
+        Preconditions.checkNotNull(message);
+
+        if (message.getOdds() == null || message.getOdds().getMarket() == null) {
+            deltas.put(message, new OddsChangeDeltaImpl(Collections.emptyList()));
+            return;
+        }
+
+        URN eventId = URN.parse(message.getEventId());
+        EventOddsBook book = getBook(new BookKey(sessionId, eventId, message.getProduct()));
+        List<OddsBookMarket> changedMarkets = book.applyOddsChange(message.getOdds().getMarket());
+        deltas.put(message, new OddsChangeDeltaImpl(changedMarkets));
+
+        lastUpdatedProducerBooks.put(new BookKey(null, eventId, message.getProduct()), book);
+        lastUpdatedBooks.put(eventId, book);
+    }
+
+    /**
+     * Applies the provided bet stop to the book of its sport event and producer kept for the provided session
+     *
+     * @param sessionId the identifier of the session which received the message
+     * @param message the received bet stop
+     */
+    public void onBetStop(String sessionId, UFBetStop message) {
+        Preconditions.checkNotNull(sessionId);
+        Preconditions.checkNotNull(message);
+
+        EventOddsBook book = books.getIfPresent(new BookKey(sessionId, URN.parse(message.getEventId()), message.getProduct()));
+        if (book == null) {
+            return;
+        }
+
+        Set<String> groups = message.getGroups() == null ? null :
+                Arrays.stream(message.getGroups().split(UnifiedFeedConstants.MARKET_GROUPS_DELIMITER)).collect(Collectors.toSet());
+        if (groups != null && groups.contains("all")) {
+            groups = null;
+        }
+        UFMarketStatus status = message.getMarketStatus() == null ? UFMarketStatus.SUSPENDED : message.getMarketStatus();
+
+        // the groups are resolved before the book is locked, the resolution may fetch the market descriptions
+        Map<Integer, List<String>> marketGroups = new HashMap<>();
+        if (groups != null) {
+            for (Integer marketId : book.getActiveMarketIds()) {
+                marketGroups.put(marketId, getMarketGroups(marketId));
+            }
+        }
+
+        book.applyBetStop(groups, MarketStatus.fromFeedValue(status), marketGroups);
+    }
+
+    /**
+     * Applies the provided bet settlement to the book of its sport event and producer kept for the provided session
+     *
+     * @param sessionId the identifier of the session which received the message
+     * @param message the received bet settlement
+     */
+    public void onBetSettlement(String sessionId, UFBetSettlement message) {
+        Preconditions.checkNotNull(sessionId);
+        Preconditions.checkNotNull(message);
+
+        EventOddsBook book = books.getIfPresent(new BookKey(sessionId, URN.parse(message.getEventId()), message.getProduct()));
+        if (book == null || message.getOutcomes() == null) {
+            return;
+        }
+
+        book.applyBetSettlement(message.getOutcomes().getMarket());
+    }
+
+    /**
+     * Returns and removes the delta of the provided odds change
+     *
+     * @param message the odds change which was applied with {@link #onOddsChange(String, UFOddsChange)}
+     * @return the delta of the provided odds change, or <code>null</code> if the odds change was not applied
+     */
+    public OddsChangeDelta takeOddsChangeDelta(UFOddsChange message) {
+        Preconditions.checkNotNull(message);
+
+        OddsChangeDelta delta = deltas.getIfPresent(message);
+        if (delta != null) {
+            deltas.invalidate(message);
+        }
+        return delta;
+    }
+
+    private EventOddsBook getBook(BookKey key) {
+        try {
+            return books.get(key, () -> new EventOddsBook(key.eventId));
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Odds book of " + key.eventId + " could not be created", e);
+        }
+    }
+
+    private List<String> getMarketGroups(int marketId) {
+        try {
+            MarketDescription description = marketDescriptionProvider.getMarketDescription(marketId, null, locales, false);
+            return description.getGroups() == null ? Collections.emptyList() : description.getGroups();
+        } catch (CacheItemNotFoundException e) {
+            logger.debug("Groups of market {} could not be resolved, the market is not affected by bet stops of specific groups", marketId);
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * The key of a book, the session is <code>null</code> in the keys of the {@link #lastUpdatedProducerBooks}
+     */
+    private static final class BookKey {
+        private final String sessionId;
+        private final URN eventId;
+        private final int producerId;
+
+        private BookKey(String sessionId, URN eventId, int producerId) {
+            this.sessionId = sessionId;
+            this.eventId = eventId;
+            this.producerId = producerId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof BookKey)) {
+                return false;
+            }
+            BookKey that = (BookKey) o;
+            return producerId == that.producerId && Objects.equals(sessionId, that.sessionId) && eventId.equals(that.eventId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sessionId, eventId, producerId);
+        }
+    }
+}
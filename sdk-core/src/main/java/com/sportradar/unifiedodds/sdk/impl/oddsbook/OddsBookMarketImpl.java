@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.oddsbook;
+
+import com.google.common.base.MoreObjects;
+import com.sportradar.unifiedodds.sdk.oddsentities.MarketStatus;
+import com.sportradar.unifiedodds.sdk.oddsentities.OddsBookMarket;
+import com.sportradar.unifiedodds.sdk.oddsentities.OddsBookOutcome;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable {@link OddsBookMarket} snapshot
+ */
+final class OddsBookMarketImpl implements OddsBookMarket {
+    private final int id;
+    private final String specifiers;
+    private final MarketStatus status;
+    private final List<OddsBookOutcome> outcomes;
+
+    OddsBookMarketImpl(int id, String specifiers, MarketStatus status, List<OddsBookOutcome> outcomes) {
+        this.id = id;
+        this.specifiers = specifiers;
+        this.status = status;
+        this.outcomes = Collections.unmodifiableList(outcomes);
+    }
+
+    @Override
+    public int getId() {
+        return id;
+    }
+
+    @Override
+    public String getSpecifiers() {
+        return specifiers;
+    }
+
+    @Override
+    public MarketStatus getStatus() {
+        return status;
+    }
+
+    @Override
+    public List<OddsBookOutcome> getOutcomes() {
+        return outcomes;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("id", id)
+                .add("specifiers", specifiers)
+                .add("status", status)
+                .add("outcomes", outcomes)
+                .toString();
+    }
+}
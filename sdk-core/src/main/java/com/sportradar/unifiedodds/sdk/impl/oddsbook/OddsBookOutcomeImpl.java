@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.oddsbook;
+
+import com.google.common.base.MoreObjects;
+import com.sportradar.unifiedodds.sdk.oddsentities.OddsBookOutcome;
+
+/**
+ * An immutable {@link OddsBookOutcome} snapshot
+ */
+final class OddsBookOutcomeImpl implements OddsBookOutcome {
+    private final String id;
+    private final double odds;
+    private final double probability;
+    private final boolean active;
+
+    OddsBookOutcomeImpl(String id, double odds, double probability, boolean active) {
+        this.id = id;
+        this.odds = odds;
+        this.probability = probability;
+        this.active = active;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public double getOdds() {
+        return odds;
+    }
+
+    @Override
+    public double getProbability() {
+        return probability;
+    }
+
+    @Override
+    public boolean isActive() {
+        return active;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("id", id)
+                .add("odds", odds)
+                .add("probability", probability)
+                .add("active", active)
+                .toString();
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.oddsbook;
+
+import com.google.common.base.MoreObjects;
+import com.sportradar.unifiedodds.sdk.oddsentities.OddsBookMarket;
+import com.sportradar.unifiedodds.sdk.oddsentities.OddsChangeDelta;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable {@link OddsChangeDelta}
+ */
+final class OddsChangeDeltaImpl implements OddsChangeDelta {
+    private final List<OddsBookMarket> changedMarkets;
+
+    OddsChangeDeltaImpl(List<OddsBookMarket> changedMarkets) {
+        this.changedMarkets = Collections.unmodifiableList(changedMarkets);
+    }
+
+    @Override
+    public List<OddsBookMarket> getChangedMarkets() {
+        return changedMarkets;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("changedMarkets", changedMarkets)
+                .toString();
+    }
+}
@@ -11,6 +11,7 @@ import com.sportradar.unifiedodds.sdk.caching.NamedValuesProvider;
 import com.sportradar.unifiedodds.sdk.entities.SportEvent;
 import com.sportradar.unifiedodds.sdk.impl.FeedMessageFactory;
 import com.sportradar.unifiedodds.sdk.impl.SDKProducerManager;
+import com.sportradar.unifiedodds.sdk.impl.oddsbook.OddsBookManagerImpl;
 import com.sportradar.unifiedodds.sdk.impl.oddsentities.markets.MarketFactory;
 import com.sportradar.unifiedodds.sdk.oddsentities.*;
 import com.sportradar.utils.URN;
@@ -23,16 +24,19 @@ public class FeedMessageFactoryImpl implements FeedMessageFactory {
     private final MarketFactory marketFactory;
     private final NamedValuesProvider namedValuesProvider;
     private final SDKProducerManager producerManager;
+    private final OddsBookManagerImpl oddsBookManager;
 
     @Inject
-    public FeedMessageFactoryImpl(MarketFactory marketFactory, NamedValuesProvider namedValuesProvider, SDKProducerManager producerManager) {
+    public FeedMessageFactoryImpl(MarketFactory marketFactory, NamedValuesProvider namedValuesProvider, SDKProducerManager producerManager, OddsBookManagerImpl oddsBookManager) {
         Preconditions.checkNotNull(marketFactory);
         Preconditions.checkNotNull(namedValuesProvider);
         Preconditions.checkNotNull(producerManager);
+        Preconditions.checkNotNull(oddsBookManager);
 
         this.marketFactory = marketFactory;
         this.namedValuesProvider = namedValuesProvider;
         this.producerManager = producerManager;
+        this.oddsBookManager = oddsBookManager;
     }
 
     @Override
@@ -77,7 +81,8 @@ public class FeedMessageFactoryImpl implements FeedMessageFactory {
 
     @Override
     public <T extends SportEvent> OddsChange<T> buildOddsChange(T sportEvent, UFOddsChange message, byte[] rawMessage, MessageTimestamp timestamp) {
-        return new OddsChangeImpl<>(sportEvent, message, producerManager.getProducer(message.getProduct()), rawMessage, marketFactory, namedValuesProvider, message.getOddsGenerationProperties(), timestamp);
+        return new OddsChangeImpl<>(sportEvent, message, producerManager.getProducer(message.getProduct()), rawMessage, marketFactory, namedValuesProvider, message.getOddsGenerationProperties(), timestamp,
+                oddsBookManager.takeOddsChangeDelta(message));
     }
 
     @Override
@@ -5,7 +5,9 @@
 package com.sportradar.unifiedodds.sdk.impl.oddsentities;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
 import com.sportradar.uf.datamodel.UFOddsChange;
+import com.sportradar.uf.datamodel.UFOddsChangeMarket;
 import com.sportradar.uf.datamodel.UFOddsGenerationProperties;
 import com.sportradar.unifiedodds.sdk.caching.NamedValuesProvider;
 import com.sportradar.unifiedodds.sdk.entities.NamedValue;
@@ -16,30 +18,54 @@ import com.sportradar.unifiedodds.sdk.oddsentities.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
+ * An {@link OddsChange} built from a received <code>odds_change</code> message. The {@link MarketWithOdds} instances
+ * are built lazily, only the requested markets are built, and each of them only once
+ *
  * Created on 23/06/2017.
- * // TODO @eti: Javadoc
  */
 class OddsChangeImpl<T extends SportEvent> extends EventMessageImpl<T> implements OddsChange<T> {
     private final static Logger logger = LoggerFactory.getLogger(OddsChangeImpl.class);
     private final OddsChangeReason oddsChangeReason;
     private final Integer betstopReason;
     private final Integer bettingStatus;
-    private final List<MarketWithOdds> affectedMarkets;
     private final NamedValuesProvider namedValuesProvider;
     private final OddsGeneration oddsGeneration;
+    private final MarketFactory marketFactory;
+    private final int productId;
 
-    OddsChangeImpl(T sportEvent, UFOddsChange message, Producer producer, byte[] rawMessage, MarketFactory marketFactory, NamedValuesProvider namedValuesProvider, UFOddsGenerationProperties oddsGenerationProperties, MessageTimestamp timestamp) {
+    /**
+     * The markets received in the message, the {@link MarketWithOdds} instances are built from them once requested
+     */
+    private final List<UFOddsChangeMarket> messageMarkets;
+
+    /**
+     * The already built markets, indexed as the {@link #messageMarkets}; an entry is <code>null</code>
+     * until the market is requested; guarded by itself
+     */
+    private final List<Optional<MarketWithOdds>> builtMarkets;
+
+    /**
+     * The list of all the built markets, available once all the markets were requested
+     */
+    private volatile List<MarketWithOdds> affectedMarkets;
+    private final OddsChangeDelta oddsChangeDelta;
+
+    OddsChangeImpl(T sportEvent, UFOddsChange message, Producer producer, byte[] rawMessage, MarketFactory marketFactory, NamedValuesProvider namedValuesProvider, UFOddsGenerationProperties oddsGenerationProperties, MessageTimestamp timestamp, OddsChangeDelta oddsChangeDelta) {
         super(sportEvent, rawMessage, producer, timestamp, message.getRequestId());
         Preconditions.checkNotNull(marketFactory);
         Preconditions.checkNotNull(namedValuesProvider);
 
         this.namedValuesProvider = namedValuesProvider;
+        this.marketFactory = marketFactory;
+        this.productId = message.getProduct();
+        this.oddsChangeDelta = oddsChangeDelta;
 
         // TODO update schemas to get more odds change reasons?
         if (message.getOddsChangeReason() == null) {
@@ -59,23 +85,21 @@ class OddsChangeImpl<T extends SportEvent> extends EventMessageImpl<T> implement
             bettingStatus = message.getOdds().getBettingStatus();
 
             if (message.getOdds().getMarket() != null) {
-                affectedMarkets = message.getOdds().getMarket().stream()
-                        .map(m -> marketFactory.buildMarketWithOdds(sportEvent, m, message.getProduct()))
-                        .filter(Optional::isPresent)
-                        .map(Optional::get)
-                        .collect(Collectors.toList());
+                messageMarkets = message.getOdds().getMarket();
             } else {
                 logger.info("Processing oddsChange message with empty odds list. sportEvent:{}, producer:{}", sportEvent.getId(), producer);
-                affectedMarkets = Collections.emptyList();
+                messageMarkets = Collections.emptyList();
             }
         } else {
             betstopReason = null;
             bettingStatus = null;
-            affectedMarkets = Collections.emptyList();
+            messageMarkets = Collections.emptyList();
             logger.info("Processing oddsChange message without odds info. sportEvent:{}, producer:{}", sportEvent.getId(), producer);
         }
 
         oddsGeneration = oddsGenerationProperties == null ? null : new OddsGenerationImpl(message.getOddsGenerationProperties());
+
+        builtMarkets = new ArrayList<>(Collections.nCopies(messageMarkets.size(), null));
     }
 
     /**
@@ -155,7 +179,45 @@ class OddsChangeImpl<T extends SportEvent> extends EventMessageImpl<T> implement
      * @return a list of {@link MarketWithOdds} associated with the message
      */
     @Override
-    public List<MarketWithOdds> getMarkets() { return affectedMarkets; }
+    public List<MarketWithOdds> getMarkets() {
+        List<MarketWithOdds> markets = affectedMarkets;
+        if (markets == null) {
+            synchronized (builtMarkets) {
+                markets = affectedMarkets;
+                if (markets == null) {
+                    markets = new ArrayList<>(builtMarkets.size());
+                    for (int i = 0; i < builtMarkets.size(); i++) {
+                        buildMarket(i).ifPresent(markets::add);
+                    }
+                    affectedMarkets = markets;
+                }
+            }
+        }
+        return markets;
+    }
+
+    /**
+     * Returns the {@link MarketWithOdds} with the provided id and specifiers associated with the message, only the
+     * requested market is built
+     *
+     * @param marketId the id of the requested market
+     * @param specifiers the specifiers of the requested market as received in the message (ex. total=2.5),
+     *                   <code>null</code> or an empty string for markets without specifiers
+     * @return the requested {@link MarketWithOdds} or <code>null</code> if the message does not contain it
+     */
+    @Override
+    public MarketWithOdds getMarket(int marketId, String specifiers) {
+        String requestedSpecifiers = Strings.emptyToNull(specifiers);
+        for (int i = 0; i < messageMarkets.size(); i++) {
+            UFOddsChangeMarket market = messageMarkets.get(i);
+            if (market.getId() == marketId && Objects.equals(Strings.emptyToNull(market.getSpecifiers()), requestedSpecifiers)) {
+                synchronized (builtMarkets) {
+                    return buildMarket(i).orElse(null);
+                }
+            }
+        }
+        return null;
+    }
 
     /**
      * Gets the odds generation properties (contains a few key-parameters that can be used in a client’s own special odds model, or even offer spread betting bets based on it)
@@ -163,4 +225,27 @@ class OddsChangeImpl<T extends SportEvent> extends EventMessageImpl<T> implement
      */
     @Override
     public OddsGeneration getOddsGenerationProperties(){ return oddsGeneration; }
+
+    /**
+     * Returns the changes this message made to the odds book of the sport event
+     *
+     * @return the changes this message made to the odds book, or <code>null</code> if the odds book is not enabled
+     */
+    @Override
+    public OddsChangeDelta getOddsChangeDelta() {
+        return oddsChangeDelta;
+    }
+
+    /**
+     * Returns the market at the provided index, building it if it was not requested yet; must be called while holding
+     * the lock of the {@link #builtMarkets}
+     */
+    private Optional<MarketWithOdds> buildMarket(int index) {
+        Optional<MarketWithOdds> market = builtMarkets.get(index);
+        if (market == null) {
+            market = marketFactory.buildMarketWithOdds(getEvent(), messageMarkets.get(index), productId);
+            builtMarkets.set(index, market);
+        }
+        return market;
+    }
 }
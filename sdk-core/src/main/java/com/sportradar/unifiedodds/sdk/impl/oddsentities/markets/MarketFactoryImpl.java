@@ -28,6 +28,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -97,7 +98,7 @@ public class MarketFactoryImpl implements MarketFactory {
             return Optional.empty();
         }
 
-        NameProvider nameProvider = nameProviderFactory.buildNameProvider(sportEvent, market.getId(), specifiersMap, producerId);
+        NameProvider nameProvider = nameProviderFactory.buildNameProvider(sportEvent, market.getId(), specifiersMap, producerId, getOutcomeIds(market.getOutcome(), UFOddsChangeMarket.UFOutcome::getId));
 
         return Optional.of(new MarketWithOddsImpl(
                 market.getId(),
@@ -128,7 +129,7 @@ public class MarketFactoryImpl implements MarketFactory {
             return Optional.empty();
         }
 
-        NameProvider nameProvider = nameProviderFactory.buildNameProvider(sportEvent, market.getId(), specifiersMap, producerId);
+        NameProvider nameProvider = nameProviderFactory.buildNameProvider(sportEvent, market.getId(), specifiersMap, producerId, getOutcomeIds(market.getOutcome(), UFBetSettlementMarket.UFOutcome::getId));
 
         return Optional.of(new MarketWithSettlementImpl(
                 market.getId(),
@@ -158,7 +159,7 @@ public class MarketFactoryImpl implements MarketFactory {
             return Optional.empty();
         }
 
-        NameProvider nameProvider = nameProviderFactory.buildNameProvider(sportEvent, market.getId(), specifiersMap, producerId);
+        NameProvider nameProvider = nameProviderFactory.buildNameProvider(sportEvent, market.getId(), specifiersMap, producerId, getOutcomeIds(market.getOutcome(), UFOddsChangeMarket.UFOutcome::getId));
 
         return Optional.of(new MarketWithProbabilitiesImpl(
                 market.getId(),
@@ -201,6 +202,18 @@ public class MarketFactoryImpl implements MarketFactory {
         ));
     }
 
+    private static <T> List<String> getOutcomeIds(List<T> outcomes, Function<T, String> idProvider) {
+        if (outcomes == null || outcomes.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<String> outcomeIds = new ArrayList<>(outcomes.size());
+        for (T outcome : outcomes) {
+            outcomeIds.add(idProvider.apply(outcome));
+        }
+        return outcomeIds;
+    }
+
     private Map<String, String> parseSpecifiers(String specifiers) {
         if (Strings.isNullOrEmpty(specifiers)) {
             return Collections.emptyMap();
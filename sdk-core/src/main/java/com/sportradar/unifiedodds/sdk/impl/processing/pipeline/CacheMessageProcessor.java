@@ -5,26 +5,36 @@
 package com.sportradar.unifiedodds.sdk.impl.processing.pipeline;
 
 import com.google.common.base.Preconditions;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
 import com.sportradar.uf.datamodel.UFBetSettlement;
 import com.sportradar.uf.datamodel.UFBetStop;
 import com.sportradar.uf.datamodel.UFFixtureChange;
 import com.sportradar.uf.datamodel.UFOddsChange;
 import com.sportradar.unifiedodds.sdk.caching.DataRouterListener;
 import com.sportradar.unifiedodds.sdk.caching.SportEventCache;
+import com.sportradar.unifiedodds.sdk.caching.SportEventStatusCI;
 import com.sportradar.unifiedodds.sdk.caching.SportEventStatusCache;
 import com.sportradar.unifiedodds.sdk.impl.FeedMessageProcessor;
+import com.sportradar.unifiedodds.sdk.impl.FeedMetrics;
 import com.sportradar.unifiedodds.sdk.impl.RoutingKeyInfo;
 import com.sportradar.unifiedodds.sdk.impl.dto.SportEventStatusDTO;
+import com.sportradar.unifiedodds.sdk.metrics.PipelineStage;
 import com.sportradar.unifiedodds.sdk.oddsentities.MessageTimestamp;
 import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
 import com.sportradar.utils.URN;
 
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 /**
  * A {@link FeedMessageProcessor} implementation which is used in the message processing pipeline
  */
 public class CacheMessageProcessor implements FeedMessageProcessor {
+    private static final byte[] SPORT_EVENT_STATUS_START = "<sport_event_status".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] SPORT_EVENT_STATUS_END = "</sport_event_status>".getBytes(StandardCharsets.US_ASCII);
+    private static final HashFunction FINGERPRINT_FUNCTION = Hashing.murmur3_128();
+
     /**
      * The processor identifier
      */
@@ -45,6 +55,11 @@ public class CacheMessageProcessor implements FeedMessageProcessor {
      */
     private final ProcessedFixtureChangesTracker processedFixtureChangesTracker;
 
+    /**
+     * The {@link FeedMetrics} used to record the time spent processing the messages
+     */
+    private final FeedMetrics feedMetrics;
+
     /**
      * The {@link FeedMessageProcessor} implementation which should be called after the message has been processed
      */
@@ -56,19 +71,23 @@ public class CacheMessageProcessor implements FeedMessageProcessor {
      * @param sportEventStatusCache the {@link SportEventStatusCache} used by the associated SDK instance
      * @param sportEventCache the {@link SportEventCache} used by the associated SDK instance
      * @param processedFixtureChangesTracker used to track processed fixture change messages
+     * @param feedMetrics the {@link FeedMetrics} used to record the time spent processing the messages
      */
     public CacheMessageProcessor(
             SportEventStatusCache sportEventStatusCache,
             SportEventCache sportEventCache,
-            ProcessedFixtureChangesTracker processedFixtureChangesTracker) {
+            ProcessedFixtureChangesTracker processedFixtureChangesTracker,
+            FeedMetrics feedMetrics) {
         Preconditions.checkNotNull(sportEventStatusCache);
         Preconditions.checkNotNull(sportEventCache);
         Preconditions.checkNotNull(processedFixtureChangesTracker);
+        Preconditions.checkNotNull(feedMetrics);
 
         this.processorId = UUID.randomUUID().toString();
         this.sportEventStatusCache = sportEventStatusCache;
         this.sportEventCache = sportEventCache;
         this.processedFixtureChangesTracker = processedFixtureChangesTracker;
+        this.feedMetrics = feedMetrics;
     }
 
     /**
@@ -82,11 +101,12 @@ public class CacheMessageProcessor implements FeedMessageProcessor {
      */
     @Override
     public void processMessage(UnmarshalledMessage message, byte[] body, RoutingKeyInfo routingKeyInfo, MessageTimestamp timestamp) {
+        long processingStart = System.nanoTime();
 
         if (message instanceof UFOddsChange) {
             UFOddsChange fm = (UFOddsChange) message;
             sportEventStatusCache.addEventIdForTimelineIgnore(URN.parse(fm.getEventId()), fm.getProduct(), fm.getClass().getSimpleName());
-            processOddsChangeMessage(fm);
+            processOddsChangeMessage(fm, body);
         } else if (message instanceof UFFixtureChange) {
             UFFixtureChange fm = (UFFixtureChange) message;
             sportEventStatusCache.addEventIdForTimelineIgnore(URN.parse(fm.getEventId()), fm.getProduct(), fm.getClass().getSimpleName());
@@ -101,6 +121,8 @@ public class CacheMessageProcessor implements FeedMessageProcessor {
             processBetSettlementMessage(fm);
         }
 
+        feedMetrics.record(message, PipelineStage.CacheProcessing, System.nanoTime() - processingStart);
+
         if (nextMessageProcessor != null) {
             nextMessageProcessor.processMessage(message, body, routingKeyInfo, timestamp);
         }
@@ -147,11 +169,13 @@ public class CacheMessageProcessor implements FeedMessageProcessor {
     }
 
     /**
-     * Processes the messages of type {@link UFOddsChange}
+     * Processes the messages of type {@link UFOddsChange}. The status is only re-built if its element in the
+     * message body differs from the one of the cached feed status, otherwise the cached status is stored again
      *
      * @param message - the received messages of type {@link UFOddsChange}
+     * @param body - the raw body of the received message
      */
-    private void processOddsChangeMessage(UFOddsChange message) {
+    private void processOddsChangeMessage(UFOddsChange message, byte[] body) {
         Preconditions.checkNotNull(message);
 
         if (message.getSportEventStatus() == null) {
@@ -159,10 +183,71 @@ public class CacheMessageProcessor implements FeedMessageProcessor {
         }
 
         URN eventId = URN.parse(message.getEventId());
-        SportEventStatusDTO sportEventStatusDTO = new SportEventStatusDTO(message.getSportEventStatus());
+        long fingerprint = fingerprintSportEventStatus(body);
+
+        SportEventStatusCI cacheItem = sportEventStatusCache.getSportEventStatusCI(eventId, false);
+        SportEventStatusDTO sportEventStatusDTO = cacheItem == null ? null : cacheItem.getFeedStatusDTO();
+        if (sportEventStatusDTO == null || fingerprint == 0 || sportEventStatusDTO.getFeedFingerprint() != fingerprint) {
+            sportEventStatusDTO = new SportEventStatusDTO(message.getSportEventStatus(), fingerprint);
+        }
         ((DataRouterListener) sportEventStatusCache).onSportEventStatusFetched(eventId, sportEventStatusDTO, null, "UFOddsChange");
     }
 
+    /**
+     * Computes the fingerprint of the sport_event_status element of the provided odds_change message body
+     *
+     * @param body - the raw body of the odds_change message
+     * @return the fingerprint of the sport_event_status element, or 0 if the element could not be found
+     */
+    static long fingerprintSportEventStatus(byte[] body) {
+        if (body == null) {
+            return 0;
+        }
+
+        int start = indexOf(body, SPORT_EVENT_STATUS_START, 0);
+        if (start < 0) {
+            return 0;
+        }
+
+        int end = indexOf(body, (byte) '>', start);
+        if (end < 0) {
+            return 0;
+        }
+        if (body[end - 1] != '/') {
+            end = indexOf(body, SPORT_EVENT_STATUS_END, end);
+            if (end < 0) {
+                return 0;
+            }
+            end += SPORT_EVENT_STATUS_END.length - 1;
+        }
+
+        long fingerprint = FINGERPRINT_FUNCTION.hashBytes(body, start, end + 1 - start).asLong();
+        return fingerprint == 0 ? 1 : fingerprint;
+    }
+
+    private static int indexOf(byte[] data, byte value, int from) {
+        for (int i = from; i < data.length; i++) {
+            if (data[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOf(byte[] data, byte[] value, int from) {
+        int last = data.length - value.length;
+        for (int i = from; i <= last; i++) {
+            int j = 0;
+            while (j < value.length && data[i + j] == value[j]) {
+                j++;
+            }
+            if (j == value.length) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Processes the messages of type {@link UFBetStop}
      *
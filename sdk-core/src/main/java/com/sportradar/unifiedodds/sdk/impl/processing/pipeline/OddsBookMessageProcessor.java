@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.processing.pipeline;
+
+import com.google.common.base.Preconditions;
+import com.sportradar.uf.datamodel.UFBetSettlement;
+import com.sportradar.uf.datamodel.UFBetStop;
+import com.sportradar.uf.datamodel.UFOddsChange;
+import com.sportradar.unifiedodds.sdk.impl.FeedMessageProcessor;
+import com.sportradar.unifiedodds.sdk.impl.RoutingKeyInfo;
+import com.sportradar.unifiedodds.sdk.impl.oddsbook.OddsBookManagerImpl;
+import com.sportradar.unifiedodds.sdk.oddsentities.MessageTimestamp;
+import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
+
+import java.util.UUID;
+
+/**
+ * A {@link FeedMessageProcessor} implementation which applies the odds_change, bet_stop and bet_settlement messages
+ * to the odds books of their sport events
+ */
+public class OddsBookMessageProcessor implements FeedMessageProcessor {
+    /**
+     * The processor identifier
+     */
+    private final String processorId;
+
+    /**
+     * The {@link OddsBookManagerImpl} keeping the odds books
+     */
+    private final OddsBookManagerImpl oddsBookManager;
+
+    /**
+     * The {@link FeedMessageProcessor} implementation which should be called after the message has been processed
+     */
+    private FeedMessageProcessor nextMessageProcessor;
+
+    /**
+     * Initializes a new {@link OddsBookMessageProcessor} instance
+     *
+     * @param oddsBookManager the {@link OddsBookManagerImpl} used by the associated SDK instance
+     */
+    public OddsBookMessageProcessor(OddsBookManagerImpl oddsBookManager) {
+        Preconditions.checkNotNull(oddsBookManager);
+
+        this.processorId = UUID.randomUUID().toString();
+        this.oddsBookManager = oddsBookManager;
+    }
+
+    /**
+     * Processes the provided message. If the {@link #nextMessageProcessor} is defined, the instance will forward the
+     * message to the {@link #nextMessageProcessor}
+     *
+     * @param message - the message that should be processed
+     * @param body - the raw body of the received message
+     * @param routingKeyInfo - a {@link RoutingKeyInfo} instance describing the message routing key
+     * @param timestamp - all message timestamps
+     */
+    @Override
+    public void processMessage(UnmarshalledMessage message, byte[] body, RoutingKeyInfo routingKeyInfo, MessageTimestamp timestamp) {
+        if (message instanceof UFOddsChange) {
+            oddsBookManager.onOddsChange(processorId, (UFOddsChange) message);
+        } else if (message instanceof UFBetStop) {
+            oddsBookManager.onBetStop(processorId, (UFBetStop) message);
+        } else if (message instanceof UFBetSettlement) {
+            oddsBookManager.onBetSettlement(processorId, (UFBetSettlement) message);
+        }
+
+        if (nextMessageProcessor != null) {
+            nextMessageProcessor.processMessage(message, body, routingKeyInfo, timestamp);
+        }
+    }
+
+    /**
+     * Returns the processor identifier
+     *
+     * @return - the processor identifier
+     */
+    @Override
+    public String getProcessorId() {
+        return processorId;
+    }
+
+    /**
+     * Sets the next message processor that will be invoked when the message processing is finished
+     *
+     * @param nextMessageProcessor - the {@link FeedMessageProcessor} implementation that will be
+     *                               invoked after the message process is finished
+     */
+    @Override
+    public void setNextMessageProcessor(FeedMessageProcessor nextMessageProcessor) {
+        this.nextMessageProcessor = nextMessageProcessor;
+    }
+}
@@ -36,7 +36,15 @@ public class RecoveryManagerImpl implements RecoveryManager, EventRecoveryReques
     private static final Logger logger = LoggerFactory.getLogger(RecoveryManagerImpl.class);
     private static final long MAX_RECOMMENDED_PROCESSING_TIME = 1000L;
     private final Map<Integer, ProducerInfo> perProducerInfo = new ConcurrentHashMap<>();
-    private final Map<Integer, Long> messageProcessingTimes = new ConcurrentHashMap<>();
+    /**
+     * The start times of the messages being processed, mapped by the message processor and the processing thread, since
+     * the messages of a session can be processed concurrently on several dispatch threads
+     */
+    private final Map<MessageProcessorThread, Long> messageProcessingTimes = new ConcurrentHashMap<>();
+    /**
+     * The generation timestamps of the messages being processed, mapped by the producer
+     */
+    private final Map<Integer, Map<MessageProcessorThread, Long>> processingMessageGenTimestamps = new ConcurrentHashMap<>();
     private final FeedMessageFactory messageFactory;
     private final SDKInternalConfiguration config;
     private final SDKProducerManager producerManager;
@@ -122,7 +130,16 @@ public class RecoveryManagerImpl implements RecoveryManager, EventRecoveryReques
 
     @Override
     public void onMessageProcessingStarted(int uniqueMessageProcessorIdentifier, int producerId, Long requestId, long now) {
-        messageProcessingTimes.put(uniqueMessageProcessorIdentifier, now);
+        onMessageProcessingStarted(uniqueMessageProcessorIdentifier, producerId, requestId, null, now);
+    }
+
+    @Override
+    public void onMessageProcessingStarted(int uniqueMessageProcessorIdentifier, int producerId, Long requestId, Long messageGenTimestamp, long now) {
+        MessageProcessorThread processorThread = new MessageProcessorThread(uniqueMessageProcessorIdentifier);
+        messageProcessingTimes.put(processorThread, now);
+        if (messageGenTimestamp != null) {
+            processingMessageGenTimestamps.computeIfAbsent(producerId, id -> new ConcurrentHashMap<>()).put(processorThread, messageGenTimestamp);
+        }
         provideProducerInfo(producerId).setLastMessageReceivedTimestamp(now);
         if(requestId != null && requestId > 0){
             provideProducerInfo(producerId).setLastRecoveryMessageReceivedTimestamp(now);
@@ -131,16 +148,22 @@ public class RecoveryManagerImpl implements RecoveryManager, EventRecoveryReques
 
     @Override
     public void onMessageProcessingEnded(int uniqueMessageProcessorIdentifier, int producerId, Long processedMessageGenTimestamp, String eventId) {
+        MessageProcessorThread processorThread = new MessageProcessorThread(uniqueMessageProcessorIdentifier);
+        Map<MessageProcessorThread, Long> processingGenTimestamps = processingMessageGenTimestamps.get(producerId);
+        if (processingGenTimestamps != null) {
+            processingGenTimestamps.remove(processorThread);
+        }
         if (processedMessageGenTimestamp != null) {
-            provideProducerInfo(producerId).setLastProcessedMessageGenTimestamp(processedMessageGenTimestamp);
+            provideProducerInfo(producerId).setLastProcessedMessageGenTimestamp(
+                    oldestProcessingGenTimestamp(processingGenTimestamps, processedMessageGenTimestamp));
         }
 
-        if (!messageProcessingTimes.containsKey(uniqueMessageProcessorIdentifier)){
+        Long messageProcessingStartedTime = messageProcessingTimes.remove(processorThread);
+        if (messageProcessingStartedTime == null) {
             logger.warn("Message processing finished on unknown session");
+            return;
         }
 
-        long messageProcessingStartedTime = messageProcessingTimes.get(uniqueMessageProcessorIdentifier);
-
         if (messageProcessingStartedTime == 0L) {
             logger.warn("Message processing ended, but start time was 0");
             return;
@@ -152,8 +175,6 @@ public class RecoveryManagerImpl implements RecoveryManager, EventRecoveryReques
             logger.warn(String.format("Client took more than %s second to process a message for producer %s and event %s (%.3f seconds)",
                     MAX_RECOMMENDED_PROCESSING_TIME / 1000, producerId, eventId, (double) processingTime / 1000));
         }
-
-        messageProcessingTimes.put(uniqueMessageProcessorIdentifier, 0L);
     }
 
     @Override
@@ -896,4 +917,52 @@ public class RecoveryManagerImpl implements RecoveryManager, EventRecoveryReques
             producerManager.setProducerRecoveryInfo(pi.getProducerId(), recoveryInfo);
         }
     }
+
+    /**
+     * Returns the generation timestamp up to which the messages of the producer were processed, the timestamp of the
+     * processed message unless an older message of the same producer is still being processed on another thread
+     *
+     * @param processingGenTimestamps the generation timestamps of the messages still being processed
+     * @param processedMessageGenTimestamp the generation timestamp of the processed message
+     * @return the generation timestamp up to which the messages of the producer were processed
+     */
+    private static long oldestProcessingGenTimestamp(Map<MessageProcessorThread, Long> processingGenTimestamps, long processedMessageGenTimestamp) {
+        long oldest = processedMessageGenTimestamp;
+        if (processingGenTimestamps != null) {
+            for (Long genTimestamp : processingGenTimestamps.values()) {
+                oldest = Math.min(oldest, genTimestamp);
+            }
+        }
+        return oldest;
+    }
+
+    /**
+     * Identifies the thread of a message processor on which a message is processed
+     */
+    private static final class MessageProcessorThread {
+        private final int messageProcessorIdentifier;
+        private final long threadId;
+
+        private MessageProcessorThread(int messageProcessorIdentifier) {
+            this.messageProcessorIdentifier = messageProcessorIdentifier;
+            this.threadId = Thread.currentThread().getId();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof MessageProcessorThread)) {
+                return false;
+            }
+            MessageProcessorThread that = (MessageProcessorThread) o;
+            return messageProcessorIdentifier == that.messageProcessorIdentifier && threadId == that.threadId;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * messageProcessorIdentifier + Long.hashCode(threadId);
+        }
+    }
 }
@@ -5,89 +5,190 @@
 package com.sportradar.unifiedodds.sdk.localreplay;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Splitter;
+import com.sportradar.unifiedodds.sdk.LoggerDefinitions;
 import com.sportradar.unifiedodds.sdk.impl.ChannelMessageConsumer;
 import com.sportradar.unifiedodds.sdk.impl.RabbitMqChannel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.*;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.List;
-import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 /**
- * Created by urosbregar on 17/07/2017.
+ * A {@link RabbitMqChannel} which replays the messages recorded in a traffic log file
+ * (written by the {@link LoggerDefinitions.UFSdkTrafficLog} logger) instead of receiving them from the broker.
+ * Each log entry has the <code>... consumer description &lt;~&gt; routing key &lt;~&gt; message</code> format,
+ * the message can span multiple lines if the traffic log entries are not cleaned.
+ *
+ * Only the messages with routing keys matching the routing keys the channel is opened with are replayed, either
+ * as fast as possible or paced by the message timestamps (optionally accelerated by the replay speed).
+ * The channel can replace the default channel by binding the {@link RabbitMqChannel} to a provider creating
+ * {@link LogFileChannel} instances in the SDK injector.
  */
 public class LogFileChannel implements RabbitMqChannel {
 
     private static final Logger logger = LoggerFactory.getLogger(LogFileChannel.class);
 
+    /**
+     * The delimiter used to split the traffic log entries into parts
+     */
+    private static final String TRAFFIC_LOG_DELIMITER = "<~>";
+
+    /**
+     * The attribute holding the message generation timestamp
+     */
+    private static final String TIMESTAMP_ATTRIBUTE = "timestamp=\"";
+
     private final File fileHandle;
 
+    /**
+     * The replay speed relative to the recorded message timestamps (ex. 10 replays the messages 10 times faster
+     * than they were generated), 0 if the messages are replayed as fast as possible
+     */
+    private final double replaySpeed;
+
     private final AtomicBoolean isOpened = new AtomicBoolean(false);
 
     private Thread worker;
 
 
+    /**
+     * Initializes a new instance of the {@link LogFileChannel} which replays the messages as fast as possible
+     *
+     * @param fileHandle the traffic log file containing the replayed messages
+     */
     public LogFileChannel(File fileHandle){
+        this(fileHandle, 0);
+    }
+
+    /**
+     * Initializes a new instance of the {@link LogFileChannel}
+     *
+     * @param fileHandle the traffic log file containing the replayed messages
+     * @param replaySpeed the replay speed relative to the recorded message timestamps (ex. 1 replays the messages
+     *                    in the recorded intervals, 10 replays them 10 times faster), 0 to replay the messages as fast
+     *                    as possible
+     */
+    public LogFileChannel(File fileHandle, double replaySpeed){
         Preconditions.checkArgument(fileHandle != null, "fileHandle cannot be a null referencee");
+        Preconditions.checkArgument(replaySpeed >= 0, "replaySpeed can not be negative");
 
         this.fileHandle = fileHandle;
+        this.replaySpeed = replaySpeed;
     }
 
-    private void readFile(){
+    private void readFile(List<String> routingKeys, ChannelMessageConsumer channelMessageConsumer){
+        List<List<String>> bindings = routingKeys.stream()
+                .map(k -> Splitter.on('.').splitToList(k))
+                .collect(Collectors.toList());
 
-        InputStream inputStream;
+        ReplayClock clock = new ReplayClock();
+        int replayedMessages = 0;
 
-        try {
-            inputStream = new FileInputStream(fileHandle);
-        } catch (FileNotFoundException e) {
-            throw new IllegalStateException(String.format("The file %s could not be opened", fileHandle.getAbsolutePath()));
-        }
+        try (BufferedReader reader = Files.newBufferedReader(fileHandle.toPath(), StandardCharsets.UTF_8)) {
+            String routingKey = null;
+            StringBuilder message = new StringBuilder();
+
+            String line;
+            while (isOpened() && (line = reader.readLine()) != null) {
+                int routingKeyStart = line.indexOf(TRAFFIC_LOG_DELIMITER);
+                if (routingKeyStart < 0) {
+                    // continuation of a message spanning multiple lines
+                    if (routingKey != null) {
+                        message.append('\n').append(line);
+                    }
+                    continue;
+                }
 
-        try (Scanner scanner = new Scanner(inputStream, "UTF-8")){
+                if (routingKey != null && replay(routingKey, message, bindings, clock, channelMessageConsumer)) {
+                    replayedMessages++;
+                }
 
-            while(scanner.hasNextLine()){
-                String line = scanner.nextLine();
-                line = line + "a";
+                int messageStart = line.indexOf(TRAFFIC_LOG_DELIMITER, routingKeyStart + TRAFFIC_LOG_DELIMITER.length());
+                if (messageStart < 0) {
+                    routingKey = null;
+                    continue;
+                }
+                routingKey = line.substring(routingKeyStart + TRAFFIC_LOG_DELIMITER.length(), messageStart).trim();
+                message.setLength(0);
+                message.append(line, messageStart + TRAFFIC_LOG_DELIMITER.length(), line.length());
             }
-        }finally {
-            try {
-                inputStream.close();
-            } catch (IOException e) {
-                logger.warn("An error occurred while closing the input stream. Exception:", e);
+
+            if (isOpened() && routingKey != null && replay(routingKey, message, bindings, clock, channelMessageConsumer)) {
+                replayedMessages++;
             }
+        } catch (IOException e) {
+            logger.warn("An error occurred while reading the file {}. Exception:", fileHandle.getAbsolutePath(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
+
+        logger.info("Replay of {} completed, {} messages replayed", fileHandle.getAbsolutePath(), replayedMessages);
     }
 
+    private boolean replay(String routingKey, StringBuilder message, List<List<String>> bindings, ReplayClock clock, ChannelMessageConsumer channelMessageConsumer) throws InterruptedException {
+        String body = message.toString().trim();
+
+        // the debug entries contain the producer id instead of the message
+        if (!body.startsWith("<") || !isBound(routingKey, bindings)) {
+            return false;
+        }
+
+        if (replaySpeed > 0) {
+            clock.waitFor(parseTimestamp(body), replaySpeed);
+        }
+
+        channelMessageConsumer.onMessageReceived(routingKey, body.getBytes(StandardCharsets.UTF_8), null, System.currentTimeMillis());
+        return true;
+    }
 
     /**
-     * Opens the current channel and binds the created queue to the provided routing keys
+     * Opens the current channel and starts the replay of the messages matching the provided routing keys
      *
      * @param routingKeys            - a {@link List} of routing keys which should be binded
      * @param channelMessageConsumer - a {@link ChannelMessageConsumer} which consumes the received payloads
      * @param messageInterest        - message interest this channel is linked to
      */
     @Override
-    public void open(List<String> routingKeys, ChannelMessageConsumer channelMessageConsumer, String messageInterest) {
+    public synchronized void open(List<String> routingKeys, ChannelMessageConsumer channelMessageConsumer, String messageInterest) {
+        Preconditions.checkNotNull(routingKeys);
+        Preconditions.checkNotNull(channelMessageConsumer);
+
         if(isOpened()){
             throw new IllegalStateException("The channel is already opened");
         }
+        if (!fileHandle.isFile()) {
+            throw new IllegalStateException(String.format("The file %s could not be opened", fileHandle.getAbsolutePath()));
+        }
 
-        readFile();
         isOpened.set(true);
+        worker = new Thread(() -> readFile(routingKeys, channelMessageConsumer), "LogFileChannel-" + messageInterest);
+        worker.setDaemon(true);
+        worker.start();
     }
 
     /**
      * Terminates the current channel
      */
     @Override
-    public void close() {
+    public synchronized void close() {
         if(!isOpened()){
             throw new IllegalStateException("The channel is already closed");
         }
 
         isOpened.set(false);
+        if (worker != null && worker != Thread.currentThread()) {
+            worker.interrupt();
+        }
+        worker = null;
     }
 
     /**
@@ -99,4 +200,85 @@ public class LogFileChannel implements RabbitMqChannel {
     public boolean isOpened() {
         return isOpened.get();
     }
+
+    /**
+     * Indicates if the provided routing key matches any of the provided bindings, where <code>*</code> matches
+     * exactly one word and <code>#</code> matches zero or more words (as with a topic exchange)
+     */
+    private static boolean isBound(String routingKey, List<List<String>> bindings) {
+        List<String> words = Splitter.on('.').splitToList(routingKey);
+        for (List<String> binding : bindings) {
+            if (matches(binding, 0, words, 0)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matches(List<String> binding, int bindingIndex, List<String> words, int wordIndex) {
+        if (bindingIndex == binding.size()) {
+            return wordIndex == words.size();
+        }
+
+        String part = binding.get(bindingIndex);
+        if (part.equals("#")) {
+            for (int i = wordIndex; i <= words.size(); i++) {
+                if (matches(binding, bindingIndex + 1, words, i)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        return wordIndex < words.size()
+                && (part.equals("*") || part.equals(words.get(wordIndex)))
+                && matches(binding, bindingIndex + 1, words, wordIndex + 1);
+    }
+
+    /**
+     * Returns the generation timestamp of the provided message
+     *
+     * @return the generation timestamp of the provided message, or 0 if the message does not have it
+     */
+    private static long parseTimestamp(String body) {
+        int start = body.indexOf(TIMESTAMP_ATTRIBUTE);
+        if (start < 0) {
+            return 0;
+        }
+
+        long timestamp = 0;
+        for (int i = start + TIMESTAMP_ATTRIBUTE.length(); i < body.length(); i++) {
+            char c = body.charAt(i);
+            if (c < '0' || c > '9') {
+                break;
+            }
+            timestamp = timestamp * 10 + (c - '0');
+        }
+        return timestamp;
+    }
+
+    /**
+     * Paces the replay by the recorded message timestamps, relative to the first replayed message
+     */
+    private static class ReplayClock {
+        private long firstTimestamp;
+        private long replayStartedAt;
+
+        void waitFor(long messageTimestamp, double replaySpeed) throws InterruptedException {
+            if (messageTimestamp <= 0) {
+                return;
+            }
+            if (firstTimestamp == 0) {
+                firstTimestamp = messageTimestamp;
+                replayStartedAt = System.nanoTime();
+                return;
+            }
+
+            long dueAt = replayStartedAt + (long) (TimeUnit.MILLISECONDS.toNanos(messageTimestamp - firstTimestamp) / replaySpeed);
+            long waitNanos = dueAt - System.nanoTime();
+            if (waitNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+        }
+    }
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.metrics;
+
+import com.google.common.base.MoreObjects;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * A point in time view of a latency distribution, all the values are in microseconds. The percentiles are
+ * approximations with a relative error of up to ~6%
+ */
+public final class LatencySnapshot {
+    private final long count;
+    private final long meanMicros;
+    private final long maxMicros;
+    private final long p50Micros;
+    private final long p90Micros;
+    private final long p99Micros;
+    private final long p999Micros;
+
+    @ConstructorProperties({"count", "meanMicros", "maxMicros", "p50Micros", "p90Micros", "p99Micros", "p999Micros"})
+    public LatencySnapshot(long count, long meanMicros, long maxMicros, long p50Micros, long p90Micros, long p99Micros, long p999Micros) {
+        this.count = count;
+        this.meanMicros = meanMicros;
+        this.maxMicros = maxMicros;
+        this.p50Micros = p50Micros;
+        this.p90Micros = p90Micros;
+        this.p99Micros = p99Micros;
+        this.p999Micros = p999Micros;
+    }
+
+    /**
+     * Returns the number of recorded values
+     *
+     * @return the number of recorded values
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the mean of the recorded values
+     *
+     * @return the mean of the recorded values in microseconds
+     */
+    public long getMeanMicros() {
+        return meanMicros;
+    }
+
+    /**
+     * Returns the highest recorded value
+     *
+     * @return the highest recorded value in microseconds
+     */
+    public long getMaxMicros() {
+        return maxMicros;
+    }
+
+    /**
+     * Returns the median of the recorded values
+     *
+     * @return the median of the recorded values in microseconds
+     */
+    public long getP50Micros() {
+        return p50Micros;
+    }
+
+    /**
+     * Returns the 90th percentile of the recorded values
+     *
+     * @return the 90th percentile of the recorded values in microseconds
+     */
+    public long getP90Micros() {
+        return p90Micros;
+    }
+
+    /**
+     * Returns the 99th percentile of the recorded values
+     *
+     * @return the 99th percentile of the recorded values in microseconds
+     */
+    public long getP99Micros() {
+        return p99Micros;
+    }
+
+    /**
+     * Returns the 99.9th percentile of the recorded values
+     *
+     * @return the 99.9th percentile of the recorded values in microseconds
+     */
+    public long getP999Micros() {
+        return p999Micros;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("count", count)
+                .add("mean", meanMicros)
+                .add("max", maxMicros)
+                .add("p50", p50Micros)
+                .add("p90", p90Micros)
+                .add("p99", p99Micros)
+                .add("p999", p999Micros)
+                .toString();
+    }
+}
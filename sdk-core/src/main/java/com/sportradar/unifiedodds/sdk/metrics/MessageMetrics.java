@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.metrics;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+
+import java.beans.ConstructorProperties;
+import java.util.Map;
+
+/**
+ * A point in time view of the metrics of the feed messages of a single type received from a single producer
+ */
+public final class MessageMetrics {
+    private final String messageType;
+    private final int producerId;
+    private final long count;
+    private final Map<PipelineStage, LatencySnapshot> latencies;
+
+    @ConstructorProperties({"messageType", "producerId", "count", "latencies"})
+    public MessageMetrics(String messageType, int producerId, long count, Map<PipelineStage, LatencySnapshot> latencies) {
+        Preconditions.checkNotNull(messageType);
+        Preconditions.checkNotNull(latencies);
+
+        this.messageType = messageType;
+        this.producerId = producerId;
+        this.count = count;
+        this.latencies = ImmutableMap.copyOf(latencies);
+    }
+
+    /**
+     * Returns the type of the messages (ex. odds_change, bet_settlement,...)
+     *
+     * @return the type of the messages
+     */
+    public String getMessageType() {
+        return messageType;
+    }
+
+    /**
+     * Returns the id of the producer which sent the messages
+     *
+     * @return the id of the producer which sent the messages
+     */
+    public int getProducerId() {
+        return producerId;
+    }
+
+    /**
+     * Returns the number of processed messages
+     *
+     * @return the number of processed messages
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the latencies of the processing stages, only the stages which were measured for the messages are included
+     *
+     * @return the latencies of the processing stages
+     */
+    public Map<PipelineStage, LatencySnapshot> getLatencies() {
+        return latencies;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("messageType", messageType)
+                .add("producerId", producerId)
+                .add("count", count)
+                .add("latencies", latencies)
+                .toString();
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.metrics;
+
+import java.util.List;
+
+/**
+ * Receives the feed message metrics every {@link com.sportradar.unifiedodds.sdk.SDKInternalConfiguration#getMetricsReportInterval()}
+ * seconds, so they can be forwarded to the user's monitoring system. A custom reporter is provided by overriding
+ * {@link com.sportradar.unifiedodds.sdk.di.CustomisableSDKModule#provideMetricsReporterImplementationClass()}
+ */
+public interface MetricsReporter {
+    /**
+     * Reports the metrics collected since the SDK was started (or since the metrics were reset over JMX)
+     *
+     * @param metrics the metrics per message type and producer
+     */
+    void report(List<MessageMetrics> metrics);
+}
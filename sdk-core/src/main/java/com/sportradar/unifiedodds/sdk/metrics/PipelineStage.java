@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.metrics;
+
+/**
+ * The stages of the feed message processing for which the latencies are measured
+ */
+@SuppressWarnings("java:S115") // Constant names should comply with a naming convention
+public enum PipelineStage {
+    /**
+     * The deserialization of the received payload
+     */
+    Deserialization,
+
+    /**
+     * The validation of the deserialized message
+     */
+    Validation,
+
+    /**
+     * The processing of the message by the SDK caches (sport event status, fixture changes,...)
+     */
+    CacheProcessing,
+
+    /**
+     * The build of the message entity dispatched to the user (including the associated sport event)
+     */
+    EntityBuild,
+
+    /**
+     * The user (listener) callback
+     */
+    UserCallback,
+
+    /**
+     * The time from the message being sent by the feed (the <code>timestamp_in_ms</code> header) until it is
+     * dispatched to the user
+     */
+    EndToEnd
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.oddsentities;
+
+import com.sportradar.utils.URN;
+
+import java.util.List;
+
+/**
+ * A snapshot of the current markets and odds of a sport event, the markets hold the latest values received from any
+ * producer
+ */
+public interface OddsBook {
+    /**
+     * Returns the {@link URN} identifier of the associated sport event
+     *
+     * @return the {@link URN} identifier of the associated sport event
+     */
+    URN getEventId();
+
+    /**
+     * Returns the markets of the sport event, in the order in which they were first received
+     *
+     * @return the markets of the sport event
+     */
+    List<OddsBookMarket> getMarkets();
+
+    /**
+     * Returns the market with the provided id and specifiers
+     *
+     * @param marketId the id of the requested market
+     * @param specifiers the specifiers of the requested market as received in the message (ex. total=2.5),
+     *                   <code>null</code> or an empty string for markets without specifiers
+     * @return the requested market, or <code>null</code> if the book does not contain it
+     */
+    OddsBookMarket getMarket(int marketId, String specifiers);
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.oddsentities;
+
+import java.util.List;
+
+/**
+ * The state of a market kept in an {@link OddsBook}
+ */
+public interface OddsBookMarket {
+    /**
+     * Returns the id of the market
+     *
+     * @return the id of the market
+     */
+    int getId();
+
+    /**
+     * Returns the specifiers of the market as received in the message (ex. total=2.5)
+     *
+     * @return the specifiers of the market, or <code>null</code> if the market has no specifiers
+     */
+    String getSpecifiers();
+
+    /**
+     * Returns the status of the market
+     *
+     * @return the status of the market
+     */
+    MarketStatus getStatus();
+
+    /**
+     * Returns the outcomes of the market
+     *
+     * @return the outcomes of the market
+     */
+    List<OddsBookOutcome> getOutcomes();
+}
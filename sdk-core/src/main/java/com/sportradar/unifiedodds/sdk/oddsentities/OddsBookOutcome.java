@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.oddsentities;
+
+/**
+ * The state of a market outcome kept in an {@link OddsBook}
+ */
+public interface OddsBookOutcome {
+    /**
+     * Returns the id of the outcome
+     *
+     * @return the id of the outcome
+     */
+    String getId();
+
+    /**
+     * Returns the odds of the outcome
+     *
+     * @return the odds of the outcome, or {@link Double#NaN} if the outcome has no odds
+     */
+    double getOdds();
+
+    /**
+     * Returns the probability of the outcome
+     *
+     * @return the probability of the outcome, or {@link Double#NaN} if the outcome has no probability
+     */
+    double getProbability();
+
+    /**
+     * Indicates if the outcome is active
+     *
+     * @return <code>true</code> if the outcome is active; otherwise <code>false</code>
+     */
+    boolean isActive();
+}
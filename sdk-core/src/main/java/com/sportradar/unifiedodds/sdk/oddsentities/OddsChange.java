@@ -63,6 +63,30 @@ public interface OddsChange<T extends SportEvent> extends MarketMessage<T> {
      */
     List<MarketWithOdds> getMarkets();
 
+    /**
+     * Returns the {@link MarketWithOdds} with the provided id and specifiers associated with the message. Only the
+     * requested market is built, so this is cheaper than {@link #getMarkets()} when just a few markets are needed
+     *
+     * @param marketId the id of the requested market
+     * @param specifiers the specifiers of the requested market as received in the message (ex. total=2.5),
+     *                   <code>null</code> or an empty string for markets without specifiers
+     * @return the requested {@link MarketWithOdds} or <code>null</code> if the message does not contain it
+     */
+    default MarketWithOdds getMarket(int marketId, String specifiers) {
+        throw new UnsupportedOperationException("Method not implemented. Use derived type.");
+    }
+
+    /**
+     * Returns the changes this message made to the odds book of the sport event, so the changed outcomes do not
+     * have to be found by comparing the markets of the subsequent messages
+     *
+     * @return the changes this message made to the odds book, or <code>null</code> if the odds book is not enabled
+     * @see com.sportradar.unifiedodds.sdk.OddsBookManager
+     */
+    default OddsChangeDelta getOddsChangeDelta() {
+        throw new UnsupportedOperationException("Method not implemented. Use derived type.");
+    }
+
     /**
      * Gets the odds generation properties (contains a few key-parameters that can be used in a client’s own special odds model, or even offer spread betting bets based on it)
      * @return the odds generation properties
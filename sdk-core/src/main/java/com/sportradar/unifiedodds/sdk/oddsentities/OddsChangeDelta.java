@@ -0,0 +1,20 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.oddsentities;
+
+import java.util.List;
+
+/**
+ * The changes an {@link OddsChange} made to the {@link OddsBook} of its sport event
+ */
+public interface OddsChangeDelta {
+    /**
+     * Returns the markets which were added or changed by the odds change, each market contains only its added or
+     * changed outcomes
+     *
+     * @return the markets which were added or changed by the odds change
+     */
+    List<OddsBookMarket> getChangedMarkets();
+}
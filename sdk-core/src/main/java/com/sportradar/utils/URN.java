@@ -4,15 +4,14 @@
 
 package com.sportradar.utils;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 import com.sportradar.unifiedodds.sdk.entities.ResourceTypeGroup;
 import com.sportradar.unifiedodds.sdk.exceptions.UnsupportedUrnFormatException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -26,29 +25,17 @@ public class URN {
     private static final Logger logger = LoggerFactory.getLogger(URN.class);
 
     /**
-     * The name of the regex group used to store the prefix
-     */
-    private static final String PREFIX_GROUP_NAME = "prefix";
-
-    /**
-     * The name of the regex group used to store the type
-     */
-    private static final String TYPE_GROUP_NAME = "type";
-
-    /**
-     * The name of the regex group used to store the id
+     * The max number of parsed instances kept for reuse, so the frequently parsed ids (sports, live events,
+     * competitors,...) are not parsed and allocated over and over again
      */
-    private static final String ID_GROUP_NAME = "id";
+    private static final int PARSED_CACHE_SIZE = 20000;
 
     /**
-     * A regex string pattern used for parsing of URN strings
+     * The recently parsed instances by their string representation
      */
-    private static final String REGEX_STRING = "\\A(?<" + PREFIX_GROUP_NAME + ">[a-zA-Z]+):(?<" + TYPE_GROUP_NAME + ">[a-zA-Z_2]+):(?<" + ID_GROUP_NAME + ">[-\\d]+)\\z";
-
-    /**
-     * A regex compiled pattern that is used to parse input string ids
-     */
-    private static final Pattern REGEX_PATTERN = Pattern.compile(REGEX_STRING);
+    private static final Cache<String, URN> PARSED_CACHE = CacheBuilder.newBuilder()
+            .maximumSize(PARSED_CACHE_SIZE)
+            .build();
 
     /**
      * toString value used to lower mem usage
@@ -100,6 +87,11 @@ public class URN {
      */
     private ResourceTypeGroup group;
 
+    /**
+     * The hash code of the current instance, equal to the hash code of its {@link String} representation
+     */
+    private final int hash;
+
     /**
      * Initializes a new instance of the {@link URN} class
      *
@@ -116,6 +108,7 @@ public class URN {
         this.type = type;
         this.id = id;
         this.group = TYPES.getOrDefault(type, ResourceTypeGroup.OTHER);
+        this.hash = computeHash(prefix, type, id);
     }
 
     /**
@@ -128,21 +121,117 @@ public class URN {
         try {
             checkNotNull(urnString, "urnString can not be null");
 
-            Matcher matcher = REGEX_PATTERN.matcher(urnString);
-
-            checkArgument(!matcher.find() || matcher.groupCount() != 4,
-                    "Value " + urnString + " is not a valid string representation of the URN");
-
-            return new URN(
-                    matcher.group(PREFIX_GROUP_NAME),
-                    matcher.group(TYPE_GROUP_NAME),
-                    Long.valueOf(matcher.group(ID_GROUP_NAME))
-            );
+            URN urn = PARSED_CACHE.getIfPresent(urnString);
+            if (urn == null) {
+                urn = parseInternal(urnString);
+                PARSED_CACHE.put(urnString, urn);
+            }
+            return urn;
         } catch (Exception e) {
             throw new UnsupportedUrnFormatException("URN could not be parsed [" + urnString + "] ", e);
         }
     }
 
+    /**
+     * Parses the provided {@link String} in the prefix:type:id format, where the prefix consists of letters,
+     * the type of letters, underscores and the digit 2 and the id is a non-zero (optionally negative) number
+     *
+     * @param urnString - {@link String} representation of the URN
+     * @return the {@link URN} constructed by parsing the provided string representation
+     */
+    private static URN parseInternal(String urnString) {
+        int typeStart = urnString.indexOf(':') + 1;
+        int idStart = typeStart == 0 ? 0 : urnString.indexOf(':', typeStart) + 1;
+
+        checkArgument(typeStart > 1 && idStart > typeStart + 1 && idStart < urnString.length(),
+                "Value " + urnString + " is not a valid string representation of the URN");
+
+        for (int i = 0; i < typeStart - 1; i++) {
+            checkArgument(isLetter(urnString.charAt(i)), "Value " + urnString + " contains an invalid prefix");
+        }
+        for (int i = typeStart; i < idStart - 1; i++) {
+            char c = urnString.charAt(i);
+            checkArgument(isLetter(c) || c == '_' || c == '2', "Value " + urnString + " contains an invalid type");
+        }
+
+        URN urn = new URN(
+                urnString.substring(0, typeStart - 1),
+                urnString.substring(typeStart, idStart - 1),
+                parseId(urnString, idStart)
+        );
+        int firstDigit = urnString.charAt(idStart) == '-' ? idStart + 1 : idStart;
+        if (urnString.charAt(firstDigit) != '0') {
+            // the string is already in the canonical format, so there is no need to build it again
+            urn.toStringCache = urnString;
+        }
+        return urn;
+    }
+
+    /**
+     * Parses the (optionally negative) number starting at the provided index and ending at the end of the provided
+     * {@link String}, without allocating an intermediate {@link String}
+     *
+     * @param urnString the {@link String} containing the number
+     * @param start the index at which the number starts
+     * @return the parsed number
+     */
+    private static long parseId(String urnString, int start) {
+        boolean negative = urnString.charAt(start) == '-';
+        int i = negative ? start + 1 : start;
+        checkArgument(i < urnString.length(), "Value " + urnString + " contains an invalid id");
+
+        // accumulated as a negative number, so Long.MIN_VALUE can be parsed as well
+        long result = 0;
+        for (; i < urnString.length(); i++) {
+            char c = urnString.charAt(i);
+            checkArgument(c >= '0' && c <= '9', "Value " + urnString + " contains an invalid id");
+            checkArgument(result >= (Long.MIN_VALUE + (c - '0')) / 10, "Value " + urnString + " contains an out of range id");
+            result = result * 10 - (c - '0');
+        }
+        if (negative) {
+            return result;
+        }
+        checkArgument(result != Long.MIN_VALUE, "Value " + urnString + " contains an out of range id");
+        return -result;
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Computes the hash code of the prefix:type:id {@link String} representation without building it
+     *
+     * @param prefix - prefix of the URN
+     * @param type   - type of the resource associated with the URN
+     * @param id     - numerical identifier of the resource associated with the URN
+     * @return the hash code of the {@link String} representation
+     */
+    private static int computeHash(String prefix, String type, long id) {
+        int h = 31 * prefix.hashCode() + ':';
+        for (int i = 0; i < type.length(); i++) {
+            h = 31 * h + type.charAt(i);
+        }
+        h = 31 * h + ':';
+
+        // the digits are taken from the negative value, so Long.MIN_VALUE does not overflow
+        long value = id;
+        if (value < 0) {
+            h = 31 * h + '-';
+        } else {
+            value = -value;
+        }
+        long divisor = 1;
+        while (value / divisor <= -10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            h = 31 * h + ('0' - (int) (value / divisor));
+            value %= divisor;
+        }
+        return h;
+    }
+
     /**
      * Returns the prefix of the current instance
      *
@@ -202,9 +291,10 @@ public class URN {
         if (obj instanceof URN) {
             URN other = (URN) obj;
 
-            return prefix.equals(other.getPrefix()) &&
-                    type.equals(other.getType()) &&
-                    id == other.getId();
+            return hash == other.hash &&
+                    id == other.getId() &&
+                    prefix.equals(other.getPrefix()) &&
+                    type.equals(other.getType());
         }
 
         return false;
@@ -225,7 +315,7 @@ public class URN {
      */
     @Override
     public int hashCode() {
-        return toString().hashCode();
+        return hash;
     }
 
     public boolean isSimpleTeam()
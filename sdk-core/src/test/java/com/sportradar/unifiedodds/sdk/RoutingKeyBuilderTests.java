@@ -337,6 +337,30 @@ public class RoutingKeyBuilderTests {
         compareResults(result, validationMap);
     }
 
+    @Test
+    public void sessionKeysAreNarrowedToBoundSports() {
+        createdSessions.put(1, new SimpleEntry<>(MessageInterest.LiveMessagesOnly, null));
+        createdSessions.put(2, new SimpleEntry<>(MessageInterest.PrematchMessagesOnly, null));
+
+        validationMap.put(1, Arrays.asList(
+                "*.*.live.*.1.*.*.#",
+                "*.*.live.*.5.*.*.#",
+                MessageInterest.SystemAliveMessages.getRoutingKeys().get(0),
+                SNAPSHOT_COMPLETE_ROUTING_KEY_WITHOUT_NODE_ID
+        ));
+        validationMap.put(2, Arrays.asList(
+                MessageInterest.PrematchMessagesOnly.getRoutingKeys().get(0) + ".#",
+                MessageInterest.SystemAliveMessages.getRoutingKeys().get(0),
+                SNAPSHOT_COMPLETE_ROUTING_KEY_WITHOUT_NODE_ID
+        ));
+
+        Map<Integer, Set<URN>> sessionSportIds = Collections.singletonMap(1,
+                new HashSet<>(Arrays.asList(URN.parse("sr:sport:1"), URN.parse("sr:sport:5"))));
+        Map<Integer, List<String>> result = OddsFeedRoutingKeyBuilder.generateKeys(createdSessions, sessionSportIds, getMockedCfg());
+
+        compareResults(result, validationMap);
+    }
+
     private static void compareResults(Map<Integer, List<String>> result, Map<Integer, List<String>> validationMap) {
         Assert.assertEquals("Result map size doesn't match validation map size", result.size(), validationMap.size());
 
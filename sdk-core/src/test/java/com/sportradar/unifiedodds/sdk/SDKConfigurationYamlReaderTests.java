@@ -24,7 +24,7 @@ public class SDKConfigurationYamlReaderTests {
         SDKConfigurationYamlReader sdkConfigurationYamlReader = new SDKConfigurationYamlReader();
         Map<String, String> stringStringMap = sdkConfigurationYamlReader.readConfiguration();
 
-        assertEquals(26, stringStringMap.size());
+        assertEquals(27, stringStringMap.size());
     }
 
     @Test
@@ -56,6 +56,7 @@ public class SDKConfigurationYamlReaderTests {
         assertEquals(21, (int) reader.readRecoveryHttpClientMaxConnTotal().get());
         assertEquals(22, (int) reader.readRecoveryHttpClientMaxConnPerRoute().get());
         assertTrue(reader.readSimpleVariantCaching().get());
+        assertTrue(reader.readConcurrentMessageUnmarshalling().get());
         assertTrue(reader.readSchedulerTasksToSkip().containsAll(getExpectedTasksToSkip()));
     }
 
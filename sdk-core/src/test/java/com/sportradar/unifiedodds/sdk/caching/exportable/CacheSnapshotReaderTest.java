@@ -0,0 +1,113 @@
+package com.sportradar.unifiedodds.sdk.caching.exportable;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.Assert.*;
+
+public class CacheSnapshotReaderTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void itemsAreReadInWrittenOrder() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("cache.snapshot");
+        int count = CacheSnapshotWriter.BLOCK_SIZE * 2 + 10;
+        try (CacheSnapshotWriter writer = new CacheSnapshotWriter(file, "2.0.0")) {
+            for (int i = 0; i < count; i++) {
+                writer.write(new ExportableCI("sr:match:" + i, Collections.singletonMap(Locale.ENGLISH, "Match " + i)));
+            }
+            assertEquals(count, writer.commit());
+        }
+
+        List<ExportableCI> items = new ArrayList<>();
+        try (CacheSnapshotReader reader = new CacheSnapshotReader(file)) {
+            assertEquals("2.0.0", reader.getSdkVersion());
+            List<ExportableCI> block;
+            while ((block = reader.readBlock()) != null) {
+                assertTrue(block.size() <= CacheSnapshotWriter.BLOCK_SIZE);
+                items.addAll(block);
+            }
+        }
+
+        assertEquals(count, items.size());
+        assertEquals("sr:match:0", items.get(0).getId());
+        assertEquals("Match " + (count - 1), items.get(count - 1).getNames().get(Locale.ENGLISH));
+    }
+
+    @Test
+    public void uncommittedSnapshotDoesNotReplaceExistingOne() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("cache.snapshot");
+        try (CacheSnapshotWriter writer = new CacheSnapshotWriter(file, "2.0.0")) {
+            writer.commit();
+        }
+
+        try (CacheSnapshotWriter writer = new CacheSnapshotWriter(file, "2.0.1")) {
+            writer.write(new ExportableCI("sr:match:1", Collections.emptyMap()));
+        }
+
+        try (CacheSnapshotReader reader = new CacheSnapshotReader(file)) {
+            assertEquals("2.0.0", reader.getSdkVersion());
+            assertNull(reader.readBlock());
+        }
+        assertFalse(Files.exists(file.resolveSibling("cache.snapshot.tmp")));
+    }
+
+    @Test(expected = IOException.class)
+    public void otherFilesAreRejected() throws IOException {
+        Path file = folder.newFile("cache.snapshot").toPath();
+        Files.write(file, "<fixtures_fixture/>".getBytes());
+
+        new CacheSnapshotReader(file).close();
+    }
+
+    @Test(expected = IOException.class)
+    public void truncatedSnapshotIsRejected() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("cache.snapshot");
+        try (CacheSnapshotWriter writer = new CacheSnapshotWriter(file, "2.0.0")) {
+            writer.write(new ExportableCI("sr:match:1", Collections.singletonMap(Locale.ENGLISH, "Match 1")));
+            writer.commit();
+        }
+        byte[] content = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(content, content.length - 10));
+
+        try (CacheSnapshotReader reader = new CacheSnapshotReader(file)) {
+            reader.readBlock();
+        }
+    }
+
+    @Test
+    public void itemsOfOtherClassesAreRejected() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("cache.snapshot");
+        try (CacheSnapshotWriter writer = new CacheSnapshotWriter(file, "2.0.0")) {
+            writer.write(new ForeignCI("sr:match:1"));
+            writer.commit();
+        }
+
+        try (CacheSnapshotReader reader = new CacheSnapshotReader(file)) {
+            reader.readBlock();
+            fail("An item of a class which is not exportable was read");
+        } catch (InvalidClassException e) {
+            assertEquals(ForeignCI.class.getName(), e.classname);
+        }
+    }
+
+    private static class ForeignCI extends ExportableCI {
+        private static final long serialVersionUID = 1L;
+
+        private ForeignCI(String id) {
+            super(id, Collections.emptyMap());
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.sportradar.unifiedodds.sdk.caching.impl;
+
+import com.sportradar.uf.sportsapi.datamodel.SAPICompetitorProfileEndpoint;
+import com.sportradar.uf.sportsapi.datamodel.SAPITeamExtended;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.caching.CacheItem;
+import com.sportradar.unifiedodds.sdk.caching.DataRouter;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.DataProviderException;
+import com.sportradar.unifiedodds.sdk.impl.DataProvider;
+import com.sportradar.unifiedodds.sdk.impl.SDKProducerManager;
+import com.sportradar.unifiedodds.sdk.impl.SDKTaskScheduler;
+import com.sportradar.unifiedodds.sdk.impl.UnifiedOddsStatistics;
+import com.sportradar.utils.URN;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("unchecked")
+public class DataRouterManagerImplTest {
+    private static final URN MATCH_ID = URN.parse("sr:match:1");
+
+    private DataRouter dataRouter;
+    private DataProvider<Object> summaryProvider;
+    private UnifiedOddsStatistics statistics;
+    private ExecutorService apiFetchExecutor;
+    private ExecutorService callers;
+    private DataRouterManagerImpl dataRouterManager;
+
+    private final CountDownLatch fetchStarted = new CountDownLatch(1);
+    private final CountDownLatch fetchReleased = new CountDownLatch(1);
+
+    @Before
+    public void setup() {
+        dataRouter = mock(DataRouter.class);
+        summaryProvider = mock(DataProvider.class);
+        statistics = new UnifiedOddsStatistics();
+        apiFetchExecutor = Executors.newSingleThreadExecutor();
+        callers = Executors.newFixedThreadPool(2);
+
+        dataRouterManager = new DataRouterManagerImpl(mock(SDKInternalConfiguration.class), mock(SDKTaskScheduler.class),
+                mock(SDKProducerManager.class), dataRouter, summaryProvider, mock(DataProvider.class), mock(DataProvider.class),
+                mock(DataProvider.class), mock(DataProvider.class), mock(DataProvider.class), mock(DataProvider.class),
+                mock(DataProvider.class), mock(DataProvider.class), mock(DataProvider.class), mock(DataProvider.class),
+                mock(DataProvider.class), mock(DataProvider.class), mock(DataProvider.class), mock(DataProvider.class),
+                mock(DataProvider.class), mock(DataProvider.class), mock(DataProvider.class), mock(DataProvider.class),
+                mock(DataProvider.class), mock(DataProvider.class), mock(DataProvider.class), mock(DataProvider.class),
+                mock(DataProvider.class), mock(DataProvider.class), apiFetchExecutor, statistics);
+    }
+
+    @After
+    public void tearDown() {
+        callers.shutdownNow();
+        apiFetchExecutor.shutdownNow();
+    }
+
+    @Test
+    public void concurrentRequestsShareOneFetchAndDispatch() throws Exception {
+        Object endpoint = new Object();
+        CacheItem requester = mock(CacheItem.class);
+        when(summaryProvider.getData(eq(Locale.ENGLISH), eq(MATCH_ID.toString()))).thenAnswer(invocation -> blockingFetch(endpoint));
+
+        Future<?> first = requestSummary(requester);
+        assertTrue(fetchStarted.await(5, TimeUnit.SECONDS));
+        Future<?> second = requestSummary(requester);
+        awaitCoalescedRequests(1);
+        fetchReleased.countDown();
+
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        verify(summaryProvider, times(1)).getData(eq(Locale.ENGLISH), eq(MATCH_ID.toString()));
+        verify(dataRouter, times(1)).onSummaryFetched(MATCH_ID, endpoint, Locale.ENGLISH, requester);
+    }
+
+    @Test
+    public void waitingRequestWithDifferentRequesterIsDispatchedToIt() throws Exception {
+        Object endpoint = new Object();
+        CacheItem firstRequester = mock(CacheItem.class);
+        CacheItem secondRequester = mock(CacheItem.class);
+        when(summaryProvider.getData(eq(Locale.ENGLISH), eq(MATCH_ID.toString()))).thenAnswer(invocation -> blockingFetch(endpoint));
+
+        Future<?> first = requestSummary(firstRequester);
+        assertTrue(fetchStarted.await(5, TimeUnit.SECONDS));
+        Future<?> second = requestSummary(secondRequester);
+        awaitCoalescedRequests(1);
+        fetchReleased.countDown();
+
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        verify(summaryProvider, times(1)).getData(eq(Locale.ENGLISH), eq(MATCH_ID.toString()));
+        verify(dataRouter).onSummaryFetched(MATCH_ID, endpoint, Locale.ENGLISH, firstRequester);
+        verify(dataRouter).onSummaryFetched(MATCH_ID, endpoint, Locale.ENGLISH, secondRequester);
+    }
+
+    @Test
+    public void failureIsSharedWithWaitingRequests() throws Exception {
+        when(summaryProvider.getData(eq(Locale.ENGLISH), eq(MATCH_ID.toString()))).thenAnswer(invocation -> {
+            blockingFetch(null);
+            throw new DataProviderException("Response data is null");
+        });
+
+        Future<?> first = requestSummary(null);
+        assertTrue(fetchStarted.await(5, TimeUnit.SECONDS));
+        Future<?> second = requestSummary(null);
+        awaitCoalescedRequests(1);
+        fetchReleased.countDown();
+
+        assertCommunicationFailure(first);
+        assertCommunicationFailure(second);
+        verify(summaryProvider, times(1)).getData(eq(Locale.ENGLISH), eq(MATCH_ID.toString()));
+    }
+
+    @Test
+    public void completedRequestsAreNotShared() throws Exception {
+        when(summaryProvider.getData(eq(Locale.ENGLISH), eq(MATCH_ID.toString()))).thenReturn(new Object());
+
+        dataRouterManager.requestSummaryEndpoint(Locale.ENGLISH, MATCH_ID, null);
+        dataRouterManager.requestSummaryEndpoint(Locale.ENGLISH, MATCH_ID, null);
+
+        verify(summaryProvider, times(2)).getData(eq(Locale.ENGLISH), eq(MATCH_ID.toString()));
+        assertEquals(0, statistics.getNumberOfCoalescedApiRequests());
+    }
+
+    @Test
+    public void competitorProfilesOfAllLocalesAreRequestedAtOnce() throws Exception {
+        SDKInternalConfiguration configuration = mock(SDKInternalConfiguration.class);
+        when(configuration.getApiFetchParallelism()).thenReturn(2);
+        DataProvider<SAPICompetitorProfileEndpoint> competitorProvider = mock(DataProvider.class);
+        when(competitorProvider.getDataAsync(eq(apiFetchExecutor), any(Locale.class), anyString()))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(competitorProfile(invocation.getArgument(2))));
+        DataRouterManagerImpl manager = new DataRouterManagerImpl(configuration, mock(SDKTaskScheduler.class),
+                mock(SDKProducerManager.class), dataRouter, summaryProvider, mock(DataProvider.class), mock(DataProvider.class),
+                mock(DataProvider.class), mock(DataProvider.class), mock(DataProvider.class), mock(DataProvider.class),
+                mock(DataProvider.class), competitorProvider, mock(DataProvider.class), mock(DataProvider.class),
+                mock(DataProvider.class), mock(DataProvider.class), mock(DataProvider.class), mock(DataProvider.class),
+                mock(DataProvider.class), mock(DataProvider.class), mock(DataProvider.class), mock(DataProvider.class),
+                mock(DataProvider.class), mock(DataProvider.class), mock(DataProvider.class), mock(DataProvider.class),
+                mock(DataProvider.class), mock(DataProvider.class), apiFetchExecutor, statistics);
+        URN home = URN.parse("sr:competitor:1");
+        URN away = URN.parse("sr:competitor:2");
+
+        manager.requestCompetitorEndpoints(Arrays.asList(Locale.ENGLISH, Locale.GERMAN), Arrays.asList(home, away, home));
+
+        verify(competitorProvider, times(4)).getDataAsync(eq(apiFetchExecutor), any(Locale.class), anyString());
+        verify(dataRouter).onCompetitorFetched(eq(home), any(), eq(Locale.ENGLISH), isNull());
+        verify(dataRouter).onCompetitorFetched(eq(home), any(), eq(Locale.GERMAN), isNull());
+        verify(dataRouter).onCompetitorFetched(eq(away), any(), eq(Locale.ENGLISH), isNull());
+        verify(dataRouter).onCompetitorFetched(eq(away), any(), eq(Locale.GERMAN), isNull());
+    }
+
+    private static SAPICompetitorProfileEndpoint competitorProfile(String id) {
+        SAPITeamExtended competitor = new SAPITeamExtended();
+        competitor.setId(id);
+        SAPICompetitorProfileEndpoint endpoint = new SAPICompetitorProfileEndpoint();
+        endpoint.setCompetitor(competitor);
+        return endpoint;
+    }
+
+    private Object blockingFetch(Object endpoint) throws InterruptedException {
+        fetchStarted.countDown();
+        assertTrue(fetchReleased.await(5, TimeUnit.SECONDS));
+        return endpoint;
+    }
+
+    private Future<?> requestSummary(CacheItem requester) {
+        return callers.submit(() -> {
+            dataRouterManager.requestSummaryEndpoint(Locale.ENGLISH, MATCH_ID, requester);
+            return null;
+        });
+    }
+
+    private void awaitCoalescedRequests(long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (statistics.getNumberOfCoalescedApiRequests() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, statistics.getNumberOfCoalescedApiRequests());
+    }
+
+    private static void assertCommunicationFailure(Future<?> request) throws Exception {
+        try {
+            request.get(5, TimeUnit.SECONDS);
+            fail("the request should fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof CommunicationException);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.sportradar.unifiedodds.sdk.caching.impl;
+
+import com.sportradar.unifiedodds.sdk.caching.exportable.ExportableCI;
+import com.sportradar.unifiedodds.sdk.caching.exportable.ExportableCacheItem;
+import com.sportradar.utils.URN;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class OffHeapTieredCacheTest {
+    private static OffHeapTieredCache<URN, TestItem> newCache(long storeCapacity) {
+        return new OffHeapTieredCache<>("TestCache", 2, new OffHeapStore<>(storeCapacity), TestItem::new, 1, TimeUnit.HOURS);
+    }
+
+    private static URN playerId(int id) {
+        return URN.parse("sr:player:" + id);
+    }
+
+    @Test
+    public void itemsEvictedFromHotTierAreRestoredFromStore() {
+        OffHeapTieredCache<URN, TestItem> cache = newCache(1024 * 1024);
+        for (int i = 1; i <= 10; i++) {
+            cache.put(playerId(i), new TestItem(playerId(i), "Player " + i));
+        }
+        cache.cleanUp();
+
+        assertEquals(10, cache.size());
+        for (int i = 1; i <= 10; i++) {
+            TestItem item = cache.getIfPresent(playerId(i));
+            assertNotNull(item);
+            assertEquals("Player " + i, item.name);
+        }
+        assertEquals(10, cache.stats().hitCount());
+    }
+
+    @Test
+    public void oldestItemsAreEvictedWhenStoreIsFull() {
+        OffHeapTieredCache<URN, TestItem> cache = newCache(1024);
+        for (int i = 1; i <= 50; i++) {
+            cache.put(playerId(i), new TestItem(playerId(i), "Player " + i));
+        }
+
+        assertTrue(cache.size() < 50);
+        assertTrue(cache.stats().evictionCount() > 0);
+        assertNull(cache.getIfPresent(playerId(1)));
+        assertNotNull(cache.getIfPresent(playerId(50)));
+    }
+
+    @Test
+    public void asMapContainsItemsOfBothTiers() {
+        OffHeapTieredCache<URN, TestItem> cache = newCache(1024 * 1024);
+        for (int i = 1; i <= 5; i++) {
+            cache.put(playerId(i), new TestItem(playerId(i), "Player " + i));
+        }
+
+        Map<URN, TestItem> items = cache.asMap();
+
+        assertEquals(5, items.size());
+        assertEquals("Player 1", items.get(playerId(1)).name);
+        assertEquals(5, cache.size());
+    }
+
+    @Test
+    public void itemTypesAreCountedAndItemsExportedWithoutImportingOffHeapItems() {
+        AtomicInteger imports = new AtomicInteger();
+        OffHeapTieredCache<URN, TestItem> cache = new OffHeapTieredCache<>("TestCache", 2, new OffHeapStore<>(1024 * 1024),
+                exportable -> {
+                    imports.incrementAndGet();
+                    return new TestItem(exportable);
+                }, 1, TimeUnit.HOURS);
+        for (int i = 1; i <= 5; i++) {
+            cache.put(playerId(i), new TestItem(playerId(i), "Player " + i));
+        }
+        cache.cleanUp();
+
+        assertEquals(Collections.singletonMap("TestItem", 5L), cache.countItemTypes());
+        assertEquals(5, cache.keys().size());
+        List<ExportableCI> exported = cache.exportItems();
+        assertEquals(5, exported.size());
+        assertEquals(5, exported.stream().map(ExportableCI::getId).distinct().count());
+        assertEquals(0, imports.get());
+    }
+
+    @Test
+    public void invalidatedItemsAreRemovedFromBothTiers() throws ExecutionException {
+        OffHeapTieredCache<URN, TestItem> cache = newCache(1024 * 1024);
+        for (int i = 1; i <= 5; i++) {
+            cache.put(playerId(i), new TestItem(playerId(i), "Player " + i));
+        }
+
+        cache.invalidate(playerId(1));
+        cache.invalidate(playerId(5));
+
+        assertNull(cache.getIfPresent(playerId(1)));
+        assertNull(cache.getIfPresent(playerId(5)));
+        assertEquals("Loaded", cache.get(playerId(1), () -> new TestItem(playerId(1), "Loaded")).name);
+        assertEquals(4, cache.size());
+    }
+
+    private static class TestItem implements ExportableCacheItem {
+        private final URN id;
+        private final String name;
+
+        private TestItem(URN id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        private TestItem(ExportableCI exportable) {
+            this(URN.parse(exportable.getId()), exportable.getNames().get(Locale.ENGLISH));
+        }
+
+        @Override
+        public ExportableCI export() {
+            return new ExportableCI(id.toString(), Collections.singletonMap(Locale.ENGLISH, name));
+        }
+    }
+}
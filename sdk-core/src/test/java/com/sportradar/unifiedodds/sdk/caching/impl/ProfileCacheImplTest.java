@@ -0,0 +1,70 @@
+package com.sportradar.unifiedodds.sdk.caching.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.sportradar.unifiedodds.sdk.caching.CompetitorCI;
+import com.sportradar.unifiedodds.sdk.caching.DataRouterManager;
+import com.sportradar.unifiedodds.sdk.caching.PlayerProfileCI;
+import com.sportradar.unifiedodds.sdk.caching.impl.ci.CacheItemFactory;
+import com.sportradar.utils.URN;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class ProfileCacheImplTest {
+    private static final List<Locale> LOCALES = Arrays.asList(Locale.ENGLISH, Locale.GERMAN);
+    private static final URN FIRST_PLAYER = URN.parse("sr:player:1");
+    private static final URN SECOND_PLAYER = URN.parse("sr:player:2");
+    private static final URN COMPETITOR = URN.parse("sr:competitor:1");
+    private static final URN SIMPLE_TEAM = URN.parse("sr:simpleteam:1");
+
+    private DataRouterManager dataRouterManager;
+    private Cache<URN, PlayerProfileCI> playerCache;
+    private ProfileCacheImpl profileCache;
+
+    @Before
+    public void setup() {
+        dataRouterManager = mock(DataRouterManager.class);
+        CacheItemFactory cacheItemFactory = mock(CacheItemFactory.class);
+        when(cacheItemFactory.buildPlayerProfileCI(any(URN.class), any())).thenAnswer(invocation -> mock(PlayerProfileCI.class));
+        playerCache = CacheBuilder.newBuilder().build();
+        Cache<URN, CompetitorCI> competitorCache = CacheBuilder.newBuilder().build();
+        Cache<URN, CompetitorCI> simpleTeamCache = CacheBuilder.newBuilder().build();
+
+        profileCache = new ProfileCacheImpl(cacheItemFactory, dataRouterManager, playerCache, competitorCache, simpleTeamCache);
+    }
+
+    @Test
+    public void missingProfilesAreRequestedInOneBatch() throws Exception {
+        Map<URN, PlayerProfileCI> profiles = profileCache.getPlayerProfiles(Arrays.asList(FIRST_PLAYER, SECOND_PLAYER),
+                LOCALES, Arrays.asList(COMPETITOR, SIMPLE_TEAM));
+
+        assertEquals(Arrays.asList(FIRST_PLAYER, SECOND_PLAYER), Arrays.asList(profiles.keySet().toArray()));
+        verify(dataRouterManager).requestCompetitorEndpoints(LOCALES, Collections.singletonList(COMPETITOR));
+        verify(dataRouterManager).requestSimpleTeamEndpoints(LOCALES, Collections.singletonList(SIMPLE_TEAM));
+        verify(dataRouterManager).requestPlayerProfileEndpoints(LOCALES, Arrays.asList(FIRST_PLAYER, SECOND_PLAYER));
+    }
+
+    @Test
+    public void cachedProfilesAreNotRequested() throws Exception {
+        PlayerProfileCI cached = mock(PlayerProfileCI.class);
+        when(cached.getCachedLocales()).thenReturn(LOCALES);
+        playerCache.put(FIRST_PLAYER, cached);
+
+        Map<URN, PlayerProfileCI> profiles = profileCache.getPlayerProfiles(Arrays.asList(FIRST_PLAYER, SECOND_PLAYER),
+                LOCALES, null);
+
+        assertSame(cached, profiles.get(FIRST_PLAYER));
+        verify(dataRouterManager).requestPlayerProfileEndpoints(LOCALES, Collections.singletonList(SECOND_PLAYER));
+        verify(dataRouterManager, never()).requestCompetitorEndpoints(any(), any());
+    }
+}
@@ -0,0 +1,153 @@
+package com.sportradar.unifiedodds.sdk.caching.markets;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.sportradar.uf.sportsapi.datamodel.DescMarket;
+import com.sportradar.uf.sportsapi.datamodel.MarketDescriptions;
+import com.sportradar.unifiedodds.sdk.entities.markets.MarketDescription;
+import com.sportradar.unifiedodds.sdk.impl.DataProvider;
+import com.sportradar.unifiedodds.sdk.impl.ObservableDataProvider;
+import com.sportradar.unifiedodds.sdk.impl.SDKTaskScheduler;
+import com.sportradar.unifiedodds.sdk.impl.markets.MappingValidatorFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("unchecked")
+public class InvariantMarketDescriptionCacheTest {
+    private static final List<Locale> LOCALES = ImmutableList.of(Locale.ENGLISH);
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private DataProvider<MarketDescriptions> dataProvider;
+    private InvariantMarketDescriptionCache cache;
+
+    @Before
+    public void setup() throws Exception {
+        dataProvider = Mockito.mock(DataProvider.class);
+        when(dataProvider.getData(any(Locale.class))).thenAnswer(invocation -> marketDescriptions(invocation.getArgument(0)));
+
+        cache = new InvariantMarketDescriptionCache(
+                CacheBuilder.newBuilder().build(),
+                dataProvider,
+                Mockito.mock(ObservableDataProvider.class),
+                Mockito.mock(MappingValidatorFactory.class),
+                Mockito.mock(SDKTaskScheduler.class),
+                LOCALES);
+    }
+
+    @Test
+    public void descriptionIsSharedWhileCacheItemIsUnchanged() throws Exception {
+        MarketDescription first = cache.getMarketDescriptor(1, null, LOCALES);
+        MarketDescription second = cache.getMarketDescriptor(1, null, ImmutableList.of(Locale.ENGLISH));
+
+        assertSame(first, second);
+        assertSame(first, cache.getAllInvariantMarketDescriptions(LOCALES).get(0));
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void descriptionIsRebuiltOnceCacheItemChanges() throws Exception {
+        MarketDescription first = cache.getMarketDescriptor(1, null, LOCALES);
+
+        cache.updateCacheItem(1, null);
+        MarketDescription second = cache.getMarketDescriptor(1, null, LOCALES);
+
+        assertNotSame(first, second);
+        assertSame(second, cache.getMarketDescriptor(1, null, LOCALES));
+    }
+
+    @Test
+    public void descriptionIsBuiltPerLocales() throws Exception {
+        MarketDescription english = cache.getMarketDescriptor(1, null, LOCALES);
+        MarketDescription german = cache.getMarketDescriptor(1, null, ImmutableList.of(Locale.ENGLISH, Locale.GERMAN));
+
+        assertNotSame(english, german);
+        assertEquals("1x2 de", german.getName(Locale.GERMAN));
+        assertNull(english.getName(Locale.GERMAN));
+    }
+
+    @Test
+    public void readersDoNotWaitForRefresh() throws Exception {
+        MarketDescription current = cache.getMarketDescriptor(1, null, LOCALES);
+        CountDownLatch refreshStarted = new CountDownLatch(1);
+        CountDownLatch refreshReleased = new CountDownLatch(1);
+        when(dataProvider.getData(Locale.ENGLISH)).thenAnswer(invocation -> {
+            refreshStarted.countDown();
+            refreshReleased.await(5, TimeUnit.SECONDS);
+            return marketsOf(1, 2);
+        });
+
+        Future<Boolean> refresh = executor.submit(() -> cache.loadMarketDescriptions());
+        assertTrue(refreshStarted.await(5, TimeUnit.SECONDS));
+
+        assertSame(current, cache.getMarketDescriptor(1, null, LOCALES));
+        assertEquals("1x2 de", cache.getMarketDescriptor(1, null, ImmutableList.of(Locale.GERMAN)).getName(Locale.GERMAN));
+        assertFalse(refresh.isDone());
+
+        refreshReleased.countDown();
+        assertTrue(refresh.get(5, TimeUnit.SECONDS));
+        assertNotSame(current, cache.getMarketDescriptor(1, null, LOCALES));
+        assertEquals(2, cache.getAllInvariantMarketDescriptions(LOCALES).size());
+    }
+
+    @Test
+    public void refreshReplacesMarketSet() throws Exception {
+        when(dataProvider.getData(Locale.ENGLISH)).thenReturn(marketsOf(1, 2));
+        assertEquals(2, cache.getAllInvariantMarketDescriptions(LOCALES).size());
+
+        when(dataProvider.getData(Locale.ENGLISH)).thenReturn(marketsOf(1));
+        assertTrue(cache.loadMarketDescriptions());
+
+        List<MarketDescription> descriptions = cache.getAllInvariantMarketDescriptions(LOCALES);
+        assertEquals(1, descriptions.size());
+        assertEquals(1, descriptions.get(0).getId());
+    }
+
+    @Test
+    public void failedRefreshKeepsCurrentItems() throws Exception {
+        MarketDescription current = cache.getMarketDescriptor(1, null, LOCALES);
+        when(dataProvider.getData(Locale.ENGLISH)).thenReturn(new MarketDescriptions());
+
+        assertFalse(cache.loadMarketDescriptions());
+
+        assertSame(current, cache.getMarketDescriptor(1, null, LOCALES));
+    }
+
+    private static MarketDescriptions marketsOf(int... marketIds) {
+        MarketDescriptions descriptions = new MarketDescriptions();
+        for (int marketId : marketIds) {
+            DescMarket market = new DescMarket();
+            market.setId(marketId);
+            market.setName("Market " + marketId);
+            descriptions.getMarket().add(market);
+        }
+        return descriptions;
+    }
+
+    private static MarketDescriptions marketDescriptions(Locale locale) {
+        DescMarket market = new DescMarket();
+        market.setId(1);
+        market.setName(Locale.ENGLISH.equals(locale) ? "1x2" : "1x2 " + locale.getLanguage());
+
+        MarketDescriptions descriptions = new MarketDescriptions();
+        descriptions.getMarket().add(market);
+        return descriptions;
+    }
+}
@@ -0,0 +1,100 @@
+package com.sportradar.unifiedodds.sdk.caching.markets;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.sportradar.uf.sportsapi.datamodel.DescMarket;
+import com.sportradar.uf.sportsapi.datamodel.MarketDescriptions;
+import com.sportradar.unifiedodds.sdk.entities.markets.MarketDescription;
+import com.sportradar.unifiedodds.sdk.impl.DataProvider;
+import com.sportradar.unifiedodds.sdk.impl.markets.MappingValidatorFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("unchecked")
+public class VariantMarketDescriptionCacheTest {
+    private static final List<Locale> LOCALES = ImmutableList.of(Locale.ENGLISH, Locale.GERMAN);
+
+    private final CountDownLatch fetchStarted = new CountDownLatch(1);
+    private final CountDownLatch fetchReleased = new CountDownLatch(1);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private DataProvider<MarketDescriptions> dataProvider;
+    private VariantMarketDescriptionCache cache;
+
+    @Before
+    public void setup() throws Exception {
+        dataProvider = Mockito.mock(DataProvider.class);
+        when(dataProvider.getData(any(Locale.class), anyString(), anyString())).thenAnswer(invocation -> {
+            Locale locale = invocation.getArgument(0);
+            String variant = invocation.getArgument(2);
+            if ("sr:player_props:a".equals(variant) && Locale.GERMAN.equals(locale)) {
+                fetchStarted.countDown();
+                fetchReleased.await(5, TimeUnit.SECONDS);
+            }
+            return marketDescriptions(variant, locale);
+        });
+
+        cache = new VariantMarketDescriptionCache(
+                CacheBuilder.newBuilder().build(),
+                dataProvider,
+                Mockito.mock(MappingValidatorFactory.class),
+                false);
+    }
+
+    @After
+    public void tearDown() {
+        fetchReleased.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void fetchOfOneVariantDoesNotBlockOtherVariants() throws Exception {
+        cache.getMarketDescriptor(1, "sr:player_props:a", ImmutableList.of(Locale.ENGLISH));
+        cache.getMarketDescriptor(1, "sr:player_props:b", ImmutableList.of(Locale.ENGLISH));
+
+        Future<MarketDescription> blocked = executor.submit(() -> cache.getMarketDescriptor(1, "sr:player_props:a", LOCALES));
+        assertTrue(fetchStarted.await(5, TimeUnit.SECONDS));
+
+        MarketDescription other = cache.getMarketDescriptor(1, "sr:player_props:b", LOCALES);
+        assertEquals("sr:player_props:b de", other.getName(Locale.GERMAN));
+        assertFalse(blocked.isDone());
+
+        fetchReleased.countDown();
+        assertEquals("sr:player_props:a de", blocked.get(5, TimeUnit.SECONDS).getName(Locale.GERMAN));
+    }
+
+    @Test
+    public void cachedLocalesAreNotFetchedAgain() throws Exception {
+        fetchReleased.countDown();
+        cache.getMarketDescriptor(1, "sr:player_props:b", LOCALES);
+        cache.getMarketDescriptor(1, "sr:player_props:b", LOCALES);
+        cache.getMarketDescriptor(1, "sr:player_props:b", ImmutableList.of(Locale.GERMAN));
+
+        verify(dataProvider, times(2)).getData(any(Locale.class), anyString(), anyString());
+    }
+
+    private static MarketDescriptions marketDescriptions(String variant, Locale locale) {
+        DescMarket market = new DescMarket();
+        market.setId(1);
+        market.setVariant(variant);
+        market.setName(Locale.ENGLISH.equals(locale) ? variant : variant + " " + locale.getLanguage());
+
+        MarketDescriptions descriptions = new MarketDescriptions();
+        descriptions.getMarket().add(market);
+        return descriptions;
+    }
+}
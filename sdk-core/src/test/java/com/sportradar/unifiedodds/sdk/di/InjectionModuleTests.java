@@ -12,6 +12,7 @@ import com.sportradar.unifiedodds.sdk.SDKGlobalEventsListener;
 import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
 import com.sportradar.unifiedodds.sdk.SportEntityFactory;
 import com.sportradar.unifiedodds.sdk.caching.DataRouterManager;
+import com.sportradar.unifiedodds.sdk.caching.ProfileCache;
 import com.sportradar.unifiedodds.sdk.impl.DataProvider;
 import com.sportradar.unifiedodds.sdk.impl.FeedMessageFactory;
 import com.sportradar.unifiedodds.sdk.impl.OddsFeedSessionImpl;
@@ -132,4 +133,22 @@ public class InjectionModuleTests {
         DataRouterManager instance = injector.getInstance(DataRouterManager.class);
         Assert.assertNotNull(instance);
     }
+
+    @Test
+    public void provideCustomInternalCachesProvider() {
+        SDKInternalConfiguration config = Mockito.mock(SDKInternalConfiguration.class);
+        Mockito.when(config.getOffHeapCacheSize()).thenReturn(1);
+        Mockito.when(config.getOffHeapCacheHotTierSize()).thenReturn(10);
+        Injector injector = Guice.createInjector(
+                Modules.override(new MasterInjectionModule(Mockito.mock(SDKGlobalEventsListener.class), config, new CustomisableSDKModule() {
+                    @Override
+                    protected Class<? extends InternalCachesProvider> provideInternalCachesProviderImplementationClass() {
+                        return OffHeapProfileCachesProvider.class;
+                    }
+                })).with(new TestingModule())
+        );
+
+        Assert.assertNotNull(injector.getInstance(ProfileCache.class));
+        Assert.assertTrue(injector.getInstance(InternalCachesProvider.class) instanceof OffHeapProfileCachesProvider);
+    }
 }
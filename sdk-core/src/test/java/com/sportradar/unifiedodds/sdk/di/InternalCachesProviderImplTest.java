@@ -0,0 +1,103 @@
+package com.sportradar.unifiedodds.sdk.di;
+
+import com.google.common.cache.Cache;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.caching.MatchCI;
+import com.sportradar.unifiedodds.sdk.caching.PlayerProfileCI;
+import com.sportradar.unifiedodds.sdk.caching.SportEventCI;
+import com.sportradar.unifiedodds.sdk.impl.UnifiedOddsStatistics;
+import com.sportradar.utils.URN;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class InternalCachesProviderImplTest {
+    private SDKInternalConfiguration configuration;
+
+    @Before
+    public void setup() {
+        configuration = mock(SDKInternalConfiguration.class);
+        when(configuration.getDesiredLocales()).thenReturn(Arrays.asList(Locale.ENGLISH, Locale.GERMAN));
+    }
+
+    @Test
+    public void cacheWithMemoryLimitIsBoundedByEstimatedSize() {
+        when(configuration.getCacheMemoryLimit("sportEvent")).thenReturn(1);
+        Cache<URN, SportEventCI> cache = new InternalCachesProviderImpl(configuration).getSportEventCache();
+
+        MatchCI match = mock(MatchCI.class);
+        int matchWeight = new CacheItemWeigher(2).weigh(null, match);
+        for (int i = 0; i < 1000; i++) {
+            cache.put(URN.parse("sr:match:" + (i + 1)), match);
+        }
+
+        assertTrue(cache.size() <= 1024 * 1024 / matchWeight);
+        assertEquals(1000 - cache.size(), cache.stats().evictionCount());
+    }
+
+    @Test
+    public void cacheWithoutMemoryLimitIsNotBounded() {
+        Cache<URN, PlayerProfileCI> cache = new InternalCachesProviderImpl(configuration).getPlayerProfileCache();
+
+        PlayerProfileCI profile = mock(PlayerProfileCI.class);
+        for (int i = 0; i < 10000; i++) {
+            cache.put(URN.parse("sr:player:" + (i + 1)), profile);
+        }
+
+        assertEquals(10000, cache.size());
+    }
+
+    @Test
+    public void cacheStatisticsAreExposedByStatisticsBean() {
+        InternalCachesProviderImpl provider = new InternalCachesProviderImpl(configuration);
+        UnifiedOddsStatistics statistics = new UnifiedOddsStatistics();
+        statistics.setMonitoredCaches(provider.getMonitoredCaches());
+
+        provider.getSportEventCache().put(URN.parse("sr:match:1"), mock(MatchCI.class));
+        provider.getSportEventCache().getIfPresent(URN.parse("sr:match:1"));
+        provider.getSportEventCache().getIfPresent(URN.parse("sr:match:2"));
+        provider.getCompetitorCache().getIfPresent(URN.parse("sr:competitor:1"));
+
+        assertEquals(1, statistics.getCacheHitCount());
+        assertEquals(2, statistics.getCacheMissCount());
+        assertEquals(5, statistics.getCacheStatistics().length);
+        assertTrue(Arrays.asList(statistics.getCacheStatistics()).contains(
+                "SportEventCache: size=1, hits=1, misses=1, hitRate=0.500, evictions=0, loadTime=0ms"));
+    }
+
+    @Test
+    public void cacheStatisticsDoNotDependOnDefaultLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.GERMAN);
+        try {
+            InternalCachesProviderImpl provider = new InternalCachesProviderImpl(configuration);
+            UnifiedOddsStatistics statistics = new UnifiedOddsStatistics();
+            statistics.setMonitoredCaches(provider.getMonitoredCaches());
+
+            provider.getSportEventCache().put(URN.parse("sr:match:1"), mock(MatchCI.class));
+            provider.getSportEventCache().getIfPresent(URN.parse("sr:match:1"));
+            provider.getSportEventCache().getIfPresent(URN.parse("sr:match:2"));
+
+            assertTrue(Arrays.asList(statistics.getCacheStatistics()).contains(
+                    "SportEventCache: size=1, hits=1, misses=1, hitRate=0.500, evictions=0, loadTime=0ms"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void profileCachesAreNotBuiltWhenProvidedElsewhere() {
+        InternalCachesProviderImpl provider = new InternalCachesProviderImpl(configuration, false);
+
+        assertNull(provider.getPlayerProfileCache());
+        assertNull(provider.getCompetitorCache());
+        assertEquals(3, provider.getMonitoredCaches().size());
+        assertFalse(provider.getMonitoredCaches().containsKey("PlayerProfileCache"));
+        assertFalse(provider.getMonitoredCaches().containsKey("CompetitorCache"));
+    }
+}
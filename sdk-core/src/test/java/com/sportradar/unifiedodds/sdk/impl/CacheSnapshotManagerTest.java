@@ -0,0 +1,82 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.SportsInfoManager;
+import com.sportradar.unifiedodds.sdk.caching.exportable.CacheType;
+import com.sportradar.unifiedodds.sdk.caching.exportable.ExportableCI;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("unchecked")
+public class CacheSnapshotManagerTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private SDKInternalConfiguration configuration;
+    private SportsInfoManager sportsInfoManager;
+    private SDKTaskScheduler scheduler;
+
+    @Before
+    public void setup() {
+        configuration = mock(SDKInternalConfiguration.class);
+        when(configuration.getCacheSnapshotFile()).thenReturn(folder.getRoot().toPath().resolve("cache.snapshot").toString());
+        when(configuration.getCacheSnapshotInterval()).thenReturn(30);
+        sportsInfoManager = mock(SportsInfoManager.class);
+        scheduler = mock(SDKTaskScheduler.class);
+
+        when(sportsInfoManager.cacheExport(any())).thenReturn(Collections.emptyList());
+        when(sportsInfoManager.cacheExport(EnumSet.of(CacheType.SportEvent))).thenReturn(Collections.singletonList(
+                new ExportableCI("sr:match:1", Collections.singletonMap(Locale.ENGLISH, "Home vs Away"))));
+    }
+
+    @Test
+    public void snapshotIsStoredPeriodically() {
+        new CacheSnapshotManager(configuration, sportsInfoManager, scheduler, "2.0.0");
+
+        verify(scheduler).scheduleAtFixedRate(eq("CacheSnapshotTask"), any(), eq(30L), eq(30L), eq(TimeUnit.MINUTES));
+    }
+
+    @Test
+    public void storedSnapshotIsImported() {
+        assertEquals(1, new CacheSnapshotManager(configuration, sportsInfoManager, scheduler, "2.0.0").exportSnapshot());
+
+        assertEquals(1, new CacheSnapshotManager(configuration, sportsInfoManager, scheduler, "2.0.0").importSnapshot());
+
+        ArgumentCaptor<List<ExportableCI>> imported = ArgumentCaptor.forClass(List.class);
+        verify(sportsInfoManager).cacheImport(imported.capture());
+        assertEquals("sr:match:1", imported.getValue().get(0).getId());
+    }
+
+    @Test
+    public void snapshotOfOtherSdkVersionIsNotImported() {
+        new CacheSnapshotManager(configuration, sportsInfoManager, scheduler, "2.0.0").exportSnapshot();
+
+        assertEquals(-1, new CacheSnapshotManager(configuration, sportsInfoManager, scheduler, "2.0.1").importSnapshot());
+        verify(sportsInfoManager, never()).cacheImport(any());
+    }
+
+    @Test
+    public void closedManagerStoresSnapshotOnlyIfOpened() {
+        CacheSnapshotManager manager = new CacheSnapshotManager(configuration, sportsInfoManager, scheduler, "2.0.0");
+
+        manager.close();
+        verify(sportsInfoManager, never()).cacheExport(any());
+
+        manager.open();
+        manager.close();
+        verify(sportsInfoManager).cacheExport(EnumSet.of(CacheType.SportEvent));
+    }
+}
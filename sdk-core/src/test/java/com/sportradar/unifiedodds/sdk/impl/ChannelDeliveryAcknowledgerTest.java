@@ -0,0 +1,104 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.rabbitmq.client.Channel;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+public class ChannelDeliveryAcknowledgerTest {
+    private static final long MAX_DELAY = 60000;
+
+    private Channel channel;
+
+    @Before
+    public void setup() {
+        channel = Mockito.mock(Channel.class);
+    }
+
+    @Test
+    public void eachMessageIsAcknowledgedWithoutBatching() throws IOException {
+        ChannelDeliveryAcknowledger acknowledger = new ChannelDeliveryAcknowledger(channel, 1, MAX_DELAY);
+
+        acknowledger.onProcessed(1);
+        acknowledger.onProcessed(2);
+
+        InOrder inOrder = inOrder(channel);
+        inOrder.verify(channel).basicAck(1, false);
+        inOrder.verify(channel).basicAck(2, false);
+    }
+
+    @Test
+    public void processedMessagesAreAcknowledgedInBatches() throws IOException {
+        ChannelDeliveryAcknowledger acknowledger = new ChannelDeliveryAcknowledger(channel, 3, MAX_DELAY);
+
+        acknowledger.onProcessed(1);
+        acknowledger.onProcessed(2);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+
+        acknowledger.onProcessed(3);
+        acknowledger.onProcessed(4);
+        verify(channel).basicAck(3, true);
+        verifyNoMoreInteractions(channel);
+    }
+
+    @Test
+    public void messagesProcessedOutOfOrderAreAcknowledgedOnceAllPreviousAreProcessed() throws IOException {
+        ChannelDeliveryAcknowledger acknowledger = new ChannelDeliveryAcknowledger(channel, 1, MAX_DELAY);
+
+        acknowledger.onProcessed(2);
+        acknowledger.onProcessed(3);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+
+        acknowledger.onProcessed(1);
+        verify(channel).basicAck(3, true);
+
+        acknowledger.onProcessed(4);
+        verify(channel).basicAck(4, false);
+    }
+
+    @Test
+    public void failedAcknowledgementDoesNotStopFurtherAcknowledgements() throws IOException {
+        doThrow(new IOException("channel closed")).when(channel).basicAck(1, false);
+        ChannelDeliveryAcknowledger acknowledger = new ChannelDeliveryAcknowledger(channel, 1, MAX_DELAY);
+
+        acknowledger.onProcessed(1);
+        acknowledger.onProcessed(2);
+
+        verify(channel).basicAck(2, false);
+    }
+
+    @Test
+    public void processedMessagesAreAcknowledgedOnFlush() throws IOException {
+        ChannelDeliveryAcknowledger acknowledger = new ChannelDeliveryAcknowledger(channel, 3, MAX_DELAY);
+
+        acknowledger.onProcessed(1);
+        acknowledger.onProcessed(2);
+        acknowledger.flushExpired();
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+
+        acknowledger.flush();
+        verify(channel).basicAck(2, true);
+
+        acknowledger.flush();
+        verifyNoMoreInteractions(channel);
+    }
+
+    @Test
+    public void processedMessagesAreAcknowledgedOnceMaxDelayExpires() throws IOException, InterruptedException {
+        ChannelDeliveryAcknowledger acknowledger = new ChannelDeliveryAcknowledger(channel, 3, 10);
+
+        acknowledger.onProcessed(1);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+
+        Thread.sleep(20);
+        acknowledger.flushExpired();
+        verify(channel).basicAck(1, false);
+    }
+}
@@ -3,6 +3,7 @@ package com.sportradar.unifiedodds.sdk.impl;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
 import com.google.inject.util.Modules;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
 import com.sportradar.unifiedodds.sdk.di.MockedMasterModule;
 import com.sportradar.unifiedodds.sdk.di.TestingModule;
 import org.junit.Before;
@@ -11,8 +12,13 @@ import org.mockito.Mockito;
 
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static com.sportradar.unifiedodds.sdk.impl.Constants.ODDS_CHANGE_KEY;
+import static org.junit.Assert.assertTrue;
 
 public class ChannelMessageConsumerTest {
     Injector injector = Guice.createInjector(Modules
@@ -131,6 +137,59 @@ public class ChannelMessageConsumerTest {
                 .onMessageDeserializationFailed(Mockito.eq(data), Mockito.any());
     }
 
+    @Test
+    public void concurrentUnmarshallingParsesChannelsInParallelWithoutSharedLock() throws Exception {
+        //Prepare
+        SDKInternalConfiguration config = Mockito.mock(SDKInternalConfiguration.class);
+        Mockito.when(config.isConcurrentMessageUnmarshallingEnabled()).thenReturn(true);
+        Injector concurrentInjector = Guice.createInjector(Modules
+                .override(new MockedMasterModule(config))
+                .with(new TestingModule())
+        );
+
+        int channelCount = 4;
+        byte[] data = oddsChangeBytes();
+        List<MessageConsumer> msgConsumers = new ArrayList<>();
+        List<ChannelMessageConsumer> channelConsumers = new ArrayList<>();
+        for (int i = 0; i < channelCount; i++) {
+            MessageConsumer msgConsumer = Mockito.mock(MessageConsumer.class);
+            ChannelMessageConsumer channelConsumer = concurrentInjector.getInstance(ChannelMessageConsumer.class);
+            channelConsumer.open(msgConsumer);
+            msgConsumers.add(msgConsumer);
+            channelConsumers.add(channelConsumer);
+        }
+
+        // the lock guarding the shared unmarshaller is held for the whole test, all channels must still progress
+        ReentrantLock sharedLock = concurrentInjector.getInstance(ReentrantLock.class);
+        sharedLock.lock();
+
+        ExecutorService executor = Executors.newFixedThreadPool(channelCount);
+        CyclicBarrier startBarrier = new CyclicBarrier(channelCount);
+        CountDownLatch parsed = new CountDownLatch(channelCount);
+        try {
+            //Execute
+            for (ChannelMessageConsumer channelConsumer : channelConsumers) {
+                executor.submit(() -> {
+                    startBarrier.await();
+                    channelConsumer.onMessageReceived(ODDS_CHANGE_KEY, data, null, 0L);
+                    parsed.countDown();
+                    return null;
+                });
+            }
+
+            //Verify
+            assertTrue("channels were blocked while parsing", parsed.await(30, TimeUnit.SECONDS));
+            for (MessageConsumer msgConsumer : msgConsumers) {
+                Mockito
+                        .verify(msgConsumer)
+                        .onMessageReceived(Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.any());
+            }
+        } finally {
+            sharedLock.unlock();
+            executor.shutdownNow();
+        }
+    }
+
     //Helpers:
 
     private byte[] oddsChangeBytes() throws Exception {
@@ -0,0 +1,77 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.DataProviderException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+public class DataProviderTest {
+    private LogHttpDataFetcher dataFetcher;
+    private Deserializer deserializer;
+    private ExecutorService executor;
+    private DataProvider<Object> dataProvider;
+
+    @Before
+    public void setup() {
+        dataFetcher = Mockito.mock(LogHttpDataFetcher.class);
+        deserializer = Mockito.mock(Deserializer.class);
+        executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "api-fetch"));
+        dataProvider = new DataProvider<>("/sports/%s/sport_events/%s/summary.xml", "api.test", true, Locale.ENGLISH, dataFetcher, deserializer);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void asyncRequestIsExecutedOnProvidedExecutor() throws Exception {
+        Object summary = new Object();
+        String[] fetchingThread = new String[1];
+        when(dataFetcher.getDeserialized("https://api.test/v1/sports/de/sport_events/sr:match:1/summary.xml", deserializer)).thenAnswer(invocation -> {
+            fetchingThread[0] = Thread.currentThread().getName();
+            return summary;
+        });
+
+        CompletableFuture<Object> result = dataProvider.getDataAsync(executor, Locale.GERMAN, "sr:match:1");
+
+        assertSame(summary, result.get(5, TimeUnit.SECONDS));
+        assertEquals("api-fetch", fetchingThread[0]);
+    }
+
+    @Test
+    public void failedAsyncRequestCompletesExceptionally() throws Exception {
+        when(dataFetcher.getDeserialized(any(), any())).thenThrow(new CommunicationException("404 Not Found"));
+
+        CompletableFuture<Object> result = dataProvider.getDataAsync(executor, Locale.ENGLISH, "sr:match:1");
+
+        try {
+            result.get(5, TimeUnit.SECONDS);
+            fail("the request should fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof DataProviderException);
+        }
+    }
+
+    @Test
+    public void rejectedAsyncRequestCompletesExceptionally() {
+        executor.shutdown();
+
+        CompletableFuture<Object> result = dataProvider.getDataAsync(executor, Locale.ENGLISH, "sr:match:1");
+
+        assertTrue(result.isCompletedExceptionally());
+    }
+}
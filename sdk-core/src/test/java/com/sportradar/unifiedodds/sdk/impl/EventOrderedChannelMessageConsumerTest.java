@@ -0,0 +1,187 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.rabbitmq.client.AMQP;
+import com.sportradar.utils.URN;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static com.sportradar.unifiedodds.sdk.impl.Constants.SNAPSHOT_COMPLETE_KEY;
+import static org.junit.Assert.*;
+
+public class EventOrderedChannelMessageConsumerTest {
+    private static final int WORKER_COUNT = 4;
+
+    private RecordingChannelMessageConsumer delegate;
+    private UnifiedOddsStatistics statistics;
+    private EventOrderedChannelMessageConsumer consumer;
+
+    @Before
+    public void setup() {
+        delegate = new RecordingChannelMessageConsumer();
+        statistics = new UnifiedOddsStatistics();
+        consumer = new EventOrderedChannelMessageConsumer(delegate, new RegexRoutingKeyParser(), statistics,
+                Collections.emptyMap(), "test-dispatch", WORKER_COUNT, 10);
+        consumer.open(Mockito.mock(MessageConsumer.class));
+    }
+
+    @After
+    public void tearDown() {
+        delegate.release();
+        consumer.close();
+    }
+
+    @Test
+    public void messagesReceivedAfterCloseAreAcknowledgedWithoutProcessing() {
+        consumer.close();
+        CountDownLatch acknowledged = new CountDownLatch(1);
+
+        consumer.onMessageReceived(oddsChangeKey(1), new byte[] { 1 }, null, 0L, acknowledged::countDown);
+
+        assertEquals(0, acknowledged.getCount());
+        assertTrue(delegate.getProcessedBodies().isEmpty());
+    }
+
+    @Test
+    public void messagesOfTheSameEventAreProcessedInOrder() throws InterruptedException {
+        String routingKey = oddsChangeKey(1);
+        for (int i = 0; i < 50; i++) {
+            consumer.onMessageReceived(routingKey, new byte[] { (byte) i }, null, 0L);
+        }
+        delegate.release();
+
+        assertTrue(delegate.awaitProcessed(50));
+        List<Byte> bodies = delegate.getProcessedBodies();
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i, (int) bodies.get(i));
+        }
+        assertEquals(50, statistics.getNumberOfDispatchedMessages());
+        assertEquals(0, statistics.getDispatchQueueDepth());
+    }
+
+    @Test
+    public void slowEventDoesNotBlockOtherEvents() throws InterruptedException {
+        long blockedEvent = 1;
+        long otherEvent = findEventOnOtherWorker(blockedEvent);
+
+        delegate.blockOn(oddsChangeKey(blockedEvent));
+        consumer.onMessageReceived(oddsChangeKey(blockedEvent), new byte[] { 1 }, null, 0L);
+        consumer.onMessageReceived(oddsChangeKey(otherEvent), new byte[] { 2 }, null, 0L);
+
+        assertTrue(delegate.awaitProcessed(1));
+        assertEquals(Collections.singletonList((byte) 2), delegate.getProcessedBodies());
+    }
+
+    @Test
+    public void messagesWithoutEventAreProcessedAfterPreviouslyReceivedMessages() throws InterruptedException {
+        long blockedEvent = 1;
+        delegate.blockOn(oddsChangeKey(blockedEvent));
+        consumer.onMessageReceived(oddsChangeKey(blockedEvent), new byte[] { 1 }, null, 0L);
+        consumer.onMessageReceived(SNAPSHOT_COMPLETE_KEY, new byte[] { 2 }, null, 0L);
+        consumer.onMessageReceived(oddsChangeKey(findEventOnOtherWorker(blockedEvent)), new byte[] { 3 }, null, 0L);
+
+        assertFalse(delegate.awaitProcessed(2, 200));
+        delegate.release();
+
+        assertTrue(delegate.awaitProcessed(3));
+        List<Byte> bodies = delegate.getProcessedBodies();
+        assertTrue(bodies.indexOf((byte) 1) < bodies.indexOf((byte) 2));
+    }
+
+    @Test
+    public void reopenedConsumerDoesNotStartAdditionalWorkers() throws InterruptedException {
+        consumer.close();
+        assertEquals(0, countWorkerThreads());
+
+        consumer.open(Mockito.mock(MessageConsumer.class));
+        assertEquals(WORKER_COUNT, countWorkerThreads());
+
+        delegate.release();
+        for (int i = 0; i < 50; i++) {
+            consumer.onMessageReceived(oddsChangeKey(1), new byte[] { (byte) i }, null, 0L);
+        }
+        assertTrue(delegate.awaitProcessed(50));
+        List<Byte> bodies = delegate.getProcessedBodies();
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i, (int) bodies.get(i));
+        }
+    }
+
+    private static long countWorkerThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.isAlive() && thread.getName().startsWith("test-dispatch-t-"))
+                .count();
+    }
+
+    private static String oddsChangeKey(long eventId) {
+        return "hi.-.live.odds_change.1.sr:match." + eventId + ".-";
+    }
+
+    private static long findEventOnOtherWorker(long eventId) {
+        int worker = Math.floorMod(URN.parse("sr:match:" + eventId).hashCode(), WORKER_COUNT);
+        long other = eventId + 1;
+        while (Math.floorMod(URN.parse("sr:match:" + other).hashCode(), WORKER_COUNT) == worker) {
+            other++;
+        }
+        return other;
+    }
+
+    private static class RecordingChannelMessageConsumer implements ChannelMessageConsumer {
+        private final List<Byte> processedBodies = new ArrayList<>();
+        private final CountDownLatch released = new CountDownLatch(1);
+        private volatile String blockedRoutingKey;
+
+        @Override
+        public void onMessageReceived(String routingKey, byte[] body, AMQP.BasicProperties properties, long receivedAt) {
+            if (routingKey.equals(blockedRoutingKey)) {
+                try {
+                    released.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            synchronized (processedBodies) {
+                processedBodies.add(body[0]);
+                processedBodies.notifyAll();
+            }
+        }
+
+        void blockOn(String routingKey) {
+            blockedRoutingKey = routingKey;
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        boolean awaitProcessed(int count) throws InterruptedException {
+            return awaitProcessed(count, 5000);
+        }
+
+        boolean awaitProcessed(int count, long timeoutMs) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + timeoutMs;
+            synchronized (processedBodies) {
+                while (processedBodies.size() < count) {
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    processedBodies.wait(remaining);
+                }
+                return true;
+            }
+        }
+
+        List<Byte> getProcessedBodies() {
+            synchronized (processedBodies) {
+                return new ArrayList<>(processedBodies);
+            }
+        }
+    }
+}
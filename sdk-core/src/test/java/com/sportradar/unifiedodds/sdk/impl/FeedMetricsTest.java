@@ -0,0 +1,100 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.uf.datamodel.UFAlive;
+import com.sportradar.uf.datamodel.UFOddsChange;
+import com.sportradar.unifiedodds.sdk.metrics.LatencySnapshot;
+import com.sportradar.unifiedodds.sdk.metrics.MessageMetrics;
+import com.sportradar.unifiedodds.sdk.metrics.MetricsReporter;
+import com.sportradar.unifiedodds.sdk.metrics.PipelineStage;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class FeedMetricsTest {
+    private SDKTaskScheduler scheduler;
+    private FeedMetrics feedMetrics;
+
+    @Before
+    public void setup() {
+        scheduler = mock(SDKTaskScheduler.class);
+        feedMetrics = new FeedMetrics(mock(MetricsReporter.class), scheduler, 0);
+    }
+
+    @Test
+    public void percentilesAreWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10000; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(i));
+        }
+
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertEquals(10000, snapshot.getCount());
+        assertEquals(5000, snapshot.getMeanMicros());
+        assertEquals(10000, snapshot.getMaxMicros());
+        assertEquals(5000, snapshot.getP50Micros(), 5000 / 16.0);
+        assertEquals(9900, snapshot.getP99Micros(), 9900 / 16.0);
+        assertTrue(snapshot.getP999Micros() <= snapshot.getMaxMicros());
+    }
+
+    @Test
+    public void metricsAreKeptPerMessageTypeAndProducer() {
+        feedMetrics.record(oddsChange(1), PipelineStage.Deserialization, 1000);
+        feedMetrics.onMessageDispatched(oddsChange(1), 0);
+        feedMetrics.onMessageDispatched(oddsChange(1), 0);
+        feedMetrics.onMessageDispatched(oddsChange(3), System.currentTimeMillis());
+        feedMetrics.onMessageDispatched(new UFAlive(), 0);
+
+        List<MessageMetrics> metrics = feedMetrics.getMessageMetrics();
+        assertEquals(3, metrics.size());
+        assertEquals("alive", metrics.get(0).getMessageType());
+        assertEquals("odds_change", metrics.get(1).getMessageType());
+        assertEquals(1, metrics.get(1).getProducerId());
+        assertEquals(2, metrics.get(1).getCount());
+        assertEquals(1, metrics.get(1).getLatencies().get(PipelineStage.Deserialization).getCount());
+        assertFalse(metrics.get(1).getLatencies().containsKey(PipelineStage.EndToEnd));
+        assertEquals(3, metrics.get(2).getProducerId());
+        assertEquals(1, metrics.get(2).getLatencies().get(PipelineStage.EndToEnd).getCount());
+
+        feedMetrics.reset();
+        assertEquals(0, feedMetrics.getMessageMetrics().get(1).getCount());
+    }
+
+    @Test
+    public void metricsAreReportedPeriodically() {
+        new FeedMetrics(mock(MetricsReporter.class), scheduler, 60);
+
+        verify(scheduler).scheduleAtFixedRate(eq("MetricsReportTask"), any(), eq(60L), eq(60L), eq(TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void metricsAreExposedOverJmx() throws Exception {
+        feedMetrics.record(oddsChange(1), PipelineStage.UserCallback, 1000);
+
+        MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("com.sportradar.unifiedodds.sdk.impl:type=FeedMetricsTest");
+        mbeanServer.registerMBean(feedMetrics, name);
+        try {
+            CompositeData[] metrics = (CompositeData[]) mbeanServer.getAttribute(name, "MessageMetrics");
+            assertEquals(1, metrics.length);
+            assertEquals("odds_change", metrics[0].get("messageType"));
+        } finally {
+            mbeanServer.unregisterMBean(name);
+        }
+    }
+
+    private static UFOddsChange oddsChange(int producerId) {
+        UFOddsChange oddsChange = new UFOddsChange();
+        oddsChange.setProduct(producerId);
+        return oddsChange;
+    }
+}
@@ -0,0 +1,64 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.unifiedodds.sdk.MessageFilter;
+import com.sportradar.utils.URN;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class FilteringChannelMessageConsumerTest {
+    private ChannelMessageConsumer delegate;
+    private RoutingKeyParser routingKeyParser;
+    private FilteringChannelMessageConsumer consumer;
+
+    @Before
+    public void setup() {
+        delegate = mock(ChannelMessageConsumer.class);
+        routingKeyParser = spy(new RegexRoutingKeyParser());
+        consumer = new FilteringChannelMessageConsumer(delegate, routingKeyParser,
+                MessageFilter.forSports(Collections.singleton(URN.parse("sr:sport:1"))));
+    }
+
+    @Test
+    public void messagesOfOtherSportsAreDroppedAndAcknowledged() {
+        Runnable onProcessed = mock(Runnable.class);
+
+        consumer.onMessageReceived("hi.-.live.odds_change.5.sr:match.1", new byte[0], null, 0L, onProcessed);
+
+        verify(delegate, never()).onMessageReceived(any(RoutingKeyInfo.class), any(), any(), anyLong(), any());
+        verify(delegate, never()).onMessageReceived(anyString(), any(), any(), anyLong(), any());
+        verify(onProcessed).run();
+        assertEquals(1, consumer.getDroppedMessageCount());
+    }
+
+    @Test
+    public void acceptedAndSystemMessagesAreForwarded() {
+        consumer.onMessageReceived("hi.-.live.odds_change.1.sr:match.1", new byte[0], null, 0L);
+        consumer.onMessageReceived("-.-.-.snapshot_complete.-.-.-.-", new byte[0], null, 0L);
+
+        verify(delegate).onMessageReceived(withRoutingKey("hi.-.live.odds_change.1.sr:match.1"), any(), any(), anyLong(), any());
+        verify(delegate).onMessageReceived(withRoutingKey("-.-.-.snapshot_complete.-.-.-.-"), any(), any(), anyLong(), any());
+        assertEquals(0, consumer.getDroppedMessageCount());
+    }
+
+    @Test
+    public void routingKeyIsParsedOnceAndForwardedParsed() {
+        Runnable onProcessed = mock(Runnable.class);
+
+        consumer.onMessageReceived("hi.-.live.odds_change.1.sr:match.1", new byte[0], null, 0L, onProcessed);
+
+        verify(routingKeyParser, times(1)).getRoutingKeyInfo(anyString());
+        verify(delegate).onMessageReceived(
+                argThat((RoutingKeyInfo info) -> URN.parse("sr:match:1").equals(info.getEventId())), any(), any(), eq(0L), eq(onProcessed));
+        verify(delegate, never()).onMessageReceived(anyString(), any(), any(), anyLong(), any());
+    }
+
+    private static RoutingKeyInfo withRoutingKey(String routingKey) {
+        return argThat(info -> info != null && routingKey.equals(info.getFullRoutingKey()));
+    }
+}
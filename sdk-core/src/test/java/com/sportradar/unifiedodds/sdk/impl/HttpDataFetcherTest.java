@@ -0,0 +1,120 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.io.ByteStreams;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.*;
+
+public class HttpDataFetcherTest {
+    private static final String RESPONSE = "<fixtures_fixture>\n  <fixture id=\"sr:match:1\"/>\n</fixtures_fixture>";
+
+    private HttpServer server;
+    private CloseableHttpClient httpClient;
+    private HttpDataFetcher dataFetcher;
+    private volatile String acceptEncoding;
+
+    @Before
+    public void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/gzip", exchange -> {
+            acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(RESPONSE.getBytes(StandardCharsets.UTF_8));
+            }
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, compressed.size());
+            try (OutputStream body = exchange.getResponseBody()) {
+                compressed.writeTo(body);
+            }
+        });
+        server.createContext("/missing", exchange -> {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        server.start();
+
+        httpClient = HttpClients.createDefault();
+        dataFetcher = new HttpDataFetcher(Mockito.mock(SDKInternalConfiguration.class), httpClient,
+                new UnifiedOddsStatistics(), new ReadingDeserializer(0));
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        httpClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    public void compressedResponseIsDeserializedFromStream() throws CommunicationException {
+        Object result = dataFetcher.getDeserialized(url("/gzip"), new ReadingDeserializer(64));
+
+        assertEquals(RESPONSE.substring(0, 64), result);
+        assertTrue(acceptEncoding.contains("gzip"));
+    }
+
+    @Test
+    public void wholeResponseIsCopiedEvenIfDeserializerStopsEarly() throws CommunicationException {
+        ByteArrayOutputStream copy = new ByteArrayOutputStream();
+
+        dataFetcher.sendDeserialized(new HttpGet(url("/gzip")), new ReadingDeserializer(16), copy);
+
+        assertEquals(RESPONSE, new String(copy.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test(expected = CommunicationException.class)
+    public void failedResponseIsNotDeserialized() throws CommunicationException {
+        dataFetcher.getDeserialized(url("/missing"), new ReadingDeserializer(16));
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + server.getAddress().getPort() + path;
+    }
+
+    /**
+     * Reads only the first bytes of the response, as a deserializer which does not read the whole stream
+     */
+    private static class ReadingDeserializer implements Deserializer {
+        private final int length;
+
+        ReadingDeserializer(int length) {
+            this.length = length;
+        }
+
+        @Override
+        public Object deserialize(java.io.InputStream inStr) {
+            try {
+                byte[] read = new byte[length];
+                ByteStreams.readFully(inStr, read);
+                return new String(read, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public String serialize(Object inObj) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void unload() {
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.collect.ImmutableList;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.oddsentities.Producer;
+import com.sportradar.unifiedodds.sdk.oddsentities.RecoveryInfo;
+import com.sportradar.unifiedodds.sdk.shared.TestProducersProvider;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.when;
+
+public class ProducerManagerImplTest {
+    private SDKInternalConfiguration config;
+
+    @Before
+    public void setup() {
+        config = Mockito.mock(SDKInternalConfiguration.class);
+        when(config.getDisabledProducers()).thenReturn(ImmutableList.of(3));
+        when(config.getAPIHost()).thenReturn("stgapi.betradar.com");
+    }
+
+    @Test
+    public void producerStatesAreResolvedById() {
+        ProducerManagerImpl producerManager = new ProducerManagerImpl(config, new TestProducersProvider());
+
+        assertTrue(producerManager.isProducerEnabled(1));
+        assertFalse(producerManager.isProducerEnabled(3));
+        assertFalse(producerManager.isProducerEnabled(8));
+        assertFalse(producerManager.isProducerEnabled(99));
+        assertFalse(producerManager.isProducerEnabled(-1));
+
+        assertTrue(producerManager.isProducerDown(1));
+        producerManager.setProducerDown(1, false);
+        assertFalse(producerManager.isProducerDown(1));
+        assertFalse(producerManager.isProducerDown(99));
+    }
+
+    @Test
+    public void producerViewIsReusedUntilProducerChanges() {
+        ProducerManagerImpl producerManager = new ProducerManagerImpl(config, new TestProducersProvider());
+
+        Producer producer = producerManager.getProducer(1);
+        assertSame(producer, producerManager.getProducer(1));
+        assertSame(producer, producerManager.getAvailableProducers().get(1));
+
+        producerManager.disableProducer(1);
+        Producer disabled = producerManager.getProducer(1);
+        assertNotSame(producer, disabled);
+        assertFalse(disabled.isEnabled());
+        assertFalse(producerManager.isProducerEnabled(1));
+
+        RecoveryInfo recoveryInfo = Mockito.mock(RecoveryInfo.class);
+        producerManager.setProducerRecoveryInfo(1, recoveryInfo);
+        assertSame(recoveryInfo, producerManager.getProducer(1).getRecoveryInfo());
+    }
+
+    @Test
+    public void unknownProducerIsGeneratedOnce() {
+        ProducerManagerImpl producerManager = new ProducerManagerImpl(config, new TestProducersProvider());
+
+        Producer unknown = producerManager.getProducer(99);
+        assertEquals(99, unknown.getId());
+        assertEquals("Unknown", unknown.getName());
+        assertSame(unknown, producerManager.getProducer(99));
+    }
+}
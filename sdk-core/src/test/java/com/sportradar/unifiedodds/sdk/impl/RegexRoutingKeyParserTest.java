@@ -25,6 +25,7 @@ public class RegexRoutingKeyParserTest {
         RoutingKeyInfo sportId = parser.getRoutingKeyInfo(key);
 
         assertEquals(sportId.getSportId(), URN.parse("sr:sport:6"));
+        assertEquals("odds_change", sportId.getMessageType());
     }
 
     @Test
@@ -0,0 +1,118 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.caching.DataRouterManager;
+import com.sportradar.unifiedodds.sdk.caching.LocalizedNamedValueCache;
+import com.sportradar.unifiedodds.sdk.caching.NamedValueCache;
+import com.sportradar.unifiedodds.sdk.caching.markets.MarketDescriptionCache;
+import com.sportradar.unifiedodds.sdk.caching.markets.VariantDescriptionCache;
+import com.sportradar.unifiedodds.sdk.impl.apireaders.WhoAmIReader;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class SDKWarmUpTest {
+    private SDKInternalConfiguration configuration;
+    private DataRouterManager dataRouterManager;
+    private MarketDescriptionCache invariantMarketCache;
+    private VariantDescriptionCache variantDescriptionCache;
+    private LocalizedNamedValueCache matchStatusCache;
+    private NamedValueCache voidReasonsCache;
+    private NamedValueCache betStopReasonCache;
+    private NamedValueCache bettingStatusCache;
+    private UnifiedOddsStatistics statistics;
+
+    @Before
+    public void setup() {
+        configuration = mock(SDKInternalConfiguration.class);
+        when(configuration.getWarmUpParallelism()).thenReturn(2);
+        when(configuration.getWarmUpTimeout()).thenReturn(5);
+        when(configuration.getDesiredLocales()).thenReturn(Arrays.asList(Locale.ENGLISH, Locale.GERMAN));
+
+        dataRouterManager = mock(DataRouterManager.class);
+        invariantMarketCache = mock(MarketDescriptionCache.class);
+        variantDescriptionCache = mock(VariantDescriptionCache.class);
+        matchStatusCache = mock(LocalizedNamedValueCache.class);
+        voidReasonsCache = mock(NamedValueCache.class);
+        betStopReasonCache = mock(NamedValueCache.class);
+        bettingStatusCache = mock(NamedValueCache.class);
+        statistics = new UnifiedOddsStatistics();
+
+        when(dataRouterManager.requestPrefetchSchedules()).thenReturn(true);
+        when(invariantMarketCache.loadMissingMarketDescriptions()).thenReturn(true);
+        when(variantDescriptionCache.loadMissingMarketDescriptions()).thenReturn(true);
+        when(matchStatusCache.loadNamedValues()).thenReturn(true);
+        when(voidReasonsCache.loadNamedValues()).thenReturn(true);
+        when(betStopReasonCache.loadNamedValues()).thenReturn(true);
+        when(bettingStatusCache.loadNamedValues()).thenReturn(true);
+    }
+
+    @Test
+    public void allStepsAreExecutedAndTimed() throws Exception {
+        SDKWarmUp warmUp = createWarmUp();
+
+        assertTrue(warmUp.run());
+
+        verify(dataRouterManager, timeout(5000)).requestAllSportsData(Locale.ENGLISH);
+        verify(dataRouterManager, timeout(5000)).requestAllSportsData(Locale.GERMAN);
+        verify(dataRouterManager, timeout(5000)).requestPrefetchSchedules();
+        verify(invariantMarketCache).loadMissingMarketDescriptions();
+        verify(variantDescriptionCache).loadMissingMarketDescriptions();
+        verify(matchStatusCache).loadNamedValues();
+        verify(voidReasonsCache).loadNamedValues();
+        verify(betStopReasonCache).loadNamedValues();
+        verify(bettingStatusCache).loadNamedValues();
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (warmUp.getStepTimings().size() < 9 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(9, warmUp.getStepTimings().size());
+        assertTrue(warmUp.getStepTimings().containsKey("SportsData[de]"));
+        assertEquals(9, statistics.getWarmUpStepTimings().length);
+    }
+
+    @Test
+    public void failedCriticalStepIsReported() {
+        when(voidReasonsCache.loadNamedValues()).thenThrow(new IllegalStateException("void reasons are not available"));
+
+        assertFalse(createWarmUp().run());
+        verify(bettingStatusCache).loadNamedValues();
+    }
+
+    @Test
+    public void slowCriticalStepDoesNotBlockPastTimeout() {
+        when(configuration.getWarmUpTimeout()).thenReturn(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(invariantMarketCache.loadMissingMarketDescriptions()).thenAnswer(invocation -> release.await(10, TimeUnit.SECONDS));
+
+        try {
+            long start = System.nanoTime();
+            assertFalse(createWarmUp().run());
+            assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 5);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void disabledWarmUpDoesNotLoadCaches() {
+        when(configuration.getWarmUpParallelism()).thenReturn(0);
+
+        assertFalse(createWarmUp().run());
+        verifyNoInteractions(dataRouterManager, invariantMarketCache, variantDescriptionCache, matchStatusCache,
+                voidReasonsCache, betStopReasonCache, bettingStatusCache);
+    }
+
+    private SDKWarmUp createWarmUp() {
+        return new SDKWarmUp(configuration, mock(WhoAmIReader.class), dataRouterManager, invariantMarketCache,
+                variantDescriptionCache, matchStatusCache, voidReasonsCache, betStopReasonCache, bettingStatusCache, statistics);
+    }
+}
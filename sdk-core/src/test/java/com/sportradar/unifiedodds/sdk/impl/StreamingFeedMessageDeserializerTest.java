@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.uf.datamodel.UFAlive;
+import com.sportradar.uf.datamodel.UFBetSettlement;
+import com.sportradar.uf.datamodel.UFBetStop;
+import com.sportradar.uf.datamodel.UFOddsChange;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.DeserializationException;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.xml.bind.JAXBContext;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.junit.Assert.*;
+
+public class StreamingFeedMessageDeserializerTest {
+    private Deserializer jaxbDeserializer;
+    private Deserializer streamingDeserializer;
+
+    @Before
+    public void setup() throws Exception {
+        JAXBContext context = JAXBContext.newInstance("com.sportradar.uf.datamodel");
+        jaxbDeserializer = new DeserializerImpl(context);
+        streamingDeserializer = new StreamingFeedMessageDeserializer(context);
+    }
+
+    @Test
+    public void decodesOddsChangeLikeJaxb() throws Exception {
+        Object decoded = assertSameAsJaxb(Constants.ODDS_CHANGE_MSG_URI);
+
+        assertTrue(decoded instanceof UFOddsChange);
+        UFOddsChange oddsChange = (UFOddsChange) decoded;
+        assertEquals(4, oddsChange.getProduct());
+        assertEquals("sr:match:10927088", oddsChange.getEventId());
+        assertNotNull(oddsChange.getSportEventStatus());
+        assertFalse(oddsChange.getOdds().getMarket().isEmpty());
+    }
+
+    @Test
+    public void decodesOddsChangeVariationsLikeJaxb() throws Exception {
+        assertSameAsJaxb("test/feed_xml/odds_change_no_markets.xml");
+        assertSameAsJaxb("test/feed_xml/odds_change_no_outcomes.xml");
+        assertSameAsJaxb("test/feed_xml/odds_change_single_market.xml");
+    }
+
+    @Test
+    public void decodesBetStopLikeJaxb() throws Exception {
+        assertTrue(assertSameAsJaxb(Constants.BET_STOP_MSG_URI) instanceof UFBetStop);
+    }
+
+    @Test
+    public void decodesAliveLikeJaxb() throws Exception {
+        assertTrue(assertSameAsJaxb(Constants.ALIVE_MSG_URI) instanceof UFAlive);
+    }
+
+    @Test
+    public void fallsBackToJaxbForOtherMessages() throws Exception {
+        assertTrue(assertSameAsJaxb(Constants.BET_SETTLEMENT_MSG_URI) instanceof UFBetSettlement);
+        assertSameAsJaxb(Constants.BET_CANCEL_MSG_URI);
+        assertSameAsJaxb(Constants.FIXTURE_CHANGE_MSG_URI);
+        assertSameAsJaxb(Constants.SNAPSHOT_COMPLETE_MSG_URI);
+    }
+
+    @Test
+    public void fallsBackToJaxbForUnknownElements() throws Exception {
+        String xml = "<odds_change product=\"1\" event_id=\"sr:match:1\" timestamp=\"2\">" +
+                "<unknown_element/>" +
+                "<odds><market id=\"1\" status=\"1\"><outcome id=\"1\" odds=\"1.5\" active=\"1\"/></market></odds>" +
+                "</odds_change>";
+
+        UFOddsChange oddsChange = (UFOddsChange) streamingDeserializer.deserialize(stream(xml));
+
+        assertEquals(1, oddsChange.getOdds().getMarket().size());
+        assertEquals(jaxbDeserializer.serialize(jaxbDeserializer.deserialize(stream(xml))), streamingDeserializer.serialize(oddsChange));
+    }
+
+    @Test
+    public void fallsBackToJaxbForUnparsableValues() throws Exception {
+        String xml = "<odds_change product=\"1\" event_id=\"sr:match:1\" timestamp=\"2\">" +
+                "<odds><market id=\"1\" status=\"1\"><outcome id=\"1\" odds=\"INF\" active=\"1\"/></market></odds>" +
+                "</odds_change>";
+
+        Object decoded = streamingDeserializer.deserialize(stream(xml));
+
+        assertEquals(jaxbDeserializer.serialize(jaxbDeserializer.deserialize(stream(xml))), streamingDeserializer.serialize(decoded));
+    }
+
+    @Test
+    public void decodesEscapedAttributeValuesLikeJaxb() throws Exception {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<!-- comment -->\n" +
+                "<odds_change product=\"1\" event_id=\"sr:match:1\" timestamp=\"2\">" +
+                "<odds><market id=\"1\" status=\"1\" specifiers=\"variant=sr:exact_goals:4+&amp;total=&#50;.5\t\">" +
+                "<outcome id=\"sr:exact_goals:4+:&lt;1&gt;\" odds=\" 1.5 \" active=\"1\"></outcome></market></odds>" +
+                "</odds_change>";
+
+        UFOddsChange oddsChange = (UFOddsChange) streamingDeserializer.deserialize(stream(xml));
+
+        assertEquals("variant=sr:exact_goals:4+&total=2.5 ", oddsChange.getOdds().getMarket().get(0).getSpecifiers());
+        assertEquals("sr:exact_goals:4+:<1>", oddsChange.getOdds().getMarket().get(0).getOutcome().get(0).getId());
+        assertEquals(jaxbDeserializer.serialize(jaxbDeserializer.deserialize(stream(xml))), streamingDeserializer.serialize(oddsChange));
+    }
+
+    @Test
+    public void fallsBackToJaxbForUnsupportedMarkup() throws Exception {
+        String xml = "<!DOCTYPE alive [<!ENTITY p \"3\">]><alive product=\"&p;\" timestamp=\"2\" subscribed=\"1\"/>";
+
+        UFAlive alive = (UFAlive) streamingDeserializer.deserialize(stream(xml));
+
+        assertEquals(3, alive.getProduct());
+    }
+
+    @Test(expected = DeserializationException.class)
+    public void throwsForInvalidPayload() throws Exception {
+        streamingDeserializer.deserialize(new ByteArrayInputStream(new byte[]{1, 2, 3, 4}));
+    }
+
+    private Object assertSameAsJaxb(String resource) throws Exception {
+        byte[] body = Files.readAllBytes(Paths.get(getClass().getClassLoader().getResource(resource).toURI()));
+
+        Object expected = jaxbDeserializer.deserialize(new ByteArrayInputStream(body));
+        Object decoded = streamingDeserializer.deserialize(new ByteArrayInputStream(body));
+
+        assertEquals(expected.getClass(), decoded.getClass());
+        assertEquals(jaxbDeserializer.serialize(expected), jaxbDeserializer.serialize(decoded));
+        return decoded;
+    }
+
+    private static InputStream stream(String xml) {
+        return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+    }
+}
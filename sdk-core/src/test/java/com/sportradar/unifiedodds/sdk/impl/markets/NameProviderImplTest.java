@@ -0,0 +1,75 @@
+package com.sportradar.unifiedodds.sdk.impl.markets;
+
+import com.sportradar.unifiedodds.sdk.ExceptionHandlingStrategy;
+import com.sportradar.unifiedodds.sdk.caching.PlayerProfileCI;
+import com.sportradar.unifiedodds.sdk.caching.ProfileCache;
+import com.sportradar.unifiedodds.sdk.caching.markets.MarketDescriptionProvider;
+import com.sportradar.unifiedodds.sdk.entities.SportEvent;
+import com.sportradar.utils.URN;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class NameProviderImplTest {
+    private static final List<Locale> LOCALES = Collections.singletonList(Locale.ENGLISH);
+    private static final List<String> OUTCOME_IDS = Arrays.asList("sr:player:1", "sr:player:2,sr:player:3", "sr:competitor:4");
+
+    private ProfileCache profileCache;
+    private NameProviderImpl nameProvider;
+
+    @Before
+    public void setup() throws Exception {
+        profileCache = mock(ProfileCache.class);
+        when(profileCache.getPlayerProfiles(anyList(), any(), any())).thenAnswer(invocation -> {
+            Map<URN, PlayerProfileCI> profiles = new LinkedHashMap<>();
+            for (Object id : invocation.getArgument(0, List.class)) {
+                PlayerProfileCI profile = mock(PlayerProfileCI.class);
+                when(profile.getNames(any())).thenReturn(Collections.singletonMap(Locale.ENGLISH, "Player " + id));
+                profiles.put((URN) id, profile);
+            }
+            return profiles;
+        });
+
+        nameProvider = new NameProviderImpl(
+                mock(MarketDescriptionProvider.class),
+                profileCache,
+                mock(NameExpressionFactory.class),
+                mock(SportEvent.class),
+                40,
+                Collections.emptyMap(),
+                1,
+                ExceptionHandlingStrategy.Throw,
+                OUTCOME_IDS);
+    }
+
+    @Test
+    public void playerProfilesOfAllOutcomesArePrefetchedOnce() throws Exception {
+        List<URN> allPlayers = Arrays.asList(URN.parse("sr:player:1"), URN.parse("sr:player:2"), URN.parse("sr:player:3"));
+
+        assertEquals("Player sr:player:1", nameProvider.getOutcomeNames("sr:player:1", LOCALES).get(Locale.ENGLISH));
+        assertEquals("Player sr:player:2,Player sr:player:3", nameProvider.getOutcomeNames("sr:player:2,sr:player:3", LOCALES).get(Locale.ENGLISH));
+
+        verify(profileCache, times(1)).getPlayerProfiles(eq(allPlayers), eq(LOCALES), eq(Collections.singletonList(URN.parse("sr:competitor:4"))));
+    }
+
+    @Test
+    public void playerProfilesArePrefetchedAgainForNewLocales() throws Exception {
+        nameProvider.getOutcomeNames("sr:player:1", LOCALES);
+        nameProvider.getOutcomeNames("sr:player:1", LOCALES);
+        nameProvider.getOutcomeNames("sr:player:1", Collections.singletonList(Locale.GERMAN));
+
+        verify(profileCache, times(2)).getPlayerProfiles(argThat(ids -> ids.size() == 3), any(), any());
+    }
+}
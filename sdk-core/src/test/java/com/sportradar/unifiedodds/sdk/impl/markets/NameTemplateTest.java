@@ -0,0 +1,55 @@
+package com.sportradar.unifiedodds.sdk.impl.markets;
+
+import com.google.common.collect.ImmutableMap;
+import com.sportradar.unifiedodds.sdk.caching.ProfileCache;
+import com.sportradar.unifiedodds.sdk.entities.SportEvent;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+
+public class NameTemplateTest {
+    private final NameExpressionFactory expressionFactory = new NameExpressionFactoryImpl(new OperandFactoryImpl(), mock(ProfileCache.class));
+    private final SportEvent sportEvent = mock(SportEvent.class);
+
+    @Test
+    public void expressionsAreBoundToSpecifiers() {
+        NameTemplate template = NameTemplate.compile("Total {total} {+hcp} {!goalnr} goal");
+
+        assertEquals("Total 2.5 +1.0 3rd goal", render(template, ImmutableMap.of("total", "2.5", "hcp", "1", "goalnr", "3")));
+        assertEquals("Total 4.5 -1.5 1st goal", render(template, ImmutableMap.of("total", "4.5", "hcp", "-1.5", "goalnr", "1")));
+    }
+
+    @Test
+    public void templatesAreShared() {
+        assertSame(NameTemplate.compile("Handicap {hcp}"), NameTemplate.compile("Handicap {hcp}"));
+    }
+
+    @Test
+    public void descriptorWithoutExpressionsIsTheName() {
+        NameTemplate template = NameTemplate.compile("1x2");
+
+        assertFalse(template.hasExpressions());
+        assertEquals("1x2", template.render(Collections.emptyList(), Locale.ENGLISH));
+    }
+
+    @Test
+    public void percentSignIsRenderedAsLiteral() {
+        assertEquals("Over 2.5 (50%)", render(NameTemplate.compile("Over {total} (50%)"), ImmutableMap.of("total", "2.5")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unclosedExpressionIsRejected() {
+        NameTemplate.compile("Total {total");
+    }
+
+    private String render(NameTemplate template, Map<String, String> specifiers) {
+        List<NameExpression> expressions = template.bind(expressionFactory, sportEvent, specifiers);
+        return template.render(expressions, Locale.ENGLISH);
+    }
+}
@@ -0,0 +1,182 @@
+package com.sportradar.unifiedodds.sdk.impl.oddsbook;
+
+import com.sportradar.uf.datamodel.UFBetSettlement;
+import com.sportradar.uf.datamodel.UFBetSettlementMarket;
+import com.sportradar.uf.datamodel.UFBetStop;
+import com.sportradar.uf.datamodel.UFOddsChange;
+import com.sportradar.uf.datamodel.UFOddsChangeMarket;
+import com.sportradar.uf.datamodel.UFOutcomeActive;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.caching.markets.MarketDescriptionProvider;
+import com.sportradar.unifiedodds.sdk.entities.markets.MarketDescription;
+import com.sportradar.unifiedodds.sdk.oddsentities.MarketStatus;
+import com.sportradar.unifiedodds.sdk.oddsentities.OddsBook;
+import com.sportradar.unifiedodds.sdk.oddsentities.OddsBookMarket;
+import com.sportradar.unifiedodds.sdk.oddsentities.OddsChangeDelta;
+import com.sportradar.utils.URN;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class OddsBookManagerImplTest {
+    private static final String EVENT_ID = "sr:match:1";
+    private static final String SESSION_ID = "session-1";
+    private static final int LIVE_PRODUCER = 1;
+    private static final int PREMATCH_PRODUCER = 3;
+
+    private MarketDescriptionProvider provider;
+    private OddsBookManagerImpl manager;
+
+    @Before
+    public void setup() throws Exception {
+        SDKInternalConfiguration configuration = mock(SDKInternalConfiguration.class);
+        when(configuration.getDefaultLocale()).thenReturn(Locale.ENGLISH);
+
+        MarketDescription description = mock(MarketDescription.class);
+        when(description.getGroups()).thenReturn(Arrays.asList("all", "score"));
+        provider = mock(MarketDescriptionProvider.class);
+        when(provider.getMarketDescription(anyInt(), any(), any(), anyBoolean())).thenReturn(description);
+
+        manager = new OddsBookManagerImpl(provider, configuration);
+    }
+
+    @Test
+    public void deltaContainsOnlyChangedOutcomes() {
+        manager.takeOddsChangeDelta(applyOddsChange(market(1, null, outcome("1", 1.5), outcome("2", 2.5))));
+
+        UFOddsChange message = applyOddsChange(market(1, null, outcome("1", 1.5), outcome("2", 2.7)));
+        OddsChangeDelta delta = manager.takeOddsChangeDelta(message);
+
+        assertEquals(1, delta.getChangedMarkets().size());
+        OddsBookMarket market = delta.getChangedMarkets().get(0);
+        assertEquals(1, market.getOutcomes().size());
+        assertEquals("2", market.getOutcomes().get(0).getId());
+        assertEquals(2.7, market.getOutcomes().get(0).getOdds(), 0.0);
+        assertNull(manager.takeOddsChangeDelta(message));
+    }
+
+    @Test
+    public void unchangedOddsChangeProducesEmptyDelta() {
+        manager.takeOddsChangeDelta(applyOddsChange(market(1, "total=2.5", outcome("12", 1.8))));
+
+        OddsChangeDelta delta = manager.takeOddsChangeDelta(applyOddsChange(market(1, "total=2.5", outcome("12", 1.8))));
+
+        assertTrue(delta.getChangedMarkets().isEmpty());
+    }
+
+    @Test
+    public void betStopSuspendsMarketsOfItsGroups() {
+        applyOddsChange(market(1, null, outcome("1", 1.5)), market(18, "total=2.5", outcome("12", 1.8)));
+
+        UFBetStop betStop = new UFBetStop();
+        betStop.setEventId(EVENT_ID);
+        betStop.setProduct(LIVE_PRODUCER);
+        betStop.setGroups("score");
+        manager.onBetStop(SESSION_ID, betStop);
+
+        OddsBook book = manager.getOddsBook(URN.parse(EVENT_ID));
+        assertEquals(MarketStatus.Suspended, book.getMarket(1, null).getStatus());
+        assertEquals(MarketStatus.Suspended, book.getMarket(18, "total=2.5").getStatus());
+    }
+
+    @Test
+    public void betStopOfAllGroupsDoesNotResolveMarketGroups() throws Exception {
+        applyOddsChange(market(1, null, outcome("1", 1.5)));
+
+        UFBetStop betStop = new UFBetStop();
+        betStop.setEventId(EVENT_ID);
+        betStop.setProduct(LIVE_PRODUCER);
+        manager.onBetStop(SESSION_ID, betStop);
+
+        assertEquals(MarketStatus.Suspended, manager.getOddsBook(URN.parse(EVENT_ID)).getMarket(1, null).getStatus());
+        verify(provider, never()).getMarketDescription(anyInt(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    public void betSettlementSettlesMarkets() {
+        applyOddsChange(market(1, null, outcome("1", 1.5)), market(18, "total=2.5", outcome("12", 1.8)));
+
+        UFBetSettlementMarket settledMarket = new UFBetSettlementMarket();
+        settledMarket.setId(18);
+        settledMarket.setSpecifiers("total=2.5");
+        UFBetSettlement.UFOutcomes outcomes = new UFBetSettlement.UFOutcomes();
+        outcomes.getMarket().add(settledMarket);
+        UFBetSettlement betSettlement = new UFBetSettlement();
+        betSettlement.setEventId(EVENT_ID);
+        betSettlement.setProduct(LIVE_PRODUCER);
+        betSettlement.setOutcomes(outcomes);
+        manager.onBetSettlement(SESSION_ID, betSettlement);
+
+        OddsBook book = manager.getOddsBook(URN.parse(EVENT_ID));
+        assertEquals(MarketStatus.Active, book.getMarket(1, null).getStatus());
+        assertEquals(MarketStatus.Settled, book.getMarket(18, "total=2.5").getStatus());
+        assertEquals(2, book.getMarkets().size());
+    }
+
+    @Test
+    public void bookOfUnknownEventIsNull() {
+        assertNull(manager.getOddsBook(URN.parse("sr:match:2")));
+    }
+
+    @Test
+    public void sessionsReceivingTheSameMessageGetTheSameDelta() {
+        UFOddsChange firstSessionMessage = applyOddsChange("session-1", LIVE_PRODUCER, market(1, null, outcome("1", 1.5)));
+        UFOddsChange secondSessionMessage = applyOddsChange("session-2", LIVE_PRODUCER, market(1, null, outcome("1", 1.5)));
+
+        assertEquals(1, manager.takeOddsChangeDelta(firstSessionMessage).getChangedMarkets().size());
+        assertEquals(1, manager.takeOddsChangeDelta(secondSessionMessage).getChangedMarkets().size());
+    }
+
+    @Test
+    public void oddsOfProducersAreKeptSeparately() {
+        applyOddsChange(SESSION_ID, LIVE_PRODUCER, market(1, null, outcome("1", 1.5)));
+        applyOddsChange(SESSION_ID, PREMATCH_PRODUCER, market(1, null, outcome("1", 1.7)), market(18, "total=2.5", outcome("12", 1.8)));
+
+        OddsBook liveBook = manager.getOddsBook(URN.parse(EVENT_ID), LIVE_PRODUCER);
+        OddsBook prematchBook = manager.getOddsBook(URN.parse(EVENT_ID), PREMATCH_PRODUCER);
+        assertEquals(1.5, liveBook.getMarket(1, null).getOutcomes().get(0).getOdds(), 0.0);
+        assertEquals(1, liveBook.getMarkets().size());
+        assertEquals(1.7, prematchBook.getMarket(1, null).getOutcomes().get(0).getOdds(), 0.0);
+        assertEquals(2, prematchBook.getMarkets().size());
+        assertEquals(2, manager.getOddsBook(URN.parse(EVENT_ID)).getMarkets().size());
+        assertNull(manager.getOddsBook(URN.parse(EVENT_ID), 4));
+    }
+
+    private UFOddsChange applyOddsChange(UFOddsChangeMarket... markets) {
+        return applyOddsChange(SESSION_ID, LIVE_PRODUCER, markets);
+    }
+
+    private UFOddsChange applyOddsChange(String sessionId, int producerId, UFOddsChangeMarket... markets) {
+        UFOddsChange.UFOdds odds = new UFOddsChange.UFOdds();
+        Collections.addAll(odds.getMarket(), markets);
+        UFOddsChange message = new UFOddsChange();
+        message.setEventId(EVENT_ID);
+        message.setProduct(producerId);
+        message.setOdds(odds);
+        manager.onOddsChange(sessionId, message);
+        return message;
+    }
+
+    private static UFOddsChangeMarket market(int id, String specifiers, UFOddsChangeMarket.UFOutcome... outcomes) {
+        UFOddsChangeMarket market = new UFOddsChangeMarket();
+        market.setId(id);
+        market.setSpecifiers(specifiers);
+        Collections.addAll(market.getOutcome(), outcomes);
+        return market;
+    }
+
+    private static UFOddsChangeMarket.UFOutcome outcome(String id, double odds) {
+        UFOddsChangeMarket.UFOutcome outcome = new UFOddsChangeMarket.UFOutcome();
+        outcome.setId(id);
+        outcome.setOdds(odds);
+        outcome.setActive(UFOutcomeActive.ACTIVE);
+        return outcome;
+    }
+}
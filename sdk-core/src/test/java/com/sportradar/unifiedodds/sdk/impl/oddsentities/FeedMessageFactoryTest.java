@@ -104,6 +104,25 @@ public class FeedMessageFactoryTest {
         Assert.assertNotNull(result);
     }
 
+    @Test
+    public void buildsOnlyRequestedOddsChangeMarket() throws Exception {
+        UFOddsChange msg = XmlMessageReader.readMessageFromResource(ODDS_CHANGE_MSG_URI);
+
+        OddsChange<SportEvent> result = factory.buildOddsChange(sportEvent, msg, rawMsg, timestamp);
+
+        MarketWithOdds market = result.getMarket(68, "total=3.5");
+        Assert.assertNotNull(market);
+        Assert.assertEquals(68, market.getId());
+        Assert.assertEquals("3.5", market.getSpecifiers().get("total"));
+        Assert.assertSame(market, result.getMarket(68, "total=3.5"));
+        Assert.assertNotNull(result.getMarket(26, null));
+        Assert.assertNull(result.getMarket(68, "total=9.5"));
+        Assert.assertNull(result.getMarket(68, null));
+
+        Assert.assertTrue(result.getMarkets().contains(market));
+        Assert.assertEquals(msg.getOdds().getMarket().size(), result.getMarkets().size());
+    }
+
     @Test
     public void buildsRollbackBetCancel() throws Exception {
         UFRollbackBetCancel msg = XmlMessageReader.readMessageFromResource(ROLLBACK_BET_CANCEL_MSG_URI);
@@ -0,0 +1,106 @@
+package com.sportradar.unifiedodds.sdk.impl.processing.pipeline;
+
+import com.sportradar.uf.datamodel.UFClockType;
+import com.sportradar.uf.datamodel.UFEventStatusStatus;
+import com.sportradar.uf.datamodel.UFOddsChange;
+import com.sportradar.uf.datamodel.UFSportEventStatus;
+import com.sportradar.unifiedodds.sdk.caching.DataRouterListener;
+import com.sportradar.unifiedodds.sdk.caching.SportEventCache;
+import com.sportradar.unifiedodds.sdk.caching.SportEventStatusCI;
+import com.sportradar.unifiedodds.sdk.caching.SportEventStatusCache;
+import com.sportradar.unifiedodds.sdk.entities.EventStatus;
+import com.sportradar.unifiedodds.sdk.impl.FeedMetrics;
+import com.sportradar.unifiedodds.sdk.impl.dto.SportEventStatusDTO;
+import com.sportradar.utils.URN;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class CacheMessageProcessorTest {
+    private static final String STATUS = "<sport_event_status status=\"1\" match_status=\"6\" home_score=\"1\" away_score=\"0\"><clock match_time=\"12:00\"/></sport_event_status>";
+
+    private SportEventStatusCache sportEventStatusCache;
+    private CacheMessageProcessor processor;
+
+    @Before
+    public void setup() {
+        sportEventStatusCache = mock(SportEventStatusCache.class, withSettings().extraInterfaces(DataRouterListener.class));
+        processor = new CacheMessageProcessor(sportEventStatusCache, mock(SportEventCache.class),
+                mock(ProcessedFixtureChangesTracker.class), mock(FeedMetrics.class));
+    }
+
+    @Test
+    public void fingerprintIgnoresContentOutsideOfStatus() {
+        long fingerprint = CacheMessageProcessor.fingerprintSportEventStatus(oddsChangeBody(STATUS, "1.5"));
+
+        assertNotEquals(0, fingerprint);
+        assertEquals(fingerprint, CacheMessageProcessor.fingerprintSportEventStatus(oddsChangeBody(STATUS, "1.7")));
+        assertNotEquals(fingerprint, CacheMessageProcessor.fingerprintSportEventStatus(oddsChangeBody(STATUS.replace("12:00", "13:00"), "1.5")));
+        assertNotEquals(0, CacheMessageProcessor.fingerprintSportEventStatus(oddsChangeBody("<sport_event_status status=\"0\"/>", "1.5")));
+        assertEquals(0, CacheMessageProcessor.fingerprintSportEventStatus(oddsChangeBody("", "1.5")));
+        assertEquals(0, CacheMessageProcessor.fingerprintSportEventStatus(null));
+    }
+
+    @Test
+    public void unchangedStatusIsNotRebuilt() {
+        byte[] body = oddsChangeBody(STATUS, "1.5");
+        processor.processMessage(oddsChange(), body, null, null);
+
+        ArgumentCaptor<SportEventStatusDTO> stored = ArgumentCaptor.forClass(SportEventStatusDTO.class);
+        verify((DataRouterListener) sportEventStatusCache).onSportEventStatusFetched(eq(URN.parse("sr:match:1")), stored.capture(), isNull(), eq("UFOddsChange"));
+        SportEventStatusDTO first = stored.getValue();
+
+        SportEventStatusCI cacheItem = mock(SportEventStatusCI.class);
+        when(cacheItem.getFeedStatusDTO()).thenReturn(first);
+        when(sportEventStatusCache.getSportEventStatusCI(URN.parse("sr:match:1"), false)).thenReturn(cacheItem);
+
+        processor.processMessage(oddsChange(), oddsChangeBody(STATUS, "1.7"), null, null);
+        processor.processMessage(oddsChange(), oddsChangeBody(STATUS.replace("12:00", "13:00"), "1.7"), null, null);
+
+        verify((DataRouterListener) sportEventStatusCache, times(3)).onSportEventStatusFetched(any(), stored.capture(), isNull(), eq("UFOddsChange"));
+        assertSame(first, stored.getAllValues().get(2));
+        assertNotSame(first, stored.getAllValues().get(3));
+    }
+
+    @Test
+    public void feedStatusIsDecodedWhenAccessed() {
+        SportEventStatusDTO dto = new SportEventStatusDTO(oddsChange().getSportEventStatus(), 42);
+
+        assertEquals(EventStatus.Live, dto.getStatus());
+        assertEquals(6, dto.getMatchStatusId());
+        assertEquals(42, dto.getFeedFingerprint());
+        assertEquals("12:00", dto.getEventClock().getEventTime());
+        assertEquals(3, dto.getProperties().get("Possession"));
+    }
+
+    private static UFOddsChange oddsChange() {
+        UFClockType clock = new UFClockType();
+        clock.setMatchTime("12:00");
+        UFSportEventStatus status = new UFSportEventStatus();
+        status.setStatus(UFEventStatusStatus.LIVE);
+        status.setMatchStatus(6);
+        status.setHomeScore(BigDecimal.ONE);
+        status.setAwayScore(BigDecimal.ZERO);
+        status.setPossession(3);
+        status.setClock(clock);
+
+        UFOddsChange oddsChange = new UFOddsChange();
+        oddsChange.setEventId("sr:match:1");
+        oddsChange.setProduct(1);
+        oddsChange.setSportEventStatus(status);
+        return oddsChange;
+    }
+
+    private static byte[] oddsChangeBody(String status, String odds) {
+        return ("<odds_change product=\"1\" event_id=\"sr:match:1\" timestamp=\"1\">" + status +
+                "<odds><market id=\"1\"><outcome id=\"1\" odds=\"" + odds + "\" active=\"1\"/></market></odds></odds_change>")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -15,6 +15,7 @@ import com.sportradar.unifiedodds.sdk.caching.NamedValuesProvider;
 import com.sportradar.unifiedodds.sdk.impl.*;
 import com.sportradar.unifiedodds.sdk.impl.apireaders.HttpHelper;
 import com.sportradar.unifiedodds.sdk.impl.apireaders.WhoAmIReader;
+import com.sportradar.unifiedodds.sdk.impl.oddsbook.OddsBookManagerImpl;
 import com.sportradar.unifiedodds.sdk.impl.oddsentities.FeedMessageFactoryImpl;
 import com.sportradar.unifiedodds.sdk.impl.oddsentities.markets.MarketFactory;
 import com.sportradar.unifiedodds.sdk.impl.recovery.RecoveryManagerImpl;
@@ -81,7 +82,8 @@ public class RecoveryManagerTests {
         FeedMessageFactory feedMessageFactory = new FeedMessageFactoryImpl(
                 mock(MarketFactory.class),
                 mock(NamedValuesProvider.class),
-                producerManager
+                producerManager,
+                mock(OddsBookManagerImpl.class)
         );
 
         WhoAmIReader whoAmIReader = mock(WhoAmIReader.class);
@@ -711,6 +713,33 @@ public class RecoveryManagerTests {
         assertEquals(receivedMessageGenTimestamp, producer.getLastProcessedMessageGenTimestamp());
     }
 
+    @Test
+    public void producerLastProcessedMessageTimestampStaysBehindMessagesInProcessing() {
+        final int firstProcessorId = 1;
+        final int secondProcessorId = 2;
+
+        Producer producer = producerManager.getProducer(3);
+        long olderMessageGenTimestamp = getAdjustedMilliseconds(-2);
+        long newerMessageGenTimestamp = getAdjustedMilliseconds(-1);
+
+        recoveryManager.onMessageProcessingStarted(firstProcessorId, 3, null, olderMessageGenTimestamp, mockedTimeUtils.now());
+        recoveryManager.onMessageProcessingStarted(secondProcessorId, 3, null, newerMessageGenTimestamp, mockedTimeUtils.now());
+        recoveryManager.onMessageProcessingEnded(secondProcessorId, 3, newerMessageGenTimestamp, null);
+
+        assertEquals(olderMessageGenTimestamp, producer.getLastProcessedMessageGenTimestamp());
+
+        recoveryManager.onMessageProcessingEnded(firstProcessorId, 3, olderMessageGenTimestamp, null);
+        assertEquals(olderMessageGenTimestamp, producer.getLastProcessedMessageGenTimestamp());
+
+        recoveryManager.onMessageProcessingStarted(secondProcessorId, 3, null, newerMessageGenTimestamp, mockedTimeUtils.now());
+        recoveryManager.onMessageProcessingEnded(secondProcessorId, 3, newerMessageGenTimestamp, null);
+        assertEquals(newerMessageGenTimestamp, producer.getLastProcessedMessageGenTimestamp());
+
+        recoveryManager.onMessageProcessingStarted(firstProcessorId, 3, null, olderMessageGenTimestamp, mockedTimeUtils.now());
+        recoveryManager.onMessageProcessingEnded(firstProcessorId, 3, olderMessageGenTimestamp, null);
+        assertEquals(newerMessageGenTimestamp, producer.getLastProcessedMessageGenTimestamp());
+    }
+
     private void adjustMockedTimeUtils(int seconds) {
         Instant instant = mockedTimeUtils.nowInstant();
 
@@ -0,0 +1,92 @@
+package com.sportradar.unifiedodds.sdk.localreplay;
+
+import com.google.common.collect.ImmutableList;
+import com.rabbitmq.client.AMQP;
+import com.sportradar.unifiedodds.sdk.impl.ChannelMessageConsumer;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class LogFileChannelTest {
+    private static final String ODDS_CHANGE_KEY = "hi.-.live.odds_change.1.sr:match.1.-";
+    private static final String BET_SETTLEMENT_KEY = "lo.-.live.bet_settlement.1.sr:match.1.-";
+    private static final String ALIVE_KEY = "-.-.-.alive.-.-.-.-";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void replaysMessagesMatchingRoutingKeys() throws Exception {
+        File log = writeLog(
+                "2020-01-01 10:00:00,000 [INFO ] [live] [thread] Session <~> " + ODDS_CHANGE_KEY + " <~> <odds_change product=\"1\" timestamp=\"1000\">",
+                "  <odds/>",
+                "</odds_change>",
+                "2020-01-01 10:00:00,001 [DEBUG] [live] [thread] Session <~> " + ALIVE_KEY + " <~> 1",
+                "2020-01-01 10:00:00,002 [INFO ] [live] [thread] Session <~> " + BET_SETTLEMENT_KEY + " <~> <bet_settlement product=\"1\" timestamp=\"1001\"/>",
+                "2020-01-01 10:00:00,003 [INFO ] [live] [thread] Session <~> " + ALIVE_KEY + " <~> <alive product=\"1\" timestamp=\"1002\" subscribed=\"1\"/>");
+
+        RecordingConsumer consumer = new RecordingConsumer(2);
+        LogFileChannel channel = new LogFileChannel(log);
+        channel.open(ImmutableList.of("hi.*.*.#", "-.-.-.alive.#"), consumer, "live");
+
+        assertTrue(consumer.await());
+        assertEquals(ImmutableList.of(ODDS_CHANGE_KEY, ALIVE_KEY), consumer.routingKeys);
+        assertEquals("<odds_change product=\"1\" timestamp=\"1000\">\n  <odds/>\n</odds_change>", consumer.bodies.get(0));
+
+        channel.close();
+        assertFalse(channel.isOpened());
+    }
+
+    @Test
+    public void pacesMessagesByTimestamps() throws Exception {
+        File log = writeLog(
+                "Session <~> " + ALIVE_KEY + " <~> <alive product=\"1\" timestamp=\"1000\" subscribed=\"1\"/>",
+                "Session <~> " + ALIVE_KEY + " <~> <alive product=\"1\" timestamp=\"3000\" subscribed=\"1\"/>");
+
+        RecordingConsumer consumer = new RecordingConsumer(2);
+        LogFileChannel channel = new LogFileChannel(log, 10);
+        long started = System.nanoTime();
+        channel.open(ImmutableList.of("#"), consumer, "all");
+
+        assertTrue(consumer.await());
+        assertTrue(System.nanoTime() - started >= TimeUnit.MILLISECONDS.toNanos(200));
+        channel.close();
+    }
+
+    private File writeLog(String... lines) throws Exception {
+        File log = folder.newFile("traffic.log");
+        Files.write(log.toPath(), ImmutableList.copyOf(lines), StandardCharsets.UTF_8);
+        return log;
+    }
+
+    private static class RecordingConsumer implements ChannelMessageConsumer {
+        private final List<String> routingKeys = new CopyOnWriteArrayList<>();
+        private final List<String> bodies = new CopyOnWriteArrayList<>();
+        private final CountDownLatch latch;
+
+        RecordingConsumer(int expectedMessages) {
+            latch = new CountDownLatch(expectedMessages);
+        }
+
+        @Override
+        public void onMessageReceived(String routingKey, byte[] body, AMQP.BasicProperties properties, long receivedAt) {
+            routingKeys.add(routingKey);
+            bodies.add(new String(body, StandardCharsets.UTF_8));
+            latch.countDown();
+        }
+
+        boolean await() throws InterruptedException {
+            return latch.await(5, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.sportradar.utils;
+
+import com.sportradar.unifiedodds.sdk.entities.ResourceTypeGroup;
+import com.sportradar.unifiedodds.sdk.exceptions.UnsupportedUrnFormatException;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class URNTest {
+    @Test
+    public void parsesValidUrns() {
+        URN urn = URN.parse("sr:match:9210275");
+        assertEquals("sr", urn.getPrefix());
+        assertEquals("match", urn.getType());
+        assertEquals(9210275L, urn.getId());
+        assertEquals(ResourceTypeGroup.MATCH, urn.getGroup());
+        assertEquals("sr:match:9210275", urn.toString());
+
+        URN negative = URN.parse("wns:h2h_tournament:-15");
+        assertEquals("h2h_tournament", negative.getType());
+        assertEquals(-15L, negative.getId());
+
+        assertEquals(Long.MAX_VALUE, URN.parse("sr:player:" + Long.MAX_VALUE).getId());
+        assertEquals(Long.MIN_VALUE, URN.parse("sr:player:" + Long.MIN_VALUE).getId());
+        assertEquals("sr:team:7", URN.parse("sr:team:007").toString());
+    }
+
+    @Test
+    public void rejectsInvalidUrns() {
+        for (String value : Arrays.asList("", "sr", "sr:match", "sr:match:", ":match:1", "sr::1", "s1:match:1",
+                "sr:mat-ch:1", "sr:match:1a", "sr:match:-", "sr:match:1-2", "sr:match:+1", "sr:match:0",
+                "sr:match:1:2", "sr:match:99999999999999999999", " sr:match:1")) {
+            try {
+                URN.parse(value);
+                fail("Value '" + value + "' should not be parsed");
+            } catch (UnsupportedUrnFormatException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void returnsSameInstanceForRepeatedlyParsedValue() {
+        URN first = URN.parse("sr:competitor:66390");
+
+        assertSame(first, URN.parse(new String("sr:competitor:66390")));
+    }
+
+    @Test
+    public void hashCodeMatchesStringRepresentation() {
+        for (URN urn : Arrays.asList(new URN("sr", "match", 1), new URN("sr", "sport_event", -42),
+                new URN("vf", "season", 102413), new URN("sr", "player", Long.MAX_VALUE), new URN("sr", "player", Long.MIN_VALUE))) {
+            assertEquals(urn.toString().hashCode(), urn.hashCode());
+        }
+        assertEquals(new URN("sr", "match", 1), URN.parse("sr:match:1"));
+        assertEquals(new URN("sr", "match", 1).hashCode(), URN.parse("sr:match:1").hashCode());
+        assertNotEquals(URN.parse("sr:match:1"), URN.parse("sr:season:1"));
+    }
+}